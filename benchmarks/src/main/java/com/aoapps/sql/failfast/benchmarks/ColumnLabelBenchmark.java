@@ -0,0 +1,136 @@
+/*
+ * ao-sql-failfast - Fail-fast JDBC wrapper.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql-failfast.
+ *
+ * ao-sql-failfast is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql-failfast is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql-failfast.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.sql.failfast.benchmarks;
+
+import com.aoapps.sql.failfast.FailFastConnection;
+import com.aoapps.sql.failfast.FailFastConnectionImpl;
+import com.aoapps.sql.failfast.FailFastResultSetImpl;
+import java.sql.SQLException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures reading wide rows by column label, with the
+ * {@linkplain FailFastConnection#isFailFastColumnLabelIndexEnabled() column label index} disabled, where the wrapped
+ * result set resolves each label by a case-insensitive linear scan, and enabled.  Each invocation advances one row and
+ * reads every column by label.  Reading by index is included as the lower bound.
+ *
+ * @author  AO Industries, Inc.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ColumnLabelBenchmark {
+
+  /**
+   * The fail-fast result set and the labels of its columns.
+   */
+  @State(Scope.Thread)
+  public static class Rows {
+    @Param({"50", "100"})
+    int columns;
+
+    @Param({"false", "true"})
+    boolean indexed;
+
+    /**
+     * Whether labels are requested in upper-case, which differs from the case returned by the driver.
+     */
+    @Param({"false", "true"})
+    boolean upperCase;
+
+    StubResultSet wrapped;
+    FailFastResultSetImpl results;
+    String[] labels;
+
+    @Setup
+    public void setup() throws SQLException {
+      FailFastConnectionImpl conn = new FailFastConnectionImpl(new StubConnection());
+      conn.setFailFastColumnLabelIndexEnabled(indexed);
+      wrapped = new StubResultSet(null, Integer.MAX_VALUE, columns);
+      results = new FailFastResultSetImpl(conn, null, wrapped);
+      labels = new String[columns];
+      for (int i = 0; i < columns; i++) {
+        String label = wrapped.getMetaData().getColumnLabel(i + 1);
+        labels[i] = upperCase ? label.toUpperCase(Locale.ROOT) : label;
+      }
+    }
+
+    @Setup(Level.Iteration)
+    public void rewind() throws SQLException {
+      wrapped.beforeFirst();
+    }
+  }
+
+  @Benchmark
+  public long nextGetLongByIndex(Rows rows) throws SQLException {
+    FailFastResultSetImpl results = rows.results;
+    int columns = rows.columns;
+    long sum = 0;
+    if (results.next()) {
+      for (int column = 1; column <= columns; column++) {
+        sum += results.getLong(column);
+      }
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public long nextGetLongByLabel(Rows rows) throws SQLException {
+    FailFastResultSetImpl results = rows.results;
+    long sum = 0;
+    if (results.next()) {
+      for (String label : rows.labels) {
+        sum += results.getLong(label);
+      }
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public long nextFindColumn(Rows rows) throws SQLException {
+    FailFastResultSetImpl results = rows.results;
+    long sum = 0;
+    if (results.next()) {
+      for (String label : rows.labels) {
+        sum += results.findColumn(label);
+      }
+    }
+    return sum;
+  }
+}
@@ -0,0 +1,187 @@
+/*
+ * ao-sql-failfast - Fail-fast JDBC wrapper.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql-failfast.
+ *
+ * ao-sql-failfast is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql-failfast is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql-failfast.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.sql.failfast.benchmarks;
+
+import com.aoapps.sql.failfast.FailFastConnection;
+import com.aoapps.sql.failfast.FailFastConnectionImpl;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the per-call overhead of {@link FailFastConnectionImpl} compared to the raw connection.
+ *
+ * <p>In {@link ConnectionState#EXCEPTION} and {@link ConnectionState#TERMINAL} states, the fail-fast calls are
+ * rejected, and the cost of creating the thrown exception is what is measured.  The contended variants share a single
+ * connection across all available processors.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConnectionBenchmark {
+
+  private static final String SQL = "SELECT column1 FROM stub WHERE column1 = ?";
+
+  /**
+   * The raw, unwrapped connection.
+   */
+  @State(Scope.Benchmark)
+  public static class Raw {
+    StubConnection conn;
+
+    @Setup
+    public void setup() {
+      conn = new StubConnection();
+    }
+  }
+
+  /**
+   * The fail-fast connection, put into the requested state.
+   */
+  @State(Scope.Benchmark)
+  public static class FailFast {
+    @Param
+    ConnectionState state;
+
+    FailFastConnectionImpl conn;
+
+    @Setup
+    public void setup() throws SQLException {
+      conn = new FailFastConnectionImpl(new StubConnection());
+      state.apply(conn);
+    }
+  }
+
+  @Benchmark
+  public boolean rawIsReadOnly(Raw raw) throws SQLException {
+    return raw.conn.isReadOnly();
+  }
+
+  @Benchmark
+  public Object failFastIsReadOnly(FailFast ff) {
+    try {
+      return ff.conn.isReadOnly();
+    } catch (SQLException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public boolean rawIsReadOnlyContended(Raw raw) throws SQLException {
+    return raw.conn.isReadOnly();
+  }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public Object failFastIsReadOnlyContended(FailFast ff) {
+    try {
+      return ff.conn.isReadOnly();
+    } catch (SQLException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public boolean rawGetAutoCommit(Raw raw) throws SQLException {
+    return raw.conn.getAutoCommit();
+  }
+
+  @Benchmark
+  public Object failFastGetAutoCommit(FailFast ff) {
+    try {
+      return ff.conn.getAutoCommit();
+    } catch (SQLException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public boolean rawIsClosed(Raw raw) throws SQLException {
+    return raw.conn.isClosed();
+  }
+
+  @Benchmark
+  public Object failFastIsClosed(FailFast ff) {
+    try {
+      return ff.conn.isClosed();
+    } catch (SQLException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public boolean rawIsValid(Raw raw) throws SQLException {
+    return raw.conn.isValid(0);
+  }
+
+  @Benchmark
+  public Object failFastIsValid(FailFast ff) {
+    try {
+      return ff.conn.isValid(0);
+    } catch (SQLException e) {
+      return e;
+    }
+  }
+
+  /**
+   * The state check performed by fail-fast streams, readers, and writers on every call.
+   */
+  @Benchmark
+  public FailFastConnection.State failFastGetFailFastState(FailFast ff) {
+    return ff.conn.getFailFastState();
+  }
+
+  @Benchmark
+  public Object rawPrepareStatement(Raw raw) throws SQLException {
+    try (PreparedStatement pstmt = raw.conn.prepareStatement(SQL)) {
+      return pstmt;
+    }
+  }
+
+  @Benchmark
+  public Object failFastPrepareStatement(FailFast ff) {
+    try (PreparedStatement pstmt = ff.conn.prepareStatement(SQL)) {
+      return pstmt;
+    } catch (SQLException e) {
+      return e;
+    }
+  }
+}
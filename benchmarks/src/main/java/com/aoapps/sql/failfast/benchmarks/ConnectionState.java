@@ -0,0 +1,72 @@
+/*
+ * ao-sql-failfast - Fail-fast JDBC wrapper.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql-failfast.
+ *
+ * ao-sql-failfast is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql-failfast is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql-failfast.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.sql.failfast.benchmarks;
+
+import com.aoapps.sql.failfast.FailFastConnection;
+import java.sql.SQLException;
+
+/**
+ * The fail-fast state a connection is put into before a benchmark is run.
+ *
+ * @author  AO Industries, Inc.
+ *
+ * @see  FailFastConnection.State
+ */
+public enum ConnectionState {
+
+  /**
+   * Normal operation.
+   */
+  OK {
+    @Override
+    void apply(FailFastConnection conn) {
+      // Nothing to do
+    }
+  },
+
+  /**
+   * A recoverable failure has been recorded.
+   */
+  EXCEPTION {
+    @Override
+    void apply(FailFastConnection conn) {
+      conn.addFailFastCause(new SQLException("Benchmark failure", "XX000"));
+    }
+  },
+
+  /**
+   * The connection has been closed.
+   */
+  TERMINAL {
+    @Override
+    void apply(FailFastConnection conn) throws SQLException {
+      conn.close();
+    }
+  };
+
+  /**
+   * Puts the given connection into this state.
+   */
+  abstract void apply(FailFastConnection conn) throws SQLException;
+}
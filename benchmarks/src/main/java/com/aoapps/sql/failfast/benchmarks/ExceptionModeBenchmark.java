@@ -0,0 +1,86 @@
+/*
+ * ao-sql-failfast - Fail-fast JDBC wrapper.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql-failfast.
+ *
+ * ao-sql-failfast is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql-failfast is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql-failfast.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package com.aoapps.sql.failfast.benchmarks;
+
+import com.aoapps.sql.failfast.FailFastConnection;
+import com.aoapps.sql.failfast.FailFastConnectionImpl;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of rejecting a call on a failed connection for each {@link FailFastConnection.ExceptionMode},
+ * as happens in a retry loop that repeatedly calls a failed connection.  Run with {@code -prof gc} to also see the
+ * allocation rate of each mode.
+ *
+ * @author  AO Industries, Inc.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExceptionModeBenchmark {
+
+  /**
+   * The failed connection.
+   */
+  @State(Scope.Benchmark)
+  public static class Failed {
+    @Param({"EXCEPTION", "TERMINAL"})
+    ConnectionState state;
+
+    @Param
+    FailFastConnection.ExceptionMode exceptionMode;
+
+    FailFastConnectionImpl conn;
+
+    @Setup
+    public void setup() throws SQLException {
+      conn = new FailFastConnectionImpl(new StubConnection());
+      conn.setFailFastExceptionMode(exceptionMode);
+      state.apply(conn);
+    }
+  }
+
+  @Benchmark
+  public Object isReadOnly(Failed failed) {
+    try {
+      return failed.conn.isReadOnly();
+    } catch (SQLException e) {
+      return e;
+    }
+  }
+}
@@ -0,0 +1,135 @@
+/*
+ * ao-sql-failfast - Fail-fast JDBC wrapper.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql-failfast.
+ *
+ * ao-sql-failfast is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql-failfast is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql-failfast.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.sql.failfast.benchmarks;
+
+import com.aoapps.sql.failfast.FailFastConnection;
+import com.aoapps.sql.failfast.FailFastConnectionImpl;
+import com.aoapps.sql.failfast.FailFastMetrics;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of {@link FailFastConnection#addFailFastCause(java.lang.Throwable)}, both on a single thread and
+ * with all available processors reporting failures to the same connection, as happens when many threads share the
+ * statements, result sets, and streams of a connection during an outage.
+ *
+ * <p>Each thread reports its own, pre-built cause so that the merging of causes is measured without the allocation of
+ * new exceptions.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FailFastCauseBenchmark {
+
+  /**
+   * A connection shared by all threads, already in a failed state.
+   */
+  @State(Scope.Benchmark)
+  public static class Failed {
+    @Param({"EXCEPTION", "TERMINAL"})
+    ConnectionState state;
+
+    FailFastConnectionImpl conn;
+
+    @Setup
+    public void setup() throws SQLException {
+      conn = new FailFastConnectionImpl(new StubConnection());
+      state.apply(conn);
+    }
+  }
+
+  /**
+   * A connection shared by all threads, initially operating normally, optionally collecting {@link FailFastMetrics}.
+   */
+  @State(Scope.Benchmark)
+  public static class Recoverable {
+    @Param({"false", "true"})
+    boolean metrics;
+
+    FailFastConnectionImpl conn;
+
+    @Setup
+    public void setup() {
+      conn = new FailFastConnectionImpl(new StubConnection());
+      if (metrics) {
+        conn.setFailFastMonitor(new FailFastMetrics());
+      }
+    }
+  }
+
+  /**
+   * The cause reported by each thread.
+   */
+  @State(Scope.Thread)
+  public static class Cause {
+    SQLException cause;
+
+    @Setup
+    public void setup() {
+      cause = new SQLException("Thread failure", "XX000");
+    }
+  }
+
+  @Benchmark
+  public FailFastConnection.State addFailFastCause(Failed failed, Cause cause) {
+    failed.conn.addFailFastCause(cause.cause);
+    return failed.conn.getFailFastState();
+  }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public FailFastConnection.State addFailFastCauseContended(Failed failed, Cause cause) {
+    failed.conn.addFailFastCause(cause.cause);
+    return failed.conn.getFailFastState();
+  }
+
+  @Benchmark
+  public Throwable addFailFastCauseThenClear(Recoverable recoverable, Cause cause) throws SQLException {
+    recoverable.conn.addFailFastCause(cause.cause);
+    return recoverable.conn.clearFailFast();
+  }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public Throwable addFailFastCauseThenClearContended(Recoverable recoverable, Cause cause) throws SQLException {
+    recoverable.conn.addFailFastCause(cause.cause);
+    return recoverable.conn.clearFailFast();
+  }
+}
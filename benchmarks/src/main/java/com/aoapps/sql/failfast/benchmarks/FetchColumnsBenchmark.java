@@ -0,0 +1,118 @@
+/*
+ * ao-sql-failfast - Fail-fast JDBC wrapper.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql-failfast.
+ *
+ * ao-sql-failfast is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql-failfast is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql-failfast.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.sql.failfast.benchmarks;
+
+import com.aoapps.sql.failfast.FailFastColumnSink;
+import com.aoapps.sql.failfast.FailFastConnectionImpl;
+import com.aoapps.sql.failfast.FailFastResultSetImpl;
+import java.sql.SQLException;
+import java.util.BitSet;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures reading a block of rows of nullable {@code long} columns, comparing {@link FailFastResultSetImpl#next()},
+ * {@link FailFastResultSetImpl#getLong(int)}, and {@link FailFastResultSetImpl#wasNull()} per row and cell to a
+ * single {@link FailFastResultSetImpl#fetchColumns(int, com.aoapps.sql.failfast.FailFastColumnSink...)} per block.
+ *
+ * @author  AO Industries, Inc.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FetchColumnsBenchmark {
+
+  /**
+   * The fail-fast result set with one array and null bitmap per column.
+   */
+  @State(Scope.Thread)
+  public static class Block {
+    @Param({"4", "16"})
+    int columns;
+
+    @Param({"1024"})
+    int rows;
+
+    StubResultSet wrapped;
+    FailFastResultSetImpl results;
+    long[][] values;
+    BitSet[] nulls;
+    FailFastColumnSink[] sinks;
+
+    @Setup
+    public void setup() throws SQLException {
+      FailFastConnectionImpl conn = new FailFastConnectionImpl(new StubConnection());
+      wrapped = new StubResultSet(null, Integer.MAX_VALUE, columns);
+      results = new FailFastResultSetImpl(conn, null, wrapped);
+      values = new long[columns][rows];
+      nulls = new BitSet[columns];
+      sinks = new FailFastColumnSink[columns];
+      for (int i = 0; i < columns; i++) {
+        nulls[i] = new BitSet(rows);
+        sinks[i] = FailFastColumnSink.ofLong(i + 1, values[i], nulls[i]);
+      }
+    }
+
+    @Setup(Level.Iteration)
+    public void rewind() throws SQLException {
+      wrapped.beforeFirst();
+    }
+  }
+
+  @Benchmark
+  public int getLongWasNull(Block block) throws SQLException {
+    FailFastResultSetImpl results = block.results;
+    int columns = block.columns;
+    int rows = block.rows;
+    long[][] values = block.values;
+    BitSet[] nulls = block.nulls;
+    int row = 0;
+    while (row < rows && results.next()) {
+      for (int i = 0; i < columns; i++) {
+        values[i][row] = results.getLong(i + 1);
+        nulls[i].set(row, results.wasNull());
+      }
+      row++;
+    }
+    return row;
+  }
+
+  @Benchmark
+  public int fetchColumns(Block block) throws SQLException {
+    return block.results.fetchColumns(block.rows, block.sinks);
+  }
+}
@@ -0,0 +1,124 @@
+/*
+ * ao-sql-failfast - Fail-fast JDBC wrapper.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql-failfast.
+ *
+ * ao-sql-failfast is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql-failfast is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql-failfast.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.sql.failfast.benchmarks;
+
+import com.aoapps.sql.failfast.FailFastConnectionImpl;
+import com.aoapps.sql.failfast.FailFastInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the per-call overhead of {@link FailFastInputStream} compared to the raw stream, both for single-byte reads
+ * and for bulk reads into a buffer.  The fail-fast stream is measured both unbuffered and with a
+ * {@linkplain FailFastConnectionImpl#setFailFastStreamBufferSize(int) read-ahead buffer}.
+ *
+ * @author  AO Industries, Inc.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InputStreamBenchmark {
+
+  private static final int BUFFER_SIZE = 8192;
+
+  /**
+   * The raw, unwrapped stream.
+   */
+  @State(Scope.Thread)
+  public static class Raw {
+    StubInputStream in;
+    byte[] buff;
+
+    @Setup
+    public void setup() {
+      in = new StubInputStream();
+      buff = new byte[BUFFER_SIZE];
+    }
+  }
+
+  /**
+   * The fail-fast stream, with its connection put into the requested state.
+   */
+  @State(Scope.Thread)
+  public static class FailFast {
+    @Param
+    ConnectionState state;
+
+    @Param({"0", "8192"})
+    int streamBufferSize;
+
+    FailFastInputStream in;
+    byte[] buff;
+
+    @Setup
+    public void setup() throws Exception {
+      FailFastConnectionImpl conn = new FailFastConnectionImpl(new StubConnection());
+      conn.setFailFastStreamBufferSize(streamBufferSize);
+      in = new FailFastInputStream(conn, new StubInputStream());
+      buff = new byte[BUFFER_SIZE];
+      state.apply(conn);
+    }
+  }
+
+  @Benchmark
+  public int rawRead(Raw raw) {
+    return raw.in.read();
+  }
+
+  @Benchmark
+  public Object failFastRead(FailFast ff) {
+    try {
+      return ff.in.read();
+    } catch (IOException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public int rawReadBuffer(Raw raw) {
+    return raw.in.read(raw.buff, 0, BUFFER_SIZE);
+  }
+
+  @Benchmark
+  public Object failFastReadBuffer(FailFast ff) {
+    try {
+      return ff.in.read(ff.buff, 0, BUFFER_SIZE);
+    } catch (IOException e) {
+      return e;
+    }
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * ao-sql-failfast - Fail-fast JDBC wrapper.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql-failfast.
+ *
+ * ao-sql-failfast is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql-failfast is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql-failfast.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package com.aoapps.sql.failfast.benchmarks;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link StubConnection} that sleeps on rollback and prepare, standing in for the network round trip of a real
+ * driver.
+ *
+ * @author  AO Industries, Inc.
+ */
+public class LatencyStubConnection extends StubConnection {
+
+  private final long latencyNanos;
+
+  /**
+   * Creates a new stub connection.
+   *
+   * @param  latency  The time spent in each rollback and prepare
+   * @param  unit  The unit of {@code latency}
+   */
+  public LatencyStubConnection(long latency, TimeUnit unit) {
+    this.latencyNanos = unit.toNanos(latency);
+  }
+
+  private void roundTrip() throws SQLException {
+    try {
+      TimeUnit.NANOSECONDS.sleep(latencyNanos);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SQLException(e);
+    }
+  }
+
+  @Override
+  public PreparedStatement prepareStatement(String sql) throws SQLException {
+    roundTrip();
+    return super.prepareStatement(sql);
+  }
+
+  @Override
+  public void rollback() throws SQLException {
+    roundTrip();
+  }
+
+  @Override
+  public void rollback(Savepoint savepoint) throws SQLException {
+    roundTrip();
+  }
+}
@@ -0,0 +1,67 @@
+/*
+ * ao-sql-failfast - Fail-fast JDBC wrapper.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql-failfast.
+ *
+ * ao-sql-failfast is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql-failfast is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql-failfast.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.sql.failfast.benchmarks;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link StubResultSet} that sleeps each time {@link #next()} reaches the end of a fetch, standing in for the
+ * network round trip of a real driver fetching the next block of rows.
+ *
+ * @author  AO Industries, Inc.
+ */
+public class LatencyStubResultSet extends StubResultSet {
+
+  private final int fetchRows;
+  private final long latencyNanos;
+  private int row;
+
+  /**
+   * Creates a new stub result set.
+   *
+   * @param  fetchRows  The number of rows per fetch
+   * @param  latency  The time spent in each fetch
+   * @param  unit  The unit of {@code latency}
+   */
+  public LatencyStubResultSet(Statement statement, int rows, int columns, int fetchRows, long latency, TimeUnit unit) {
+    super(statement, rows, columns);
+    this.fetchRows = fetchRows;
+    this.latencyNanos = unit.toNanos(latency);
+  }
+
+  @Override
+  public boolean next() throws SQLException {
+    if (row++ % fetchRows == 0) {
+      try {
+        TimeUnit.NANOSECONDS.sleep(latencyNanos);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new SQLException(e);
+      }
+    }
+    return super.next();
+  }
+}
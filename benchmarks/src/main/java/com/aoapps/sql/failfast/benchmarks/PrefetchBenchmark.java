@@ -0,0 +1,116 @@
+/*
+ * ao-sql-failfast - Fail-fast JDBC wrapper.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql-failfast.
+ *
+ * ao-sql-failfast is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql-failfast is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql-failfast.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.sql.failfast.benchmarks;
+
+import com.aoapps.sql.failfast.FailFastConnectionImpl;
+import com.aoapps.sql.failfast.FailFastResultSetImpl;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures reading all rows of a result set whose driver waits on the network once per fetch, while the caller
+ * spends CPU on each row.  Without prefetching, the waits and the work add up.  With
+ * {@link FailFastResultSetImpl#prefetch(int)}, the driver fetches on a background thread while the caller works.
+ *
+ * @author  AO Industries, Inc.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrefetchBenchmark {
+
+  private static final int ROWS = 1000;
+  private static final int COLUMNS = 4;
+  private static final int FETCH_ROWS = 100;
+
+  /**
+   * A new result set for each invocation.
+   */
+  @State(Scope.Thread)
+  public static class Query {
+    @Param({"0", "1000"})
+    int fetchLatencyMicros;
+
+    @Param({"1000", "5000"})
+    int workTokens;
+
+    FailFastConnectionImpl conn;
+    FailFastResultSetImpl results;
+
+    @Setup
+    public void setup() {
+      conn = new FailFastConnectionImpl(new StubConnection());
+    }
+
+    @Setup(Level.Invocation)
+    public void execute() {
+      results = new FailFastResultSetImpl(conn, null, new LatencyStubResultSet(null, ROWS, COLUMNS, FETCH_ROWS,
+          fetchLatencyMicros, TimeUnit.MICROSECONDS));
+    }
+
+    @TearDown(Level.Invocation)
+    public void close() throws SQLException {
+      results.close();
+    }
+  }
+
+  private static long consume(FailFastResultSetImpl results, int workTokens) throws SQLException {
+    long sum = 0;
+    while (results.next()) {
+      for (int column = 1; column <= COLUMNS; column++) {
+        sum += results.getLong(column);
+      }
+      Blackhole.consumeCPU(workTokens);
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public long sequential(Query query) throws SQLException {
+    return consume(query.results, query.workTokens);
+  }
+
+  @Benchmark
+  public long prefetched(Query query) throws SQLException {
+    try (FailFastResultSetImpl prefetched = query.results.prefetch(FETCH_ROWS)) {
+      return consume(prefetched, query.workTokens);
+    }
+  }
+}
@@ -0,0 +1,129 @@
+/*
+ * ao-sql-failfast - Fail-fast JDBC wrapper.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql-failfast.
+ *
+ * ao-sql-failfast is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql-failfast is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql-failfast.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.sql.failfast.benchmarks;
+
+import com.aoapps.sql.failfast.FailFastConnectionImpl;
+import com.aoapps.sql.failfast.FailFastPreparedStatementImpl;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the per-call overhead of {@link FailFastPreparedStatementImpl} compared to the raw prepared statement.
+ *
+ * <p>The statement is prepared before the connection is put into the requested state, so the
+ * {@link ConnectionState#EXCEPTION} and {@link ConnectionState#TERMINAL} states measure the rejection of calls on an
+ * already-open statement.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PreparedStatementBenchmark {
+
+  private static final String SQL = "UPDATE stub SET column2 = ? WHERE column1 = ?";
+
+  /**
+   * The raw, unwrapped prepared statement.
+   */
+  @State(Scope.Thread)
+  public static class Raw {
+    StubPreparedStatement pstmt;
+
+    @Setup
+    public void setup() throws SQLException {
+      pstmt = (StubPreparedStatement) new StubConnection().prepareStatement(SQL);
+    }
+  }
+
+  /**
+   * The fail-fast prepared statement, with its connection put into the requested state.
+   */
+  @State(Scope.Thread)
+  public static class FailFast {
+    @Param
+    ConnectionState state;
+
+    FailFastPreparedStatementImpl pstmt;
+
+    @Setup
+    public void setup() throws SQLException {
+      FailFastConnectionImpl conn = new FailFastConnectionImpl(new StubConnection());
+      pstmt = conn.prepareStatement(SQL);
+      state.apply(conn);
+    }
+  }
+
+  @Benchmark
+  public int rawExecuteUpdate(Raw raw) throws SQLException {
+    raw.pstmt.setString(1, "value");
+    raw.pstmt.setInt(2, 42);
+    return raw.pstmt.executeUpdate();
+  }
+
+  @Benchmark
+  public Object failFastExecuteUpdate(FailFast ff) {
+    try {
+      ff.pstmt.setString(1, "value");
+      ff.pstmt.setInt(2, 42);
+      return ff.pstmt.executeUpdate();
+    } catch (SQLException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public Object rawExecuteQuery(Raw raw) throws SQLException {
+    raw.pstmt.setInt(1, 42);
+    try (ResultSet results = raw.pstmt.executeQuery()) {
+      return results;
+    }
+  }
+
+  @Benchmark
+  public Object failFastExecuteQuery(FailFast ff) {
+    try {
+      ff.pstmt.setInt(1, 42);
+      try (ResultSet results = ff.pstmt.executeQuery()) {
+        return results;
+      }
+    } catch (SQLException e) {
+      return e;
+    }
+  }
+}
@@ -0,0 +1,182 @@
+/*
+ * ao-sql-failfast - Fail-fast JDBC wrapper.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql-failfast.
+ *
+ * ao-sql-failfast is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql-failfast is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql-failfast.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.sql.failfast.benchmarks;
+
+import com.aoapps.sql.failfast.FailFastConnection;
+import com.aoapps.sql.failfast.FailFastConnectionImpl;
+import com.aoapps.sql.failfast.FailFastResultSetImpl;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the per-row overhead of {@link FailFastResultSetImpl} compared to the raw result set.  Each invocation
+ * advances one row and reads every column by index.
+ *
+ * <p>Wide rows are compared with the state checked on every column getter
+ * ({@link FailFastConnection.CheckGranularity#CALL}) and only on {@link FailFastResultSetImpl#next()}
+ * ({@link FailFastConnection.CheckGranularity#ROW}).</p>
+ *
+ * <p>Nullable columns are compared with {@link FailFastResultSetImpl#getLong(int)} followed by
+ * {@link FailFastResultSetImpl#wasNull()} and the fused {@link FailFastResultSetImpl#getLongOrDefault(int, long)}.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResultSetBenchmark {
+
+  /**
+   * The raw, unwrapped result set.
+   */
+  @State(Scope.Thread)
+  public static class Raw {
+    @Param({"1", "10", "40"})
+    int columns;
+
+    StubResultSet results;
+
+    @Setup
+    public void setup() {
+      results = new StubResultSet(null, Integer.MAX_VALUE, columns);
+    }
+
+    @Setup(Level.Iteration)
+    public void rewind() throws SQLException {
+      results.beforeFirst();
+    }
+  }
+
+  /**
+   * The fail-fast result set, with its connection put into the requested state.
+   */
+  @State(Scope.Thread)
+  public static class FailFast {
+    @Param({"1", "10", "40"})
+    int columns;
+
+    @Param
+    ConnectionState state;
+
+    @Param({"CALL", "ROW"})
+    FailFastConnection.CheckGranularity granularity;
+
+    StubResultSet wrapped;
+    FailFastResultSetImpl results;
+
+    @Setup
+    public void setup() throws SQLException {
+      FailFastConnectionImpl conn = new FailFastConnectionImpl(new StubConnection());
+      conn.setFailFastCheckGranularity(granularity);
+      wrapped = new StubResultSet(null, Integer.MAX_VALUE, columns);
+      results = new FailFastResultSetImpl(conn, null, wrapped);
+      state.apply(conn);
+    }
+
+    @Setup(Level.Iteration)
+    public void rewind() throws SQLException {
+      // Rewind the wrapped result set directly, since the fail-fast wrapper may be rejecting calls
+      wrapped.beforeFirst();
+    }
+  }
+
+  @Benchmark
+  public long rawNextGetLong(Raw raw) throws SQLException {
+    StubResultSet results = raw.results;
+    int columns = raw.columns;
+    long sum = 0;
+    if (results.next()) {
+      for (int column = 1; column <= columns; column++) {
+        sum += results.getLong(column);
+      }
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public Object failFastNextGetLong(FailFast ff) {
+    FailFastResultSetImpl results = ff.results;
+    int columns = ff.columns;
+    try {
+      long sum = 0;
+      if (results.next()) {
+        for (int column = 1; column <= columns; column++) {
+          sum += results.getLong(column);
+        }
+      }
+      return sum;
+    } catch (SQLException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public Object failFastNextGetLongWasNull(FailFast ff) {
+    FailFastResultSetImpl results = ff.results;
+    int columns = ff.columns;
+    try {
+      long sum = 0;
+      if (results.next()) {
+        for (int column = 1; column <= columns; column++) {
+          long value = results.getLong(column);
+          sum += results.wasNull() ? -1 : value;
+        }
+      }
+      return sum;
+    } catch (SQLException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public Object failFastNextGetLongOrDefault(FailFast ff) {
+    FailFastResultSetImpl results = ff.results;
+    int columns = ff.columns;
+    try {
+      long sum = 0;
+      if (results.next()) {
+        for (int column = 1; column <= columns; column++) {
+          sum += results.getLongOrDefault(column, -1);
+        }
+      }
+      return sum;
+    } catch (SQLException e) {
+      return e;
+    }
+  }
+}
@@ -0,0 +1,142 @@
+/*
+ * ao-sql-failfast - Fail-fast JDBC wrapper.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql-failfast.
+ *
+ * ao-sql-failfast is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql-failfast is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql-failfast.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package com.aoapps.sql.failfast.benchmarks;
+
+import com.aoapps.sql.failfast.FailFastConnectionImpl;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time for many concurrent tasks to each recover their own failed connection by
+ * {@link FailFastConnectionImpl#rollback()}, where the wrapped rollback has network-like latency.
+ *
+ * <p>When run on Java 21 or newer, each task runs on its own virtual thread.  If the rollback were performed while
+ * holding a monitor, each virtual thread would pin its carrier thread for the full latency, and the total time would
+ * grow to roughly {@code tasks * latency / carriers}.  Without pinning, the total time stays close to a single latency.
+ * Run with {@code -Djdk.tracePinnedThreads=full} to have any pinning reported.  On older Java versions, a cached thread
+ * pool of platform threads is used instead.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RollbackBenchmark {
+
+  /**
+   * The latency of each wrapped rollback, in milliseconds.
+   */
+  private static final long LATENCY = 1;
+
+  /**
+   * Creates an executor with one virtual thread per task when available, otherwise a cached thread pool.
+   */
+  private static ExecutorService newThreadPerTaskExecutor() {
+    try {
+      // Looked-up reflectively since virtual threads require Java 21
+      return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    } catch (ReflectiveOperationException e) {
+      return Executors.newCachedThreadPool();
+    }
+  }
+
+  /**
+   * The executor running the tasks.
+   */
+  @State(Scope.Benchmark)
+  public static class Tasks {
+    @Param({"1000", "10000"})
+    int tasks;
+
+    ExecutorService executor;
+
+    @Setup
+    public void setup() {
+      executor = newThreadPerTaskExecutor();
+    }
+
+    @TearDown
+    public void tearDown() {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * One connection per task, each with a recoverable failure recorded before every invocation.
+   */
+  @State(Scope.Benchmark)
+  public static class Connections {
+    FailFastConnectionImpl[] conns;
+
+    @Setup(Level.Invocation)
+    public void setup(Tasks tasks) throws SQLException {
+      if (conns == null) {
+        conns = new FailFastConnectionImpl[tasks.tasks];
+        for (int i = 0; i < conns.length; i++) {
+          conns[i] = new FailFastConnectionImpl(new LatencyStubConnection(LATENCY, TimeUnit.MILLISECONDS));
+        }
+      }
+      for (FailFastConnectionImpl conn : conns) {
+        ConnectionState.EXCEPTION.apply(conn);
+      }
+    }
+  }
+
+  @Benchmark
+  public int rollback(Tasks tasks, Connections connections) throws InterruptedException, ExecutionException {
+    List<Future<?>> futures = new ArrayList<>(connections.conns.length);
+    for (FailFastConnectionImpl conn : connections.conns) {
+      futures.add(tasks.executor.submit(() -> {
+        conn.rollback();
+        return null;
+      }));
+    }
+    for (Future<?> future : futures) {
+      future.get();
+    }
+    return futures.size();
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * ao-sql-failfast - Fail-fast JDBC wrapper.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql-failfast.
+ *
+ * ao-sql-failfast is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql-failfast is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql-failfast.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package com.aoapps.sql.failfast.benchmarks;
+
+import com.aoapps.sql.failfast.FailFastConnectionImpl;
+import com.aoapps.sql.failfast.FailFastPreparedStatementImpl;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures preparing, executing, and closing the same statement, with and without the statement cache of
+ * {@link FailFastConnectionImpl}.  A non-zero latency stands in for the round trip of a real driver on each prepare.
+ *
+ * @author  AO Industries, Inc.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StatementCacheBenchmark {
+
+  private static final String SQL = "UPDATE stub SET column2 = ? WHERE column1 = ?";
+
+  @State(Scope.Thread)
+  public static class FailFast {
+    @Param({"0", "16"})
+    int cacheSize;
+
+    @Param({"0", "100"})
+    long latencyMicros;
+
+    FailFastConnectionImpl conn;
+
+    @Setup
+    public void setup() {
+      conn = new FailFastConnectionImpl(
+          (latencyMicros == 0) ? new StubConnection() : new LatencyStubConnection(latencyMicros, TimeUnit.MICROSECONDS)
+      );
+      conn.setFailFastStatementCacheSize(cacheSize);
+    }
+  }
+
+  @Benchmark
+  public int prepareExecuteClose(FailFast ff) throws SQLException {
+    try (FailFastPreparedStatementImpl pstmt = ff.conn.prepareStatement(SQL)) {
+      pstmt.setString(1, "value");
+      pstmt.setInt(2, 42);
+      return pstmt.executeUpdate();
+    }
+  }
+}
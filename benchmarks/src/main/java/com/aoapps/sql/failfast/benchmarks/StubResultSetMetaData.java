@@ -0,0 +1,185 @@
+/*
+ * ao-sql-failfast - Fail-fast JDBC wrapper.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql-failfast.
+ *
+ * ao-sql-failfast is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql-failfast is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql-failfast.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.sql.failfast.benchmarks;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * The {@link ResultSetMetaData} of a {@link StubResultSet}.  All columns are non-null {@link Types#BIGINT}.
+ *
+ * @author  AO Industries, Inc.
+ */
+public class StubResultSetMetaData implements ResultSetMetaData {
+
+  private final int columns;
+
+  public StubResultSetMetaData(int columns) {
+    this.columns = columns;
+  }
+
+  private void checkColumn(int column) throws SQLException {
+    if (column < 1 || column > columns) {
+      throw new SQLException("Invalid column index: " + column, "07009");
+    }
+  }
+
+  @Override
+  public <T> T unwrap(Class<T> iface) throws SQLException {
+    if (iface.isInstance(this)) {
+      return iface.cast(this);
+    }
+    throw new SQLException("Not a wrapper for " + iface.getName());
+  }
+
+  @Override
+  public boolean isWrapperFor(Class<?> iface) throws SQLException {
+    return iface.isInstance(this);
+  }
+
+  @Override
+  public int getColumnCount() throws SQLException {
+    return columns;
+  }
+
+  @Override
+  public boolean isAutoIncrement(int column) throws SQLException {
+    checkColumn(column);
+    return false;
+  }
+
+  @Override
+  public boolean isCaseSensitive(int column) throws SQLException {
+    checkColumn(column);
+    return false;
+  }
+
+  @Override
+  public boolean isSearchable(int column) throws SQLException {
+    checkColumn(column);
+    return true;
+  }
+
+  @Override
+  public boolean isCurrency(int column) throws SQLException {
+    checkColumn(column);
+    return false;
+  }
+
+  @Override
+  public int isNullable(int column) throws SQLException {
+    checkColumn(column);
+    return columnNoNulls;
+  }
+
+  @Override
+  public boolean isSigned(int column) throws SQLException {
+    checkColumn(column);
+    return true;
+  }
+
+  @Override
+  public int getColumnDisplaySize(int column) throws SQLException {
+    checkColumn(column);
+    return 20;
+  }
+
+  @Override
+  public String getColumnLabel(int column) throws SQLException {
+    return getColumnName(column);
+  }
+
+  @Override
+  public String getColumnName(int column) throws SQLException {
+    checkColumn(column);
+    return StubResultSet.getColumnName(column);
+  }
+
+  @Override
+  public String getSchemaName(int column) throws SQLException {
+    checkColumn(column);
+    return "";
+  }
+
+  @Override
+  public int getPrecision(int column) throws SQLException {
+    checkColumn(column);
+    return 19;
+  }
+
+  @Override
+  public int getScale(int column) throws SQLException {
+    checkColumn(column);
+    return 0;
+  }
+
+  @Override
+  public String getTableName(int column) throws SQLException {
+    checkColumn(column);
+    return "stub";
+  }
+
+  @Override
+  public String getCatalogName(int column) throws SQLException {
+    checkColumn(column);
+    return "";
+  }
+
+  @Override
+  public int getColumnType(int column) throws SQLException {
+    checkColumn(column);
+    return Types.BIGINT;
+  }
+
+  @Override
+  public String getColumnTypeName(int column) throws SQLException {
+    checkColumn(column);
+    return "BIGINT";
+  }
+
+  @Override
+  public boolean isReadOnly(int column) throws SQLException {
+    checkColumn(column);
+    return true;
+  }
+
+  @Override
+  public boolean isWritable(int column) throws SQLException {
+    checkColumn(column);
+    return false;
+  }
+
+  @Override
+  public boolean isDefinitelyWritable(int column) throws SQLException {
+    checkColumn(column);
+    return false;
+  }
+
+  @Override
+  public String getColumnClassName(int column) throws SQLException {
+    checkColumn(column);
+    return Long.class.getName();
+  }
+}
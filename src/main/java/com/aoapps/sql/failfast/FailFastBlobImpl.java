@@ -1,6 +1,6 @@
 /*
  * ao-sql-failfast - Fail-fast JDBC wrapper.
- * Copyright (C) 2020, 2021, 2022  AO Industries, Inc.
+ * Copyright (C) 2020, 2021, 2022, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -25,6 +25,9 @@ package com.aoapps.sql.failfast;
 
 import com.aoapps.lang.Throwables;
 import com.aoapps.sql.wrapper.BlobWrapperImpl;
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.sql.Blob;
 import java.sql.SQLException;
 
@@ -174,4 +177,37 @@ public class FailFastBlobImpl extends BlobWrapperImpl {
       throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
     }
   }
+
+  /**
+   * Transfers the value of this blob to a channel, checking the fail-fast state once per chunk.  When the channel is
+   * a {@link java.nio.channels.FileChannel}, the bytes are written at its current position.
+   *
+   * @param  out  The channel, in blocking mode, which is not closed
+   *
+   * @return  The number of bytes transferred
+   *
+   * @see  #getBinaryStream()
+   */
+  public long transferTo(WritableByteChannel out) throws SQLException, IOException {
+    try (FailFastInputStream in = getBinaryStream()) {
+      return FailFastChannels.transfer(getConnectionWrapper(), in, out);
+    }
+  }
+
+  /**
+   * Transfers the remaining bytes of a channel into this blob, checking the fail-fast state once per chunk.  When the
+   * channel is a {@link java.nio.channels.FileChannel}, the bytes are read from its current position.
+   *
+   * @param  in  The channel, in blocking mode, which is not closed
+   * @param  pos  The position in this blob to start writing, where the first byte is at position {@code 1}
+   *
+   * @return  The number of bytes transferred
+   *
+   * @see  #setBinaryStream(long)
+   */
+  public long transferFrom(ReadableByteChannel in, long pos) throws SQLException, IOException {
+    try (FailFastOutputStream out = setBinaryStream(pos)) {
+      return FailFastChannels.transfer(getConnectionWrapper(), in, out);
+    }
+  }
 }
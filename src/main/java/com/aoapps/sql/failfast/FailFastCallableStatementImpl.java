@@ -1,6 +1,6 @@
 /*
  * ao-sql-failfast - Fail-fast JDBC wrapper.
- * Copyright (C) 2020, 2021, 2022  AO Industries, Inc.
+ * Copyright (C) 2020, 2021, 2022, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -45,6 +45,9 @@ import java.sql.Time;
 import java.sql.Timestamp;
 import java.util.Calendar;
 import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
 
 /**
  * See {@link FailFastConnectionImpl}.
@@ -54,8 +57,17 @@ import java.util.Map;
 @SuppressWarnings({"UseSpecificCatch", "TooBroadCatch"})
 public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl {
 
+  /**
+   * Parameter setters and out parameter getters check the fail-fast state unless the
+   * {@linkplain FailFastConnection#getFailFastCheckGranularity() check granularity} is
+   * {@link FailFastConnection.CheckGranularity#EXECUTE}.  Otherwise, the state is checked by the execute methods and
+   * the other boundary calls.
+   */
+  private final boolean checkParameters;
+
   public FailFastCallableStatementImpl(FailFastConnectionImpl failFastConnection, CallableStatement wrapped) {
     super(failFastConnection, wrapped);
+    checkParameters = failFastConnection.getFailFastCheckGranularity() != FailFastConnection.CheckGranularity.EXECUTE;
   }
 
   @Override
@@ -736,7 +748,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setNull(int parameterIndex, int sqlType) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setNull(parameterIndex, sqlType);
     } catch (Throwable t) {
@@ -748,7 +762,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setBoolean(int parameterIndex, boolean x) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setBoolean(parameterIndex, x);
     } catch (Throwable t) {
@@ -760,7 +776,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setByte(int parameterIndex, byte x) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setByte(parameterIndex, x);
     } catch (Throwable t) {
@@ -772,7 +790,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setShort(int parameterIndex, short x) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setShort(parameterIndex, x);
     } catch (Throwable t) {
@@ -784,7 +804,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setInt(int parameterIndex, int x) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setInt(parameterIndex, x);
     } catch (Throwable t) {
@@ -796,7 +818,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setLong(int parameterIndex, long x) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setLong(parameterIndex, x);
     } catch (Throwable t) {
@@ -808,7 +832,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setFloat(int parameterIndex, float x) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setFloat(parameterIndex, x);
     } catch (Throwable t) {
@@ -820,7 +846,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setDouble(int parameterIndex, double x) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setDouble(parameterIndex, x);
     } catch (Throwable t) {
@@ -832,7 +860,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setBigDecimal(int parameterIndex, BigDecimal x) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setBigDecimal(parameterIndex, x);
     } catch (Throwable t) {
@@ -844,7 +874,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setString(int parameterIndex, String x) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setString(parameterIndex, x);
     } catch (Throwable t) {
@@ -856,7 +888,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setBytes(int parameterIndex, byte[] x) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setBytes(parameterIndex, x);
     } catch (Throwable t) {
@@ -868,7 +902,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setDate(int parameterIndex, Date x) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setDate(parameterIndex, x);
     } catch (Throwable t) {
@@ -880,7 +916,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setTime(int parameterIndex, Time x) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setTime(parameterIndex, x);
     } catch (Throwable t) {
@@ -892,7 +930,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setTimestamp(int parameterIndex, Timestamp x) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setTimestamp(parameterIndex, x);
     } catch (Throwable t) {
@@ -904,7 +944,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setAsciiStream(int parameterIndex, InputStream x, int length) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setAsciiStream(parameterIndex, x, length);
     } catch (Throwable t) {
@@ -917,7 +959,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Deprecated(since = "1.2")
   public void setUnicodeStream(int parameterIndex, InputStream x, int length) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setUnicodeStream(parameterIndex, x, length);
     } catch (Throwable t) {
@@ -929,7 +973,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setBinaryStream(int parameterIndex, InputStream x, int length) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setBinaryStream(parameterIndex, x, length);
     } catch (Throwable t) {
@@ -951,7 +997,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setObject(int parameterIndex, Object x, int targetSqlType) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setObject(parameterIndex, x, targetSqlType);
     } catch (Throwable t) {
@@ -963,7 +1011,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setObject(int parameterIndex, Object x) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setObject(parameterIndex, x);
     } catch (Throwable t) {
@@ -999,7 +1049,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setCharacterStream(int parameterIndex, Reader reader, int length) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setCharacterStream(parameterIndex, reader, length);
     } catch (Throwable t) {
@@ -1011,7 +1063,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setRef(int parameterIndex, Ref x) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setRef(parameterIndex, x);
     } catch (Throwable t) {
@@ -1023,7 +1077,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setBlob(int parameterIndex, Blob x) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setBlob(parameterIndex, x);
     } catch (Throwable t) {
@@ -1035,7 +1091,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setClob(int parameterIndex, Clob x) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setClob(parameterIndex, x);
     } catch (Throwable t) {
@@ -1047,7 +1105,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setArray(int parameterIndex, Array x) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setArray(parameterIndex, x);
     } catch (Throwable t) {
@@ -1071,7 +1131,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setDate(int parameterIndex, Date x, Calendar cal) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setDate(parameterIndex, x, cal);
     } catch (Throwable t) {
@@ -1083,7 +1145,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setTime(int parameterIndex, Time x, Calendar cal) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setTime(parameterIndex, x, cal);
     } catch (Throwable t) {
@@ -1095,7 +1159,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setTimestamp(int parameterIndex, Timestamp x, Calendar cal) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setTimestamp(parameterIndex, x, cal);
     } catch (Throwable t) {
@@ -1107,7 +1173,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setNull(int parameterIndex, int sqlType, String typeName) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setNull(parameterIndex, sqlType, typeName);
     } catch (Throwable t) {
@@ -1119,7 +1187,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setURL(int parameterIndex, URL x) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setURL(parameterIndex, x);
     } catch (Throwable t) {
@@ -1143,7 +1213,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setRowId(int parameterIndex, RowId x) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setRowId(parameterIndex, x);
     } catch (Throwable t) {
@@ -1155,7 +1227,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setNString(int parameterIndex, String value) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setNString(parameterIndex, value);
     } catch (Throwable t) {
@@ -1167,7 +1241,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setNCharacterStream(int parameterIndex, Reader value, long length) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setNCharacterStream(parameterIndex, value, length);
     } catch (Throwable t) {
@@ -1179,7 +1255,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setNClob(int parameterIndex, NClob value) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setNClob(parameterIndex, value);
     } catch (Throwable t) {
@@ -1191,7 +1269,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setClob(int parameterIndex, Reader reader, long length) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setClob(parameterIndex, reader, length);
     } catch (Throwable t) {
@@ -1203,7 +1283,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setBlob(int parameterIndex, InputStream inputStream, long length) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setBlob(parameterIndex, inputStream, length);
     } catch (Throwable t) {
@@ -1215,7 +1297,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setNClob(int parameterIndex, Reader reader, long length) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setNClob(parameterIndex, reader, length);
     } catch (Throwable t) {
@@ -1227,7 +1311,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setSQLXML(int parameterIndex, SQLXML xmlObject) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setSQLXML(parameterIndex, xmlObject);
     } catch (Throwable t) {
@@ -1239,7 +1325,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setObject(int parameterIndex, Object x, int targetSqlType, int scaleOrLength) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setObject(parameterIndex, x, targetSqlType, scaleOrLength);
     } catch (Throwable t) {
@@ -1251,7 +1339,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setAsciiStream(int parameterIndex, InputStream x, long length) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setAsciiStream(parameterIndex, x, length);
     } catch (Throwable t) {
@@ -1263,7 +1353,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setBinaryStream(int parameterIndex, InputStream x, long length) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setBinaryStream(parameterIndex, x, length);
     } catch (Throwable t) {
@@ -1275,7 +1367,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setCharacterStream(int parameterIndex, Reader reader, long length) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setCharacterStream(parameterIndex, reader, length);
     } catch (Throwable t) {
@@ -1287,7 +1381,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setAsciiStream(int parameterIndex, InputStream x) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setAsciiStream(parameterIndex, x);
     } catch (Throwable t) {
@@ -1299,7 +1395,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setBinaryStream(int parameterIndex, InputStream x) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setBinaryStream(parameterIndex, x);
     } catch (Throwable t) {
@@ -1311,7 +1409,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setCharacterStream(int parameterIndex, Reader reader) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setCharacterStream(parameterIndex, reader);
     } catch (Throwable t) {
@@ -1323,7 +1423,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setNCharacterStream(int parameterIndex, Reader value) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setNCharacterStream(parameterIndex, value);
     } catch (Throwable t) {
@@ -1335,7 +1437,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setClob(int parameterIndex, Reader reader) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setClob(parameterIndex, reader);
     } catch (Throwable t) {
@@ -1347,7 +1451,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setBlob(int parameterIndex, InputStream inputStream) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setBlob(parameterIndex, inputStream);
     } catch (Throwable t) {
@@ -1359,7 +1465,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setNClob(int parameterIndex, Reader reader) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setNClob(parameterIndex, reader);
     } catch (Throwable t) {
@@ -1371,7 +1479,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setObject(int parameterIndex, Object x, SQLType targetSqlType, int scaleOrLength) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setObject(parameterIndex, x, targetSqlType, scaleOrLength);
     } catch (Throwable t) {
@@ -1383,7 +1493,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setObject(int parameterIndex, Object x, SQLType targetSqlType) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setObject(parameterIndex, x, targetSqlType);
     } catch (Throwable t) {
@@ -1435,7 +1547,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public boolean wasNull() throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       return super.wasNull();
     } catch (Throwable t) {
@@ -1447,7 +1561,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public String getString(int parameterIndex) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       return super.getString(parameterIndex);
     } catch (Throwable t) {
@@ -1459,7 +1575,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public boolean getBoolean(int parameterIndex) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       return super.getBoolean(parameterIndex);
     } catch (Throwable t) {
@@ -1471,7 +1589,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public byte getByte(int parameterIndex) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       return super.getByte(parameterIndex);
     } catch (Throwable t) {
@@ -1483,7 +1603,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public short getShort(int parameterIndex) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       return super.getShort(parameterIndex);
     } catch (Throwable t) {
@@ -1495,7 +1617,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public int getInt(int parameterIndex) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       return super.getInt(parameterIndex);
     } catch (Throwable t) {
@@ -1507,7 +1631,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public long getLong(int parameterIndex) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       return super.getLong(parameterIndex);
     } catch (Throwable t) {
@@ -1519,7 +1645,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public float getFloat(int parameterIndex) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       return super.getFloat(parameterIndex);
     } catch (Throwable t) {
@@ -1531,7 +1659,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public double getDouble(int parameterIndex) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       return super.getDouble(parameterIndex);
     } catch (Throwable t) {
@@ -1544,7 +1674,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Deprecated(since = "1.2")
   public BigDecimal getBigDecimal(int parameterIndex, int scale) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       return super.getBigDecimal(parameterIndex, scale);
     } catch (Throwable t) {
@@ -1556,7 +1688,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public byte[] getBytes(int parameterIndex) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       return super.getBytes(parameterIndex);
     } catch (Throwable t) {
@@ -1568,7 +1702,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public Date getDate(int parameterIndex) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       return super.getDate(parameterIndex);
     } catch (Throwable t) {
@@ -1580,7 +1716,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public Time getTime(int parameterIndex) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       return super.getTime(parameterIndex);
     } catch (Throwable t) {
@@ -1592,7 +1730,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public Timestamp getTimestamp(int parameterIndex) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       return super.getTimestamp(parameterIndex);
     } catch (Throwable t) {
@@ -1604,7 +1744,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public Object getObject(int parameterIndex) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       return super.getObject(parameterIndex);
     } catch (Throwable t) {
@@ -1616,7 +1758,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public BigDecimal getBigDecimal(int parameterIndex) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       return super.getBigDecimal(parameterIndex);
     } catch (Throwable t) {
@@ -1628,7 +1772,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public Object getObject(int parameterIndex, Map<String, Class<?>> map) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       return super.getObject(parameterIndex, map);
     } catch (Throwable t) {
@@ -1640,7 +1786,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public FailFastRefImpl getRef(int parameterIndex) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       return (FailFastRefImpl) super.getRef(parameterIndex);
     } catch (Throwable t) {
@@ -1652,7 +1800,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public FailFastBlobImpl getBlob(int parameterIndex) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       return (FailFastBlobImpl) super.getBlob(parameterIndex);
     } catch (Throwable t) {
@@ -1664,7 +1814,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public FailFastClobImpl getClob(int parameterIndex) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       return (FailFastClobImpl) super.getClob(parameterIndex);
     } catch (Throwable t) {
@@ -1676,7 +1828,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public FailFastArrayImpl getArray(int parameterIndex) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       return (FailFastArrayImpl) super.getArray(parameterIndex);
     } catch (Throwable t) {
@@ -1688,7 +1842,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public Date getDate(int parameterIndex, Calendar cal) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       return super.getDate(parameterIndex, cal);
     } catch (Throwable t) {
@@ -1700,7 +1856,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public Time getTime(int parameterIndex, Calendar cal) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       return super.getTime(parameterIndex, cal);
     } catch (Throwable t) {
@@ -1712,7 +1870,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public Timestamp getTimestamp(int parameterIndex, Calendar cal) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       return super.getTimestamp(parameterIndex, cal);
     } catch (Throwable t) {
@@ -1772,7 +1932,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public URL getURL(int parameterIndex) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       return super.getURL(parameterIndex);
     } catch (Throwable t) {
@@ -1784,7 +1946,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setURL(String parameterName, URL val) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setURL(parameterName, val);
     } catch (Throwable t) {
@@ -1796,7 +1960,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setNull(String parameterName, int sqlType) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setNull(parameterName, sqlType);
     } catch (Throwable t) {
@@ -1808,7 +1974,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setBoolean(String parameterName, boolean x) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setBoolean(parameterName, x);
     } catch (Throwable t) {
@@ -1820,7 +1988,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setByte(String parameterName, byte x) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setByte(parameterName, x);
     } catch (Throwable t) {
@@ -1832,7 +2002,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setShort(String parameterName, short x) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setShort(parameterName, x);
     } catch (Throwable t) {
@@ -1844,7 +2016,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setInt(String parameterName, int x) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setInt(parameterName, x);
     } catch (Throwable t) {
@@ -1856,7 +2030,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setLong(String parameterName, long x) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setLong(parameterName, x);
     } catch (Throwable t) {
@@ -1868,7 +2044,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setFloat(String parameterName, float x) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setFloat(parameterName, x);
     } catch (Throwable t) {
@@ -1880,7 +2058,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setDouble(String parameterName, double x) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setDouble(parameterName, x);
     } catch (Throwable t) {
@@ -1892,7 +2072,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setBigDecimal(String parameterName, BigDecimal x) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setBigDecimal(parameterName, x);
     } catch (Throwable t) {
@@ -1904,7 +2086,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setString(String parameterName, String x) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setString(parameterName, x);
     } catch (Throwable t) {
@@ -1916,7 +2100,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setBytes(String parameterName, byte[] x) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setBytes(parameterName, x);
     } catch (Throwable t) {
@@ -1928,7 +2114,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setDate(String parameterName, Date x) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setDate(parameterName, x);
     } catch (Throwable t) {
@@ -1940,7 +2128,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setTime(String parameterName, Time x)throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setTime(parameterName, x);
     } catch (Throwable t) {
@@ -1952,7 +2142,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setTimestamp(String parameterName, Timestamp x) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setTimestamp(parameterName, x);
     } catch (Throwable t) {
@@ -1964,7 +2156,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setAsciiStream(String parameterName, InputStream x, int length) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setAsciiStream(parameterName, x, length);
     } catch (Throwable t) {
@@ -1976,7 +2170,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setBinaryStream(String parameterName, InputStream x, int length) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setBinaryStream(parameterName, x, length);
     } catch (Throwable t) {
@@ -1988,7 +2184,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setObject(String parameterName, Object x, int targetSqlType, int scale) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setObject(parameterName, x, targetSqlType, scale);
     } catch (Throwable t) {
@@ -2000,7 +2198,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setObject(String parameterName, Object x, int targetSqlType) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setObject(parameterName, x, targetSqlType);
     } catch (Throwable t) {
@@ -2012,7 +2212,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setObject(String parameterName, Object x) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setObject(parameterName, x);
     } catch (Throwable t) {
@@ -2024,7 +2226,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setCharacterStream(String parameterName, Reader reader, int length) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setCharacterStream(parameterName, reader, length);
     } catch (Throwable t) {
@@ -2036,7 +2240,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setDate(String parameterName, Date x, Calendar cal) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setDate(parameterName, x, cal);
     } catch (Throwable t) {
@@ -2048,7 +2254,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setTime(String parameterName, Time x, Calendar cal) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setTime(parameterName, x, cal);
     } catch (Throwable t) {
@@ -2060,7 +2268,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setTimestamp(String parameterName, Timestamp x, Calendar cal) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setTimestamp(parameterName, x, cal);
     } catch (Throwable t) {
@@ -2072,7 +2282,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setNull(String parameterName, int sqlType, String typeName) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setNull(parameterName, sqlType, typeName);
     } catch (Throwable t) {
@@ -2084,7 +2296,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public String getString(String parameterName) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       return super.getString(parameterName);
     } catch (Throwable t) {
@@ -2096,7 +2310,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public boolean getBoolean(String parameterName) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       return super.getBoolean(parameterName);
     } catch (Throwable t) {
@@ -2108,7 +2324,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public byte getByte(String parameterName) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       return super.getByte(parameterName);
     } catch (Throwable t) {
@@ -2120,7 +2338,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public short getShort(String parameterName) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       return super.getShort(parameterName);
     } catch (Throwable t) {
@@ -2132,7 +2352,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public int getInt(String parameterName) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       return super.getInt(parameterName);
     } catch (Throwable t) {
@@ -2144,7 +2366,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public long getLong(String parameterName) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       return super.getLong(parameterName);
     } catch (Throwable t) {
@@ -2156,7 +2380,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public float getFloat(String parameterName) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       return super.getFloat(parameterName);
     } catch (Throwable t) {
@@ -2168,7 +2394,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public double getDouble(String parameterName) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       return super.getDouble(parameterName);
     } catch (Throwable t) {
@@ -2180,7 +2408,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public byte[] getBytes(String parameterName) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       return super.getBytes(parameterName);
     } catch (Throwable t) {
@@ -2192,7 +2422,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public Date getDate(String parameterName) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       return super.getDate(parameterName);
     } catch (Throwable t) {
@@ -2204,7 +2436,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public Time getTime(String parameterName) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       return super.getTime(parameterName);
     } catch (Throwable t) {
@@ -2216,7 +2450,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public Timestamp getTimestamp(String parameterName) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       return super.getTimestamp(parameterName);
     } catch (Throwable t) {
@@ -2228,7 +2464,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public Object getObject(String parameterName) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       return super.getObject(parameterName);
     } catch (Throwable t) {
@@ -2240,7 +2478,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public BigDecimal getBigDecimal(String parameterName) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       return super.getBigDecimal(parameterName);
     } catch (Throwable t) {
@@ -2252,7 +2492,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public Object getObject(String parameterName, Map<String, Class<?>> map) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       return super.getObject(parameterName, map);
     } catch (Throwable t) {
@@ -2264,7 +2506,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public FailFastRefImpl getRef(String parameterName) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       return (FailFastRefImpl) super.getRef(parameterName);
     } catch (Throwable t) {
@@ -2276,7 +2520,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public FailFastBlobImpl getBlob(String parameterName) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       return (FailFastBlobImpl) super.getBlob(parameterName);
     } catch (Throwable t) {
@@ -2288,7 +2534,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public FailFastClobImpl getClob(String parameterName) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       return (FailFastClobImpl) super.getClob(parameterName);
     } catch (Throwable t) {
@@ -2300,7 +2548,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public FailFastArrayImpl getArray(String parameterName) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       return (FailFastArrayImpl) super.getArray(parameterName);
     } catch (Throwable t) {
@@ -2312,7 +2562,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public Date getDate(String parameterName, Calendar cal) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       return super.getDate(parameterName, cal);
     } catch (Throwable t) {
@@ -2324,7 +2576,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public Time getTime(String parameterName, Calendar cal) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       return super.getTime(parameterName, cal);
     } catch (Throwable t) {
@@ -2336,7 +2590,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public Timestamp getTimestamp(String parameterName, Calendar cal) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       return super.getTimestamp(parameterName, cal);
     } catch (Throwable t) {
@@ -2348,7 +2604,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public URL getURL(String parameterName) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       return super.getURL(parameterName);
     } catch (Throwable t) {
@@ -2360,7 +2618,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public FailFastRowIdImpl getRowId(int parameterIndex) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       return (FailFastRowIdImpl) super.getRowId(parameterIndex);
     } catch (Throwable t) {
@@ -2372,7 +2632,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public FailFastRowIdImpl getRowId(String parameterName) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       return (FailFastRowIdImpl) super.getRowId(parameterName);
     } catch (Throwable t) {
@@ -2384,7 +2646,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setRowId(String parameterName, RowId x) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setRowId(parameterName, x);
     } catch (Throwable t) {
@@ -2396,7 +2660,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setNString(String parameterName, String value) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setNString(parameterName, value);
     } catch (Throwable t) {
@@ -2408,7 +2674,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setNCharacterStream(String parameterName, Reader value, long length) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setNCharacterStream(parameterName, value, length);
     } catch (Throwable t) {
@@ -2420,7 +2688,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setNClob(String parameterName, NClob value) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setNClob(parameterName, value);
     } catch (Throwable t) {
@@ -2432,7 +2702,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setClob(String parameterName, Reader reader, long length) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setClob(parameterName, reader, length);
     } catch (Throwable t) {
@@ -2444,7 +2716,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setBlob(String parameterName, InputStream inputStream, long length) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setBlob(parameterName, inputStream, length);
     } catch (Throwable t) {
@@ -2456,7 +2730,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setNClob(String parameterName, Reader reader, long length) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setNClob(parameterName, reader, length);
     } catch (Throwable t) {
@@ -2468,7 +2744,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public FailFastNClobImpl getNClob(int parameterIndex) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       return (FailFastNClobImpl) super.getNClob(parameterIndex);
     } catch (Throwable t) {
@@ -2480,7 +2758,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public FailFastNClobImpl getNClob(String parameterName) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       return (FailFastNClobImpl) super.getNClob(parameterName);
     } catch (Throwable t) {
@@ -2492,7 +2772,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setSQLXML(String parameterName, SQLXML xmlObject) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setSQLXML(parameterName, xmlObject);
     } catch (Throwable t) {
@@ -2504,7 +2786,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public FailFastSQLXMLImpl getSQLXML(int parameterIndex) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       return (FailFastSQLXMLImpl) super.getSQLXML(parameterIndex);
     } catch (Throwable t) {
@@ -2516,7 +2800,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public FailFastSQLXMLImpl getSQLXML(String parameterName) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       return (FailFastSQLXMLImpl) super.getSQLXML(parameterName);
     } catch (Throwable t) {
@@ -2528,7 +2814,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public String getNString(int parameterIndex) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       return super.getNString(parameterIndex);
     } catch (Throwable t) {
@@ -2540,7 +2828,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public String getNString(String parameterName) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       return super.getNString(parameterName);
     } catch (Throwable t) {
@@ -2600,7 +2890,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setBlob(String parameterName, Blob x) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setBlob(parameterName, x);
     } catch (Throwable t) {
@@ -2612,7 +2904,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setClob(String parameterName, Clob x) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setClob(parameterName, x);
     } catch (Throwable t) {
@@ -2624,7 +2918,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setAsciiStream(String parameterName, InputStream x, long length) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setAsciiStream(parameterName, x, length);
     } catch (Throwable t) {
@@ -2636,7 +2932,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setBinaryStream(String parameterName, InputStream x, long length) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setBinaryStream(parameterName, x, length);
     } catch (Throwable t) {
@@ -2648,7 +2946,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setCharacterStream(String parameterName, Reader reader, long length) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setCharacterStream(parameterName, reader, length);
     } catch (Throwable t) {
@@ -2660,7 +2960,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setAsciiStream(String parameterName, InputStream x) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setAsciiStream(parameterName, x);
     } catch (Throwable t) {
@@ -2672,7 +2974,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setBinaryStream(String parameterName, InputStream x) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setBinaryStream(parameterName, x);
     } catch (Throwable t) {
@@ -2684,7 +2988,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setCharacterStream(String parameterName, Reader reader) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setCharacterStream(parameterName, reader);
     } catch (Throwable t) {
@@ -2696,7 +3002,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setNCharacterStream(String parameterName, Reader value) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setNCharacterStream(parameterName, value);
     } catch (Throwable t) {
@@ -2708,7 +3016,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setClob(String parameterName, Reader reader) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setClob(parameterName, reader);
     } catch (Throwable t) {
@@ -2720,7 +3030,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setBlob(String parameterName, InputStream inputStream) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setBlob(parameterName, inputStream);
     } catch (Throwable t) {
@@ -2732,7 +3044,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setNClob(String parameterName, Reader reader) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setNClob(parameterName, reader);
     } catch (Throwable t) {
@@ -2744,7 +3058,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public <T> T getObject(int parameterIndex, Class<T> type) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       return super.getObject(parameterIndex, type);
     } catch (Throwable t) {
@@ -2756,7 +3072,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public <T> T getObject(String parameterName, Class<T> type) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       return super.getObject(parameterName, type);
     } catch (Throwable t) {
@@ -2768,7 +3086,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setObject(String parameterName, Object x, SQLType targetSqlType, int scaleOrLength) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setObject(parameterName, x, targetSqlType, scaleOrLength);
     } catch (Throwable t) {
@@ -2780,7 +3100,9 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
   @Override
   public void setObject(String parameterName, Object x, SQLType targetSqlType)throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setObject(parameterName, x, targetSqlType);
     } catch (Throwable t) {
@@ -2860,4 +3182,370 @@ public class FailFastCallableStatementImpl extends CallableStatementWrapperImpl
       throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
     }
   }
+
+  /**
+   * Gets the value of a {@code boolean} OUT parameter, or a default value when SQL {@code NULL}, with one fail-fast
+   * state check and without boxing.  Replaces {@link #getBoolean(int)} followed by {@link #wasNull()}.
+   *
+   * @param  defaultValue  The value returned when SQL {@code NULL}
+   */
+  public boolean getBooleanOrDefault(int parameterIndex, boolean defaultValue) throws SQLException {
+    FailFastConnectionImpl ffConn = getConnectionWrapper();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
+    try {
+      CallableStatement stmt = getWrapped();
+      boolean value = stmt.getBoolean(parameterIndex);
+      return stmt.wasNull() ? defaultValue : value;
+    } catch (Throwable t) {
+      ffConn.addFailFastCause(t);
+      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
+    }
+  }
+
+  /**
+   * Gets the value of a {@code boolean} OUT parameter, or a default value when SQL {@code NULL}.
+   *
+   * @see  #getBooleanOrDefault(int, boolean)
+   */
+  public boolean getBooleanOrDefault(String parameterName, boolean defaultValue) throws SQLException {
+    FailFastConnectionImpl ffConn = getConnectionWrapper();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
+    try {
+      CallableStatement stmt = getWrapped();
+      boolean value = stmt.getBoolean(parameterName);
+      return stmt.wasNull() ? defaultValue : value;
+    } catch (Throwable t) {
+      ffConn.addFailFastCause(t);
+      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
+    }
+  }
+
+  /**
+   * Gets the value of a {@code short} OUT parameter, or a default value when SQL {@code NULL}, with one fail-fast state
+   * check and without boxing.  Replaces {@link #getShort(int)} followed by {@link #wasNull()}.
+   *
+   * @param  defaultValue  The value returned when SQL {@code NULL}
+   */
+  public short getShortOrDefault(int parameterIndex, short defaultValue) throws SQLException {
+    FailFastConnectionImpl ffConn = getConnectionWrapper();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
+    try {
+      CallableStatement stmt = getWrapped();
+      short value = stmt.getShort(parameterIndex);
+      return stmt.wasNull() ? defaultValue : value;
+    } catch (Throwable t) {
+      ffConn.addFailFastCause(t);
+      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
+    }
+  }
+
+  /**
+   * Gets the value of a {@code short} OUT parameter, or a default value when SQL {@code NULL}.
+   *
+   * @see  #getShortOrDefault(int, short)
+   */
+  public short getShortOrDefault(String parameterName, short defaultValue) throws SQLException {
+    FailFastConnectionImpl ffConn = getConnectionWrapper();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
+    try {
+      CallableStatement stmt = getWrapped();
+      short value = stmt.getShort(parameterName);
+      return stmt.wasNull() ? defaultValue : value;
+    } catch (Throwable t) {
+      ffConn.addFailFastCause(t);
+      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
+    }
+  }
+
+  /**
+   * Gets the value of an {@code int} OUT parameter, or a default value when SQL {@code NULL}, with one fail-fast state
+   * check and without boxing.  Replaces {@link #getInt(int)} followed by {@link #wasNull()}.
+   *
+   * @param  defaultValue  The value returned when SQL {@code NULL}
+   */
+  public int getIntOrDefault(int parameterIndex, int defaultValue) throws SQLException {
+    FailFastConnectionImpl ffConn = getConnectionWrapper();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
+    try {
+      CallableStatement stmt = getWrapped();
+      int value = stmt.getInt(parameterIndex);
+      return stmt.wasNull() ? defaultValue : value;
+    } catch (Throwable t) {
+      ffConn.addFailFastCause(t);
+      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
+    }
+  }
+
+  /**
+   * Gets the value of an {@code int} OUT parameter, or a default value when SQL {@code NULL}.
+   *
+   * @see  #getIntOrDefault(int, int)
+   */
+  public int getIntOrDefault(String parameterName, int defaultValue) throws SQLException {
+    FailFastConnectionImpl ffConn = getConnectionWrapper();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
+    try {
+      CallableStatement stmt = getWrapped();
+      int value = stmt.getInt(parameterName);
+      return stmt.wasNull() ? defaultValue : value;
+    } catch (Throwable t) {
+      ffConn.addFailFastCause(t);
+      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
+    }
+  }
+
+  /**
+   * Gets the value of an {@code int} OUT parameter, or {@link OptionalInt#empty()} when SQL {@code NULL}.
+   *
+   * @see  #getIntOrDefault(int, int)
+   */
+  public OptionalInt getOptionalInt(int parameterIndex) throws SQLException {
+    FailFastConnectionImpl ffConn = getConnectionWrapper();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
+    try {
+      CallableStatement stmt = getWrapped();
+      int value = stmt.getInt(parameterIndex);
+      return stmt.wasNull() ? OptionalInt.empty() : OptionalInt.of(value);
+    } catch (Throwable t) {
+      ffConn.addFailFastCause(t);
+      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
+    }
+  }
+
+  /**
+   * Gets the value of an {@code int} OUT parameter, or {@link OptionalInt#empty()} when SQL {@code NULL}.
+   *
+   * @see  #getOptionalInt(int)
+   */
+  public OptionalInt getOptionalInt(String parameterName) throws SQLException {
+    FailFastConnectionImpl ffConn = getConnectionWrapper();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
+    try {
+      CallableStatement stmt = getWrapped();
+      int value = stmt.getInt(parameterName);
+      return stmt.wasNull() ? OptionalInt.empty() : OptionalInt.of(value);
+    } catch (Throwable t) {
+      ffConn.addFailFastCause(t);
+      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
+    }
+  }
+
+  /**
+   * Gets the value of a {@code long} OUT parameter, or a default value when SQL {@code NULL}, with one fail-fast state
+   * check and without boxing.  Replaces {@link #getLong(int)} followed by {@link #wasNull()}.
+   *
+   * @param  defaultValue  The value returned when SQL {@code NULL}
+   */
+  public long getLongOrDefault(int parameterIndex, long defaultValue) throws SQLException {
+    FailFastConnectionImpl ffConn = getConnectionWrapper();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
+    try {
+      CallableStatement stmt = getWrapped();
+      long value = stmt.getLong(parameterIndex);
+      return stmt.wasNull() ? defaultValue : value;
+    } catch (Throwable t) {
+      ffConn.addFailFastCause(t);
+      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
+    }
+  }
+
+  /**
+   * Gets the value of a {@code long} OUT parameter, or a default value when SQL {@code NULL}.
+   *
+   * @see  #getLongOrDefault(int, long)
+   */
+  public long getLongOrDefault(String parameterName, long defaultValue) throws SQLException {
+    FailFastConnectionImpl ffConn = getConnectionWrapper();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
+    try {
+      CallableStatement stmt = getWrapped();
+      long value = stmt.getLong(parameterName);
+      return stmt.wasNull() ? defaultValue : value;
+    } catch (Throwable t) {
+      ffConn.addFailFastCause(t);
+      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
+    }
+  }
+
+  /**
+   * Gets the value of a {@code long} OUT parameter, or {@link OptionalLong#empty()} when SQL {@code NULL}.
+   *
+   * @see  #getLongOrDefault(int, long)
+   */
+  public OptionalLong getOptionalLong(int parameterIndex) throws SQLException {
+    FailFastConnectionImpl ffConn = getConnectionWrapper();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
+    try {
+      CallableStatement stmt = getWrapped();
+      long value = stmt.getLong(parameterIndex);
+      return stmt.wasNull() ? OptionalLong.empty() : OptionalLong.of(value);
+    } catch (Throwable t) {
+      ffConn.addFailFastCause(t);
+      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
+    }
+  }
+
+  /**
+   * Gets the value of a {@code long} OUT parameter, or {@link OptionalLong#empty()} when SQL {@code NULL}.
+   *
+   * @see  #getOptionalLong(int)
+   */
+  public OptionalLong getOptionalLong(String parameterName) throws SQLException {
+    FailFastConnectionImpl ffConn = getConnectionWrapper();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
+    try {
+      CallableStatement stmt = getWrapped();
+      long value = stmt.getLong(parameterName);
+      return stmt.wasNull() ? OptionalLong.empty() : OptionalLong.of(value);
+    } catch (Throwable t) {
+      ffConn.addFailFastCause(t);
+      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
+    }
+  }
+
+  /**
+   * Gets the value of a {@code float} OUT parameter, or a default value when SQL {@code NULL}, with one fail-fast state
+   * check and without boxing.  Replaces {@link #getFloat(int)} followed by {@link #wasNull()}.
+   *
+   * @param  defaultValue  The value returned when SQL {@code NULL}
+   */
+  public float getFloatOrDefault(int parameterIndex, float defaultValue) throws SQLException {
+    FailFastConnectionImpl ffConn = getConnectionWrapper();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
+    try {
+      CallableStatement stmt = getWrapped();
+      float value = stmt.getFloat(parameterIndex);
+      return stmt.wasNull() ? defaultValue : value;
+    } catch (Throwable t) {
+      ffConn.addFailFastCause(t);
+      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
+    }
+  }
+
+  /**
+   * Gets the value of a {@code float} OUT parameter, or a default value when SQL {@code NULL}.
+   *
+   * @see  #getFloatOrDefault(int, float)
+   */
+  public float getFloatOrDefault(String parameterName, float defaultValue) throws SQLException {
+    FailFastConnectionImpl ffConn = getConnectionWrapper();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
+    try {
+      CallableStatement stmt = getWrapped();
+      float value = stmt.getFloat(parameterName);
+      return stmt.wasNull() ? defaultValue : value;
+    } catch (Throwable t) {
+      ffConn.addFailFastCause(t);
+      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
+    }
+  }
+
+  /**
+   * Gets the value of a {@code double} OUT parameter, or a default value when SQL {@code NULL}, with one fail-fast
+   * state check and without boxing.  Replaces {@link #getDouble(int)} followed by {@link #wasNull()}.
+   *
+   * @param  defaultValue  The value returned when SQL {@code NULL}
+   */
+  public double getDoubleOrDefault(int parameterIndex, double defaultValue) throws SQLException {
+    FailFastConnectionImpl ffConn = getConnectionWrapper();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
+    try {
+      CallableStatement stmt = getWrapped();
+      double value = stmt.getDouble(parameterIndex);
+      return stmt.wasNull() ? defaultValue : value;
+    } catch (Throwable t) {
+      ffConn.addFailFastCause(t);
+      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
+    }
+  }
+
+  /**
+   * Gets the value of a {@code double} OUT parameter, or a default value when SQL {@code NULL}.
+   *
+   * @see  #getDoubleOrDefault(int, double)
+   */
+  public double getDoubleOrDefault(String parameterName, double defaultValue) throws SQLException {
+    FailFastConnectionImpl ffConn = getConnectionWrapper();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
+    try {
+      CallableStatement stmt = getWrapped();
+      double value = stmt.getDouble(parameterName);
+      return stmt.wasNull() ? defaultValue : value;
+    } catch (Throwable t) {
+      ffConn.addFailFastCause(t);
+      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
+    }
+  }
+
+  /**
+   * Gets the value of a {@code double} OUT parameter, or {@link OptionalDouble#empty()} when SQL {@code NULL}.
+   *
+   * @see  #getDoubleOrDefault(int, double)
+   */
+  public OptionalDouble getOptionalDouble(int parameterIndex) throws SQLException {
+    FailFastConnectionImpl ffConn = getConnectionWrapper();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
+    try {
+      CallableStatement stmt = getWrapped();
+      double value = stmt.getDouble(parameterIndex);
+      return stmt.wasNull() ? OptionalDouble.empty() : OptionalDouble.of(value);
+    } catch (Throwable t) {
+      ffConn.addFailFastCause(t);
+      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
+    }
+  }
+
+  /**
+   * Gets the value of a {@code double} OUT parameter, or {@link OptionalDouble#empty()} when SQL {@code NULL}.
+   *
+   * @see  #getOptionalDouble(int)
+   */
+  public OptionalDouble getOptionalDouble(String parameterName) throws SQLException {
+    FailFastConnectionImpl ffConn = getConnectionWrapper();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
+    try {
+      CallableStatement stmt = getWrapped();
+      double value = stmt.getDouble(parameterName);
+      return stmt.wasNull() ? OptionalDouble.empty() : OptionalDouble.of(value);
+    } catch (Throwable t) {
+      ffConn.addFailFastCause(t);
+      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
+    }
+  }
 }
@@ -0,0 +1,262 @@
+/*
+ * ao-sql-failfast - Fail-fast JDBC wrapper.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql-failfast.
+ *
+ * ao-sql-failfast is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql-failfast is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql-failfast.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.sql.failfast;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * Transfers between the streams of large objects and {@linkplain java.nio.channels channels}.
+ *
+ * <p>The JDBC API only provides streams, so the data is always copied out of the driver.  Transfers use a direct buffer
+ * from the {@linkplain FailFastConnectionImpl#takeDirectBuffer() pool of the connection}, or the
+ * {@link FileChannel#transferFrom(java.nio.channels.ReadableByteChannel, long, long)} and
+ * {@link FileChannel#transferTo(long, long, java.nio.channels.WritableByteChannel)} fast paths when the channel is a
+ * file.  The fail-fast state is checked by the stream, reader, or writer once per chunk, not once per byte.</p>
+ *
+ * <p>Channels must be in blocking mode.  Channels are not closed.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+final class FailFastChannels {
+
+  /**
+   * The size of the direct buffers, and the most transferred by each call to a {@link FileChannel} fast path.
+   */
+  static final int CHUNK_SIZE = 64 * 1024;
+
+  /**
+   * The size of the character buffers used while encoding and decoding.
+   */
+  private static final int CHAR_BUFFER_SIZE = 8 * 1024;
+
+  /** Make no instances. */
+  private FailFastChannels() {
+    throw new AssertionError();
+  }
+
+  /**
+   * Writes all bytes in the buffer then clears it.
+   */
+  private static void drain(ByteBuffer buffer, WritableByteChannel out) throws IOException {
+    buffer.flip();
+    while (buffer.hasRemaining()) {
+      out.write(buffer);
+    }
+    buffer.clear();
+  }
+
+  /**
+   * Transfers all bytes of a stream to a channel.  When the channel is a {@link FileChannel}, the bytes are written
+   * starting at its current position, and the position is advanced by the number of bytes written.
+   *
+   * @return  The number of bytes transferred
+   */
+  static long transfer(FailFastConnectionImpl ffConn, InputStream in, WritableByteChannel out) throws IOException {
+    ReadableByteChannel src = Channels.newChannel(in);
+    if (out instanceof FileChannel) {
+      FileChannel file = (FileChannel) out;
+      long position = file.position();
+      // transferFrom writes nothing past the end of the file
+      if (position <= file.size()) {
+        long total = 0;
+        long count;
+        while ((count = file.transferFrom(src, position + total, CHUNK_SIZE)) > 0) {
+          total += count;
+        }
+        file.position(position + total);
+        return total;
+      }
+    }
+    ByteBuffer buffer = ffConn.takeDirectBuffer();
+    try {
+      long total = 0;
+      boolean eof = false;
+      while (!eof) {
+        // Fill the whole buffer to write in large chunks
+        while (buffer.hasRemaining()) {
+          int count = src.read(buffer);
+          if (count < 0) {
+            eof = true;
+            break;
+          }
+          total += count;
+        }
+        drain(buffer, out);
+      }
+      return total;
+    } finally {
+      ffConn.releaseDirectBuffer(buffer);
+    }
+  }
+
+  /**
+   * Transfers all bytes of a channel to a stream.  When the channel is a {@link FileChannel}, the bytes are read
+   * starting at its current position, and the position is advanced by the number of bytes read.
+   *
+   * @return  The number of bytes transferred
+   */
+  static long transfer(FailFastConnectionImpl ffConn, ReadableByteChannel in, OutputStream out) throws IOException {
+    WritableByteChannel dst = Channels.newChannel(out);
+    if (in instanceof FileChannel) {
+      FileChannel file = (FileChannel) in;
+      long position = file.position();
+      long total = 0;
+      long count;
+      while ((count = file.transferTo(position + total, CHUNK_SIZE, dst)) > 0) {
+        total += count;
+      }
+      file.position(position + total);
+      return total;
+    }
+    ByteBuffer buffer = ffConn.takeDirectBuffer();
+    try {
+      long total = 0;
+      boolean eof = false;
+      while (!eof) {
+        while (buffer.hasRemaining()) {
+          int count = in.read(buffer);
+          if (count < 0) {
+            eof = true;
+            break;
+          }
+          total += count;
+        }
+        drain(buffer, dst);
+      }
+      return total;
+    } finally {
+      ffConn.releaseDirectBuffer(buffer);
+    }
+  }
+
+  /**
+   * Encodes all characters of a reader to a channel.  Malformed and unmappable characters are replaced.
+   *
+   * @return  The number of characters transferred
+   */
+  static long transfer(FailFastConnectionImpl ffConn, Reader in, Charset charset, WritableByteChannel out)
+      throws IOException {
+    CharsetEncoder encoder = charset.newEncoder()
+        .onMalformedInput(CodingErrorAction.REPLACE)
+        .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    CharBuffer chars = CharBuffer.allocate(CHAR_BUFFER_SIZE);
+    ByteBuffer bytes = ffConn.takeDirectBuffer();
+    try {
+      long total = 0;
+      boolean eof = false;
+      while (!eof) {
+        int count = in.read(chars);
+        if (count < 0) {
+          eof = true;
+        } else {
+          total += count;
+        }
+        chars.flip();
+        CoderResult result;
+        while ((result = encoder.encode(chars, bytes, eof)).isOverflow()) {
+          drain(bytes, out);
+        }
+        if (result.isError()) {
+          result.throwException();
+        }
+        // Keep any partial surrogate pair for the next read
+        chars.compact();
+      }
+      while (encoder.flush(bytes).isOverflow()) {
+        drain(bytes, out);
+      }
+      drain(bytes, out);
+      return total;
+    } finally {
+      ffConn.releaseDirectBuffer(bytes);
+    }
+  }
+
+  /**
+   * Decodes all bytes of a channel to a writer.  Malformed and unmappable input is replaced.
+   *
+   * @return  The number of characters transferred
+   */
+  static long transfer(FailFastConnectionImpl ffConn, ReadableByteChannel in, Charset charset, Writer out)
+      throws IOException {
+    CharsetDecoder decoder = charset.newDecoder()
+        .onMalformedInput(CodingErrorAction.REPLACE)
+        .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    ByteBuffer bytes = ffConn.takeDirectBuffer();
+    CharBuffer chars = CharBuffer.allocate(CHAR_BUFFER_SIZE);
+    try {
+      long total = 0;
+      boolean eof = false;
+      while (!eof) {
+        if (in.read(bytes) < 0) {
+          eof = true;
+        }
+        bytes.flip();
+        CoderResult result;
+        while ((result = decoder.decode(bytes, chars, eof)).isOverflow()) {
+          total += write(chars, out);
+        }
+        if (result.isError()) {
+          result.throwException();
+        }
+        // Keep any partial character for the next read
+        bytes.compact();
+      }
+      while (decoder.flush(chars).isOverflow()) {
+        total += write(chars, out);
+      }
+      total += write(chars, out);
+      return total;
+    } finally {
+      ffConn.releaseDirectBuffer(bytes);
+    }
+  }
+
+  /**
+   * Writes all characters in the buffer then clears it.
+   *
+   * @return  The number of characters written
+   */
+  private static int write(CharBuffer chars, Writer out) throws IOException {
+    int count = chars.position();
+    out.write(chars.array(), chars.arrayOffset(), count);
+    chars.clear();
+    return count;
+  }
+}
@@ -0,0 +1,258 @@
+/*
+ * ao-sql-failfast - Fail-fast JDBC wrapper.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql-failfast.
+ *
+ * ao-sql-failfast is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql-failfast is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql-failfast.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.sql.failfast;
+
+import com.aoapps.lang.NullArgumentException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A circuit breaker shared by all connections of a {@link FailFastDriver} to the same URL.  Once a number of
+ * {@link FailFastConnection.State#CONNECTION_FAILURE} occur within a window of time, the breaker opens:
+ * <ol>
+ * <li>All connections to the URL are immediately put into a {@link FailFastConnection.State#CONNECTION_FAILURE}
+ *     fail-fast state, so
+ *     that calls in progress elsewhere fail fast instead of each waiting on its own driver timeout.</li>
+ * <li>New connections fail immediately, without contacting the database.</li>
+ * </ol>
+ *
+ * <p>After being open for a period of time, the breaker becomes half-open and allows a single probe connection.  When
+ * the probe connects successfully, the breaker closes.  When the probe fails, the breaker opens again.</p>
+ *
+ * <p>Failures are counted from new connections failing with {@link FailFastConnection.State#CONNECTION_FAILURE}, and
+ * from connections entering {@link FailFastConnection.State#CONNECTION_FAILURE}, both as determined by the
+ * {@linkplain FailFastDriver#getClassifier() classifier of the driver}.</p>
+ *
+ * @author  AO Industries, Inc.
+ *
+ * @see  FailFastDriver#setCircuitBreaker(int, java.time.Duration, java.time.Duration)
+ */
+public class FailFastCircuitBreaker implements FailFastListener {
+
+  /**
+   * The states of a circuit breaker.
+   */
+  public enum State {
+    /**
+     * Operating normally, counting failures.
+     */
+    CLOSED,
+
+    /**
+     * Failing all new connections immediately.
+     */
+    OPEN,
+
+    /**
+     * Allowing a single probe connection while failing all others immediately.
+     */
+    HALF_OPEN
+  }
+
+  /**
+   * The SQLSTATE of exceptions thrown while the breaker is open: connection exception - SQL-client unable to establish
+   * SQL-connection.
+   */
+  private static final String SQLSTATE = "08001";
+
+  private final String url;
+  private final int failureThreshold;
+  private final long windowNanos;
+  private final long openNanos;
+
+  /**
+   * The live connections registered with this breaker.
+   */
+  private final Set<FailFastConnection> connections = ConcurrentHashMap.newKeySet();
+
+  private static class Lock {
+    // Empty lock class to help heap profile
+  }
+
+  private final Lock lock = new Lock();
+
+  /**
+   * The {@link System#nanoTime()} of the most recent failures, as a ring buffer.
+   */
+  private final long[] failureTimes;
+  private int failureCount;
+  private int nextFailure;
+
+  private volatile State state = State.CLOSED;
+  private long openUntil;
+  private boolean probing;
+
+  /**
+   * Creates a new circuit breaker.
+   *
+   * @param  url  The URL, used in exception messages
+   * @param  failureThreshold  The number of failures within the window that opens the breaker
+   * @param  window  The window of time within which failures are counted
+   * @param  openDuration  How long the breaker stays open before allowing a probe connection
+   */
+  FailFastCircuitBreaker(String url, int failureThreshold, Duration window, Duration openDuration) {
+    this.url = NullArgumentException.checkNotNull(url, "url");
+    if (failureThreshold < 1) {
+      throw new IllegalArgumentException("failureThreshold < 1: " + failureThreshold);
+    }
+    this.failureThreshold = failureThreshold;
+    this.windowNanos = NullArgumentException.checkNotNull(window, "window").toNanos();
+    this.openNanos = NullArgumentException.checkNotNull(openDuration, "openDuration").toNanos();
+    this.failureTimes = new long[failureThreshold];
+  }
+
+  /**
+   * Gets the current state.  An open breaker is reported as {@link State#OPEN} until the next connection attempt
+   * after its open duration.
+   */
+  public State getState() {
+    return state;
+  }
+
+  /**
+   * Called before connecting.
+   *
+   * @return  {@code true} when the connection is a probe, which must be followed by either
+   *          {@link FailFastCircuitBreaker#connectSucceeded(com.aoapps.sql.failfast.FailFastConnection, boolean)} or
+   *          {@link FailFastCircuitBreaker#connectFailed(boolean, boolean)}
+   *
+   * @throws  SQLTransientConnectionException  when the breaker is open or another probe is in progress
+   */
+  boolean beforeConnect() throws SQLTransientConnectionException {
+    if (state == State.CLOSED) {
+      return false;
+    }
+    synchronized (lock) {
+      switch (state) {
+        case CLOSED:
+          return false;
+        case OPEN:
+          if (System.nanoTime() - openUntil < 0) {
+            throw new SQLTransientConnectionException("Circuit breaker open: " + url, SQLSTATE);
+          }
+          state = State.HALF_OPEN;
+          probing = true;
+          return true;
+        case HALF_OPEN:
+          if (probing) {
+            throw new SQLTransientConnectionException("Circuit breaker half-open, probe in progress: " + url, SQLSTATE);
+          }
+          probing = true;
+          return true;
+        default:
+          throw new AssertionError();
+      }
+    }
+  }
+
+  /**
+   * Called when a new connection has been established.  Registers the connection to be notified when the breaker
+   * opens.
+   *
+   * @param  probe  The value returned from {@link FailFastCircuitBreaker#beforeConnect()}
+   */
+  void connectSucceeded(FailFastConnection conn, boolean probe) {
+    if (probe) {
+      synchronized (lock) {
+        probing = false;
+        state = State.CLOSED;
+        failureCount = 0;
+      }
+    }
+    connections.add(conn);
+    conn.addFailFastListener(this);
+  }
+
+  /**
+   * Called when a new connection has failed.
+   *
+   * @param  probe  The value returned from {@link FailFastCircuitBreaker#beforeConnect()}
+   * @param  connectionFailure  Whether the failure is {@link FailFastConnection.State#CONNECTION_FAILURE}
+   */
+  void connectFailed(boolean probe, boolean connectionFailure) {
+    if (probe) {
+      synchronized (lock) {
+        probing = false;
+        if (connectionFailure) {
+          state = State.OPEN;
+          openUntil = System.nanoTime() + openNanos;
+        } else {
+          // Not a connection failure, allow another probe
+          state = State.HALF_OPEN;
+        }
+      }
+    } else if (connectionFailure) {
+      failed();
+    }
+  }
+
+  /**
+   * Records a failure, opening the breaker when the threshold is reached within the window.
+   */
+  private void failed() {
+    long now = System.nanoTime();
+    synchronized (lock) {
+      if (state != State.CLOSED) {
+        return;
+      }
+      failureTimes[nextFailure] = now;
+      nextFailure = (nextFailure + 1) % failureThreshold;
+      if (failureCount < failureThreshold) {
+        failureCount++;
+      }
+      // When full, the next failure to be overwritten is the oldest
+      if (failureCount < failureThreshold || now - failureTimes[nextFailure] > windowNanos) {
+        return;
+      }
+      state = State.OPEN;
+      openUntil = now + openNanos;
+      failureCount = 0;
+    }
+    // Fail all connections outside the lock, since each will notify this breaker.  This only marks their state: their
+    // statements are released by the threads using them, on their next call, rollback, or close.
+    List<FailFastConnection> failing = new ArrayList<>(connections);
+    for (FailFastConnection conn : failing) {
+      conn.addFailFastCause(new SQLTransientConnectionException("Circuit breaker opened: " + url, SQLSTATE));
+    }
+  }
+
+  @Override
+  public void stateChanged(FailFastConnection conn, FailFastConnection.State oldState, FailFastConnection.State newState) {
+    if (newState == FailFastConnection.State.TERMINAL) {
+      connections.remove(conn);
+      conn.removeFailFastListener(this);
+    } else if (newState == FailFastConnection.State.CONNECTION_FAILURE) {
+      failed();
+    }
+  }
+
+  @Override
+  public String toString() {
+    return FailFastCircuitBreaker.class.getSimpleName() + '(' + url + ", " + state + ')';
+  }
+}
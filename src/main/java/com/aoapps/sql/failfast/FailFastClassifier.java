@@ -0,0 +1,58 @@
+/*
+ * ao-sql-failfast - Fail-fast JDBC wrapper.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql-failfast.
+ *
+ * ao-sql-failfast is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql-failfast is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql-failfast.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.sql.failfast;
+
+/**
+ * Determines the {@link FailFastConnection.State} of each cause registered with a {@link FailFastConnection}.  This
+ * allows driver-specific exceptions and vendor codes to be classified beyond the standard SQLSTATE classes.
+ *
+ * <p>A {@link TerminalSQLException} is always {@link FailFastConnection.State#TERMINAL} and is not passed to the
+ * classifier.</p>
+ *
+ * @author  AO Industries, Inc.
+ *
+ * @see  FailFastConnection#setFailFastClassifier(com.aoapps.sql.failfast.FailFastClassifier)
+ * @see  FailFastDriver#setClassifier(com.aoapps.sql.failfast.FailFastClassifier)
+ */
+@FunctionalInterface
+public interface FailFastClassifier {
+
+  /**
+   * The default classification by exception type and SQLSTATE.
+   *
+   * @see  FailFastConnection.State#getState(java.lang.Throwable)
+   */
+  FailFastClassifier DEFAULT = FailFastConnection.State::getState;
+
+  /**
+   * Classifies a cause.
+   *
+   * @param  cause  The cause, never {@code null}
+   *
+   * @return  The state or {@code null} to use the {@linkplain FailFastClassifier#DEFAULT default classification}.
+   *          {@link FailFastConnection.State#OK} is also treated as the default classification, since a cause is
+   *          always a failure.
+   */
+  FailFastConnection.State classify(Throwable cause);
+}
@@ -1,6 +1,6 @@
 /*
  * ao-sql-failfast - Fail-fast JDBC wrapper.
- * Copyright (C) 2020, 2021, 2022  AO Industries, Inc.
+ * Copyright (C) 2020, 2021, 2022, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -25,6 +25,10 @@ package com.aoapps.sql.failfast;
 
 import com.aoapps.lang.Throwables;
 import com.aoapps.sql.wrapper.ClobWrapperImpl;
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
 import java.sql.Clob;
 import java.sql.SQLException;
 
@@ -198,4 +202,37 @@ public class FailFastClobImpl extends ClobWrapperImpl {
       throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
     }
   }
+
+  /**
+   * Transfers the value of this clob to a channel, encoded in the given character set, checking the fail-fast state
+   * once per chunk.  Unmappable characters are replaced.
+   *
+   * @param  out  The channel, in blocking mode, which is not closed
+   *
+   * @return  The number of characters transferred
+   *
+   * @see  #getCharacterStream()
+   */
+  public long transferTo(WritableByteChannel out, Charset charset) throws SQLException, IOException {
+    try (FailFastReader in = getCharacterStream()) {
+      return FailFastChannels.transfer(getConnectionWrapper(), in, charset, out);
+    }
+  }
+
+  /**
+   * Transfers the remaining bytes of a channel into this clob, decoded from the given character set, checking the
+   * fail-fast state once per chunk.  Malformed input is replaced.
+   *
+   * @param  in  The channel, in blocking mode, which is not closed
+   * @param  pos  The position in this clob to start writing, where the first character is at position {@code 1}
+   *
+   * @return  The number of characters transferred
+   *
+   * @see  #setCharacterStream(long)
+   */
+  public long transferFrom(ReadableByteChannel in, Charset charset, long pos) throws SQLException, IOException {
+    try (FailFastWriter out = setCharacterStream(pos)) {
+      return FailFastChannels.transfer(getConnectionWrapper(), in, charset, out);
+    }
+  }
 }
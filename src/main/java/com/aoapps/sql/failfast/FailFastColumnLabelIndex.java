@@ -0,0 +1,103 @@
+/*
+ * ao-sql-failfast - Fail-fast JDBC wrapper.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql-failfast.
+ *
+ * ao-sql-failfast is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql-failfast is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql-failfast.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.aoapps.sql.failfast;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * An immutable map from column label to column index, built once per result set shape and safe to share between
+ * threads.  Labels are matched ignoring case, with the first column winning when a label is repeated, as specified by
+ * {@link java.sql.ResultSet#findColumn(java.lang.String)}.
+ *
+ * <p>Labels are usually requested with the same case as returned by the driver, so each label is first looked up
+ * as given, only converting to upper-case on a miss.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+final class FailFastColumnLabelIndex {
+
+  /**
+   * The column index of each label, as returned by the driver.  A label repeated with different case maps to the
+   * first column matching while ignoring case.
+   */
+  private final Map<String, Integer> exact;
+
+  /**
+   * The column index of each upper-case label, with the first column winning when a label is repeated.
+   */
+  private final Map<String, Integer> upper;
+
+  /**
+   * @param  labels  The label of each column, in column order, with {@code null} elements skipped
+   */
+  FailFastColumnLabelIndex(String[] labels) {
+    int capacity = labels.length * 4 / 3 + 1;
+    exact = new HashMap<>(capacity);
+    upper = new HashMap<>(capacity);
+    for (int i = 0; i < labels.length; i++) {
+      String label = labels[i];
+      if (label != null) {
+        upper.putIfAbsent(label.toUpperCase(Locale.ROOT), i + 1);
+      }
+    }
+    for (String label : labels) {
+      if (label != null) {
+        exact.putIfAbsent(label, upper.get(label.toUpperCase(Locale.ROOT)));
+      }
+    }
+  }
+
+  /**
+   * Reads the label of each column, in column order.
+   */
+  static String[] getColumnLabels(ResultSetMetaData metaData) throws SQLException {
+    String[] labels = new String[metaData.getColumnCount()];
+    for (int i = 0; i < labels.length; i++) {
+      labels[i] = metaData.getColumnLabel(i + 1);
+    }
+    return labels;
+  }
+
+  /**
+   * Finds a column by its label, ignoring case.
+   *
+   * @return  The column index or {@code 0} when not found or {@code label} is {@code null}
+   */
+  int findColumn(String label) {
+    if (label == null) {
+      return 0;
+    }
+    Integer column = exact.get(label);
+    if (column == null) {
+      column = upper.get(label.toUpperCase(Locale.ROOT));
+      if (column == null) {
+        return 0;
+      }
+    }
+    return column;
+  }
+}
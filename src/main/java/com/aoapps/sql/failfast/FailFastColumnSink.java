@@ -0,0 +1,154 @@
+/*
+ * ao-sql-failfast - Fail-fast JDBC wrapper.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql-failfast.
+ *
+ * ao-sql-failfast is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql-failfast is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql-failfast.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.aoapps.sql.failfast;
+
+import com.aoapps.lang.NullArgumentException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.BitSet;
+
+/**
+ * Receives the values of one primitive column for
+ * {@link FailFastResultSetImpl#fetchColumns(int, com.aoapps.sql.failfast.FailFastColumnSink...)}, storing the value of
+ * each row fetched into a caller-provided array, without boxing.
+ *
+ * <p>When a null bitmap is given, the bit of each row is set when its value is SQL {@code NULL} and cleared otherwise.
+ * Without a null bitmap, {@link ResultSet#wasNull()} is not called and SQL {@code NULL} is stored as {@code 0}, as
+ * returned by the driver.</p>
+ *
+ * <p>Sinks hold no state between fetches, so the same sinks may be passed to each fetch, with the arrays reused
+ * block after block.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+public abstract class FailFastColumnSink {
+
+  /**
+   * Creates a sink for an {@code int} column, read by {@link ResultSet#getInt(int)}.
+   *
+   * @param  column  The column index, starting at one
+   * @param  values  Receives the value of each row, at the index of the row within the block
+   * @param  nulls   Receives the null bit of each row or {@code null} to not detect SQL {@code NULL}
+   */
+  public static FailFastColumnSink ofInt(int column, int[] values, BitSet nulls) {
+    NullArgumentException.checkNotNull(values, "values");
+    return new FailFastColumnSink(column, values.length, nulls) {
+      @Override
+      boolean read(ResultSet results, int row) throws SQLException {
+        values[row] = results.getInt(column);
+        return values[row] == 0;
+      }
+    };
+  }
+
+  /**
+   * Creates a sink for a {@code long} column, read by {@link ResultSet#getLong(int)}.
+   *
+   * @param  column  The column index, starting at one
+   * @param  values  Receives the value of each row, at the index of the row within the block
+   * @param  nulls   Receives the null bit of each row or {@code null} to not detect SQL {@code NULL}
+   */
+  public static FailFastColumnSink ofLong(int column, long[] values, BitSet nulls) {
+    NullArgumentException.checkNotNull(values, "values");
+    return new FailFastColumnSink(column, values.length, nulls) {
+      @Override
+      boolean read(ResultSet results, int row) throws SQLException {
+        values[row] = results.getLong(column);
+        return values[row] == 0;
+      }
+    };
+  }
+
+  /**
+   * Creates a sink for a {@code double} column, read by {@link ResultSet#getDouble(int)}.
+   *
+   * @param  column  The column index, starting at one
+   * @param  values  Receives the value of each row, at the index of the row within the block
+   * @param  nulls   Receives the null bit of each row or {@code null} to not detect SQL {@code NULL}
+   */
+  public static FailFastColumnSink ofDouble(int column, double[] values, BitSet nulls) {
+    NullArgumentException.checkNotNull(values, "values");
+    return new FailFastColumnSink(column, values.length, nulls) {
+      @Override
+      boolean read(ResultSet results, int row) throws SQLException {
+        values[row] = results.getDouble(column);
+        return values[row] == 0;
+      }
+    };
+  }
+
+  private final int column;
+  private final int capacity;
+  private final BitSet nulls;
+
+  private FailFastColumnSink(int column, int capacity, BitSet nulls) {
+    if (column < 1) {
+      throw new IllegalArgumentException("column < 1: " + column);
+    }
+    this.column = column;
+    this.capacity = capacity;
+    this.nulls = nulls;
+  }
+
+  /**
+   * Gets the column index, starting at one.
+   */
+  public int getColumn() {
+    return column;
+  }
+
+  /**
+   * Gets the number of rows the values array holds.
+   */
+  int getCapacity() {
+    return capacity;
+  }
+
+  /**
+   * Clears the null bits of a block before it is fetched.
+   */
+  void clearNulls(int maxRows) {
+    if (nulls != null) {
+      nulls.clear(0, maxRows);
+    }
+  }
+
+  /**
+   * Reads the value of the current row into the values array.
+   *
+   * @param  row  The index of the row within the block
+   *
+   * @return  {@code true} when the value read is zero, which may be SQL {@code NULL}
+   */
+  abstract boolean read(ResultSet results, int row) throws SQLException;
+
+  /**
+   * Reads the value and null bit of the current row.  The driver is only asked {@link ResultSet#wasNull()} for zero
+   * values, since SQL {@code NULL} is always read as zero.
+   */
+  final void fetch(ResultSet results, int row) throws SQLException {
+    if (read(results, row) && nulls != null && results.wasNull()) {
+      nulls.set(row);
+    }
+  }
+}
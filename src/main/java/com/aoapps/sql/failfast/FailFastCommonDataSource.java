@@ -0,0 +1,328 @@
+/*
+ * ao-sql-failfast - Fail-fast JDBC wrapper.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql-failfast.
+ *
+ * ao-sql-failfast is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql-failfast is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql-failfast.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.sql.failfast;
+
+import com.aoapps.lang.NullArgumentException;
+import java.io.PrintWriter;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.logging.Logger;
+import javax.sql.CommonDataSource;
+
+/**
+ * The base for data sources that make {@linkplain Connection connections} obtained from other data sources perform in
+ * a fail-fast manner, without going through {@link java.sql.DriverManager}.
+ *
+ * <p>The {@linkplain FailFastConnection.ExceptionMode exception mode},
+ * {@linkplain FailFastConnection.CheckGranularity check granularity},
+ * {@linkplain FailFastConnection#getFailFastStatementCacheSize() statement cache size},
+ * {@linkplain FailFastConnection#getFailFastStreamBufferSize() stream buffer size},
+ * {@linkplain FailFastConnection#isFailFastSchemaCacheEnabled() schema cache},
+ * {@linkplain FailFastConnection#isFailFastColumnLabelIndexEnabled() column label index},
+ * {@linkplain FailFastClassifier classifier}, and {@linkplain FailFastMonitor monitor} are applied to each new
+ * connection, the same as {@link FailFastDriver}.  When enabled, the constant database metadata and the prepared
+ * statement metadata are shared by all connections from the same data source, the same as connections to the same URL
+ * from {@link FailFastDriver}.</p>
+ *
+ * @param  <D>  The type of data source wrapped
+ *
+ * @author  AO Industries, Inc.
+ */
+public abstract class FailFastCommonDataSource<D extends CommonDataSource> implements CommonDataSource {
+
+  private final D wrapped;
+
+  private volatile FailFastConnection.ExceptionMode exceptionMode = FailFastConnection.ExceptionMode.SURROGATE;
+  private volatile FailFastConnection.CheckGranularity checkGranularity = FailFastConnection.CheckGranularity.CALL;
+  private volatile int statementCacheSize;
+  private volatile int streamBufferSize;
+  private volatile boolean schemaCacheEnabled;
+  private volatile boolean columnLabelIndexEnabled;
+  private volatile boolean databaseMetaDataCacheEnabled;
+  private final FailFastDatabaseMetaDataCache databaseMetaDataCache = new FailFastDatabaseMetaDataCache();
+  private volatile FailFastStatementMetaDataCache statementMetaDataCache;
+  private volatile FailFastClassifier classifier = FailFastClassifier.DEFAULT;
+  private volatile FailFastMonitor monitor;
+
+  protected FailFastCommonDataSource(D wrapped) {
+    this.wrapped = NullArgumentException.checkNotNull(wrapped, "wrapped");
+  }
+
+  /**
+   * Gets the data source that is wrapped.
+   */
+  public D getWrapped() {
+    return wrapped;
+  }
+
+  /**
+   * Gets how exceptions are created while enforcing a fail-fast state, for new connections.
+   *
+   * @see  FailFastDriver#getExceptionMode()
+   */
+  public FailFastConnection.ExceptionMode getExceptionMode() {
+    return exceptionMode;
+  }
+
+  /**
+   * Sets how exceptions are created while enforcing a fail-fast state, for new connections.
+   *
+   * @see  FailFastDriver#setExceptionMode(com.aoapps.sql.failfast.FailFastConnection.ExceptionMode)
+   */
+  public void setExceptionMode(FailFastConnection.ExceptionMode exceptionMode) {
+    this.exceptionMode = NullArgumentException.checkNotNull(exceptionMode, "exceptionMode");
+  }
+
+  /**
+   * Gets how often the fail-fast state is checked by statements and result sets, for new connections.
+   *
+   * @see  FailFastDriver#getCheckGranularity()
+   */
+  public FailFastConnection.CheckGranularity getCheckGranularity() {
+    return checkGranularity;
+  }
+
+  /**
+   * Sets how often the fail-fast state is checked by statements and result sets, for new connections.
+   *
+   * @see  FailFastDriver#setCheckGranularity(com.aoapps.sql.failfast.FailFastConnection.CheckGranularity)
+   */
+  public void setCheckGranularity(FailFastConnection.CheckGranularity checkGranularity) {
+    this.checkGranularity = NullArgumentException.checkNotNull(checkGranularity, "checkGranularity");
+  }
+
+  /**
+   * Gets the maximum number of idle prepared statements cached by each new connection.
+   *
+   * @see  FailFastDriver#getStatementCacheSize()
+   */
+  public int getStatementCacheSize() {
+    return statementCacheSize;
+  }
+
+  /**
+   * Sets the maximum number of idle prepared statements cached by each new connection.
+   *
+   * @see  FailFastDriver#setStatementCacheSize(int)
+   */
+  public void setStatementCacheSize(int statementCacheSize) throws IllegalArgumentException {
+    if (statementCacheSize < 0) {
+      throw new IllegalArgumentException("statementCacheSize < 0: " + statementCacheSize);
+    }
+    this.statementCacheSize = statementCacheSize;
+  }
+
+  /**
+   * Gets the size of the read-ahead buffer of the streams and readers of new connections.
+   *
+   * @see  FailFastDriver#getStreamBufferSize()
+   */
+  public int getStreamBufferSize() {
+    return streamBufferSize;
+  }
+
+  /**
+   * Sets the size of the read-ahead buffer of the streams and readers of new connections.
+   *
+   * @see  FailFastDriver#setStreamBufferSize(int)
+   */
+  public void setStreamBufferSize(int streamBufferSize) throws IllegalArgumentException {
+    if (streamBufferSize < 0) {
+      throw new IllegalArgumentException("streamBufferSize < 0: " + streamBufferSize);
+    }
+    this.streamBufferSize = streamBufferSize;
+  }
+
+  /**
+   * Gets whether schema introspection results are cached by new connections.
+   *
+   * @see  FailFastDriver#isSchemaCacheEnabled()
+   */
+  public boolean isSchemaCacheEnabled() {
+    return schemaCacheEnabled;
+  }
+
+  /**
+   * Sets whether schema introspection results are cached by new connections.
+   *
+   * @see  FailFastDriver#setSchemaCacheEnabled(boolean)
+   */
+  public void setSchemaCacheEnabled(boolean schemaCacheEnabled) {
+    this.schemaCacheEnabled = schemaCacheEnabled;
+  }
+
+  /**
+   * Gets whether the name-based getters of result sets resolve column labels through an index, for new connections.
+   *
+   * @see  FailFastDriver#isColumnLabelIndexEnabled()
+   */
+  public boolean isColumnLabelIndexEnabled() {
+    return columnLabelIndexEnabled;
+  }
+
+  /**
+   * Sets whether the name-based getters of result sets resolve column labels through an index, for new connections.
+   *
+   * @see  FailFastDriver#setColumnLabelIndexEnabled(boolean)
+   */
+  public void setColumnLabelIndexEnabled(boolean columnLabelIndexEnabled) {
+    this.columnLabelIndexEnabled = columnLabelIndexEnabled;
+  }
+
+  /**
+   * Gets whether the constant database metadata is cached for new connections.
+   *
+   * @see  FailFastDriver#isDatabaseMetaDataCacheEnabled()
+   */
+  public boolean isDatabaseMetaDataCacheEnabled() {
+    return databaseMetaDataCacheEnabled;
+  }
+
+  /**
+   * Sets whether the constant database metadata is cached for new connections.
+   *
+   * @see  FailFastDriver#setDatabaseMetaDataCacheEnabled(boolean)
+   */
+  public void setDatabaseMetaDataCacheEnabled(boolean databaseMetaDataCacheEnabled) {
+    this.databaseMetaDataCacheEnabled = databaseMetaDataCacheEnabled;
+    if (!databaseMetaDataCacheEnabled) {
+      clearDatabaseMetaDataCache();
+    }
+  }
+
+  /**
+   * Discards all cached database metadata.
+   *
+   * @see  FailFastDriver#clearDatabaseMetaDataCache()
+   */
+  public void clearDatabaseMetaDataCache() {
+    databaseMetaDataCache.clear();
+  }
+
+  /**
+   * Gets the maximum number of SQL whose prepared statement metadata is cached for the connections of this data source.
+   *
+   * @see  FailFastDriver#getStatementMetaDataCacheSize()
+   */
+  public int getStatementMetaDataCacheSize() {
+    FailFastStatementMetaDataCache cache = statementMetaDataCache;
+    return (cache == null) ? 0 : cache.getMaxSize();
+  }
+
+  /**
+   * Sets the maximum number of SQL whose prepared statement metadata is cached for the connections of this data source.
+   *
+   * @see  FailFastDriver#setStatementMetaDataCacheSize(int)
+   */
+  public void setStatementMetaDataCacheSize(int statementMetaDataCacheSize) throws IllegalArgumentException {
+    if (statementMetaDataCacheSize < 0) {
+      throw new IllegalArgumentException("statementMetaDataCacheSize < 0: " + statementMetaDataCacheSize);
+    }
+    statementMetaDataCache = (statementMetaDataCacheSize == 0)
+        ? null
+        : new FailFastStatementMetaDataCache(statementMetaDataCacheSize);
+  }
+
+  /**
+   * Gets the classifier that determines the state of each cause, for new connections.
+   *
+   * @see  FailFastDriver#getClassifier()
+   */
+  public FailFastClassifier getClassifier() {
+    return classifier;
+  }
+
+  /**
+   * Sets the classifier that determines the state of each cause, for new connections.
+   *
+   * @see  FailFastDriver#setClassifier(com.aoapps.sql.failfast.FailFastClassifier)
+   */
+  public void setClassifier(FailFastClassifier classifier) {
+    this.classifier = NullArgumentException.checkNotNull(classifier, "classifier");
+  }
+
+  /**
+   * Gets the monitor that receives the fail-fast events of new connections.
+   *
+   * @see  FailFastDriver#getMonitor()
+   */
+  public FailFastMonitor getMonitor() {
+    return monitor;
+  }
+
+  /**
+   * Sets the monitor that receives the fail-fast events of new connections.
+   *
+   * @see  FailFastDriver#setMonitor(com.aoapps.sql.failfast.FailFastMonitor)
+   */
+  public void setMonitor(FailFastMonitor monitor) {
+    this.monitor = monitor;
+  }
+
+  /**
+   * Wraps a connection obtained from the wrapped data source.
+   */
+  protected FailFastConnectionImpl newConnectionWrapper(Connection connection) {
+    FailFastConnectionImpl ffConn = new FailFastConnectionImpl(connection);
+    ffConn.setFailFastExceptionMode(exceptionMode);
+    ffConn.setFailFastCheckGranularity(checkGranularity);
+    ffConn.setFailFastStatementCacheSize(statementCacheSize);
+    ffConn.setFailFastStreamBufferSize(streamBufferSize);
+    ffConn.setFailFastSchemaCacheEnabled(schemaCacheEnabled);
+    ffConn.setFailFastColumnLabelIndexEnabled(columnLabelIndexEnabled);
+    if (databaseMetaDataCacheEnabled) {
+      ffConn.setDatabaseMetaDataCache(databaseMetaDataCache);
+    }
+    ffConn.setStatementMetaDataCache(statementMetaDataCache);
+    ffConn.setFailFastClassifier(classifier);
+    ffConn.setFailFastMonitor(monitor);
+    return ffConn;
+  }
+
+  @Override
+  public PrintWriter getLogWriter() throws SQLException {
+    return wrapped.getLogWriter();
+  }
+
+  @Override
+  public void setLogWriter(PrintWriter out) throws SQLException {
+    wrapped.setLogWriter(out);
+  }
+
+  @Override
+  public void setLoginTimeout(int seconds) throws SQLException {
+    wrapped.setLoginTimeout(seconds);
+  }
+
+  @Override
+  public int getLoginTimeout() throws SQLException {
+    return wrapped.getLoginTimeout();
+  }
+
+  @Override
+  public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+    return wrapped.getParentLogger();
+  }
+}
@@ -0,0 +1,390 @@
+/*
+ * ao-sql-failfast - Fail-fast JDBC wrapper.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql-failfast.
+ *
+ * ao-sql-failfast is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql-failfast is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql-failfast.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.aoapps.sql.failfast;
+
+import com.aoapps.lang.Throwables;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Binds the properties of a record or bean class to the parameters of a prepared statement through a single
+ * {@link MethodHandle}.  Each property is set by the typed setter of its type, without reflection or boxing of
+ * primitive properties, and the fail-fast state is checked once per object.
+ *
+ * <p>The properties are bound to parameters in order, starting at parameter one.  A record binds its components in
+ * declaration order when no properties are given.  Properties are matched to accessors, getters, or instance fields
+ * by name, ignoring case and underscores, so property {@code first_name} reads getter {@code getFirstName()}.</p>
+ *
+ * <p>Wrapper types are set by {@link PreparedStatement#setNull(int, int)} when {@code null}.  Properties of types
+ * without a specific setter are set by {@link PreparedStatement#setObject(int, java.lang.Object)}.</p>
+ *
+ * <p>Binders depend only on the class and properties, so are cached by them and shared by all statements.</p>
+ *
+ * @param  <T>  The type of object bound
+ *
+ * @author  AO Industries, Inc.
+ *
+ * @see  FailFastPreparedStatementImpl#getParameterBinder(java.lang.Class, java.lang.String...)
+ */
+final class FailFastCompiledParameterBinder<T> implements FailFastParameterBinder<T> {
+
+  /**
+   * The compiled binders of each class, by properties.  Held by a {@link ClassValue} so that the class and its class
+   * loader are not kept reachable by the cache.
+   */
+  private static final ClassValue<ConcurrentMap<List<String>, FailFastCompiledParameterBinder<?>>> BINDERS =
+      new ClassValue<>() {
+        @Override
+        protected ConcurrentMap<List<String>, FailFastCompiledParameterBinder<?>> computeValue(Class<?> type) {
+          return new ConcurrentHashMap<>();
+        }
+      };
+
+  /**
+   * Thrown by the handle when an accessor, a getter, or a field of the bound class fails, to distinguish it from a
+   * failure of the driver.
+   */
+  private static final class TargetException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private TargetException(Throwable cause) {
+      super(cause);
+    }
+  }
+
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+  private static final MethodHandle TARGET_FAILED;
+
+  /**
+   * The setters by property type, each of type {@code (PreparedStatement, int, type) -> void}.
+   */
+  private static final Map<Class<?>, MethodHandle> SETTERS = new HashMap<>();
+
+  private static final MethodHandle SET_OBJECT;
+
+  static {
+    try {
+      TARGET_FAILED = LOOKUP.findStatic(FailFastCompiledParameterBinder.class, "targetFailed",
+          MethodType.methodType(Object.class, Throwable.class));
+      addSetter(boolean.class, "setBoolean");
+      addSetter(byte.class, "setByte");
+      addSetter(short.class, "setShort");
+      addSetter(int.class, "setInt");
+      addSetter(long.class, "setLong");
+      addSetter(float.class, "setFloat");
+      addSetter(double.class, "setDouble");
+      addSetter(String.class, "setString");
+      addSetter(BigDecimal.class, "setBigDecimal");
+      addSetter(byte[].class, "setBytes");
+      addSetter(Date.class, "setDate");
+      addSetter(Time.class, "setTime");
+      addSetter(Timestamp.class, "setTimestamp");
+      addNullableSetter(Boolean.class, "setNullableBoolean");
+      addNullableSetter(Byte.class, "setNullableByte");
+      addNullableSetter(Short.class, "setNullableShort");
+      addNullableSetter(Integer.class, "setNullableInt");
+      addNullableSetter(Long.class, "setNullableLong");
+      addNullableSetter(Float.class, "setNullableFloat");
+      addNullableSetter(Double.class, "setNullableDouble");
+      SET_OBJECT = LOOKUP.findVirtual(PreparedStatement.class, "setObject",
+          MethodType.methodType(void.class, int.class, Object.class));
+    } catch (ReflectiveOperationException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  private static void addSetter(Class<?> type, String name) throws ReflectiveOperationException {
+    SETTERS.put(type, LOOKUP.findVirtual(PreparedStatement.class, name,
+        MethodType.methodType(void.class, int.class, type)));
+  }
+
+  private static void addNullableSetter(Class<?> type, String name) throws ReflectiveOperationException {
+    SETTERS.put(type, LOOKUP.findStatic(FailFastCompiledParameterBinder.class, name,
+        MethodType.methodType(void.class, PreparedStatement.class, int.class, type)));
+  }
+
+  @SuppressWarnings("unused")
+  private static Object targetFailed(Throwable t) {
+    throw new TargetException(t);
+  }
+
+  @SuppressWarnings("unused")
+  private static void setNullableBoolean(PreparedStatement statement, int parameter, Boolean value)
+      throws SQLException {
+    if (value == null) {
+      statement.setNull(parameter, Types.BOOLEAN);
+    } else {
+      statement.setBoolean(parameter, value);
+    }
+  }
+
+  @SuppressWarnings("unused")
+  private static void setNullableByte(PreparedStatement statement, int parameter, Byte value) throws SQLException {
+    if (value == null) {
+      statement.setNull(parameter, Types.TINYINT);
+    } else {
+      statement.setByte(parameter, value);
+    }
+  }
+
+  @SuppressWarnings("unused")
+  private static void setNullableShort(PreparedStatement statement, int parameter, Short value) throws SQLException {
+    if (value == null) {
+      statement.setNull(parameter, Types.SMALLINT);
+    } else {
+      statement.setShort(parameter, value);
+    }
+  }
+
+  @SuppressWarnings("unused")
+  private static void setNullableInt(PreparedStatement statement, int parameter, Integer value) throws SQLException {
+    if (value == null) {
+      statement.setNull(parameter, Types.INTEGER);
+    } else {
+      statement.setInt(parameter, value);
+    }
+  }
+
+  @SuppressWarnings("unused")
+  private static void setNullableLong(PreparedStatement statement, int parameter, Long value) throws SQLException {
+    if (value == null) {
+      statement.setNull(parameter, Types.BIGINT);
+    } else {
+      statement.setLong(parameter, value);
+    }
+  }
+
+  @SuppressWarnings("unused")
+  private static void setNullableFloat(PreparedStatement statement, int parameter, Float value) throws SQLException {
+    if (value == null) {
+      statement.setNull(parameter, Types.REAL);
+    } else {
+      statement.setFloat(parameter, value);
+    }
+  }
+
+  @SuppressWarnings("unused")
+  private static void setNullableDouble(PreparedStatement statement, int parameter, Double value)
+      throws SQLException {
+    if (value == null) {
+      statement.setNull(parameter, Types.DOUBLE);
+    } else {
+      statement.setDouble(parameter, value);
+    }
+  }
+
+  /**
+   * Gets a handle of type {@code (PreparedStatement, type) -> void} that sets the given parameter.
+   */
+  private static MethodHandle writer(Class<?> type, int parameter) {
+    MethodHandle setter = SETTERS.get(type);
+    if (setter == null) {
+      setter = SET_OBJECT.asType(MethodType.methodType(void.class, PreparedStatement.class, int.class, type));
+    }
+    return MethodHandles.insertArguments(setter, 1, parameter);
+  }
+
+  /**
+   * Makes failures of the given handle into a {@link TargetException}.
+   */
+  private static MethodHandle guard(MethodHandle target) {
+    MethodType type = target.type();
+    MethodHandle handler = TARGET_FAILED.asType(MethodType.methodType(type.returnType(), Throwable.class));
+    handler = MethodHandles.dropArguments(handler, 1, type.parameterList());
+    return MethodHandles.catchException(target, Throwable.class, handler);
+  }
+
+  /**
+   * Finds the accessor, getter, or instance field of the given property.
+   *
+   * @return  The handle of type {@code (type) -> property type}
+   *
+   * @throws  IllegalArgumentException  when the property is not found
+   */
+  private static MethodHandle reader(Class<?> type, String property) throws ReflectiveOperationException {
+    String name = FailFastCompiledRowMapper.normalize(property);
+    Method found = null;
+    for (Method method : type.getMethods()) {
+      String methodName = method.getName();
+      if (
+          method.getParameterCount() == 0
+              && method.getReturnType() != void.class
+              && !Modifier.isStatic(method.getModifiers())
+              && method.getDeclaringClass() != Object.class
+      ) {
+        String normalized = FailFastCompiledRowMapper.normalize(methodName);
+        if (normalized.equals("get" + name) || normalized.equals("is" + name)) {
+          found = method;
+          break;
+        } else if (found == null && normalized.equals(name)) {
+          // Record accessor or fluent getter, used when there is no get or is prefixed getter
+          found = method;
+        }
+      }
+    }
+    if (found != null) {
+      found.trySetAccessible();
+      return LOOKUP.unreflect(found);
+    }
+    for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+      for (Field field : c.getDeclaredFields()) {
+        if (
+            !Modifier.isStatic(field.getModifiers())
+                && FailFastCompiledRowMapper.normalize(field.getName()).equals(name)
+        ) {
+          field.trySetAccessible();
+          return LOOKUP.unreflectGetter(field);
+        }
+      }
+    }
+    throw new IllegalArgumentException("No property: " + type.getName() + "." + property);
+  }
+
+  /**
+   * Gets the binder of the given properties of the given class, compiling and caching it when absent.
+   *
+   * @param  properties  The properties bound to parameters in order, or none to bind the components of a record
+   *
+   * @throws  IllegalArgumentException  when the class is not supported, a property is not found, or no properties are
+   *                                    given for a class that is not a record
+   */
+  static <T> FailFastCompiledParameterBinder<T> get(Class<T> type, String... properties)
+      throws IllegalArgumentException {
+    ConcurrentMap<List<String>, FailFastCompiledParameterBinder<?>> binders = BINDERS.get(type);
+    List<String> key = Arrays.asList(properties.clone());
+    @SuppressWarnings("unchecked")
+    FailFastCompiledParameterBinder<T> binder = (FailFastCompiledParameterBinder<T>) binders.get(key);
+    if (binder == null) {
+      binder = compile(type, properties);
+      @SuppressWarnings("unchecked")
+      FailFastCompiledParameterBinder<T> existing =
+          (FailFastCompiledParameterBinder<T>) binders.putIfAbsent(key, binder);
+      if (existing != null) {
+        binder = existing;
+      }
+    }
+    return binder;
+  }
+
+  /**
+   * Compiles the binder of the given properties of the given class.
+   *
+   * @param  properties  The properties bound to parameters in order, or none to bind the components of a record
+   *
+   * @throws  IllegalArgumentException  when the class is not supported, a property is not found, or no properties are
+   *                                    given for a class that is not a record
+   */
+  static <T> FailFastCompiledParameterBinder<T> compile(Class<T> type, String... properties)
+      throws IllegalArgumentException {
+    MethodType stepType = MethodType.methodType(void.class, PreparedStatement.class, type);
+    try {
+      if (properties.length == 0) {
+        if (!FailFastCompiledRowMapper.isRecord(type)) {
+          throw new IllegalArgumentException("Properties required for class that is not a record: " + type.getName());
+        }
+        properties = FailFastCompiledRowMapper.getRecordComponentNames(type);
+      }
+      // (PreparedStatement, type) -> void
+      MethodHandle handle = MethodHandles.empty(stepType);
+      // Folded last to first, so parameters are set in order
+      for (int i = properties.length - 1; i >= 0; i--) {
+        MethodHandle reader = reader(type, properties[i]);
+        Class<?> propertyType = reader.type().returnType();
+        reader = guard(reader.asType(MethodType.methodType(propertyType, type)));
+        MethodHandle step = MethodHandles.filterArguments(writer(propertyType, i + 1), 1, reader);
+        handle = MethodHandles.foldArguments(handle, step);
+      }
+      return new FailFastCompiledParameterBinder<>(
+          handle.asType(MethodType.methodType(void.class, PreparedStatement.class, Object.class)));
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalArgumentException("Unable to bind parameters from " + type.getName(), e);
+    }
+  }
+
+  /**
+   * Of type {@code (PreparedStatement, Object) -> void}.
+   */
+  private final MethodHandle handle;
+
+  private FailFastCompiledParameterBinder(MethodHandle handle) {
+    this.handle = handle;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>When given a {@link FailFastPreparedStatementImpl}, the statement is checked to not be closed and the fail-fast
+   * state is checked once, then the parameters are set on the wrapped statement.  Failures of the driver are
+   * registered as fail-fast causes, while failures of the bound class are thrown without.</p>
+   */
+  @Override
+  public void bind(PreparedStatement statement, T value) throws SQLException {
+    if (statement instanceof FailFastPreparedStatementImpl) {
+      FailFastPreparedStatementImpl ffStmt = (FailFastPreparedStatementImpl) statement;
+      FailFastConnectionImpl ffConn = ffStmt.getConnectionWrapper();
+      ffStmt.checkNotReleased();
+      ffConn.failFastSQLException();
+      bindWrapped(ffConn, ffStmt.getWrapped(), value);
+    } else {
+      try {
+        handle.invokeExact(statement, (Object) value);
+      } catch (TargetException e) {
+        throw Throwables.wrap(e.getCause(), SQLException.class, SQLException::new);
+      } catch (Throwable t) {
+        throw Throwables.wrap(t, SQLException.class, SQLException::new);
+      }
+    }
+  }
+
+  /**
+   * Sets the parameters of the wrapped statement of a fail-fast statement, without checking the fail-fast state.
+   */
+  void bindWrapped(FailFastConnectionImpl ffConn, PreparedStatement wrapped, T value) throws SQLException {
+    try {
+      handle.invokeExact(wrapped, (Object) value);
+    } catch (TargetException e) {
+      throw Throwables.wrap(e.getCause(), SQLException.class, SQLException::new);
+    } catch (Throwable t) {
+      ffConn.addFailFastCause(t);
+      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
+    }
+  }
+}
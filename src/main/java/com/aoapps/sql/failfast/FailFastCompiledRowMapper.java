@@ -0,0 +1,479 @@
+/*
+ * ao-sql-failfast - Fail-fast JDBC wrapper.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql-failfast.
+ *
+ * ao-sql-failfast is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql-failfast is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql-failfast.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.aoapps.sql.failfast;
+
+import com.aoapps.lang.Throwables;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Maps rows to a record or bean class through a single {@link MethodHandle} built for one result set shape.  Each
+ * column is read by the typed getter of its property, in column order, without reflection or boxing of primitive
+ * properties, and the fail-fast state is checked once per row.
+ *
+ * <p>Mappers are cached by class and the column labels of the result set, independently of the SQL, so are shared by
+ * all result sets of the same shape.</p>
+ *
+ * <p>Columns are matched to properties by label, ignoring case and underscores, so column {@code first_name} sets
+ * property {@code firstName}.  A record is created by its canonical constructor, and every component must have a
+ * column.  Any other class is created by its no-argument constructor, then each column with a matching setter or
+ * non-final instance field is set, and other columns are ignored.</p>
+ *
+ * <p>Primitive properties receive zero or {@code false} for SQL {@code NULL}, while wrapper types receive
+ * {@code null}.  Properties of types without a specific getter are read by {@link ResultSet#getObject(int, Class)}.</p>
+ *
+ * @param  <T>  The type of object mapped
+ *
+ * @author  AO Industries, Inc.
+ *
+ * @see  FailFastResultSetImpl#getRowMapper(java.lang.Class)
+ */
+final class FailFastCompiledRowMapper<T> implements FailFastRowMapper<T> {
+
+  /**
+   * Record support, looked-up reflectively since records are not available in Java 11.  {@code null} when not
+   * supported.
+   */
+  private static final Method IS_RECORD;
+  private static final Method GET_RECORD_COMPONENTS;
+  private static final Method RECORD_COMPONENT_GET_NAME;
+  private static final Method RECORD_COMPONENT_GET_TYPE;
+
+  static {
+    Method isRecord = null;
+    Method getRecordComponents = null;
+    Method getName = null;
+    Method getType = null;
+    try {
+      isRecord = Class.class.getMethod("isRecord");
+      getRecordComponents = Class.class.getMethod("getRecordComponents");
+      Class<?> recordComponent = Class.forName("java.lang.reflect.RecordComponent");
+      getName = recordComponent.getMethod("getName");
+      getType = recordComponent.getMethod("getType");
+    } catch (ReflectiveOperationException e) {
+      // Records not supported
+      isRecord = null;
+    }
+    IS_RECORD = isRecord;
+    GET_RECORD_COMPONENTS = getRecordComponents;
+    RECORD_COMPONENT_GET_NAME = getName;
+    RECORD_COMPONENT_GET_TYPE = getType;
+  }
+
+  /**
+   * Thrown by the handle when the constructor, a setter, or a field of the target class fails, to distinguish it from
+   * a failure of the driver.
+   */
+  private static final class TargetException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private TargetException(Throwable cause) {
+      super(cause);
+    }
+  }
+
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+  private static final MethodHandle TARGET_FAILED;
+
+  /**
+   * The getters by property type, each of type {@code (ResultSet, int)}.
+   */
+  private static final Map<Class<?>, MethodHandle> GETTERS = new HashMap<>();
+
+  private static final MethodHandle GET_OBJECT_TYPE;
+
+  static {
+    try {
+      TARGET_FAILED = LOOKUP.findStatic(FailFastCompiledRowMapper.class, "targetFailed",
+          MethodType.methodType(Object.class, Throwable.class));
+      addGetter(boolean.class, "getBoolean");
+      addGetter(byte.class, "getByte");
+      addGetter(short.class, "getShort");
+      addGetter(int.class, "getInt");
+      addGetter(long.class, "getLong");
+      addGetter(float.class, "getFloat");
+      addGetter(double.class, "getDouble");
+      addGetter(String.class, "getString");
+      addGetter(BigDecimal.class, "getBigDecimal");
+      addGetter(byte[].class, "getBytes");
+      addGetter(Date.class, "getDate");
+      addGetter(Time.class, "getTime");
+      addGetter(Timestamp.class, "getTimestamp");
+      addGetter(Object.class, "getObject");
+      addNullableGetter(Boolean.class, "getNullableBoolean");
+      addNullableGetter(Byte.class, "getNullableByte");
+      addNullableGetter(Short.class, "getNullableShort");
+      addNullableGetter(Integer.class, "getNullableInt");
+      addNullableGetter(Long.class, "getNullableLong");
+      addNullableGetter(Float.class, "getNullableFloat");
+      addNullableGetter(Double.class, "getNullableDouble");
+      GET_OBJECT_TYPE = LOOKUP.findVirtual(ResultSet.class, "getObject",
+          MethodType.methodType(Object.class, int.class, Class.class));
+    } catch (ReflectiveOperationException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  private static void addGetter(Class<?> type, String name) throws ReflectiveOperationException {
+    GETTERS.put(type, LOOKUP.findVirtual(ResultSet.class, name, MethodType.methodType(type, int.class)));
+  }
+
+  private static void addNullableGetter(Class<?> type, String name) throws ReflectiveOperationException {
+    GETTERS.put(type, LOOKUP.findStatic(FailFastCompiledRowMapper.class, name,
+        MethodType.methodType(type, ResultSet.class, int.class)));
+  }
+
+  @SuppressWarnings("unused")
+  private static Object targetFailed(Throwable t) {
+    throw new TargetException(t);
+  }
+
+  @SuppressWarnings("unused")
+  private static Boolean getNullableBoolean(ResultSet results, int column) throws SQLException {
+    boolean value = results.getBoolean(column);
+    return results.wasNull() ? null : value;
+  }
+
+  @SuppressWarnings("unused")
+  private static Byte getNullableByte(ResultSet results, int column) throws SQLException {
+    byte value = results.getByte(column);
+    return results.wasNull() ? null : value;
+  }
+
+  @SuppressWarnings("unused")
+  private static Short getNullableShort(ResultSet results, int column) throws SQLException {
+    short value = results.getShort(column);
+    return results.wasNull() ? null : value;
+  }
+
+  @SuppressWarnings("unused")
+  private static Integer getNullableInt(ResultSet results, int column) throws SQLException {
+    int value = results.getInt(column);
+    return results.wasNull() ? null : value;
+  }
+
+  @SuppressWarnings("unused")
+  private static Long getNullableLong(ResultSet results, int column) throws SQLException {
+    long value = results.getLong(column);
+    return results.wasNull() ? null : value;
+  }
+
+  @SuppressWarnings("unused")
+  private static Float getNullableFloat(ResultSet results, int column) throws SQLException {
+    float value = results.getFloat(column);
+    return results.wasNull() ? null : value;
+  }
+
+  @SuppressWarnings("unused")
+  private static Double getNullableDouble(ResultSet results, int column) throws SQLException {
+    double value = results.getDouble(column);
+    return results.wasNull() ? null : value;
+  }
+
+  /**
+   * Gets the name used to match columns and properties.
+   */
+  static String normalize(String name) {
+    return name.replace("_", "").toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * Gets a handle of type {@code (ResultSet) -> type} that reads the given column.
+   */
+  private static MethodHandle reader(Class<?> type, int column) {
+    MethodHandle getter = GETTERS.get(type);
+    if (getter == null) {
+      getter = MethodHandles.insertArguments(GET_OBJECT_TYPE, 2, type)
+          .asType(MethodType.methodType(type, ResultSet.class, int.class));
+    }
+    return MethodHandles.insertArguments(getter, 1, column);
+  }
+
+  /**
+   * Makes failures of the given handle into a {@link TargetException}.
+   */
+  private static MethodHandle guard(MethodHandle target) {
+    MethodType type = target.type();
+    MethodHandle handler = TARGET_FAILED.asType(MethodType.methodType(type.returnType(), Throwable.class));
+    handler = MethodHandles.dropArguments(handler, 1, type.parameterList());
+    return MethodHandles.catchException(target, Throwable.class, handler);
+  }
+
+  static boolean isRecord(Class<?> type) throws ReflectiveOperationException {
+    return IS_RECORD != null && (Boolean) IS_RECORD.invoke(type);
+  }
+
+  /**
+   * Gets the names of the components of the given record class, in declaration order.
+   */
+  static String[] getRecordComponentNames(Class<?> type) throws ReflectiveOperationException {
+    Object[] components = (Object[]) GET_RECORD_COMPONENTS.invoke(type);
+    String[] names = new String[components.length];
+    for (int i = 0; i < components.length; i++) {
+      names[i] = (String) RECORD_COMPONENT_GET_NAME.invoke(components[i]);
+    }
+    return names;
+  }
+
+  /**
+   * The maximum number of result set shapes cached per class, beyond which all shapes of the class are discarded.
+   */
+  private static final int MAX_SHAPES = 64;
+
+  /**
+   * The compiled mappers of each class, by the column labels of the result set.  Held by a {@link ClassValue} so that
+   * the class and its class loader are not kept reachable by the cache.
+   */
+  private static final ClassValue<ConcurrentMap<List<String>, FailFastCompiledRowMapper<?>>> MAPPERS =
+      new ClassValue<>() {
+        @Override
+        protected ConcurrentMap<List<String>, FailFastCompiledRowMapper<?>> computeValue(Class<?> type) {
+          return new ConcurrentHashMap<>();
+        }
+      };
+
+  /**
+   * Gets the mapper of the given class for the given column labels, compiling and caching it when absent.  Mappers are
+   * cached by shape, so a result set of a different shape for the same SQL gets its own mapper.
+   *
+   * @param  labels  The label of each column, in column order
+   *
+   * @throws  IllegalArgumentException  when the class is not supported or a record component has no column
+   */
+  static <T> FailFastCompiledRowMapper<T> get(Class<T> type, String[] labels) throws IllegalArgumentException {
+    ConcurrentMap<List<String>, FailFastCompiledRowMapper<?>> mappers = MAPPERS.get(type);
+    List<String> shape = Arrays.asList(labels.clone());
+    @SuppressWarnings("unchecked")
+    FailFastCompiledRowMapper<T> mapper = (FailFastCompiledRowMapper<T>) mappers.get(shape);
+    if (mapper == null) {
+      mapper = compile(type, labels);
+      if (mappers.size() >= MAX_SHAPES) {
+        mappers.clear();
+      }
+      @SuppressWarnings("unchecked")
+      FailFastCompiledRowMapper<T> existing = (FailFastCompiledRowMapper<T>) mappers.putIfAbsent(shape, mapper);
+      if (existing != null) {
+        mapper = existing;
+      }
+    }
+    return mapper;
+  }
+
+  /**
+   * Compiles the mapper of the given class for the given column labels.
+   *
+   * @param  labels  The label of each column, in column order
+   *
+   * @throws  IllegalArgumentException  when the class is not supported or a record component has no column
+   */
+  static <T> FailFastCompiledRowMapper<T> compile(Class<T> type, String[] labels) throws IllegalArgumentException {
+    // First column wins for duplicate names
+    Map<String, Integer> columns = new HashMap<>();
+    for (int column = labels.length; column >= 1; column--) {
+      columns.put(normalize(labels[column - 1]), column);
+    }
+    MethodHandle handle;
+    try {
+      if (isRecord(type)) {
+        handle = compileRecord(type, columns);
+      } else {
+        handle = compileBean(type, labels, columns);
+      }
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalArgumentException("Unable to map rows to " + type.getName(), e);
+    }
+    return new FailFastCompiledRowMapper<>(handle.asType(MethodType.methodType(Object.class, ResultSet.class)));
+  }
+
+  /**
+   * Columns are read in column order, for drivers that only allow reading forward within a row.
+   */
+  private static MethodHandle compileRecord(Class<?> type, Map<String, Integer> columns)
+      throws ReflectiveOperationException {
+    Object[] components = (Object[]) GET_RECORD_COMPONENTS.invoke(type);
+    int count = components.length;
+    Class<?>[] parameterTypes = new Class<?>[count];
+    int[] componentColumns = new int[count];
+    Integer[] order = new Integer[count];
+    for (int i = 0; i < count; i++) {
+      String name = (String) RECORD_COMPONENT_GET_NAME.invoke(components[i]);
+      Integer column = columns.get(normalize(name));
+      if (column == null) {
+        throw new IllegalArgumentException("No column for record component: " + type.getName() + "." + name);
+      }
+      parameterTypes[i] = (Class<?>) RECORD_COMPONENT_GET_TYPE.invoke(components[i]);
+      componentColumns[i] = column;
+      order[i] = i;
+    }
+    // The components in the order of their columns
+    Arrays.sort(order, (a, b) -> Integer.compare(componentColumns[a], componentColumns[b]));
+    Class<?>[] orderedTypes = new Class<?>[count];
+    MethodHandle[] readers = new MethodHandle[count];
+    int[] reorder = new int[count];
+    for (int i = 0; i < count; i++) {
+      int component = order[i];
+      orderedTypes[i] = parameterTypes[component];
+      readers[i] = reader(parameterTypes[component], componentColumns[component]);
+      reorder[component] = i;
+    }
+    Constructor<?> constructor = type.getDeclaredConstructor(parameterTypes);
+    constructor.trySetAccessible();
+    // Takes the components in column order
+    MethodHandle handle = MethodHandles.permuteArguments(guard(LOOKUP.unreflectConstructor(constructor)),
+        MethodType.methodType(type, orderedTypes), reorder);
+    // Filters are applied left to right
+    handle = MethodHandles.filterArguments(handle, 0, readers);
+    // Every argument from the same result set
+    return MethodHandles.permuteArguments(handle, MethodType.methodType(type, ResultSet.class), new int[count]);
+  }
+
+  /**
+   * Columns are set in column order, for drivers that only allow reading forward within a row.
+   */
+  private static MethodHandle compileBean(Class<?> type, String[] labels, Map<String, Integer> columns)
+      throws ReflectiveOperationException {
+    Constructor<?> constructor = type.getDeclaredConstructor();
+    constructor.trySetAccessible();
+    // (ResultSet) -> type
+    MethodHandle handle = MethodHandles.dropArguments(guard(LOOKUP.unreflectConstructor(constructor)), 0,
+        ResultSet.class);
+    // (type, ResultSet) -> type
+    MethodHandle identity = MethodHandles.dropArguments(MethodHandles.identity(type), 1, ResultSet.class);
+    Map<String, Method> setters = new HashMap<>();
+    for (Method method : type.getMethods()) {
+      String name = method.getName();
+      if (
+          name.length() > 3
+              && name.startsWith("set")
+              && method.getParameterCount() == 1
+              && !Modifier.isStatic(method.getModifiers())
+      ) {
+        setters.putIfAbsent(normalize(name.substring(3)), method);
+      }
+    }
+    Map<String, Field> fields = new HashMap<>();
+    for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+      for (Field field : c.getDeclaredFields()) {
+        int modifiers = field.getModifiers();
+        if (!Modifier.isStatic(modifiers) && !Modifier.isFinal(modifiers)) {
+          fields.putIfAbsent(normalize(field.getName()), field);
+        }
+      }
+    }
+    for (int column = 1; column <= labels.length; column++) {
+      String name = normalize(labels[column - 1]);
+      if (columns.get(name) != column) {
+        // Repeated label, set by its first column
+        continue;
+      }
+      MethodHandle setter;
+      Method method = setters.get(name);
+      if (method != null) {
+        method.trySetAccessible();
+        setter = LOOKUP.unreflect(method);
+      } else {
+        Field field = fields.get(name);
+        if (field == null) {
+          continue;
+        }
+        field.trySetAccessible();
+        setter = LOOKUP.unreflectSetter(field);
+      }
+      Class<?> propertyType = setter.type().parameterType(1);
+      // (type, ResultSet) -> void
+      setter = MethodHandles.filterArguments(
+          guard(setter.asType(MethodType.methodType(void.class, type, propertyType))),
+          1,
+          reader(propertyType, column)
+      );
+      // (type, ResultSet) -> type, setting then returning the object
+      MethodHandle step = MethodHandles.foldArguments(identity, setter);
+      // (ResultSet) -> type, after all earlier columns
+      handle = MethodHandles.permuteArguments(MethodHandles.filterArguments(step, 0, handle),
+          MethodType.methodType(type, ResultSet.class), 0, 0);
+    }
+    return handle;
+  }
+
+  /**
+   * Of type {@code (ResultSet) -> Object}.
+   */
+  private final MethodHandle handle;
+
+  private FailFastCompiledRowMapper(MethodHandle handle) {
+    this.handle = handle;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>When given a {@link FailFastResultSetImpl}, the fail-fast state is checked once, then the columns are read from
+   * the wrapped result set.  Failures of the driver are registered as fail-fast causes, while failures of the target
+   * class are thrown without.</p>
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public T map(ResultSet results) throws SQLException {
+    if (results instanceof FailFastResultSetImpl) {
+      FailFastResultSetImpl ffResults = (FailFastResultSetImpl) results;
+      FailFastConnectionImpl ffConn = ffResults.getConnectionWrapper();
+      ffConn.failFastSQLException();
+      try {
+        ResultSet wrapped = ffResults.getWrapped();
+        return (T) (Object) handle.invokeExact(wrapped);
+      } catch (TargetException e) {
+        throw Throwables.wrap(e.getCause(), SQLException.class, SQLException::new);
+      } catch (Throwable t) {
+        ffConn.addFailFastCause(t);
+        throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
+      }
+    } else {
+      try {
+        return (T) (Object) handle.invokeExact(results);
+      } catch (TargetException e) {
+        throw Throwables.wrap(e.getCause(), SQLException.class, SQLException::new);
+      } catch (Throwable t) {
+        throw Throwables.wrap(t, SQLException.class, SQLException::new);
+      }
+    }
+  }
+}
@@ -1,6 +1,6 @@
 /*
  * ao-sql-failfast - Fail-fast JDBC wrapper.
- * Copyright (C) 2020, 2021, 2022, 2024  AO Industries, Inc.
+ * Copyright (C) 2020, 2021, 2022, 2024, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -26,7 +26,14 @@ package com.aoapps.sql.failfast;
 import com.aoapps.lang.Throwables;
 import com.aoapps.sql.wrapper.Wrapper;
 import java.sql.Connection;
+import java.sql.SQLDataException;
 import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLSyntaxErrorException;
+import java.sql.SQLTransactionRollbackException;
+import java.sql.SQLTransientConnectionException;
 import java.sql.Savepoint;
 import java.util.concurrent.Executor;
 
@@ -46,11 +53,15 @@ public interface FailFastConnection extends Wrapper, Connection {
   Connection getWrapped();
 
   /**
-   * The set of possible fail-fast states.
+   * The set of possible fail-fast states, in increasing order of precedence.
+   *
+   * <p>The states between {@link State#OK} and {@link State#TERMINAL} are all cleared by a successful
+   * {@link FailFastConnection#rollback()} or {@link FailFastConnection#rollback(java.sql.Savepoint)}.  They may be
+   * used, such as by connection pools, to decide how much validation a connection requires before being reused.</p>
    *
    * @see  FailFastConnection#getFailFastState()
+   * @see  FailFastClassifier
    */
-  // TODO: Add more states based on the type of SQLException and/or its SQLState.  Particularly to distinguish exceptions that will not require connection validation.
   enum State {
     /**
      * Normal operation.
@@ -58,38 +69,163 @@ public interface FailFastConnection extends Wrapper, Connection {
     OK,
 
     /**
-     * All {@link Throwable} except {@link TerminalSQLException}.  These might be recoverable through
-     * {@link FailFastConnection#rollback()} or {@link FailFastConnection#rollback(java.sql.Savepoint)}.
+     * An error in the data or the statement itself, which does not indicate any problem with the connection:
+     * <ul>
+     * <li>{@link SQLDataException} or SQLSTATE class {@code 22} (data exception)</li>
+     * <li>{@link SQLIntegrityConstraintViolationException} or SQLSTATE class {@code 23} (integrity constraint
+     *     violation)</li>
+     * <li>{@link SQLSyntaxErrorException} or SQLSTATE class {@code 42} (syntax error or access rule violation)</li>
+     * </ul>
+     */
+    STATEMENT_ERROR,
+
+    /**
+     * The transaction has been rolled back by the database, such as on deadlock or serialization failure:
+     * {@link SQLTransactionRollbackException} or SQLSTATE class {@code 40} (transaction rollback).  The connection
+     * itself is expected to be usable after rollback.
+     */
+    TRANSACTION_ROLLBACK,
+
+    /**
+     * All other {@link Throwable}.  These might be recoverable through {@link FailFastConnection#rollback()} or
+     * {@link FailFastConnection#rollback(java.sql.Savepoint)}, but the connection should be validated before reuse.
      */
     EXCEPTION,
 
+    /**
+     * The connection to the database has failed: {@link SQLNonTransientConnectionException},
+     * {@link SQLTransientConnectionException}, {@link SQLRecoverableException}, or SQLSTATE class {@code 08}
+     * (connection exception).  The connection should be discarded without further validation.
+     */
+    CONNECTION_FAILURE,
+
     /**
      * Non-recoverable {@link TerminalSQLException}.
      */
     TERMINAL;
 
     /**
-     * Gets the precedence state for the given throwable.
+     * Gets the precedence state for the given throwable.  This is the default classification, used when no
+     * {@link FailFastClassifier} has been set or the classifier defers to the default.
      *
-     * @return  The precedence state or {@code null} when given {@code null} argument
+     * @return  The precedence state or {@link State#OK} when given {@code null} argument
+     *
+     * @see  FailFastClassifier#DEFAULT
      */
     public static State getState(Throwable cause) {
       if (cause == null) {
         return OK;
       } else if (cause instanceof TerminalSQLException) {
         return TERMINAL;
-      } else {
-        return EXCEPTION;
+      } else if (cause instanceof SQLException) {
+        if (
+            cause instanceof SQLNonTransientConnectionException
+                || cause instanceof SQLTransientConnectionException
+                || cause instanceof SQLRecoverableException
+        ) {
+          return CONNECTION_FAILURE;
+        }
+        if (cause instanceof SQLTransactionRollbackException) {
+          return TRANSACTION_ROLLBACK;
+        }
+        if (
+            cause instanceof SQLDataException
+                || cause instanceof SQLIntegrityConstraintViolationException
+                || cause instanceof SQLSyntaxErrorException
+        ) {
+          return STATEMENT_ERROR;
+        }
+        String sqlState = ((SQLException) cause).getSQLState();
+        if (sqlState != null && sqlState.length() >= 2) {
+          switch (sqlState.substring(0, 2)) {
+            case "08":
+              return CONNECTION_FAILURE;
+            case "40":
+              return TRANSACTION_ROLLBACK;
+            case "22":
+            case "23":
+            case "42":
+              return STATEMENT_ERROR;
+            default:
+              // Fall-through to EXCEPTION
+          }
+        }
       }
+      return EXCEPTION;
     }
   }
 
   /**
-   * Registers a cause for the current failure.  Multiple causes are merged in the following order:
+   * The ways exceptions may be created while enforcing a fail-fast state.
+   *
+   * @see  FailFastConnection#getFailFastExceptionMode()
+   * @see  FailFastDriver#getExceptionMode()
+   */
+  enum ExceptionMode {
+    /**
+     * A new exception, with a full stack trace, is created for every call while in a fail-fast state.  When possible,
+     * the exception is a {@linkplain Throwables#newSurrogate(java.lang.Throwable) surrogate} of the same type as the
+     * cause.  This is the default.
+     */
+    SURROGATE,
+
+    /**
+     * A new exception, without any stack trace, is created for every call while in a fail-fast state.  This avoids the
+     * cost of filling-in the stack trace in retry loops that repeatedly call a failed connection.
+     *
+     * <p>The exception is always a {@link FailFastSQLException} (or {@link ClosedSQLException} /
+     * {@link AbortedSQLException} when terminal), never a surrogate of the same type as the cause.  The cause itself,
+     * with its full stack trace, remains available through {@link Throwable#getCause()} without being copied.</p>
+     *
+     * <p>Streams, readers, and writers throw an {@link java.io.IOException} without any stack trace.</p>
+     */
+    STACKLESS
+  }
+
+  /**
+   * How often the fail-fast state is checked by the wrappers of statements and result sets.
+   *
+   * <p>Only the check is skipped.  Every failure is still registered through
+   * {@link FailFastConnection#addFailFastCause(java.lang.Throwable)}, and is enforced at the next boundary call.
+   * Boundary calls are those that move to another row, execute, commit, roll back, or open a stream, reader, or
+   * writer.</p>
+   *
+   * <p>The granularity is read when a statement or result set is created, so a change only applies to the statements
+   * and result sets created afterward.</p>
+   *
+   * @see  FailFastConnection#getFailFastCheckGranularity()
+   * @see  FailFastDriver#getCheckGranularity()
+   */
+  enum CheckGranularity {
+    /**
+     * The state is checked on every call.  This is the default.
+     */
+    CALL,
+
+    /**
+     * The state is checked once per row: the column getters of result sets, including
+     * {@link java.sql.ResultSet#wasNull()}, do not check the state.  A wide row is read without a check per column,
+     * while {@link java.sql.ResultSet#next()} and all other navigation still check.
+     */
+    ROW,
+
+    /**
+     * The state is checked once per execution: in addition to {@link #ROW}, the parameter setters of prepared and
+     * callable statements and the out parameter getters of callable statements do not check the state.  The check
+     * is performed by {@link java.sql.PreparedStatement#execute()}, {@link java.sql.PreparedStatement#addBatch()},
+     * and the other execute methods.
+     */
+    EXECUTE
+  }
+
+  /**
+   * Registers a cause for the current failure.  Each cause is classified into a {@link State} by the
+   * {@linkplain FailFastConnection#getFailFastClassifier() classifier}, and multiple causes are merged in the
+   * following order:
    * <ol>
    * <li>{@link TerminalSQLException} take highest precedence, since these are non-recoverable.</li>
    * <li>
-   *   All other {@link Throwable} are next precedence.  These might be recoverable through
+   *   All other {@link Throwable} are next precedence, ordered by {@link State}.  These might be recoverable through
    *   {@link FailFastConnection#rollback()} or {@link FailFastConnection#rollback(java.sql.Savepoint)}.
    * </li>
    * </ol>
@@ -128,6 +264,209 @@ public interface FailFastConnection extends Wrapper, Connection {
    */
   State getFailFastState();
 
+  /**
+   * Gets how exceptions are created while enforcing a fail-fast state.
+   *
+   * @return  The mode, initially the {@linkplain FailFastDriver#getExceptionMode() mode of the driver}, or
+   *          {@link ExceptionMode#SURROGATE} when not created by a driver.
+   */
+  ExceptionMode getFailFastExceptionMode();
+
+  /**
+   * Sets how exceptions are created while enforcing a fail-fast state.
+   *
+   * @param  exceptionMode  The new mode, not {@code null}
+   */
+  void setFailFastExceptionMode(ExceptionMode exceptionMode);
+
+  /**
+   * Gets how often the fail-fast state is checked by statements and result sets.
+   *
+   * @return  The granularity, initially the {@linkplain FailFastDriver#getCheckGranularity() granularity of the driver},
+   *          or {@link CheckGranularity#CALL} when not created by a driver.
+   */
+  CheckGranularity getFailFastCheckGranularity();
+
+  /**
+   * Sets how often the fail-fast state is checked by statements and result sets.  Statements and result sets already
+   * created keep their granularity.
+   *
+   * @param  checkGranularity  The new granularity, not {@code null}
+   */
+  void setFailFastCheckGranularity(CheckGranularity checkGranularity);
+
+  /**
+   * Gets the maximum number of idle prepared statements cached by this connection.
+   *
+   * @return  The size, initially the {@linkplain FailFastDriver#getStatementCacheSize() size of the driver}, or
+   *          {@code 0} when not created by a driver.  {@code 0} when the cache is disabled.
+   */
+  int getFailFastStatementCacheSize();
+
+  /**
+   * Sets the maximum number of idle prepared statements cached by this connection, where {@code 0} disables the cache.
+   * Idle statements beyond the new size are closed.
+   *
+   * <p>While enabled, {@link #prepareStatement(java.lang.String) prepareStatement} reuses an idle statement prepared
+   * with the same SQL and arguments, and {@link java.sql.PreparedStatement#close()} is logical: the statement is reset
+   * and returned to the cache, evicting the least-recently-used idle statement when full.  Each call to
+   * {@code prepareStatement} returns a new handle, and a closed handle may not be used again.</p>
+   *
+   * <p>A statement is never reused after a failure of the connection: all idle statements are removed from the cache
+   * when the connection enters the {@link State#EXCEPTION} or a higher state, and statements in use at that time are
+   * closed instead of returned to the cache.  Since the failure may be added from any thread, the removed statements
+   * are closed by the next call, {@linkplain #rollback() rollback}, or {@linkplain #close() close} of the connection.
+   * In the {@link State#CONNECTION_FAILURE} or a higher state they are discarded without close instead, as closing the
+   * connection releases them.  The {@link State#STATEMENT_ERROR} and {@link State#TRANSACTION_ROLLBACK} states leave
+   * the connection usable, so do not remove idle statements.  A statement is also closed instead of returned when
+   * the connection is not operating normally, when
+   * {@linkplain java.sql.PreparedStatement#setPoolable(boolean) not poolable} or
+   * {@linkplain java.sql.PreparedStatement#closeOnCompletion() closed on completion}, or when a statement setting,
+   * such as the fetch size, maximum rows, or query timeout, has been changed.</p>
+   *
+   * @param  size  The new size, not negative
+   *
+   * @throws  IllegalArgumentException  when {@code size} is negative
+   */
+  void setFailFastStatementCacheSize(int size) throws IllegalArgumentException;
+
+  /**
+   * Gets the size of the read-ahead buffer of the streams and readers of this connection.
+   *
+   * @return  The size, initially the {@linkplain FailFastDriver#getStreamBufferSize() size of the driver}, or
+   *          {@code 0} when not created by a driver.  {@code 0} when not buffered.
+   */
+  int getFailFastStreamBufferSize();
+
+  /**
+   * Sets the size of the read-ahead buffer of the streams and readers of this connection, where {@code 0} disables
+   * buffering.  Streams and readers already created keep their size.
+   *
+   * <p>When buffered, a {@link FailFastInputStream} or {@link FailFastReader} checks the fail-fast state once per
+   * buffer fill instead of once per call, so single byte and character reads are served from the buffer.  The buffers
+   * are reused by the next stream or reader of this connection once closed or at end of stream.</p>
+   *
+   * @param  size  The new size, in bytes for streams and characters for readers, not negative
+   *
+   * @throws  IllegalArgumentException  when {@code size} is negative
+   */
+  void setFailFastStreamBufferSize(int size) throws IllegalArgumentException;
+
+  /**
+   * Gets whether schema introspection results are cached by this connection.
+   *
+   * @return  {@code true} when cached, initially the {@linkplain FailFastDriver#isSchemaCacheEnabled() setting of the
+   *          driver}, or {@code false} when not created by a driver.
+   */
+  boolean isFailFastSchemaCacheEnabled();
+
+  /**
+   * Sets whether schema introspection results are cached by this connection.  Disabling discards all cached results.
+   *
+   * <p>While enabled, the results of {@link java.sql.DatabaseMetaData#getTables(java.lang.String, java.lang.String,
+   * java.lang.String, java.lang.String[]) getTables}, {@link java.sql.DatabaseMetaData#getColumns(java.lang.String,
+   * java.lang.String, java.lang.String, java.lang.String) getColumns},
+   * {@link java.sql.DatabaseMetaData#getPrimaryKeys(java.lang.String, java.lang.String, java.lang.String)
+   * getPrimaryKeys}, {@link java.sql.DatabaseMetaData#getIndexInfo(java.lang.String, java.lang.String,
+   * java.lang.String, boolean, boolean) getIndexInfo}, and
+   * {@link java.sql.DatabaseMetaData#getImportedKeys(java.lang.String, java.lang.String, java.lang.String)
+   * getImportedKeys} are read fully on first request, then answered from memory for the same arguments.
+   * {@link FailFastDatabaseMetaDataImpl#prefetchSchema(java.lang.String, java.lang.String)} reads all tables and
+   * columns of a schema in two requests, answering later requests within that schema from memory.</p>
+   *
+   * <p>All cached results are discarded when DDL, such as {@code CREATE}, {@code ALTER}, or {@code DROP}, is executed
+   * through this connection, or by {@link FailFastDatabaseMetaDataImpl#clearSchemaCache()}.  They are discarded again
+   * when a transaction that executed DDL is rolled back, or rolled back to a savepoint.  Changes made by other
+   * connections are not seen until cleared.</p>
+   *
+   * @param  enabled  {@code true} to cache
+   */
+  void setFailFastSchemaCacheEnabled(boolean enabled);
+
+  /**
+   * Gets whether the name-based getters of result sets resolve column labels through an index.
+   *
+   * @return  {@code true} when indexed, initially the {@linkplain FailFastDriver#isColumnLabelIndexEnabled() setting
+   *          of the driver}, or {@code false} when not created by a driver.
+   */
+  boolean isFailFastColumnLabelIndexEnabled();
+
+  /**
+   * Sets whether the name-based getters of result sets resolve column labels through an index.  Result sets already
+   * created keep their setting.
+   *
+   * <p>While enabled, the labels of a result set are read once, on first name-based access, into a hash map from
+   * label to column index.  Each name-based getter then calls the index-based getter of the wrapped result set,
+   * instead of having the driver resolve the label on every call, which many drivers do by a linear scan of the
+   * columns.  Labels are matched ignoring case, with the first column winning when a label is repeated.  Labels not
+   * found in the index are resolved by the driver.</p>
+   *
+   * <p>The parameter names of {@link java.sql.CallableStatement} are not indexed, since JDBC provides no portable
+   * mapping from parameter name to parameter index.</p>
+   *
+   * @param  enabled  {@code true} to index
+   */
+  void setFailFastColumnLabelIndexEnabled(boolean enabled);
+
+  /**
+   * Gets the classifier that determines the {@link State} of each cause.
+   *
+   * @return  The classifier, initially the {@linkplain FailFastDriver#getClassifier() classifier of the driver}, or
+   *          {@link FailFastClassifier#DEFAULT} when not created by a driver.
+   */
+  FailFastClassifier getFailFastClassifier();
+
+  /**
+   * Sets the classifier that determines the {@link State} of each cause.  Causes already registered keep their
+   * state.
+   *
+   * @param  classifier  The new classifier, not {@code null}
+   */
+  void setFailFastClassifier(FailFastClassifier classifier);
+
+  /**
+   * Gets the monitor that receives the fail-fast events of this connection.
+   *
+   * @return  The monitor, initially the {@linkplain FailFastDriver#getMonitor() monitor of the driver}, or
+   *          {@code null} when monitoring is disabled.
+   */
+  FailFastMonitor getFailFastMonitor();
+
+  /**
+   * Sets the monitor that receives the fail-fast events of this connection.
+   *
+   * @param  monitor  The new monitor or {@code null} to disable monitoring
+   */
+  void setFailFastMonitor(FailFastMonitor monitor);
+
+  /**
+   * Adds a listener that is notified synchronously, by the thread causing each state change.  The listener must be
+   * fast, thread-safe, and should not throw any exception.  Any runtime exception thrown is logged and otherwise ignored.
+   *
+   * <p>Adding a listener that is already registered has no effect.</p>
+   *
+   * @param  listener  The listener, not {@code null}
+   */
+  void addFailFastListener(FailFastListener listener);
+
+  /**
+   * Adds a listener that is notified on the given executor.  Notifications may be delivered concurrently and out of
+   * order, so the listener should check {@link FailFastConnection#getFailFastState()} when the current state matters.
+   *
+   * <p>Adding a listener that is already registered has no effect.</p>
+   *
+   * @param  listener  The listener, not {@code null}
+   * @param  executor  The executor, not {@code null}
+   */
+  void addFailFastListener(FailFastListener listener, Executor executor);
+
+  /**
+   * Removes a listener.
+   *
+   * @return  {@code true} when the listener was registered and has been removed
+   */
+  boolean removeFailFastListener(FailFastListener listener);
+
   /**
    * Clears the cause of the current fail-fast state.
    * This will typically be invoked automatically during one of the following successful operations:
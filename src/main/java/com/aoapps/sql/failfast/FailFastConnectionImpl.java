@@ -1,6 +1,6 @@
 /*
  * ao-sql-failfast - Fail-fast JDBC wrapper.
- * Copyright (C) 2020, 2021, 2022, 2024  AO Industries, Inc.
+ * Copyright (C) 2020, 2021, 2022, 2024, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -24,6 +24,7 @@
 package com.aoapps.sql.failfast;
 
 import com.aoapps.collections.AoCollections;
+import com.aoapps.lang.NullArgumentException;
 import com.aoapps.lang.Throwables;
 import com.aoapps.sql.wrapper.ConnectionWrapperImpl;
 import com.aoapps.sql.wrapper.SQLDataWrapperImpl;
@@ -33,6 +34,9 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.Reader;
 import java.io.Writer;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
 import java.sql.Array;
 import java.sql.Blob;
 import java.sql.CallableStatement;
@@ -50,6 +54,7 @@ import java.sql.RowId;
 import java.sql.SQLClientInfoException;
 import java.sql.SQLData;
 import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
 import java.sql.SQLInput;
 import java.sql.SQLOutput;
 import java.sql.SQLWarning;
@@ -58,10 +63,19 @@ import java.sql.Savepoint;
 import java.sql.Statement;
 import java.sql.Struct;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  * Makes a {@link Connection} perform in a fail-fast manner.  All access to the connection will fail once a
@@ -73,25 +87,196 @@ import java.util.function.Supplier;
 @SuppressWarnings({"UseSpecificCatch", "TooBroadCatch"})
 public class FailFastConnectionImpl extends ConnectionWrapperImpl implements FailFastConnection {
 
-  private static class FailFastLock {
+  private static final Logger LOGGER = Logger.getLogger(FailFastConnectionImpl.class.getName());
+
+  private static class FailFastLock extends ReentrantLock {
     // Empty lock class to help heap profile
+    private static final long serialVersionUID = 1L;
   }
 
+  /**
+   * Serializes {@link FailFastConnectionImpl#rollback()} and {@link FailFastConnectionImpl#rollback(java.sql.Savepoint)}.
+   * It is not used for updates to {@link FailFastConnectionImpl#failFastCause}.
+   *
+   * <p>This is a {@link ReentrantLock} instead of a monitor because the wrapped rollback is performed while holding the
+   * lock.  A virtual thread blocked on I/O while holding a monitor pins its carrier thread.</p>
+   */
   private final FailFastLock failFastLock = new FailFastLock();
 
   /**
-   * The current fail-fast cause.  Any read-only operation may access it without synchronization.  All updates must
-   * be synchronized on {@link FailFastConnectionImpl#failFastLock}, since updates are multi-step operations for managing suppressed
-   * throwables.
+   * An immutable snapshot of the fail-fast cause.  A new instance is created on every update, including when a cause
+   * is merged into the existing cause as a suppressed throwable, so that a compare-and-set against a previously read
+   * snapshot fails whenever any cause has been added in the meantime.
+   */
+  private static final class FailFastCause {
+
+    private final Throwable cause;
+    private final State state;
+
+    /**
+     * The {@link System#nanoTime()} when the connection left normal operation.
+     */
+    private final long since;
+
+    private FailFastCause(Throwable cause, State state, long since) {
+      assert cause != null;
+      assert state != null && state != State.OK;
+      this.cause = cause;
+      this.state = state;
+      this.since = since;
+    }
+  }
+
+  /**
+   * The fail-fast cause stored during normal close.
+   *
+   * @see  ClosedSQLException#FAST_MARKER_KEEP_PRIVATE
+   */
+  private static final FailFastCause CLOSED = new FailFastCause(ClosedSQLException.FAST_MARKER_KEEP_PRIVATE, State.TERMINAL, 0);
+
+  /**
+   * The fail-fast cause stored during abort.
+   *
+   * @see  AbortedSQLException#FAST_MARKER_KEEP_PRIVATE
+   */
+  private static final FailFastCause ABORTED = new FailFastCause(AbortedSQLException.FAST_MARKER_KEEP_PRIVATE, State.TERMINAL, 0);
+
+  private static final VarHandle FAIL_FAST_CAUSE;
+
+  static {
+    try {
+      FAIL_FAST_CAUSE = MethodHandles.lookup().findVarHandle(FailFastConnectionImpl.class, "failFastCause", FailFastCause.class);
+    } catch (ReflectiveOperationException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  /**
+   * The current fail-fast cause or {@code null} when operating normally.  Any read-only operation may access it
+   * without synchronization.  All updates are performed by compare-and-set through
+   * {@link FailFastConnectionImpl#FAIL_FAST_CAUSE}, retrying when a concurrent update is detected.
+   *
+   * <p>This single reference is also the state word: {@code null} is {@link State#OK}, the
+   * {@link FailFastConnectionImpl#CLOSED} and {@link FailFastConnectionImpl#ABORTED} constants are the terminal states,
+   * and any other snapshot carries its precomputed {@link FailFastCause#state}.  The cause and its state are always
+   * read together by one volatile read, and checking for normal operation is one comparison with {@code null}.</p>
+   */
+  private volatile FailFastCause failFastCause;
+
+  private volatile ExceptionMode exceptionMode;
+
+  private volatile CheckGranularity checkGranularity;
+
+  private final FailFastStatementCache statementCache = new FailFastStatementCache();
+
+  /**
+   * Statements evicted from the statement cache by a failure that leaves the connection open.  The failure may be added
+   * by any thread, so these are closed by the thread using the connection, on its next fail-fast check, rollback, or
+   * close.
+   */
+  private final Queue<PreparedStatement> evictedStatements = new ConcurrentLinkedQueue<>();
+
+  private volatile int streamBufferSize;
+
+  /**
+   * The most recently released stream buffer, reused by the next stream.
+   */
+  private final AtomicReference<byte[]> byteBufferPool = new AtomicReference<>();
+
+  /**
+   * The most recently released reader buffer, reused by the next reader.
+   */
+  private final AtomicReference<char[]> charBufferPool = new AtomicReference<>();
+
+  /**
+   * The most recently released direct buffer, reused by the next channel transfer.
+   */
+  private final AtomicReference<ByteBuffer> directBufferPool = new AtomicReference<>();
+
+  /**
+   * The cache of constant database metadata shared with other connections or {@code null} when not cached.
+   */
+  private volatile FailFastDatabaseMetaDataCache databaseMetaDataCache;
+
+  /**
+   * The cache of prepared statement metadata shared with other connections or {@code null} when not cached.
+   */
+  private volatile FailFastStatementMetaDataCache statementMetaDataCache;
+
+  /**
+   * The user, catalog, and schema the shared statement metadata is cached by, or {@code null} when not yet read.
+   * Discarded when the catalog or schema may have changed.
+   */
+  private volatile FailFastStatementMetaDataCache.Context statementMetaDataContext;
+
+  private volatile boolean schemaCacheEnabled;
+
+  private final FailFastSchemaCache schemaCache = new FailFastSchemaCache();
+
+  /**
+   * Set when DDL has been executed in the current transaction, until it is committed or rolled back.  The schema seen
+   * by this connection may then be undone by rollback, and is not yet seen by other connections.
+   */
+  private volatile boolean uncommittedDDL;
+
+  private volatile boolean columnLabelIndexEnabled;
+
+  private volatile FailFastClassifier classifier;
+
+  /**
+   * The monitor or {@code null} when monitoring is disabled.
    */
-  private volatile Throwable failFastCause;
+  private volatile FailFastMonitor monitor;
 
   public FailFastConnectionImpl(FailFastDriver driver, Connection wrapped) {
     super(driver, wrapped);
+    if (driver == null) {
+      exceptionMode = ExceptionMode.SURROGATE;
+      checkGranularity = CheckGranularity.CALL;
+      classifier = FailFastClassifier.DEFAULT;
+    } else {
+      exceptionMode = driver.getExceptionMode();
+      checkGranularity = driver.getCheckGranularity();
+      statementCache.setMaxSize(driver.getStatementCacheSize());
+      streamBufferSize = driver.getStreamBufferSize();
+      schemaCacheEnabled = driver.isSchemaCacheEnabled();
+      columnLabelIndexEnabled = driver.isColumnLabelIndexEnabled();
+      classifier = driver.getClassifier();
+      monitor = driver.getMonitor();
+    }
   }
 
   public FailFastConnectionImpl(Connection wrapped) {
     super(wrapped);
+    exceptionMode = ExceptionMode.SURROGATE;
+    checkGranularity = CheckGranularity.CALL;
+    classifier = FailFastClassifier.DEFAULT;
+  }
+
+  /**
+   * Classifies a cause by the given classifier, using the default classification when the classifier defers.  A
+   * failure of the classifier is added as suppressed to the cause, which is then classified by default, so the
+   * original exception is never replaced.
+   *
+   * @return  The state, never {@code null} nor {@link State#OK}
+   */
+  static State classify(FailFastClassifier classifier, Throwable cause) {
+    if (cause instanceof TerminalSQLException) {
+      return State.TERMINAL;
+    }
+    State state;
+    try {
+      state = classifier.classify(cause);
+    } catch (Throwable t) {
+      if (t != cause) {
+        cause.addSuppressed(t);
+      }
+      state = null;
+    }
+    if (state == null || state == State.OK) {
+      state = State.getState(cause);
+    }
+    return state;
   }
 
   @Override
@@ -103,68 +288,830 @@ public class FailFastConnectionImpl extends ConnectionWrapperImpl implements Fai
       ) {
         throw new IllegalArgumentException("Private markers must be set directly without merge");
       }
-      synchronized (failFastLock) {
-        if (
-            // Don't merge if already in terminal fail-fast state
-            failFastCause != ClosedSQLException.FAST_MARKER_KEEP_PRIVATE
-                && failFastCause != AbortedSQLException.FAST_MARKER_KEEP_PRIVATE
-                // Don't replace if is same
-                && cause != failFastCause
-        ) {
-          if (failFastCause == null) {
-            failFastCause = cause;
+      State newState = null;
+      while (true) {
+        FailFastCause current = failFastCause;
+        // Don't merge if already in terminal fail-fast state
+        if (current == CLOSED || current == ABORTED) {
+          return;
+        }
+        if (newState == null) {
+          newState = classify(classifier, cause);
+        }
+        FailFastCause update;
+        if (current == null) {
+          update = new FailFastCause(cause, newState, System.nanoTime());
+        } else if (cause == current.cause) {
+          // Don't replace if is same
+          return;
+        } else {
+          int diff = current.state.compareTo(newState);
+          if (diff > 0) {
+            if (!Throwables.isSuppressed(current.cause, cause)) {
+              current.cause.addSuppressed(cause);
+            }
+            update = new FailFastCause(current.cause, current.state, current.since);
+          } else if (diff < 0) {
+            if (!Throwables.isSuppressed(cause, current.cause)) {
+              cause.addSuppressed(current.cause);
+            }
+            update = new FailFastCause(cause, newState, current.since);
           } else {
-            State currentState = State.getState(failFastCause);
-            State newState = State.getState(cause);
-            int diff = currentState.compareTo(newState);
-            if (diff > 0) {
-              if (!Throwables.isSuppressed(failFastCause, cause)) {
-                failFastCause.addSuppressed(cause);
-              }
-            } else if (diff < 0) {
-              if (!Throwables.isSuppressed(cause, failFastCause)) {
-                cause.addSuppressed(failFastCause);
+            update = new FailFastCause(Throwables.addSuppressed(current.cause, cause), newState, current.since);
+          }
+        }
+        if (FAIL_FAST_CAUSE.compareAndSet(this, current, update)) {
+          State oldState = (current == null) ? State.OK : current.state;
+          if (update.state != oldState) {
+            FailFastMonitor m = monitor;
+            if (m != null) {
+              m.failed(this, oldState, update.state, cause);
+            }
+            fireStateChanged(oldState, update.state);
+            // Statement errors and rollbacks leave the connection usable, so keep its statements.  Never reuse a
+            // statement that has lived through a failure of the connection.
+            if (update.state.compareTo(State.EXCEPTION) >= 0) {
+              List<PreparedStatement> evicted = statementCache.clear();
+              // Closing the connection releases its statements, so they are discarded without close once it has failed
+              if (update.state.compareTo(State.CONNECTION_FAILURE) < 0) {
+                evictedStatements.addAll(evicted);
               }
-              failFastCause = cause;
-            } else {
-              failFastCause = Throwables.addSuppressed(failFastCause, cause);
             }
           }
+          break;
         }
+        // Lost a race with a concurrent update: merge again with the new cause.  Any suppressed throwable already added
+        // is not added twice.
       }
     }
   }
 
   @Override
   public Throwable getFailFastCause() {
-    Throwable cause = failFastCause;
-    if (cause == ClosedSQLException.FAST_MARKER_KEEP_PRIVATE) {
+    FailFastCause current = failFastCause;
+    if (current == null) {
+      return null;
+    }
+    if (current == CLOSED) {
       return new ClosedSQLException();
     }
-    if (cause == AbortedSQLException.FAST_MARKER_KEEP_PRIVATE) {
+    if (current == ABORTED) {
       return new AbortedSQLException();
     }
-    return cause;
+    return current.cause;
   }
 
   @Override
   public State getFailFastState() {
-    return State.getState(failFastCause);
+    FailFastCause current = failFastCause;
+    return (current == null) ? State.OK : current.state;
   }
 
   @Override
   public Throwable clearFailFast() throws TerminalSQLException {
-    synchronized (failFastLock) {
-      Throwable cause = failFastCause;
+    while (true) {
+      FailFastCause current = failFastCause;
+      if (current == null) {
+        return null;
+      }
       // Compare to the constants to distinguish from TerminalSQLException thrown by wrapped connections
-      if (cause == ClosedSQLException.FAST_MARKER_KEEP_PRIVATE) {
+      if (current == CLOSED) {
         throw new ClosedSQLException();
       }
-      if (cause == AbortedSQLException.FAST_MARKER_KEEP_PRIVATE) {
+      if (current == ABORTED) {
         throw new AbortedSQLException();
       }
-      failFastCause = null;
-      return cause;
+      if (FAIL_FAST_CAUSE.compareAndSet(this, current, null)) {
+        recovered(current, false);
+        return current.cause;
+      }
+    }
+  }
+
+  @Override
+  public ExceptionMode getFailFastExceptionMode() {
+    return exceptionMode;
+  }
+
+  @Override
+  public void setFailFastExceptionMode(ExceptionMode exceptionMode) {
+    this.exceptionMode = NullArgumentException.checkNotNull(exceptionMode, "exceptionMode");
+  }
+
+  @Override
+  public CheckGranularity getFailFastCheckGranularity() {
+    return checkGranularity;
+  }
+
+  @Override
+  public void setFailFastCheckGranularity(CheckGranularity checkGranularity) {
+    this.checkGranularity = NullArgumentException.checkNotNull(checkGranularity, "checkGranularity");
+  }
+
+  @Override
+  public int getFailFastStatementCacheSize() {
+    return statementCache.getMaxSize();
+  }
+
+  @Override
+  public void setFailFastStatementCacheSize(int size) {
+    closeStatements(statementCache.setMaxSize(size));
+  }
+
+  @Override
+  public int getFailFastStreamBufferSize() {
+    return streamBufferSize;
+  }
+
+  @Override
+  public void setFailFastStreamBufferSize(int size) {
+    if (size < 0) {
+      throw new IllegalArgumentException("size < 0: " + size);
+    }
+    streamBufferSize = size;
+  }
+
+  /**
+   * Gets a buffer for a {@link FailFastInputStream}, reusing the most recently released buffer of the same size.
+   */
+  byte[] takeByteBuffer(int size) {
+    byte[] buf = byteBufferPool.getAndSet(null);
+    return (buf != null && buf.length == size) ? buf : new byte[size];
+  }
+
+  /**
+   * Releases a buffer that is no longer used by its {@link FailFastInputStream}.
+   */
+  void releaseByteBuffer(byte[] buf) {
+    byteBufferPool.set(buf);
+  }
+
+  /**
+   * Gets a buffer for a {@link FailFastReader}, reusing the most recently released buffer of the same size.
+   */
+  char[] takeCharBuffer(int size) {
+    char[] buf = charBufferPool.getAndSet(null);
+    return (buf != null && buf.length == size) ? buf : new char[size];
+  }
+
+  /**
+   * Releases a buffer that is no longer used by its {@link FailFastReader}.
+   */
+  void releaseCharBuffer(char[] buf) {
+    charBufferPool.set(buf);
+  }
+
+  /**
+   * Gets a cleared direct buffer of {@link FailFastChannels#CHUNK_SIZE} for a channel transfer, reusing the most
+   * recently released buffer.  Allocating direct buffers is costly, and their memory is only freed by garbage
+   * collection.
+   */
+  ByteBuffer takeDirectBuffer() {
+    ByteBuffer buffer = directBufferPool.getAndSet(null);
+    return (buffer == null) ? ByteBuffer.allocateDirect(FailFastChannels.CHUNK_SIZE) : buffer;
+  }
+
+  /**
+   * Releases a direct buffer that is no longer used by its channel transfer.
+   */
+  void releaseDirectBuffer(ByteBuffer buffer) {
+    buffer.clear();
+    directBufferPool.set(buffer);
+  }
+
+  @Override
+  public boolean isFailFastSchemaCacheEnabled() {
+    return schemaCacheEnabled;
+  }
+
+  @Override
+  public void setFailFastSchemaCacheEnabled(boolean enabled) {
+    schemaCacheEnabled = enabled;
+    if (!enabled) {
+      schemaCache.clear();
+    }
+  }
+
+  @Override
+  public boolean isFailFastColumnLabelIndexEnabled() {
+    return columnLabelIndexEnabled;
+  }
+
+  @Override
+  public void setFailFastColumnLabelIndexEnabled(boolean enabled) {
+    columnLabelIndexEnabled = enabled;
+  }
+
+  /**
+   * Gets the schema cache used by {@link FailFastDatabaseMetaDataImpl}.
+   *
+   * @return  The cache or {@code null} when {@linkplain #isFailFastSchemaCacheEnabled() disabled}
+   */
+  FailFastSchemaCache getSchemaCache() {
+    return schemaCacheEnabled ? schemaCache : null;
+  }
+
+  private static final String[] DDL_KEYWORDS = {"CREATE", "ALTER", "DROP", "TRUNCATE", "RENAME", "COMMENT"};
+
+  /**
+   * Checks whether SQL is DDL, which may change the results of schema introspection.  Leading whitespace, comments,
+   * and parentheses are skipped.
+   */
+  static boolean isDDL(String sql) {
+    return startsWithKeyword(sql, DDL_KEYWORDS);
+  }
+
+  /**
+   * The leading keywords of SQL that may change the catalog or schema, such as {@code USE} or
+   * {@code SET search_path}.
+   */
+  private static final String[] CONTEXT_KEYWORDS = {"USE", "SET"};
+
+  /**
+   * Checks whether SQL may change the catalog or schema, on which the shared statement metadata depends.
+   */
+  static boolean isContextChange(String sql) {
+    return startsWithKeyword(sql, CONTEXT_KEYWORDS);
+  }
+
+  /**
+   * Checks whether SQL starts with any of the given keywords, ignoring case.  Leading whitespace, comments, and
+   * parentheses are skipped.
+   */
+  private static boolean startsWithKeyword(String sql, String[] keywords) {
+    if (sql == null) {
+      return false;
+    }
+    int len = sql.length();
+    int i = 0;
+    while (i < len) {
+      char ch = sql.charAt(i);
+      if (Character.isWhitespace(ch) || ch == '(') {
+        i++;
+      } else if (sql.startsWith("--", i)) {
+        int eol = sql.indexOf('\n', i);
+        i = (eol == -1) ? len : (eol + 1);
+      } else if (sql.startsWith("/*", i)) {
+        int end = sql.indexOf("*/", i + 2);
+        i = (end == -1) ? len : (end + 2);
+      } else {
+        break;
+      }
+    }
+    for (String keyword : keywords) {
+      int end = i + keyword.length();
+      if (
+          sql.regionMatches(true, i, keyword, 0, keyword.length())
+              && (end == len || !Character.isJavaIdentifierPart(sql.charAt(end)))
+      ) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Checks whether any cache is discarded on DDL, so that SQL must be checked.
+   */
+  boolean isDDLTracked() {
+    return schemaCacheEnabled || statementMetaDataCache != null;
+  }
+
+  /**
+   * Notifies that SQL has been executed through a statement of this connection, discarding the cached schema and
+   * statement metadata when the SQL is DDL.  Called whether or not the execution succeeded, since failed DDL or a
+   * failed batch may still have changed the schema.
+   */
+  void executed(String sql) {
+    if (isDDLTracked()) {
+      if (isDDL(sql)) {
+        ddlExecuted();
+      } else if (statementMetaDataCache != null && isContextChange(sql)) {
+        contextChanged();
+      }
+    }
+  }
+
+  /**
+   * Notifies that the catalog or schema may have changed, so the context of the shared statement metadata is read
+   * again.
+   */
+  void contextChanged() {
+    statementMetaDataContext = null;
+  }
+
+  /**
+   * Gets the context the shared statement metadata of this connection is cached by.  A property not supported by the
+   * driver is {@code null}.
+   */
+  private FailFastStatementMetaDataCache.Context getStatementMetaDataContext() throws SQLException {
+    FailFastStatementMetaDataCache.Context context = statementMetaDataContext;
+    if (context == null) {
+      Connection wrapped = getWrapped();
+      String user;
+      try {
+        user = wrapped.getMetaData().getUserName();
+      } catch (SQLFeatureNotSupportedException e) {
+        user = null;
+      }
+      String catalog;
+      try {
+        catalog = wrapped.getCatalog();
+      } catch (SQLFeatureNotSupportedException e) {
+        catalog = null;
+      }
+      String schema;
+      try {
+        schema = wrapped.getSchema();
+      } catch (SQLFeatureNotSupportedException e) {
+        schema = null;
+      }
+      context = new FailFastStatementMetaDataCache.Context(user, catalog, schema);
+      statementMetaDataContext = context;
+    }
+    return context;
+  }
+
+  /**
+   * Notifies that DDL has been executed through a statement of this connection, discarding the cached schema and the
+   * cached statement metadata shared with other connections.
+   */
+  void ddlExecuted() {
+    clearSchemaCache();
+    FailFastStatementMetaDataCache metaDataCache = statementMetaDataCache;
+    if (metaDataCache != null) {
+      metaDataCache.clear();
+    }
+    boolean autoCommit;
+    try {
+      autoCommit = getWrapped().getAutoCommit();
+    } catch (Throwable t) {
+      // Assume uncommitted, which only stops sharing statement metadata until the next commit or rollback
+      autoCommit = false;
+    }
+    if (!autoCommit) {
+      uncommittedDDL = true;
+    }
+  }
+
+  /**
+   * Checks whether DDL has been executed in the current transaction.  While set, statement metadata is neither read
+   * from nor added to the cache shared with other connections, since it may differ from what they see.
+   */
+  boolean hasUncommittedDDL() {
+    return uncommittedDDL;
+  }
+
+  /**
+   * Notifies that the current transaction has been committed.  Discards the statement metadata shared with other
+   * connections when DDL was committed, since they may have cached metadata of the schema before the DDL.
+   */
+  private void committed() {
+    if (uncommittedDDL) {
+      uncommittedDDL = false;
+      FailFastStatementMetaDataCache metaDataCache = statementMetaDataCache;
+      if (metaDataCache != null) {
+        metaDataCache.clear();
+      }
+    }
+  }
+
+  /**
+   * Notifies that the current transaction has been rolled back, or rolled back to a savepoint.  Discards the cached
+   * schema when DDL was executed in the transaction, since the rollback may have undone it.  DDL before the savepoint
+   * remains uncommitted.
+   *
+   * @param  toSavepoint  {@code true} when only rolled back to a savepoint
+   */
+  private void rolledBack(boolean toSavepoint) {
+    if (uncommittedDDL) {
+      clearSchemaCache();
+      if (!toSavepoint) {
+        uncommittedDDL = false;
+      }
+    }
+  }
+
+  /**
+   * Discards all results held by the schema cache.
+   */
+  void clearSchemaCache() {
+    schemaCache.clear();
+  }
+
+  /**
+   * Gets the cache of constant database metadata used by new {@link FailFastDatabaseMetaDataImpl}.
+   *
+   * @return  The cache or {@code null} when not cached
+   */
+  FailFastDatabaseMetaDataCache getDatabaseMetaDataCache() {
+    return databaseMetaDataCache;
+  }
+
+  /**
+   * Sets the cache of constant database metadata, shared with other connections to the same database.  Set before the
+   * metadata is first obtained.
+   *
+   * @param  databaseMetaDataCache  The cache or {@code null} to not cache
+   */
+  void setDatabaseMetaDataCache(FailFastDatabaseMetaDataCache databaseMetaDataCache) {
+    this.databaseMetaDataCache = databaseMetaDataCache;
+  }
+
+  /**
+   * Sets the cache of prepared statement metadata, shared with other connections to the same database.  Applies to
+   * statements prepared after set.
+   *
+   * @param  statementMetaDataCache  The cache or {@code null} to not cache
+   */
+  void setStatementMetaDataCache(FailFastStatementMetaDataCache statementMetaDataCache) {
+    this.statementMetaDataCache = statementMetaDataCache;
+  }
+
+  @Override
+  public FailFastClassifier getFailFastClassifier() {
+    return classifier;
+  }
+
+  @Override
+  public void setFailFastClassifier(FailFastClassifier classifier) {
+    this.classifier = NullArgumentException.checkNotNull(classifier, "classifier");
+  }
+
+  @Override
+  public FailFastMonitor getFailFastMonitor() {
+    return monitor;
+  }
+
+  @Override
+  public void setFailFastMonitor(FailFastMonitor monitor) {
+    this.monitor = monitor;
+  }
+
+  private void recovered(FailFastCause previous, boolean rollback) {
+    FailFastMonitor m = monitor;
+    if (m != null) {
+      m.recovered(this, previous.state, System.nanoTime() - previous.since, rollback);
+    }
+    fireStateChanged(previous.state, State.OK);
+  }
+
+  private void closed(FailFastCause previous, boolean aborted) {
+    FailFastMonitor m = monitor;
+    if (m != null) {
+      if (previous == null) {
+        m.closed(this, State.OK, 0, aborted);
+      } else {
+        m.closed(this, previous.state, System.nanoTime() - previous.since, aborted);
+      }
+    }
+    State oldState = (previous == null) ? State.OK : previous.state;
+    if (oldState != State.TERMINAL) {
+      fireStateChanged(oldState, State.TERMINAL);
+    }
+  }
+
+  /**
+   * A registered {@link FailFastListener} with the executor it is notified on.
+   */
+  private static final class ListenerRegistration {
+
+    private final FailFastListener listener;
+
+    /**
+     * The executor or {@code null} to notify synchronously.
+     */
+    private final Executor executor;
+
+    private ListenerRegistration(FailFastListener listener, Executor executor) {
+      this.listener = listener;
+      this.executor = executor;
+    }
+
+    private void notify(FailFastConnection conn, State oldState, State newState) {
+      if (executor == null) {
+        notifyNow(conn, oldState, newState);
+      } else {
+        try {
+          executor.execute(() -> notifyNow(conn, oldState, newState));
+        } catch (RejectedExecutionException e) {
+          LOGGER.log(Level.WARNING, "Unable to notify fail-fast listener: " + listener, e);
+        }
+      }
+    }
+
+    private void notifyNow(FailFastConnection conn, State oldState, State newState) {
+      try {
+        listener.stateChanged(conn, oldState, newState);
+      } catch (RuntimeException e) {
+        LOGGER.log(Level.WARNING, "Fail-fast listener failed: " + listener, e);
+      }
+    }
+  }
+
+  private final List<ListenerRegistration> listeners = new CopyOnWriteArrayList<>();
+
+  @Override
+  public void addFailFastListener(FailFastListener listener) {
+    addListenerRegistration(NullArgumentException.checkNotNull(listener, "listener"), null);
+  }
+
+  @Override
+  public void addFailFastListener(FailFastListener listener, Executor executor) {
+    addListenerRegistration(
+        NullArgumentException.checkNotNull(listener, "listener"),
+        NullArgumentException.checkNotNull(executor, "executor")
+    );
+  }
+
+  private void addListenerRegistration(FailFastListener listener, Executor executor) {
+    synchronized (listeners) {
+      for (ListenerRegistration registration : listeners) {
+        if (registration.listener == listener) {
+          return;
+        }
+      }
+      listeners.add(new ListenerRegistration(listener, executor));
+    }
+  }
+
+  @Override
+  public boolean removeFailFastListener(FailFastListener listener) {
+    synchronized (listeners) {
+      for (ListenerRegistration registration : listeners) {
+        if (registration.listener == listener) {
+          return listeners.remove(registration);
+        }
+      }
+      return false;
+    }
+  }
+
+  private void fireStateChanged(State oldState, State newState) {
+    if (!listeners.isEmpty()) {
+      for (ListenerRegistration registration : listeners) {
+        registration.notify(this, oldState, newState);
+      }
+    }
+  }
+
+  /**
+   * Closes statements removed from the statement cache.  Any failure is registered as a fail-fast cause and not thrown,
+   * since the statements are no longer in use by the caller.
+   */
+  private void closeStatements(List<PreparedStatement> stmts) {
+    for (PreparedStatement stmt : stmts) {
+      try {
+        stmt.close();
+      } catch (Throwable t) {
+        addFailFastCause(t);
+      }
+    }
+  }
+
+  /**
+   * Closes the statements evicted from the statement cache by a failure.  Once the connection has failed, they are
+   * discarded instead, since closing the connection releases them.
+   *
+   * @param  current  The current fail-fast cause or {@code null} when operating normally
+   */
+  private void closeEvictedStatements(FailFastCause current) {
+    boolean discard = current != null && current.state.compareTo(State.CONNECTION_FAILURE) >= 0;
+    PreparedStatement stmt;
+    while ((stmt = evictedStatements.poll()) != null) {
+      if (!discard) {
+        try {
+          stmt.close();
+        } catch (Throwable t) {
+          addFailFastCause(t);
+        }
+      }
+    }
+  }
+
+  /**
+   * The value of an {@code int} argument not given to {@code prepareStatement}.
+   */
+  private static final int NONE = FailFastStatementCache.NONE;
+
+  /**
+   * Creates the key for a statement to be prepared.
+   *
+   * @return  The key or {@code null} when the statement cache is disabled
+   */
+  private FailFastStatementCache.Key newStatementKey(
+      String sql,
+      int resultSetType,
+      int resultSetConcurrency,
+      int resultSetHoldability,
+      int autoGeneratedKeys,
+      int[] columnIndexes,
+      String[] columnNames
+  ) {
+    if (sql == null || statementCache.getMaxSize() == 0) {
+      return null;
+    }
+    return new FailFastStatementCache.Key(
+        sql,
+        resultSetType,
+        resultSetConcurrency,
+        resultSetHoldability,
+        autoGeneratedKeys,
+        columnIndexes,
+        columnNames
+    );
+  }
+
+  /**
+   * Prepares a statement.
+   */
+  @FunctionalInterface
+  private interface StatementPreparer {
+    FailFastPreparedStatementImpl prepare() throws SQLException;
+  }
+
+  /**
+   * Gets an idle statement from the statement cache or prepares a new statement.
+   *
+   * @param  key  The key or {@code null} to prepare without the statement cache
+   */
+  private FailFastPreparedStatementImpl prepareStatement(
+      String sql,
+      FailFastStatementCache.Key key,
+      StatementPreparer preparer
+  ) throws SQLException {
+    FailFastStatementMetaDataCache metaDataCache = statementMetaDataCache;
+    // Read before preparing, so a failure to read does not leak the statement
+    FailFastStatementMetaDataCache.Key metaDataKey = (metaDataCache == null || sql == null)
+        ? null
+        : new FailFastStatementMetaDataCache.Key(getStatementMetaDataContext(), sql);
+    FailFastPreparedStatementImpl stmt;
+    if (key == null) {
+      stmt = preparer.prepare();
+    } else {
+      int generation = statementCache.getGeneration();
+      PreparedStatement idle = statementCache.take(key);
+      stmt = (idle == null) ? preparer.prepare() : newPreparedStatementWrapper(idle);
+      if (stmt != null) {
+        stmt.setCacheKey(key, generation);
+      }
+    }
+    if (stmt != null) {
+      if (isDDLTracked() && isDDL(sql)) {
+        stmt.setDDL();
+      }
+      if (metaDataKey != null) {
+        stmt.setMetaDataCache(metaDataCache, metaDataKey);
+        if (isContextChange(sql)) {
+          stmt.setContextChange();
+        }
+      }
+    }
+    return stmt;
+  }
+
+  /**
+   * Releases a statement when its cached handle is closed.  The statement is reset and returned to the statement cache
+   * while operating normally, otherwise it is closed.
+   *
+   * @see  FailFastPreparedStatementImpl#close()
+   */
+  void releaseStatement(
+      FailFastStatementCache.Key key,
+      int generation,
+      PreparedStatement wrapped,
+      boolean reusable,
+      boolean batched
+  ) throws SQLException {
+    PreparedStatement toClose = wrapped;
+    if (reusable && failFastCause == null) {
+      try {
+        ResultSet results = wrapped.getResultSet();
+        if (results != null) {
+          results.close();
+        }
+        wrapped.clearParameters();
+        if (batched) {
+          wrapped.clearBatch();
+        }
+        wrapped.clearWarnings();
+      } catch (Throwable t) {
+        try {
+          wrapped.close();
+        } catch (Throwable t2) {
+          t = Throwables.addSuppressed(t, t2);
+        }
+        throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
+      }
+      toClose = statementCache.release(key, generation, wrapped);
+    }
+    if (toClose != null) {
+      toClose.close();
+    }
+  }
+
+  private void rejected(FailFastCause current) {
+    FailFastMonitor m = monitor;
+    if (m != null) {
+      m.rejected(this, current.state);
+    }
+  }
+
+  /**
+   * Puts the connection into a terminal fail-fast state.
+   *
+   * @param  terminal  Either {@link FailFastConnectionImpl#CLOSED} or {@link FailFastConnectionImpl#ABORTED}
+   *
+   * @return  The cause before the update or {@code null} when was operating normally.
+   *          Returns {@link FailFastConnectionImpl#CLOSED} or {@link FailFastConnectionImpl#ABORTED} when already in a
+   *          terminal state, in which case no update was made.
+   */
+  private FailFastCause setTerminal(FailFastCause terminal) {
+    assert terminal == CLOSED || terminal == ABORTED;
+    while (true) {
+      FailFastCause current = failFastCause;
+      if (current == CLOSED || current == ABORTED) {
+        return current;
+      }
+      if (FAIL_FAST_CAUSE.compareAndSet(this, current, terminal)) {
+        return current;
+      }
+    }
+  }
+
+  /**
+   * A {@link FailFastSQLException} without any stack trace.
+   *
+   * @see  ExceptionMode#STACKLESS
+   */
+  private static final class StacklessFailFastSQLException extends FailFastSQLException {
+
+    private static final long serialVersionUID = 1L;
+
+    private StacklessFailFastSQLException(String reason, String sqlState, int vendorCode, Throwable cause) {
+      super(reason, sqlState, vendorCode, cause);
+    }
+
+    private StacklessFailFastSQLException(Throwable cause) {
+      super(cause);
+    }
+
+    @Override
+    @SuppressWarnings("sync-override")
+    public Throwable fillInStackTrace() {
+      return this;
+    }
+  }
+
+  /**
+   * A {@link ClosedSQLException} without any stack trace.
+   *
+   * @see  ExceptionMode#STACKLESS
+   */
+  private static final class StacklessClosedSQLException extends ClosedSQLException {
+
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    @SuppressWarnings("sync-override")
+    public Throwable fillInStackTrace() {
+      return this;
+    }
+  }
+
+  /**
+   * An {@link AbortedSQLException} without any stack trace.
+   *
+   * @see  ExceptionMode#STACKLESS
+   */
+  private static final class StacklessAbortedSQLException extends AbortedSQLException {
+
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    @SuppressWarnings("sync-override")
+    public Throwable fillInStackTrace() {
+      return this;
+    }
+  }
+
+  /**
+   * An {@link IOException} without any stack trace.
+   *
+   * @see  ExceptionMode#STACKLESS
+   */
+  private static final class StacklessIOException extends IOException {
+
+    private static final long serialVersionUID = 1L;
+
+    private StacklessIOException(Throwable cause) {
+      super(cause);
+    }
+
+    @Override
+    @SuppressWarnings("sync-override")
+    public Throwable fillInStackTrace() {
+      return this;
     }
   }
 
@@ -174,18 +1121,38 @@ public class FailFastConnectionImpl extends ConnectionWrapperImpl implements Fai
    * @throws  SQLException  if currently in a fail-fast state
    *
    * @see  Throwables#newSurrogate(java.lang.Throwable)
+   * @see  FailFastConnectionImpl#getFailFastExceptionMode()
    */
   protected void failFastSQLException() throws SQLException {
-    Throwable cause = failFastCause;
-    if (cause != null) {
+    FailFastCause current = failFastCause;
+    if (current != null) {
+      if (!evictedStatements.isEmpty()) {
+        closeEvictedStatements(current);
+      }
+      rejected(current);
+      boolean stackless = exceptionMode == ExceptionMode.STACKLESS;
       // Compare to the constants to distinguish from TerminalSQLException thrown by wrapped connections
-      if (cause == ClosedSQLException.FAST_MARKER_KEEP_PRIVATE) {
-        throw new ClosedSQLException();
+      if (current == CLOSED) {
+        throw stackless ? new StacklessClosedSQLException() : new ClosedSQLException();
       }
-      if (cause == AbortedSQLException.FAST_MARKER_KEEP_PRIVATE) {
-        throw new AbortedSQLException();
+      if (current == ABORTED) {
+        throw stackless ? new StacklessAbortedSQLException() : new AbortedSQLException();
       }
       // Include cause for all other
+      Throwable cause = current.cause;
+      if (stackless) {
+        if (cause instanceof SQLException) {
+          SQLException template = (SQLException) cause;
+          throw new StacklessFailFastSQLException(
+              template.getMessage(),
+              template.getSQLState(),
+              template.getErrorCode(),
+              cause
+          );
+        } else {
+          throw new StacklessFailFastSQLException(cause);
+        }
+      }
       if (cause instanceof SQLException) {
         SQLException template = (SQLException) cause;
         SQLException surrogate = Throwables.newSurrogate(template);
@@ -205,39 +1172,76 @@ public class FailFastConnectionImpl extends ConnectionWrapperImpl implements Fai
         throw new FailFastSQLException(cause);
       }
     }
-    assert cause == null : "Any cause must have been thrown";
+    assert current == null : "Any cause must have been thrown";
+  }
+
+  /**
+   * An {@link SQLClientInfoException} without any stack trace.
+   *
+   * @see  ExceptionMode#STACKLESS
+   */
+  private static final class StacklessSQLClientInfoException extends SQLClientInfoException {
+
+    private static final long serialVersionUID = 1L;
+
+    private StacklessSQLClientInfoException(String reason, String sqlState, int vendorCode,
+        Map<String, ClientInfoStatus> failedProperties, Throwable cause) {
+      super(reason, sqlState, vendorCode, failedProperties, cause);
+    }
+
+    @Override
+    @SuppressWarnings("sync-override")
+    public Throwable fillInStackTrace() {
+      return this;
+    }
   }
 
   /**
    * Performs fail-fast check.
    *
    * @throws  SQLClientInfoException  if currently in a fail-fast state
+   *
+   * @see  FailFastConnectionImpl#getFailFastExceptionMode()
    */
   protected void failFastSQLClientInfoException(Supplier<? extends Map<String, ClientInfoStatus>> failedPropertiesSupplier) throws SQLClientInfoException {
-    Throwable cause = failFastCause;
-    if (cause != null) {
+    FailFastCause current = failFastCause;
+    if (current != null) {
+      if (!evictedStatements.isEmpty()) {
+        closeEvictedStatements(current);
+      }
+      rejected(current);
+      boolean stackless = exceptionMode == ExceptionMode.STACKLESS;
+      Throwable cause;
       // Compare to the constants to distinguish from TerminalSQLException thrown by wrapped connections
-      if (cause == ClosedSQLException.FAST_MARKER_KEEP_PRIVATE) {
-        cause = new ClosedSQLException();
-      } else if (cause == AbortedSQLException.FAST_MARKER_KEEP_PRIVATE) {
-        cause = new AbortedSQLException();
+      if (current == CLOSED) {
+        cause = stackless ? new StacklessClosedSQLException() : new ClosedSQLException();
+      } else if (current == ABORTED) {
+        cause = stackless ? new StacklessAbortedSQLException() : new AbortedSQLException();
+      } else {
+        cause = current.cause;
       }
       // Include cause for all other
       Map<String, ClientInfoStatus> failedProperties = failedPropertiesSupplier.get();
+      String reason;
+      String sqlState;
+      int vendorCode;
       if (cause instanceof SQLException) {
         SQLException sqlEx = (SQLException) cause;
-        throw new SQLClientInfoException(
-            sqlEx.getMessage(),
-            sqlEx.getSQLState(),
-            sqlEx.getErrorCode(),
-            failedProperties,
-            cause
-        );
+        reason = sqlEx.getMessage();
+        sqlState = sqlEx.getSQLState();
+        vendorCode = sqlEx.getErrorCode();
+      } else {
+        reason = (cause == null) ? null : cause.toString();
+        sqlState = null;
+        vendorCode = 0;
+      }
+      if (stackless) {
+        throw new StacklessSQLClientInfoException(reason, sqlState, vendorCode, failedProperties, cause);
       } else {
-        throw new SQLClientInfoException(failedProperties, cause);
+        throw new SQLClientInfoException(reason, sqlState, vendorCode, failedProperties, cause);
       }
     }
-    assert cause == null : "Any cause must have been thrown";
+    assert current == null : "Any cause must have been thrown";
   }
 
   /**
@@ -248,13 +1252,24 @@ public class FailFastConnectionImpl extends ConnectionWrapperImpl implements Fai
    * @see  Throwables#newSurrogate(java.lang.Throwable)
    */
   protected void failFastIOException() throws IOException {
-    Throwable cause = failFastCause;
-    if (cause != null) {
+    FailFastCause current = failFastCause;
+    if (current != null) {
+      if (!evictedStatements.isEmpty()) {
+        closeEvictedStatements(current);
+      }
+      rejected(current);
+      boolean stackless = exceptionMode == ExceptionMode.STACKLESS;
+      Throwable cause;
       // Compare to the constants to distinguish from TerminalSQLException thrown by wrapped connections
-      if (cause == ClosedSQLException.FAST_MARKER_KEEP_PRIVATE) {
-        cause = new ClosedSQLException();
-      } else if (cause == AbortedSQLException.FAST_MARKER_KEEP_PRIVATE) {
-        cause = new AbortedSQLException();
+      if (current == CLOSED) {
+        cause = stackless ? new StacklessClosedSQLException() : new ClosedSQLException();
+      } else if (current == ABORTED) {
+        cause = stackless ? new StacklessAbortedSQLException() : new AbortedSQLException();
+      } else {
+        cause = current.cause;
+      }
+      if (stackless) {
+        throw new StacklessIOException(cause);
       }
       // Include cause for all other
       if (cause instanceof IOException) {
@@ -263,7 +1278,7 @@ public class FailFastConnectionImpl extends ConnectionWrapperImpl implements Fai
         throw new IOException(cause);
       }
     }
-    assert cause == null : "Any cause must have been thrown";
+    assert current == null : "Any cause must have been thrown";
   }
 
   @Override
@@ -396,7 +1411,11 @@ public class FailFastConnectionImpl extends ConnectionWrapperImpl implements Fai
   public FailFastPreparedStatementImpl prepareStatement(String sql) throws SQLException {
     failFastSQLException();
     try {
-      return (FailFastPreparedStatementImpl) super.prepareStatement(sql);
+      return prepareStatement(
+          sql,
+          newStatementKey(sql, NONE, NONE, NONE, NONE, null, null),
+          () -> (FailFastPreparedStatementImpl) super.prepareStatement(sql)
+      );
     } catch (Throwable t) {
       addFailFastCause(t);
       throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
@@ -430,6 +1449,10 @@ public class FailFastConnectionImpl extends ConnectionWrapperImpl implements Fai
     failFastSQLException();
     try {
       super.setAutoCommit(autoCommit);
+      // Enabling auto-commit commits the current transaction
+      if (autoCommit) {
+        committed();
+      }
     } catch (Throwable t) {
       addFailFastCause(t);
       throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
@@ -439,11 +1462,11 @@ public class FailFastConnectionImpl extends ConnectionWrapperImpl implements Fai
   @Override
   public boolean getAutoCommit() throws SQLException {
     // Allow during non-terminal fast-fail state because is used while trying to perform rollback
-    Throwable cause = failFastCause;
-    if (cause == ClosedSQLException.FAST_MARKER_KEEP_PRIVATE) {
+    FailFastCause current = failFastCause;
+    if (current == CLOSED) {
       throw new ClosedSQLException();
     }
-    if (cause == AbortedSQLException.FAST_MARKER_KEEP_PRIVATE) {
+    if (current == ABORTED) {
       throw new AbortedSQLException();
     }
     try {
@@ -459,6 +1482,7 @@ public class FailFastConnectionImpl extends ConnectionWrapperImpl implements Fai
     failFastSQLException();
     try {
       super.commit();
+      committed();
     } catch (Throwable t) {
       addFailFastCause(t);
       throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
@@ -468,27 +1492,38 @@ public class FailFastConnectionImpl extends ConnectionWrapperImpl implements Fai
   @Override
   @SuppressWarnings("ThrowableResultIgnored")
   public void rollback() throws TerminalSQLException, SQLException {
-    synchronized (failFastLock) {
-      if (failFastCause != null) {
-        if (failFastCause == ClosedSQLException.FAST_MARKER_KEEP_PRIVATE) {
+    failFastLock.lock();
+    try {
+      FailFastCause current = failFastCause;
+      if (current != null) {
+        if (current == CLOSED) {
           throw new ClosedSQLException();
         }
-        if (failFastCause == AbortedSQLException.FAST_MARKER_KEEP_PRIVATE) {
+        if (current == ABORTED) {
           throw new AbortedSQLException();
         }
+        closeEvictedStatements(current);
         try {
           super.rollback();
-          clearFailFast();
+          rolledBack(false);
+          // Only clear the causes that were rolled back.  When another cause has been added during rollback, the
+          // fail-fast state remains.
+          if (FAIL_FAST_CAUSE.compareAndSet(this, current, null)) {
+            recovered(current, true);
+          }
           return;
         } catch (Throwable t) {
           addFailFastCause(t);
           throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
         }
       }
-      // Continue outside synchronized block
+      // Continue outside locked block
+    } finally {
+      failFastLock.unlock();
     }
     try {
       super.rollback();
+      rolledBack(false);
     } catch (Throwable t) {
       addFailFastCause(t);
       throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
@@ -497,32 +1532,19 @@ public class FailFastConnectionImpl extends ConnectionWrapperImpl implements Fai
 
   @Override
   public void close() throws SQLException {
-    Throwable cause;
-    boolean doClose;
-    synchronized (failFastLock) {
-      cause = failFastCause;
-      if (
-          cause != ClosedSQLException.FAST_MARKER_KEEP_PRIVATE
-              && cause != AbortedSQLException.FAST_MARKER_KEEP_PRIVATE
-      ) {
-        failFastCause = ClosedSQLException.FAST_MARKER_KEEP_PRIVATE;
-        doClose = true;
-      } else {
-        doClose = false;
-      }
-    }
-    if (doClose) {
-      doClose(cause);
+    FailFastCause previous = setTerminal(CLOSED);
+    if (previous != CLOSED && previous != ABORTED) {
+      closed(previous, false);
+      closeEvictedStatements(previous);
+      closeStatements(statementCache.clear());
+      doClose((previous == null) ? null : previous.cause);
     }
   }
 
   @Override
   public boolean isClosed() throws SQLException {
-    Throwable cause = failFastCause;
-    if (
-        cause == ClosedSQLException.FAST_MARKER_KEEP_PRIVATE
-            || cause == AbortedSQLException.FAST_MARKER_KEEP_PRIVATE
-    ) {
+    FailFastCause current = failFastCause;
+    if (current == CLOSED || current == ABORTED) {
       return true;
     }
     try {
@@ -569,6 +1591,7 @@ public class FailFastConnectionImpl extends ConnectionWrapperImpl implements Fai
   @Override
   public void setCatalog(String catalog) throws SQLException {
     failFastSQLException();
+    contextChanged();
     try {
       super.setCatalog(catalog);
     } catch (Throwable t) {
@@ -647,7 +1670,11 @@ public class FailFastConnectionImpl extends ConnectionWrapperImpl implements Fai
   public FailFastPreparedStatementImpl prepareStatement(String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
     failFastSQLException();
     try {
-      return (FailFastPreparedStatementImpl) super.prepareStatement(sql, resultSetType, resultSetConcurrency);
+      return prepareStatement(
+          sql,
+          newStatementKey(sql, resultSetType, resultSetConcurrency, NONE, NONE, null, null),
+          () -> (FailFastPreparedStatementImpl) super.prepareStatement(sql, resultSetType, resultSetConcurrency)
+      );
     } catch (Throwable t) {
       addFailFastCause(t);
       throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
@@ -734,27 +1761,38 @@ public class FailFastConnectionImpl extends ConnectionWrapperImpl implements Fai
   @Override
   @SuppressWarnings("ThrowableResultIgnored")
   public void rollback(Savepoint savepoint) throws SQLException {
-    synchronized (failFastLock) {
-      if (failFastCause != null) {
-        if (failFastCause == ClosedSQLException.FAST_MARKER_KEEP_PRIVATE) {
+    failFastLock.lock();
+    try {
+      FailFastCause current = failFastCause;
+      if (current != null) {
+        if (current == CLOSED) {
           throw new ClosedSQLException();
         }
-        if (failFastCause == AbortedSQLException.FAST_MARKER_KEEP_PRIVATE) {
+        if (current == ABORTED) {
           throw new AbortedSQLException();
         }
+        closeEvictedStatements(current);
         try {
           super.rollback(savepoint);
-          clearFailFast();
+          rolledBack(true);
+          // Only clear the causes that were rolled back.  When another cause has been added during rollback, the
+          // fail-fast state remains.
+          if (FAIL_FAST_CAUSE.compareAndSet(this, current, null)) {
+            recovered(current, true);
+          }
           return;
         } catch (Throwable t) {
           addFailFastCause(t);
           throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
         }
       }
-      // Continue outside synchronized block
+      // Continue outside locked block
+    } finally {
+      failFastLock.unlock();
     }
     try {
       super.rollback(savepoint);
+      rolledBack(true);
     } catch (Throwable t) {
       addFailFastCause(t);
       throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
@@ -786,7 +1824,16 @@ public class FailFastConnectionImpl extends ConnectionWrapperImpl implements Fai
   public FailFastPreparedStatementImpl prepareStatement(String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
     failFastSQLException();
     try {
-      return (FailFastPreparedStatementImpl) super.prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability);
+      return prepareStatement(
+          sql,
+          newStatementKey(sql, resultSetType, resultSetConcurrency, resultSetHoldability, NONE, null, null),
+          () -> (FailFastPreparedStatementImpl) super.prepareStatement(
+              sql,
+              resultSetType,
+              resultSetConcurrency,
+              resultSetHoldability
+          )
+      );
     } catch (Throwable t) {
       addFailFastCause(t);
       throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
@@ -808,7 +1855,11 @@ public class FailFastConnectionImpl extends ConnectionWrapperImpl implements Fai
   public FailFastPreparedStatementImpl prepareStatement(String sql, int autoGeneratedKeys) throws SQLException {
     failFastSQLException();
     try {
-      return (FailFastPreparedStatementImpl) super.prepareStatement(sql, autoGeneratedKeys);
+      return prepareStatement(
+          sql,
+          newStatementKey(sql, NONE, NONE, NONE, autoGeneratedKeys, null, null),
+          () -> (FailFastPreparedStatementImpl) super.prepareStatement(sql, autoGeneratedKeys)
+      );
     } catch (Throwable t) {
       addFailFastCause(t);
       throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
@@ -819,7 +1870,13 @@ public class FailFastConnectionImpl extends ConnectionWrapperImpl implements Fai
   public FailFastPreparedStatementImpl prepareStatement(String sql, int[] columnIndexes) throws SQLException {
     failFastSQLException();
     try {
-      return (FailFastPreparedStatementImpl) super.prepareStatement(sql, columnIndexes);
+      return prepareStatement(
+          sql,
+          (columnIndexes == null)
+              ? null
+              : newStatementKey(sql, NONE, NONE, NONE, NONE, columnIndexes, null),
+          () -> (FailFastPreparedStatementImpl) super.prepareStatement(sql, columnIndexes)
+      );
     } catch (Throwable t) {
       addFailFastCause(t);
       throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
@@ -830,7 +1887,13 @@ public class FailFastConnectionImpl extends ConnectionWrapperImpl implements Fai
   public FailFastPreparedStatementImpl prepareStatement(String sql, String[] columnNames) throws SQLException {
     failFastSQLException();
     try {
-      return (FailFastPreparedStatementImpl) super.prepareStatement(sql, columnNames);
+      return prepareStatement(
+          sql,
+          (columnNames == null)
+              ? null
+              : newStatementKey(sql, NONE, NONE, NONE, NONE, null, columnNames),
+          () -> (FailFastPreparedStatementImpl) super.prepareStatement(sql, columnNames)
+      );
     } catch (Throwable t) {
       addFailFastCause(t);
       throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
@@ -883,11 +1946,8 @@ public class FailFastConnectionImpl extends ConnectionWrapperImpl implements Fai
 
   @Override
   public boolean isValid(int timeout) throws SQLException {
-    Throwable cause = failFastCause;
-    if (
-        cause == ClosedSQLException.FAST_MARKER_KEEP_PRIVATE
-            || cause == AbortedSQLException.FAST_MARKER_KEEP_PRIVATE
-    ) {
+    FailFastCause current = failFastCause;
+    if (current == CLOSED || current == ABORTED) {
       return false;
     }
     try {
@@ -1013,6 +2073,7 @@ public class FailFastConnectionImpl extends ConnectionWrapperImpl implements Fai
   @Override
   public void setSchema(String schema) throws SQLException {
     failFastSQLException();
+    contextChanged();
     try {
       super.setSchema(schema);
     } catch (Throwable t) {
@@ -1034,22 +2095,13 @@ public class FailFastConnectionImpl extends ConnectionWrapperImpl implements Fai
 
   @Override
   public void abort(Executor executor) throws SQLException {
-    Throwable cause;
-    boolean doAbort;
-    synchronized (failFastLock) {
-      cause = failFastCause;
-      if (
-          cause != ClosedSQLException.FAST_MARKER_KEEP_PRIVATE
-              && cause != AbortedSQLException.FAST_MARKER_KEEP_PRIVATE
-      ) {
-        failFastCause = AbortedSQLException.FAST_MARKER_KEEP_PRIVATE;
-        doAbort = true;
-      } else {
-        doAbort = false;
-      }
-    }
-    if (doAbort) {
-      doAbort(failFastCause, executor);
+    FailFastCause previous = setTerminal(ABORTED);
+    if (previous != CLOSED && previous != ABORTED) {
+      closed(previous, true);
+      // Abort releases the statements without blocking on their close
+      statementCache.clear();
+      evictedStatements.clear();
+      doAbort((previous == null) ? null : previous.cause, executor);
     }
   }
 
@@ -0,0 +1,53 @@
+/*
+ * ao-sql-failfast - Fail-fast JDBC wrapper.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql-failfast.
+ *
+ * ao-sql-failfast is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql-failfast is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql-failfast.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.sql.failfast;
+
+import java.sql.SQLException;
+import javax.sql.ConnectionPoolDataSource;
+
+/**
+ * Makes the logical connections of {@linkplain javax.sql.PooledConnection pooled connections} obtained from another
+ * {@link ConnectionPoolDataSource} perform in a fail-fast manner.
+ *
+ * @author  AO Industries, Inc.
+ *
+ * @see  FailFastPooledConnection
+ */
+public class FailFastConnectionPoolDataSource extends FailFastCommonDataSource<ConnectionPoolDataSource>
+    implements ConnectionPoolDataSource {
+
+  public FailFastConnectionPoolDataSource(ConnectionPoolDataSource wrapped) {
+    super(wrapped);
+  }
+
+  @Override
+  public FailFastPooledConnection getPooledConnection() throws SQLException {
+    return new FailFastPooledConnection(this, getWrapped().getPooledConnection());
+  }
+
+  @Override
+  public FailFastPooledConnection getPooledConnection(String user, String password) throws SQLException {
+    return new FailFastPooledConnection(this, getWrapped().getPooledConnection(user, password));
+  }
+}
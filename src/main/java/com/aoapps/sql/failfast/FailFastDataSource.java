@@ -0,0 +1,68 @@
+/*
+ * ao-sql-failfast - Fail-fast JDBC wrapper.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql-failfast.
+ *
+ * ao-sql-failfast is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql-failfast is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql-failfast.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.sql.failfast;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+
+/**
+ * Makes {@linkplain Connection connections} obtained from another {@link DataSource} perform in a fail-fast manner.
+ * All access to the connection will fail once a {@link SQLException} has been thrown by the underlying driver, with
+ * this state only being cleared by rollback.
+ *
+ * <p>Unlike {@link Driver}, there is no URL parsing nor {@link java.sql.DriverManager} lookup on each
+ * {@link DataSource#getConnection()}, which makes this suitable for use by connection pools.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+public class FailFastDataSource extends FailFastCommonDataSource<DataSource> implements DataSource {
+
+  public FailFastDataSource(DataSource wrapped) {
+    super(wrapped);
+  }
+
+  @Override
+  public FailFastConnectionImpl getConnection() throws SQLException {
+    return newConnectionWrapper(getWrapped().getConnection());
+  }
+
+  @Override
+  public FailFastConnectionImpl getConnection(String username, String password) throws SQLException {
+    return newConnectionWrapper(getWrapped().getConnection(username, password));
+  }
+
+  @Override
+  public <T> T unwrap(Class<T> iface) throws SQLException {
+    if (iface.isInstance(this)) {
+      return iface.cast(this);
+    }
+    return getWrapped().unwrap(iface);
+  }
+
+  @Override
+  public boolean isWrapperFor(Class<?> iface) throws SQLException {
+    return iface.isInstance(this) || getWrapped().isWrapperFor(iface);
+  }
+}
@@ -0,0 +1,208 @@
+/*
+ * ao-sql-failfast - Fail-fast JDBC wrapper.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql-failfast.
+ *
+ * ao-sql-failfast is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql-failfast is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql-failfast.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.sql.failfast;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * The {@linkplain java.sql.DatabaseMetaData database metadata} properties that do not change for the life of a
+ * database, shared by all connections to the same URL or data source.
+ *
+ * <p>Each property is loaded from the first connection that requests it, then answered from this cache by all
+ * connections.  Concurrent first requests may each load the property, with the last one retained.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+final class FailFastDatabaseMetaDataCache {
+
+  /**
+   * The cached properties, each named for its method of {@link java.sql.DatabaseMetaData}.  Properties that depend
+   * on the privileges of the user, such as {@link java.sql.DatabaseMetaData#allTablesAreSelectable()}, are not cached.
+   */
+  enum Property {
+    NULLS_ARE_SORTED_HIGH,
+    NULLS_ARE_SORTED_LOW,
+    NULLS_ARE_SORTED_AT_START,
+    NULLS_ARE_SORTED_AT_END,
+    GET_DATABASE_PRODUCT_NAME,
+    GET_DATABASE_PRODUCT_VERSION,
+    GET_DRIVER_NAME,
+    GET_DRIVER_VERSION,
+    USES_LOCAL_FILES,
+    USES_LOCAL_FILE_PER_TABLE,
+    SUPPORTS_MIXED_CASE_IDENTIFIERS,
+    STORES_UPPER_CASE_IDENTIFIERS,
+    STORES_LOWER_CASE_IDENTIFIERS,
+    STORES_MIXED_CASE_IDENTIFIERS,
+    SUPPORTS_MIXED_CASE_QUOTED_IDENTIFIERS,
+    STORES_UPPER_CASE_QUOTED_IDENTIFIERS,
+    STORES_LOWER_CASE_QUOTED_IDENTIFIERS,
+    STORES_MIXED_CASE_QUOTED_IDENTIFIERS,
+    GET_IDENTIFIER_QUOTE_STRING,
+    GET_SQL_KEYWORDS,
+    GET_NUMERIC_FUNCTIONS,
+    GET_STRING_FUNCTIONS,
+    GET_SYSTEM_FUNCTIONS,
+    GET_TIME_DATE_FUNCTIONS,
+    GET_SEARCH_STRING_ESCAPE,
+    GET_EXTRA_NAME_CHARACTERS,
+    SUPPORTS_ALTER_TABLE_WITH_ADD_COLUMN,
+    SUPPORTS_ALTER_TABLE_WITH_DROP_COLUMN,
+    SUPPORTS_COLUMN_ALIASING,
+    NULL_PLUS_NON_NULL_IS_NULL,
+    SUPPORTS_CONVERT,
+    SUPPORTS_TABLE_CORRELATION_NAMES,
+    SUPPORTS_DIFFERENT_TABLE_CORRELATION_NAMES,
+    SUPPORTS_EXPRESSIONS_IN_ORDER_BY,
+    SUPPORTS_ORDER_BY_UNRELATED,
+    SUPPORTS_GROUP_BY,
+    SUPPORTS_GROUP_BY_UNRELATED,
+    SUPPORTS_GROUP_BY_BEYOND_SELECT,
+    SUPPORTS_LIKE_ESCAPE_CLAUSE,
+    SUPPORTS_MULTIPLE_RESULT_SETS,
+    SUPPORTS_MULTIPLE_TRANSACTIONS,
+    SUPPORTS_NON_NULLABLE_COLUMNS,
+    SUPPORTS_MINIMUM_SQL_GRAMMAR,
+    SUPPORTS_CORE_SQL_GRAMMAR,
+    SUPPORTS_EXTENDED_SQL_GRAMMAR,
+    SUPPORTS_ANSI92_ENTRY_LEVEL_SQL,
+    SUPPORTS_ANSI92_INTERMEDIATE_SQL,
+    SUPPORTS_ANSI92_FULL_SQL,
+    SUPPORTS_INTEGRITY_ENHANCEMENT_FACILITY,
+    SUPPORTS_OUTER_JOINS,
+    SUPPORTS_FULL_OUTER_JOINS,
+    SUPPORTS_LIMITED_OUTER_JOINS,
+    GET_SCHEMA_TERM,
+    GET_PROCEDURE_TERM,
+    GET_CATALOG_TERM,
+    IS_CATALOG_AT_START,
+    GET_CATALOG_SEPARATOR,
+    SUPPORTS_SCHEMAS_IN_DATA_MANIPULATION,
+    SUPPORTS_SCHEMAS_IN_PROCEDURE_CALLS,
+    SUPPORTS_SCHEMAS_IN_TABLE_DEFINITIONS,
+    SUPPORTS_SCHEMAS_IN_INDEX_DEFINITIONS,
+    SUPPORTS_SCHEMAS_IN_PRIVILEGE_DEFINITIONS,
+    SUPPORTS_CATALOGS_IN_DATA_MANIPULATION,
+    SUPPORTS_CATALOGS_IN_PROCEDURE_CALLS,
+    SUPPORTS_CATALOGS_IN_TABLE_DEFINITIONS,
+    SUPPORTS_CATALOGS_IN_INDEX_DEFINITIONS,
+    SUPPORTS_CATALOGS_IN_PRIVILEGE_DEFINITIONS,
+    SUPPORTS_POSITIONED_DELETE,
+    SUPPORTS_POSITIONED_UPDATE,
+    SUPPORTS_SELECT_FOR_UPDATE,
+    SUPPORTS_STORED_PROCEDURES,
+    SUPPORTS_SUBQUERIES_IN_COMPARISONS,
+    SUPPORTS_SUBQUERIES_IN_EXISTS,
+    SUPPORTS_SUBQUERIES_IN_INS,
+    SUPPORTS_SUBQUERIES_IN_QUANTIFIEDS,
+    SUPPORTS_CORRELATED_SUBQUERIES,
+    SUPPORTS_UNION,
+    SUPPORTS_UNION_ALL,
+    SUPPORTS_OPEN_CURSORS_ACROSS_COMMIT,
+    SUPPORTS_OPEN_CURSORS_ACROSS_ROLLBACK,
+    SUPPORTS_OPEN_STATEMENTS_ACROSS_COMMIT,
+    SUPPORTS_OPEN_STATEMENTS_ACROSS_ROLLBACK,
+    GET_MAX_BINARY_LITERAL_LENGTH,
+    GET_MAX_CHAR_LITERAL_LENGTH,
+    GET_MAX_COLUMN_NAME_LENGTH,
+    GET_MAX_COLUMNS_IN_GROUP_BY,
+    GET_MAX_COLUMNS_IN_INDEX,
+    GET_MAX_COLUMNS_IN_ORDER_BY,
+    GET_MAX_COLUMNS_IN_SELECT,
+    GET_MAX_COLUMNS_IN_TABLE,
+    GET_MAX_CONNECTIONS,
+    GET_MAX_CURSOR_NAME_LENGTH,
+    GET_MAX_INDEX_LENGTH,
+    GET_MAX_SCHEMA_NAME_LENGTH,
+    GET_MAX_PROCEDURE_NAME_LENGTH,
+    GET_MAX_CATALOG_NAME_LENGTH,
+    GET_MAX_ROW_SIZE,
+    DOES_MAX_ROW_SIZE_INCLUDE_BLOBS,
+    GET_MAX_STATEMENT_LENGTH,
+    GET_MAX_STATEMENTS,
+    GET_MAX_TABLE_NAME_LENGTH,
+    GET_MAX_TABLES_IN_SELECT,
+    GET_MAX_USER_NAME_LENGTH,
+    GET_DEFAULT_TRANSACTION_ISOLATION,
+    SUPPORTS_TRANSACTIONS,
+    SUPPORTS_DATA_DEFINITION_AND_DATA_MANIPULATION_TRANSACTIONS,
+    SUPPORTS_DATA_MANIPULATION_TRANSACTIONS_ONLY,
+    DATA_DEFINITION_CAUSES_TRANSACTION_COMMIT,
+    DATA_DEFINITION_IGNORED_IN_TRANSACTIONS,
+    SUPPORTS_BATCH_UPDATES,
+    SUPPORTS_SAVEPOINTS,
+    SUPPORTS_NAMED_PARAMETERS,
+    SUPPORTS_MULTIPLE_OPEN_RESULTS,
+    SUPPORTS_GET_GENERATED_KEYS,
+    GET_RESULT_SET_HOLDABILITY,
+    GET_DATABASE_MAJOR_VERSION,
+    GET_DATABASE_MINOR_VERSION,
+    GET_JDBC_MAJOR_VERSION,
+    GET_JDBC_MINOR_VERSION,
+    GET_SQL_STATE_TYPE,
+    LOCATORS_UPDATE_COPY,
+    SUPPORTS_STATEMENT_POOLING,
+    GET_ROW_ID_LIFETIME,
+    SUPPORTS_STORED_FUNCTIONS_USING_CALL_SYNTAX,
+    AUTO_COMMIT_FAILURE_CLOSES_ALL_RESULT_SETS,
+    GENERATED_KEY_ALWAYS_RETURNED,
+    GET_MAX_LOGICAL_LOB_SIZE,
+    SUPPORTS_REF_CURSORS,
+    SUPPORTS_SHARDING
+  }
+
+  /**
+   * Stands in for a {@code null} value, which is otherwise indistinguishable from a value not yet loaded.
+   */
+  static final Object NULL = new Object();
+
+  private final AtomicReferenceArray<Object> values = new AtomicReferenceArray<>(Property.values().length);
+
+  /**
+   * Gets a cached property.
+   *
+   * @return  The value, {@code null} when not yet loaded, or {@link #NULL} when loaded as {@code null}
+   */
+  Object get(Property property) {
+    return values.get(property.ordinal());
+  }
+
+  /**
+   * Caches a property.
+   *
+   * @param  value  The value, which may be {@code null}
+   */
+  void put(Property property, Object value) {
+    values.set(property.ordinal(), value == null ? NULL : value);
+  }
+
+  /**
+   * Discards all cached properties, which are then loaded again on next use.
+   */
+  void clear() {
+    for (int i = 0, len = values.length(); i < len; i++) {
+      values.set(i, null);
+    }
+  }
+}
@@ -1,6 +1,6 @@
 /*
  * ao-sql-failfast - Fail-fast JDBC wrapper.
- * Copyright (C) 2020, 2021, 2022  AO Industries, Inc.
+ * Copyright (C) 2020, 2021, 2022, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -25,21 +25,34 @@ package com.aoapps.sql.failfast;
 
 import com.aoapps.lang.Throwables;
 import com.aoapps.lang.exception.WrappedException;
+import com.aoapps.sql.failfast.FailFastDatabaseMetaDataCache.Property;
 import com.aoapps.sql.wrapper.DatabaseMetaDataWrapperImpl;
 import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
 import java.sql.RowIdLifetime;
 import java.sql.SQLException;
 
 /**
  * See {@link FailFastConnectionImpl}.
  *
+ * <p>When the {@linkplain FailFastDriver#setDatabaseMetaDataCacheEnabled(boolean) database metadata cache} is enabled
+ * on the driver or {@linkplain FailFastCommonDataSource#setDatabaseMetaDataCacheEnabled(boolean) data source}, the
+ * properties that do not change for the life of the database are loaded once and shared by all connections to the same
+ * URL or data source.  The fail-fast state is still checked on every call.</p>
+ *
  * @author  AO Industries, Inc.
  */
 @SuppressWarnings({"UseSpecificCatch", "TooBroadCatch"})
 public class FailFastDatabaseMetaDataImpl extends DatabaseMetaDataWrapperImpl {
 
+  /**
+   * The cache of constant properties or {@code null} when not cached.
+   */
+  private final FailFastDatabaseMetaDataCache cache;
+
   public FailFastDatabaseMetaDataImpl(FailFastConnectionImpl failFastConnection, DatabaseMetaData wrapped) {
     super(failFastConnection, wrapped);
+    cache = failFastConnection.getDatabaseMetaDataCache();
   }
 
   @Override
@@ -47,36 +60,102 @@ public class FailFastDatabaseMetaDataImpl extends DatabaseMetaDataWrapperImpl {
     return (FailFastConnectionImpl) super.getConnectionWrapper();
   }
 
-  @Override
-  public boolean allProceduresAreCallable() throws SQLException {
+  /**
+   * Loads a property from the wrapped metadata.
+   */
+  @FunctionalInterface
+  private interface PropertyLoader<T> {
+    T load() throws SQLException;
+  }
+
+  /**
+   * Gets a property from the cache, loading it from the wrapped metadata when not yet cached.
+   */
+  @SuppressWarnings("unchecked")
+  private <T> T cached(Property property, PropertyLoader<T> loader) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
     ffConn.failFastSQLException();
+    if (cache != null) {
+      Object value = cache.get(property);
+      if (value != null) {
+        return value == FailFastDatabaseMetaDataCache.NULL ? null : (T) value;
+      }
+    }
     try {
-      return super.allProceduresAreCallable();
+      T value = loader.load();
+      if (cache != null) {
+        cache.put(property, value);
+      }
+      return value;
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
       throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
     }
   }
 
-  @Override
-  public boolean allTablesAreSelectable() throws SQLException {
+  /**
+   * Reads and closes a result for the schema cache.
+   */
+  private static FailFastSchemaCache.Table read(ResultSet results) throws SQLException {
+    try (ResultSet r = results) {
+      return FailFastSchemaCache.Table.read(r);
+    }
+  }
+
+  /**
+   * Wraps a new result set over a result from the schema cache.
+   */
+  private FailFastResultSetImpl newResultSet(FailFastSchemaCache.Table table) {
+    return getConnectionWrapper().newResultSetWrapper(null, table.newResultSet());
+  }
+
+  /**
+   * Reads all tables and columns of a schema in two requests, {@link #getTables(java.lang.String, java.lang.String,
+   * java.lang.String, java.lang.String[]) getTables} and {@link #getColumns(java.lang.String, java.lang.String,
+   * java.lang.String, java.lang.String) getColumns}, so that later requests for tables and columns within the same
+   * catalog and schema are answered from memory.  Patterns are then matched in memory, comparing names by case as
+   * stored.
+   *
+   * <p>Does nothing when the {@linkplain FailFastConnection#isFailFastSchemaCacheEnabled() schema cache} is
+   * disabled.</p>
+   *
+   * @param  catalog  The catalog, {@code ""} for tables without a catalog, or {@code null} for all catalogs
+   * @param  schemaPattern  The schema pattern, {@code ""} for tables without a schema, or {@code null} for all schemas
+   */
+  public void prefetchSchema(String catalog, String schemaPattern) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
     ffConn.failFastSQLException();
     try {
-      return super.allTablesAreSelectable();
+      FailFastSchemaCache schemaCache = ffConn.getSchemaCache();
+      if (schemaCache != null) {
+        schemaCache.prefetch(
+            catalog,
+            schemaPattern,
+            getSearchStringEscape(),
+            () -> read(super.getTables(catalog, schemaPattern, "%", null)),
+            () -> read(super.getColumns(catalog, schemaPattern, "%", "%"))
+        );
+      }
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
       throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
     }
   }
 
+  /**
+   * Discards all results held by the {@linkplain FailFastConnection#isFailFastSchemaCacheEnabled() schema cache},
+   * such as after DDL executed by another connection.
+   */
+  public void clearSchemaCache() {
+    getConnectionWrapper().clearSchemaCache();
+  }
+
   @Override
-  public String getURL() throws SQLException {
+  public boolean allProceduresAreCallable() throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
     ffConn.failFastSQLException();
     try {
-      return super.getURL();
+      return super.allProceduresAreCallable();
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
       throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
@@ -84,11 +163,11 @@ public class FailFastDatabaseMetaDataImpl extends DatabaseMetaDataWrapperImpl {
   }
 
   @Override
-  public String getUserName() throws SQLException {
+  public boolean allTablesAreSelectable() throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
     ffConn.failFastSQLException();
     try {
-      return super.getUserName();
+      return super.allTablesAreSelectable();
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
       throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
@@ -96,11 +175,11 @@ public class FailFastDatabaseMetaDataImpl extends DatabaseMetaDataWrapperImpl {
   }
 
   @Override
-  public boolean isReadOnly() throws SQLException {
+  public String getURL() throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
     ffConn.failFastSQLException();
     try {
-      return super.isReadOnly();
+      return super.getURL();
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
       throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
@@ -108,11 +187,11 @@ public class FailFastDatabaseMetaDataImpl extends DatabaseMetaDataWrapperImpl {
   }
 
   @Override
-  public boolean nullsAreSortedHigh() throws SQLException {
+  public String getUserName() throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
     ffConn.failFastSQLException();
     try {
-      return super.nullsAreSortedHigh();
+      return super.getUserName();
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
       throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
@@ -120,87 +199,55 @@ public class FailFastDatabaseMetaDataImpl extends DatabaseMetaDataWrapperImpl {
   }
 
   @Override
-  public boolean nullsAreSortedLow() throws SQLException {
+  public boolean isReadOnly() throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
     ffConn.failFastSQLException();
     try {
-      return super.nullsAreSortedLow();
+      return super.isReadOnly();
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
       throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
     }
   }
 
+  @Override
+  public boolean nullsAreSortedHigh() throws SQLException {
+    return cached(Property.NULLS_ARE_SORTED_HIGH, super::nullsAreSortedHigh);
+  }
+
+  @Override
+  public boolean nullsAreSortedLow() throws SQLException {
+    return cached(Property.NULLS_ARE_SORTED_LOW, super::nullsAreSortedLow);
+  }
+
   @Override
   public boolean nullsAreSortedAtStart() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.nullsAreSortedAtStart();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.NULLS_ARE_SORTED_AT_START, super::nullsAreSortedAtStart);
   }
 
   @Override
   public boolean nullsAreSortedAtEnd() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.nullsAreSortedAtEnd();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.NULLS_ARE_SORTED_AT_END, super::nullsAreSortedAtEnd);
   }
 
   @Override
   public String getDatabaseProductName() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.getDatabaseProductName();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.GET_DATABASE_PRODUCT_NAME, super::getDatabaseProductName);
   }
 
   @Override
   public String getDatabaseProductVersion() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.getDatabaseProductVersion();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.GET_DATABASE_PRODUCT_VERSION, super::getDatabaseProductVersion);
   }
 
   @Override
   public String getDriverName() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.getDriverName();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.GET_DRIVER_NAME, super::getDriverName);
   }
 
   @Override
   public String getDriverVersion() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.getDriverVersion();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.GET_DRIVER_VERSION, super::getDriverVersion);
   }
 
   @Override
@@ -225,278 +272,117 @@ public class FailFastDatabaseMetaDataImpl extends DatabaseMetaDataWrapperImpl {
 
   @Override
   public boolean usesLocalFiles() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.usesLocalFiles();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.USES_LOCAL_FILES, super::usesLocalFiles);
   }
 
   @Override
   public boolean usesLocalFilePerTable() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.usesLocalFilePerTable();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.USES_LOCAL_FILE_PER_TABLE, super::usesLocalFilePerTable);
   }
 
   @Override
   public boolean supportsMixedCaseIdentifiers() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.supportsMixedCaseIdentifiers();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.SUPPORTS_MIXED_CASE_IDENTIFIERS, super::supportsMixedCaseIdentifiers);
   }
 
   @Override
   public boolean storesUpperCaseIdentifiers() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.storesUpperCaseIdentifiers();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.STORES_UPPER_CASE_IDENTIFIERS, super::storesUpperCaseIdentifiers);
   }
 
   @Override
   public boolean storesLowerCaseIdentifiers() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.storesLowerCaseIdentifiers();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.STORES_LOWER_CASE_IDENTIFIERS, super::storesLowerCaseIdentifiers);
   }
 
   @Override
   public boolean storesMixedCaseIdentifiers() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.storesMixedCaseIdentifiers();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.STORES_MIXED_CASE_IDENTIFIERS, super::storesMixedCaseIdentifiers);
   }
 
   @Override
   public boolean supportsMixedCaseQuotedIdentifiers() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.supportsMixedCaseQuotedIdentifiers();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.SUPPORTS_MIXED_CASE_QUOTED_IDENTIFIERS, super::supportsMixedCaseQuotedIdentifiers);
   }
 
   @Override
   public boolean storesUpperCaseQuotedIdentifiers() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.storesUpperCaseQuotedIdentifiers();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.STORES_UPPER_CASE_QUOTED_IDENTIFIERS, super::storesUpperCaseQuotedIdentifiers);
   }
 
   @Override
   public boolean storesLowerCaseQuotedIdentifiers() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.storesLowerCaseQuotedIdentifiers();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.STORES_LOWER_CASE_QUOTED_IDENTIFIERS, super::storesLowerCaseQuotedIdentifiers);
   }
 
   @Override
   public boolean storesMixedCaseQuotedIdentifiers() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.storesMixedCaseQuotedIdentifiers();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.STORES_MIXED_CASE_QUOTED_IDENTIFIERS, super::storesMixedCaseQuotedIdentifiers);
   }
 
   @Override
   public String getIdentifierQuoteString() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.getIdentifierQuoteString();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.GET_IDENTIFIER_QUOTE_STRING, super::getIdentifierQuoteString);
   }
 
   @Override
   public String getSQLKeywords() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.getSQLKeywords();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.GET_SQL_KEYWORDS, super::getSQLKeywords);
   }
 
   @Override
   public String getNumericFunctions() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.getNumericFunctions();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.GET_NUMERIC_FUNCTIONS, super::getNumericFunctions);
   }
 
   @Override
   public String getStringFunctions() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.getStringFunctions();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.GET_STRING_FUNCTIONS, super::getStringFunctions);
   }
 
   @Override
   public String getSystemFunctions() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.getSystemFunctions();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.GET_SYSTEM_FUNCTIONS, super::getSystemFunctions);
   }
 
   @Override
   public String getTimeDateFunctions() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.getTimeDateFunctions();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.GET_TIME_DATE_FUNCTIONS, super::getTimeDateFunctions);
   }
 
   @Override
   public String getSearchStringEscape() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.getSearchStringEscape();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.GET_SEARCH_STRING_ESCAPE, super::getSearchStringEscape);
   }
 
   @Override
   public String getExtraNameCharacters() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.getExtraNameCharacters();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.GET_EXTRA_NAME_CHARACTERS, super::getExtraNameCharacters);
   }
 
   @Override
   public boolean supportsAlterTableWithAddColumn() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.supportsAlterTableWithAddColumn();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.SUPPORTS_ALTER_TABLE_WITH_ADD_COLUMN, super::supportsAlterTableWithAddColumn);
   }
 
   @Override
   public boolean supportsAlterTableWithDropColumn() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.supportsAlterTableWithDropColumn();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.SUPPORTS_ALTER_TABLE_WITH_DROP_COLUMN, super::supportsAlterTableWithDropColumn);
   }
 
   @Override
   public boolean supportsColumnAliasing() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.supportsColumnAliasing();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.SUPPORTS_COLUMN_ALIASING, super::supportsColumnAliasing);
   }
 
   @Override
   public boolean nullPlusNonNullIsNull() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.nullPlusNonNullIsNull();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.NULL_PLUS_NON_NULL_IS_NULL, super::nullPlusNonNullIsNull);
   }
 
   @Override
   public boolean supportsConvert() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.supportsConvert();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.SUPPORTS_CONVERT, super::supportsConvert);
   }
 
   @Override
@@ -513,890 +399,372 @@ public class FailFastDatabaseMetaDataImpl extends DatabaseMetaDataWrapperImpl {
 
   @Override
   public boolean supportsTableCorrelationNames() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.supportsTableCorrelationNames();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.SUPPORTS_TABLE_CORRELATION_NAMES, super::supportsTableCorrelationNames);
   }
 
   @Override
   public boolean supportsDifferentTableCorrelationNames() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.supportsDifferentTableCorrelationNames();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.SUPPORTS_DIFFERENT_TABLE_CORRELATION_NAMES, super::supportsDifferentTableCorrelationNames);
   }
 
   @Override
   public boolean supportsExpressionsInOrderBy() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.supportsExpressionsInOrderBy();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.SUPPORTS_EXPRESSIONS_IN_ORDER_BY, super::supportsExpressionsInOrderBy);
   }
 
   @Override
   public boolean supportsOrderByUnrelated() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.supportsOrderByUnrelated();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.SUPPORTS_ORDER_BY_UNRELATED, super::supportsOrderByUnrelated);
   }
 
   @Override
   public boolean supportsGroupBy() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.supportsGroupBy();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.SUPPORTS_GROUP_BY, super::supportsGroupBy);
   }
 
   @Override
   public boolean supportsGroupByUnrelated() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.supportsGroupByUnrelated();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.SUPPORTS_GROUP_BY_UNRELATED, super::supportsGroupByUnrelated);
   }
 
   @Override
   public boolean supportsGroupByBeyondSelect() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.supportsGroupByBeyondSelect();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.SUPPORTS_GROUP_BY_BEYOND_SELECT, super::supportsGroupByBeyondSelect);
   }
 
   @Override
   public boolean supportsLikeEscapeClause() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.supportsLikeEscapeClause();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.SUPPORTS_LIKE_ESCAPE_CLAUSE, super::supportsLikeEscapeClause);
   }
 
   @Override
   public boolean supportsMultipleResultSets() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.supportsMultipleResultSets();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.SUPPORTS_MULTIPLE_RESULT_SETS, super::supportsMultipleResultSets);
   }
 
   @Override
   public boolean supportsMultipleTransactions() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.supportsMultipleTransactions();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.SUPPORTS_MULTIPLE_TRANSACTIONS, super::supportsMultipleTransactions);
   }
 
   @Override
   public boolean supportsNonNullableColumns() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.supportsNonNullableColumns();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.SUPPORTS_NON_NULLABLE_COLUMNS, super::supportsNonNullableColumns);
   }
 
   @Override
   public boolean supportsMinimumSQLGrammar() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.supportsMinimumSQLGrammar();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.SUPPORTS_MINIMUM_SQL_GRAMMAR, super::supportsMinimumSQLGrammar);
   }
 
   @Override
   public boolean supportsCoreSQLGrammar() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.supportsCoreSQLGrammar();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.SUPPORTS_CORE_SQL_GRAMMAR, super::supportsCoreSQLGrammar);
   }
 
   @Override
   public boolean supportsExtendedSQLGrammar() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.supportsExtendedSQLGrammar();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.SUPPORTS_EXTENDED_SQL_GRAMMAR, super::supportsExtendedSQLGrammar);
   }
 
   @Override
   public boolean supportsANSI92EntryLevelSQL() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.supportsANSI92EntryLevelSQL();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.SUPPORTS_ANSI92_ENTRY_LEVEL_SQL, super::supportsANSI92EntryLevelSQL);
   }
 
   @Override
   public boolean supportsANSI92IntermediateSQL() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.supportsANSI92IntermediateSQL();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.SUPPORTS_ANSI92_INTERMEDIATE_SQL, super::supportsANSI92IntermediateSQL);
   }
 
   @Override
   public boolean supportsANSI92FullSQL() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.supportsANSI92FullSQL();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.SUPPORTS_ANSI92_FULL_SQL, super::supportsANSI92FullSQL);
   }
 
   @Override
   public boolean supportsIntegrityEnhancementFacility() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.supportsIntegrityEnhancementFacility();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.SUPPORTS_INTEGRITY_ENHANCEMENT_FACILITY, super::supportsIntegrityEnhancementFacility);
   }
 
   @Override
   public boolean supportsOuterJoins() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.supportsOuterJoins();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.SUPPORTS_OUTER_JOINS, super::supportsOuterJoins);
   }
 
   @Override
   public boolean supportsFullOuterJoins() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.supportsFullOuterJoins();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.SUPPORTS_FULL_OUTER_JOINS, super::supportsFullOuterJoins);
   }
 
   @Override
   public boolean supportsLimitedOuterJoins() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.supportsLimitedOuterJoins();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.SUPPORTS_LIMITED_OUTER_JOINS, super::supportsLimitedOuterJoins);
   }
 
   @Override
   public String getSchemaTerm() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.getSchemaTerm();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.GET_SCHEMA_TERM, super::getSchemaTerm);
   }
 
   @Override
   public String getProcedureTerm() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.getProcedureTerm();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.GET_PROCEDURE_TERM, super::getProcedureTerm);
   }
 
   @Override
   public String getCatalogTerm() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.getCatalogTerm();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.GET_CATALOG_TERM, super::getCatalogTerm);
   }
 
   @Override
   public boolean isCatalogAtStart() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.isCatalogAtStart();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.IS_CATALOG_AT_START, super::isCatalogAtStart);
   }
 
   @Override
   public String getCatalogSeparator() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.getCatalogSeparator();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.GET_CATALOG_SEPARATOR, super::getCatalogSeparator);
   }
 
   @Override
   public boolean supportsSchemasInDataManipulation() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.supportsSchemasInDataManipulation();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.SUPPORTS_SCHEMAS_IN_DATA_MANIPULATION, super::supportsSchemasInDataManipulation);
   }
 
   @Override
   public boolean supportsSchemasInProcedureCalls() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.supportsSchemasInProcedureCalls();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.SUPPORTS_SCHEMAS_IN_PROCEDURE_CALLS, super::supportsSchemasInProcedureCalls);
   }
 
   @Override
   public boolean supportsSchemasInTableDefinitions() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.supportsSchemasInTableDefinitions();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.SUPPORTS_SCHEMAS_IN_TABLE_DEFINITIONS, super::supportsSchemasInTableDefinitions);
   }
 
   @Override
   public boolean supportsSchemasInIndexDefinitions() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.supportsSchemasInIndexDefinitions();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.SUPPORTS_SCHEMAS_IN_INDEX_DEFINITIONS, super::supportsSchemasInIndexDefinitions);
   }
 
   @Override
   public boolean supportsSchemasInPrivilegeDefinitions() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.supportsSchemasInPrivilegeDefinitions();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.SUPPORTS_SCHEMAS_IN_PRIVILEGE_DEFINITIONS, super::supportsSchemasInPrivilegeDefinitions);
   }
 
   @Override
   public boolean supportsCatalogsInDataManipulation() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.supportsCatalogsInDataManipulation();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.SUPPORTS_CATALOGS_IN_DATA_MANIPULATION, super::supportsCatalogsInDataManipulation);
   }
 
   @Override
   public boolean supportsCatalogsInProcedureCalls() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.supportsCatalogsInProcedureCalls();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.SUPPORTS_CATALOGS_IN_PROCEDURE_CALLS, super::supportsCatalogsInProcedureCalls);
   }
 
   @Override
   public boolean supportsCatalogsInTableDefinitions() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.supportsCatalogsInTableDefinitions();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.SUPPORTS_CATALOGS_IN_TABLE_DEFINITIONS, super::supportsCatalogsInTableDefinitions);
   }
 
   @Override
   public boolean supportsCatalogsInIndexDefinitions() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.supportsCatalogsInIndexDefinitions();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.SUPPORTS_CATALOGS_IN_INDEX_DEFINITIONS, super::supportsCatalogsInIndexDefinitions);
   }
 
   @Override
   public boolean supportsCatalogsInPrivilegeDefinitions() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.supportsCatalogsInPrivilegeDefinitions();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.SUPPORTS_CATALOGS_IN_PRIVILEGE_DEFINITIONS, super::supportsCatalogsInPrivilegeDefinitions);
   }
 
   @Override
   public boolean supportsPositionedDelete() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.supportsPositionedDelete();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.SUPPORTS_POSITIONED_DELETE, super::supportsPositionedDelete);
   }
 
   @Override
   public boolean supportsPositionedUpdate() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.supportsPositionedUpdate();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.SUPPORTS_POSITIONED_UPDATE, super::supportsPositionedUpdate);
   }
 
   @Override
   public boolean supportsSelectForUpdate() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.supportsSelectForUpdate();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.SUPPORTS_SELECT_FOR_UPDATE, super::supportsSelectForUpdate);
   }
 
   @Override
   public boolean supportsStoredProcedures() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.supportsStoredProcedures();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.SUPPORTS_STORED_PROCEDURES, super::supportsStoredProcedures);
   }
 
   @Override
   public boolean supportsSubqueriesInComparisons() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.supportsSubqueriesInComparisons();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.SUPPORTS_SUBQUERIES_IN_COMPARISONS, super::supportsSubqueriesInComparisons);
   }
 
   @Override
   public boolean supportsSubqueriesInExists() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.supportsSubqueriesInExists();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.SUPPORTS_SUBQUERIES_IN_EXISTS, super::supportsSubqueriesInExists);
   }
 
   @Override
   public boolean supportsSubqueriesInIns() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.supportsSubqueriesInIns();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.SUPPORTS_SUBQUERIES_IN_INS, super::supportsSubqueriesInIns);
   }
 
   @Override
   public boolean supportsSubqueriesInQuantifieds() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.supportsSubqueriesInQuantifieds();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.SUPPORTS_SUBQUERIES_IN_QUANTIFIEDS, super::supportsSubqueriesInQuantifieds);
   }
 
   @Override
   public boolean supportsCorrelatedSubqueries() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.supportsCorrelatedSubqueries();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.SUPPORTS_CORRELATED_SUBQUERIES, super::supportsCorrelatedSubqueries);
   }
 
   @Override
   public boolean supportsUnion() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.supportsUnion();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.SUPPORTS_UNION, super::supportsUnion);
   }
 
   @Override
   public boolean supportsUnionAll() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.supportsUnionAll();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.SUPPORTS_UNION_ALL, super::supportsUnionAll);
   }
 
   @Override
   public boolean supportsOpenCursorsAcrossCommit() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.supportsOpenCursorsAcrossCommit();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.SUPPORTS_OPEN_CURSORS_ACROSS_COMMIT, super::supportsOpenCursorsAcrossCommit);
   }
 
   @Override
   public boolean supportsOpenCursorsAcrossRollback() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.supportsOpenCursorsAcrossRollback();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.SUPPORTS_OPEN_CURSORS_ACROSS_ROLLBACK, super::supportsOpenCursorsAcrossRollback);
   }
 
   @Override
   public boolean supportsOpenStatementsAcrossCommit() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.supportsOpenStatementsAcrossCommit();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.SUPPORTS_OPEN_STATEMENTS_ACROSS_COMMIT, super::supportsOpenStatementsAcrossCommit);
   }
 
   @Override
   public boolean supportsOpenStatementsAcrossRollback() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.supportsOpenStatementsAcrossRollback();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.SUPPORTS_OPEN_STATEMENTS_ACROSS_ROLLBACK, super::supportsOpenStatementsAcrossRollback);
   }
 
   @Override
   public int getMaxBinaryLiteralLength() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.getMaxBinaryLiteralLength();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.GET_MAX_BINARY_LITERAL_LENGTH, super::getMaxBinaryLiteralLength);
   }
 
   @Override
   public int getMaxCharLiteralLength() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.getMaxCharLiteralLength();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.GET_MAX_CHAR_LITERAL_LENGTH, super::getMaxCharLiteralLength);
   }
 
   @Override
   public int getMaxColumnNameLength() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.getMaxColumnNameLength();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.GET_MAX_COLUMN_NAME_LENGTH, super::getMaxColumnNameLength);
   }
 
   @Override
   public int getMaxColumnsInGroupBy() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.getMaxColumnsInGroupBy();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.GET_MAX_COLUMNS_IN_GROUP_BY, super::getMaxColumnsInGroupBy);
   }
 
   @Override
   public int getMaxColumnsInIndex() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.getMaxColumnsInIndex();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.GET_MAX_COLUMNS_IN_INDEX, super::getMaxColumnsInIndex);
   }
 
   @Override
   public int getMaxColumnsInOrderBy() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.getMaxColumnsInOrderBy();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.GET_MAX_COLUMNS_IN_ORDER_BY, super::getMaxColumnsInOrderBy);
   }
 
   @Override
   public int getMaxColumnsInSelect() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.getMaxColumnsInSelect();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.GET_MAX_COLUMNS_IN_SELECT, super::getMaxColumnsInSelect);
   }
 
   @Override
   public int getMaxColumnsInTable() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.getMaxColumnsInTable();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.GET_MAX_COLUMNS_IN_TABLE, super::getMaxColumnsInTable);
   }
 
   @Override
   public int getMaxConnections() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.getMaxConnections();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.GET_MAX_CONNECTIONS, super::getMaxConnections);
   }
 
   @Override
   public int getMaxCursorNameLength() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.getMaxCursorNameLength();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
-  }
-
-  @Override
-  public int getMaxIndexLength() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.getMaxIndexLength();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.GET_MAX_CURSOR_NAME_LENGTH, super::getMaxCursorNameLength);
+  }
+
+  @Override
+  public int getMaxIndexLength() throws SQLException {
+    return cached(Property.GET_MAX_INDEX_LENGTH, super::getMaxIndexLength);
   }
 
   @Override
   public int getMaxSchemaNameLength() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.getMaxSchemaNameLength();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.GET_MAX_SCHEMA_NAME_LENGTH, super::getMaxSchemaNameLength);
   }
 
   @Override
   public int getMaxProcedureNameLength() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.getMaxProcedureNameLength();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.GET_MAX_PROCEDURE_NAME_LENGTH, super::getMaxProcedureNameLength);
   }
 
   @Override
   public int getMaxCatalogNameLength() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.getMaxCatalogNameLength();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.GET_MAX_CATALOG_NAME_LENGTH, super::getMaxCatalogNameLength);
   }
 
   @Override
   public int getMaxRowSize() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.getMaxRowSize();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.GET_MAX_ROW_SIZE, super::getMaxRowSize);
   }
 
   @Override
   public boolean doesMaxRowSizeIncludeBlobs() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.doesMaxRowSizeIncludeBlobs();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.DOES_MAX_ROW_SIZE_INCLUDE_BLOBS, super::doesMaxRowSizeIncludeBlobs);
   }
 
   @Override
   public int getMaxStatementLength() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.getMaxStatementLength();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.GET_MAX_STATEMENT_LENGTH, super::getMaxStatementLength);
   }
 
   @Override
   public int getMaxStatements() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.getMaxStatements();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.GET_MAX_STATEMENTS, super::getMaxStatements);
   }
 
   @Override
   public int getMaxTableNameLength() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.getMaxTableNameLength();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.GET_MAX_TABLE_NAME_LENGTH, super::getMaxTableNameLength);
   }
 
   @Override
   public int getMaxTablesInSelect() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.getMaxTablesInSelect();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.GET_MAX_TABLES_IN_SELECT, super::getMaxTablesInSelect);
   }
 
   @Override
   public int getMaxUserNameLength() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.getMaxUserNameLength();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.GET_MAX_USER_NAME_LENGTH, super::getMaxUserNameLength);
   }
 
   @Override
   public int getDefaultTransactionIsolation() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.getDefaultTransactionIsolation();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.GET_DEFAULT_TRANSACTION_ISOLATION, super::getDefaultTransactionIsolation);
   }
 
   @Override
   public boolean supportsTransactions() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.supportsTransactions();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.SUPPORTS_TRANSACTIONS, super::supportsTransactions);
   }
 
   @Override
@@ -1413,50 +781,28 @@ public class FailFastDatabaseMetaDataImpl extends DatabaseMetaDataWrapperImpl {
 
   @Override
   public boolean supportsDataDefinitionAndDataManipulationTransactions() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.supportsDataDefinitionAndDataManipulationTransactions();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(
+        Property.SUPPORTS_DATA_DEFINITION_AND_DATA_MANIPULATION_TRANSACTIONS,
+        super::supportsDataDefinitionAndDataManipulationTransactions
+    );
   }
 
   @Override
   public boolean supportsDataManipulationTransactionsOnly() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.supportsDataManipulationTransactionsOnly();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(
+        Property.SUPPORTS_DATA_MANIPULATION_TRANSACTIONS_ONLY,
+        super::supportsDataManipulationTransactionsOnly
+    );
   }
 
   @Override
   public boolean dataDefinitionCausesTransactionCommit() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.dataDefinitionCausesTransactionCommit();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.DATA_DEFINITION_CAUSES_TRANSACTION_COMMIT, super::dataDefinitionCausesTransactionCommit);
   }
 
   @Override
   public boolean dataDefinitionIgnoredInTransactions() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.dataDefinitionIgnoredInTransactions();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.DATA_DEFINITION_IGNORED_IN_TRANSACTIONS, super::dataDefinitionIgnoredInTransactions);
   }
 
   @Override
@@ -1488,6 +834,18 @@ public class FailFastDatabaseMetaDataImpl extends DatabaseMetaDataWrapperImpl {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
     ffConn.failFastSQLException();
     try {
+      FailFastSchemaCache schemaCache = ffConn.getSchemaCache();
+      if (schemaCache != null) {
+        return newResultSet(
+            schemaCache.getTables(
+                catalog,
+                schemaPattern,
+                tableNamePattern,
+                types,
+                () -> read(super.getTables(catalog, schemaPattern, tableNamePattern, types))
+            )
+        );
+      }
       return (FailFastResultSetImpl) super.getTables(catalog, schemaPattern, tableNamePattern, types);
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
@@ -1536,6 +894,18 @@ public class FailFastDatabaseMetaDataImpl extends DatabaseMetaDataWrapperImpl {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
     ffConn.failFastSQLException();
     try {
+      FailFastSchemaCache schemaCache = ffConn.getSchemaCache();
+      if (schemaCache != null) {
+        return newResultSet(
+            schemaCache.getColumns(
+                catalog,
+                schemaPattern,
+                tableNamePattern,
+                columnNamePattern,
+                () -> read(super.getColumns(catalog, schemaPattern, tableNamePattern, columnNamePattern))
+            )
+        );
+      }
       return (FailFastResultSetImpl) super.getColumns(catalog, schemaPattern, tableNamePattern, columnNamePattern);
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
@@ -1596,6 +966,15 @@ public class FailFastDatabaseMetaDataImpl extends DatabaseMetaDataWrapperImpl {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
     ffConn.failFastSQLException();
     try {
+      FailFastSchemaCache schemaCache = ffConn.getSchemaCache();
+      if (schemaCache != null) {
+        return newResultSet(
+            schemaCache.get(
+                () -> read(super.getPrimaryKeys(catalog, schema, table)),
+                "getPrimaryKeys", catalog, schema, table
+            )
+        );
+      }
       return (FailFastResultSetImpl) super.getPrimaryKeys(catalog, schema, table);
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
@@ -1608,6 +987,15 @@ public class FailFastDatabaseMetaDataImpl extends DatabaseMetaDataWrapperImpl {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
     ffConn.failFastSQLException();
     try {
+      FailFastSchemaCache schemaCache = ffConn.getSchemaCache();
+      if (schemaCache != null) {
+        return newResultSet(
+            schemaCache.get(
+                () -> read(super.getImportedKeys(catalog, schema, table)),
+                "getImportedKeys", catalog, schema, table
+            )
+        );
+      }
       return (FailFastResultSetImpl) super.getImportedKeys(catalog, schema, table);
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
@@ -1656,6 +1044,15 @@ public class FailFastDatabaseMetaDataImpl extends DatabaseMetaDataWrapperImpl {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
     ffConn.failFastSQLException();
     try {
+      FailFastSchemaCache schemaCache = ffConn.getSchemaCache();
+      if (schemaCache != null) {
+        return newResultSet(
+            schemaCache.get(
+                () -> read(super.getIndexInfo(catalog, schema, table, unique, approximate)),
+                "getIndexInfo", catalog, schema, table, unique, approximate
+            )
+        );
+      }
       return (FailFastResultSetImpl) super.getIndexInfo(catalog, schema, table, unique, approximate);
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
@@ -1797,14 +1194,7 @@ public class FailFastDatabaseMetaDataImpl extends DatabaseMetaDataWrapperImpl {
 
   @Override
   public boolean supportsBatchUpdates() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.supportsBatchUpdates();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.SUPPORTS_BATCH_UPDATES, super::supportsBatchUpdates);
   }
 
   @Override
@@ -1831,50 +1221,22 @@ public class FailFastDatabaseMetaDataImpl extends DatabaseMetaDataWrapperImpl {
 
   @Override
   public boolean supportsSavepoints() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.supportsSavepoints();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.SUPPORTS_SAVEPOINTS, super::supportsSavepoints);
   }
 
   @Override
   public boolean supportsNamedParameters() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.supportsNamedParameters();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.SUPPORTS_NAMED_PARAMETERS, super::supportsNamedParameters);
   }
 
   @Override
   public boolean supportsMultipleOpenResults() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.supportsMultipleOpenResults();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.SUPPORTS_MULTIPLE_OPEN_RESULTS, super::supportsMultipleOpenResults);
   }
 
   @Override
   public boolean supportsGetGeneratedKeys() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.supportsGetGeneratedKeys();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.SUPPORTS_GET_GENERATED_KEYS, super::supportsGetGeneratedKeys);
   }
 
   @Override
@@ -1927,110 +1289,47 @@ public class FailFastDatabaseMetaDataImpl extends DatabaseMetaDataWrapperImpl {
 
   @Override
   public int getResultSetHoldability() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.getResultSetHoldability();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.GET_RESULT_SET_HOLDABILITY, super::getResultSetHoldability);
   }
 
   @Override
   public int getDatabaseMajorVersion() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.getDatabaseMajorVersion();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.GET_DATABASE_MAJOR_VERSION, super::getDatabaseMajorVersion);
   }
 
   @Override
   public int getDatabaseMinorVersion() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.getDatabaseMinorVersion();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.GET_DATABASE_MINOR_VERSION, super::getDatabaseMinorVersion);
   }
 
   @Override
   public int getJDBCMajorVersion() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.getJDBCMajorVersion();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.GET_JDBC_MAJOR_VERSION, super::getJDBCMajorVersion);
   }
 
   @Override
   public int getJDBCMinorVersion() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.getJDBCMinorVersion();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.GET_JDBC_MINOR_VERSION, super::getJDBCMinorVersion);
   }
 
   @Override
   public int getSQLStateType() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.getSQLStateType();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.GET_SQL_STATE_TYPE, super::getSQLStateType);
   }
 
   @Override
   public boolean locatorsUpdateCopy() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.locatorsUpdateCopy();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.LOCATORS_UPDATE_COPY, super::locatorsUpdateCopy);
   }
 
   @Override
   public boolean supportsStatementPooling() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.supportsStatementPooling();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.SUPPORTS_STATEMENT_POOLING, super::supportsStatementPooling);
   }
 
   @Override
   public RowIdLifetime getRowIdLifetime() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.getRowIdLifetime();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.GET_ROW_ID_LIFETIME, super::getRowIdLifetime);
   }
 
   @Override
@@ -2047,26 +1346,12 @@ public class FailFastDatabaseMetaDataImpl extends DatabaseMetaDataWrapperImpl {
 
   @Override
   public boolean supportsStoredFunctionsUsingCallSyntax() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.supportsStoredFunctionsUsingCallSyntax();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.SUPPORTS_STORED_FUNCTIONS_USING_CALL_SYNTAX, super::supportsStoredFunctionsUsingCallSyntax);
   }
 
   @Override
   public boolean autoCommitFailureClosesAllResultSets() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.autoCommitFailureClosesAllResultSets();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.AUTO_COMMIT_FAILURE_CLOSES_ALL_RESULT_SETS, super::autoCommitFailureClosesAllResultSets);
   }
 
   @Override
@@ -2119,49 +1404,21 @@ public class FailFastDatabaseMetaDataImpl extends DatabaseMetaDataWrapperImpl {
 
   @Override
   public boolean generatedKeyAlwaysReturned() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.generatedKeyAlwaysReturned();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.GENERATED_KEY_ALWAYS_RETURNED, super::generatedKeyAlwaysReturned);
   }
 
   @Override
   public long getMaxLogicalLobSize() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.getMaxLogicalLobSize();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.GET_MAX_LOGICAL_LOB_SIZE, super::getMaxLogicalLobSize);
   }
 
   @Override
   public boolean supportsRefCursors() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.supportsRefCursors();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.SUPPORTS_REF_CURSORS, super::supportsRefCursors);
   }
 
   @Override
   public boolean supportsSharding() throws SQLException {
-    FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
-      return super.supportsSharding();
-    } catch (Throwable t) {
-      ffConn.addFailFastCause(t);
-      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
-    }
+    return cached(Property.SUPPORTS_SHARDING, super::supportsSharding);
   }
 }
@@ -1,6 +1,6 @@
 /*
  * ao-sql-failfast - Fail-fast JDBC wrapper.
- * Copyright (C) 2020, 2021, 2022  AO Industries, Inc.
+ * Copyright (C) 2020, 2021, 2022, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -23,10 +23,17 @@
 
 package com.aoapps.sql.failfast;
 
+import com.aoapps.lang.NullArgumentException;
+import com.aoapps.lang.Throwables;
+import com.aoapps.sql.failfast.FailFastConnection.State;
 import com.aoapps.sql.wrapper.DriverWrapper;
 import java.sql.Connection;
 import java.sql.Driver;
 import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Makes {@linkplain Connection connections} obtained from other {@linkplain Driver drivers} perform in a
@@ -37,10 +44,417 @@ import java.sql.SQLException;
  */
 public abstract class FailFastDriver extends DriverWrapper {
 
+  private volatile FailFastConnection.ExceptionMode exceptionMode = FailFastConnection.ExceptionMode.SURROGATE;
+  private volatile FailFastConnection.CheckGranularity checkGranularity = FailFastConnection.CheckGranularity.CALL;
+  private volatile int statementCacheSize;
+  private volatile int streamBufferSize;
+  private volatile boolean schemaCacheEnabled;
+  private volatile boolean columnLabelIndexEnabled;
+  private volatile FailFastClassifier classifier = FailFastClassifier.DEFAULT;
+  private volatile FailFastMonitor monitor;
+
   protected FailFastDriver() {
     // Do nothing
   }
 
+  /**
+   * Gets how exceptions are created while enforcing a fail-fast state, for new connections.
+   *
+   * @return  The mode, {@link FailFastConnection.ExceptionMode#SURROGATE} by default.
+   *
+   * @see  FailFastConnection#getFailFastExceptionMode()
+   */
+  public FailFastConnection.ExceptionMode getExceptionMode() {
+    return exceptionMode;
+  }
+
+  /**
+   * Sets how exceptions are created while enforcing a fail-fast state, for new connections.  Existing connections are
+   * not changed.
+   *
+   * @param  exceptionMode  The new mode, not {@code null}
+   *
+   * @see  FailFastConnection#setFailFastExceptionMode(com.aoapps.sql.failfast.FailFastConnection.ExceptionMode)
+   */
+  public void setExceptionMode(FailFastConnection.ExceptionMode exceptionMode) {
+    this.exceptionMode = NullArgumentException.checkNotNull(exceptionMode, "exceptionMode");
+  }
+
+  /**
+   * Gets how often the fail-fast state is checked by statements and result sets, for new connections.
+   *
+   * @return  The granularity, {@link FailFastConnection.CheckGranularity#CALL} by default.
+   *
+   * @see  FailFastConnection#getFailFastCheckGranularity()
+   */
+  public FailFastConnection.CheckGranularity getCheckGranularity() {
+    return checkGranularity;
+  }
+
+  /**
+   * Sets how often the fail-fast state is checked by statements and result sets, for new connections.  Existing
+   * connections are not changed.
+   *
+   * @param  checkGranularity  The new granularity, not {@code null}
+   *
+   * @see  FailFastConnection#setFailFastCheckGranularity(com.aoapps.sql.failfast.FailFastConnection.CheckGranularity)
+   */
+  public void setCheckGranularity(FailFastConnection.CheckGranularity checkGranularity) {
+    this.checkGranularity = NullArgumentException.checkNotNull(checkGranularity, "checkGranularity");
+  }
+
+  /**
+   * Gets the maximum number of idle prepared statements cached by each new connection.
+   *
+   * @return  The size, {@code 0} by default, which disables the cache.
+   *
+   * @see  FailFastConnection#getFailFastStatementCacheSize()
+   */
+  public int getStatementCacheSize() {
+    return statementCacheSize;
+  }
+
+  /**
+   * Sets the maximum number of idle prepared statements cached by each new connection, where {@code 0} disables the
+   * cache.  Existing connections are not changed.
+   *
+   * @param  statementCacheSize  The new size, not negative
+   *
+   * @throws  IllegalArgumentException  when {@code statementCacheSize} is negative
+   *
+   * @see  FailFastConnection#setFailFastStatementCacheSize(int)
+   */
+  public void setStatementCacheSize(int statementCacheSize) throws IllegalArgumentException {
+    if (statementCacheSize < 0) {
+      throw new IllegalArgumentException("statementCacheSize < 0: " + statementCacheSize);
+    }
+    this.statementCacheSize = statementCacheSize;
+  }
+
+  /**
+   * Gets the size of the read-ahead buffer of the streams and readers of new connections.
+   *
+   * @return  The size, {@code 0} by default, which disables buffering.
+   *
+   * @see  FailFastConnection#getFailFastStreamBufferSize()
+   */
+  public int getStreamBufferSize() {
+    return streamBufferSize;
+  }
+
+  /**
+   * Sets the size of the read-ahead buffer of the streams and readers of new connections, where {@code 0} disables
+   * buffering.  Existing connections are not changed.
+   *
+   * @param  streamBufferSize  The new size, not negative
+   *
+   * @throws  IllegalArgumentException  when {@code streamBufferSize} is negative
+   *
+   * @see  FailFastConnection#setFailFastStreamBufferSize(int)
+   */
+  public void setStreamBufferSize(int streamBufferSize) throws IllegalArgumentException {
+    if (streamBufferSize < 0) {
+      throw new IllegalArgumentException("streamBufferSize < 0: " + streamBufferSize);
+    }
+    this.streamBufferSize = streamBufferSize;
+  }
+
+  /**
+   * Gets whether schema introspection results are cached by new connections.
+   *
+   * @return  {@code true} when cached, {@code false} by default.
+   *
+   * @see  FailFastConnection#isFailFastSchemaCacheEnabled()
+   */
+  public boolean isSchemaCacheEnabled() {
+    return schemaCacheEnabled;
+  }
+
+  /**
+   * Sets whether schema introspection results are cached by new connections.  Existing connections are not changed.
+   *
+   * @see  FailFastConnection#setFailFastSchemaCacheEnabled(boolean)
+   */
+  public void setSchemaCacheEnabled(boolean schemaCacheEnabled) {
+    this.schemaCacheEnabled = schemaCacheEnabled;
+  }
+
+  /**
+   * Gets whether the name-based getters of result sets resolve column labels through an index, for new connections.
+   *
+   * @return  {@code true} when indexed, {@code false} by default.
+   *
+   * @see  FailFastConnection#isFailFastColumnLabelIndexEnabled()
+   */
+  public boolean isColumnLabelIndexEnabled() {
+    return columnLabelIndexEnabled;
+  }
+
+  /**
+   * Sets whether the name-based getters of result sets resolve column labels through an index, for new connections.
+   * Existing connections are not changed.
+   *
+   * @see  FailFastConnection#setFailFastColumnLabelIndexEnabled(boolean)
+   */
+  public void setColumnLabelIndexEnabled(boolean columnLabelIndexEnabled) {
+    this.columnLabelIndexEnabled = columnLabelIndexEnabled;
+  }
+
+  /**
+   * Gets the classifier that determines the state of each cause, for new connections.
+   *
+   * @return  The classifier, {@link FailFastClassifier#DEFAULT} by default.
+   *
+   * @see  FailFastConnection#getFailFastClassifier()
+   */
+  public FailFastClassifier getClassifier() {
+    return classifier;
+  }
+
+  /**
+   * Sets the classifier that determines the state of each cause, for new connections.  Existing connections are not
+   * changed.
+   *
+   * @param  classifier  The new classifier, not {@code null}
+   *
+   * @see  FailFastConnection#setFailFastClassifier(com.aoapps.sql.failfast.FailFastClassifier)
+   */
+  public void setClassifier(FailFastClassifier classifier) {
+    this.classifier = NullArgumentException.checkNotNull(classifier, "classifier");
+  }
+
+  /**
+   * Gets the monitor that receives the fail-fast events of new connections.
+   *
+   * @return  The monitor or {@code null} when monitoring is disabled, which is the default.
+   *
+   * @see  FailFastConnection#getFailFastMonitor()
+   */
+  public FailFastMonitor getMonitor() {
+    return monitor;
+  }
+
+  /**
+   * Sets the monitor that receives the fail-fast events of new connections.  Existing connections are not changed.
+   * A single {@link FailFastMetrics} may be set to collect the metrics of all new connections.
+   *
+   * @param  monitor  The new monitor or {@code null} to disable monitoring
+   *
+   * @see  FailFastConnection#setFailFastMonitor(com.aoapps.sql.failfast.FailFastMonitor)
+   */
+  public void setMonitor(FailFastMonitor monitor) {
+    this.monitor = monitor;
+  }
+
+  /**
+   * The settings for new circuit breakers.
+   */
+  private static final class CircuitBreakerSettings {
+
+    private final int failureThreshold;
+    private final Duration window;
+    private final Duration openDuration;
+
+    private CircuitBreakerSettings(int failureThreshold, Duration window, Duration openDuration) {
+      this.failureThreshold = failureThreshold;
+      this.window = window;
+      this.openDuration = openDuration;
+    }
+  }
+
+  /**
+   * The settings for circuit breakers or {@code null} when disabled, which is the default.
+   */
+  private volatile CircuitBreakerSettings circuitBreakerSettings;
+
+  private final ConcurrentMap<String, FailFastCircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+
+  /**
+   * Enables a {@linkplain FailFastCircuitBreaker circuit breaker} shared by all new connections to the same URL.
+   * Replaces any existing circuit breakers.
+   *
+   * @param  failureThreshold  The number of connection failures within the window that opens the breaker
+   * @param  window  The window of time within which failures are counted
+   * @param  openDuration  How long the breaker stays open before allowing a probe connection
+   */
+  public void setCircuitBreaker(int failureThreshold, Duration window, Duration openDuration) {
+    if (failureThreshold < 1) {
+      throw new IllegalArgumentException("failureThreshold < 1: " + failureThreshold);
+    }
+    circuitBreakerSettings = new CircuitBreakerSettings(
+        failureThreshold,
+        NullArgumentException.checkNotNull(window, "window"),
+        NullArgumentException.checkNotNull(openDuration, "openDuration")
+    );
+    circuitBreakers.clear();
+  }
+
+  /**
+   * Disables circuit breakers for new connections.  Existing connections remain registered with their breaker, but
+   * the breaker is no longer used for new connections.
+   */
+  public void removeCircuitBreaker() {
+    circuitBreakerSettings = null;
+    circuitBreakers.clear();
+  }
+
+  /**
+   * Gets the circuit breaker for the given URL.
+   *
+   * @return  The circuit breaker or {@code null} when circuit breakers are disabled or there have been no
+   *          connections to the URL since enabled.
+   */
+  public FailFastCircuitBreaker getCircuitBreaker(String url) {
+    return circuitBreakers.get(url);
+  }
+
+  private volatile boolean databaseMetaDataCacheEnabled;
+
+  private final ConcurrentMap<String, FailFastDatabaseMetaDataCache> databaseMetaDataCaches = new ConcurrentHashMap<>();
+
+  /**
+   * Gets whether the constant {@linkplain java.sql.DatabaseMetaData database metadata} is cached for new connections.
+   *
+   * @return  {@code true} when cached, {@code false} by default.
+   *
+   * @see  #setDatabaseMetaDataCacheEnabled(boolean)
+   */
+  public boolean isDatabaseMetaDataCacheEnabled() {
+    return databaseMetaDataCacheEnabled;
+  }
+
+  /**
+   * Sets whether the constant {@linkplain java.sql.DatabaseMetaData database metadata} is cached for new connections.
+   * When enabled, the properties that do not change for the life of the database, such as {@code supports*},
+   * {@code getMax*}, and {@link java.sql.DatabaseMetaData#getIdentifierQuoteString()}, are loaded once per URL and
+   * shared by all new connections to the same URL.  Existing connections are not changed.
+   *
+   * <p>Disabling discards all cached metadata.</p>
+   *
+   * @see  #clearDatabaseMetaDataCache()
+   */
+  public void setDatabaseMetaDataCacheEnabled(boolean databaseMetaDataCacheEnabled) {
+    this.databaseMetaDataCacheEnabled = databaseMetaDataCacheEnabled;
+    if (!databaseMetaDataCacheEnabled) {
+      clearDatabaseMetaDataCache();
+    }
+  }
+
+  /**
+   * Discards all cached {@linkplain java.sql.DatabaseMetaData database metadata}, which is then loaded again on next
+   * use.  Call after a database is upgraded or reconfigured.
+   */
+  public void clearDatabaseMetaDataCache() {
+    for (FailFastDatabaseMetaDataCache cache : databaseMetaDataCaches.values()) {
+      cache.clear();
+    }
+    databaseMetaDataCaches.clear();
+  }
+
+  private volatile int statementMetaDataCacheSize;
+
+  private final ConcurrentMap<String, FailFastStatementMetaDataCache> statementMetaDataCaches =
+      new ConcurrentHashMap<>();
+
+  /**
+   * Gets the maximum number of SQL whose prepared statement metadata is cached per URL.
+   *
+   * @return  The size, {@code 0} by default, which disables the cache.
+   *
+   * @see  #setStatementMetaDataCacheSize(int)
+   */
+  public int getStatementMetaDataCacheSize() {
+    return statementMetaDataCacheSize;
+  }
+
+  /**
+   * Sets the maximum number of SQL whose prepared statement metadata is cached per URL, where {@code 0} disables the
+   * cache.  Replaces any existing caches for new connections.  Existing connections are not changed.
+   *
+   * <p>When enabled, {@link java.sql.PreparedStatement#getMetaData()} and
+   * {@link java.sql.PreparedStatement#getParameterMetaData()} are copied into immutable snapshots the first time they
+   * are requested for a given SQL.  Statements prepared with the same SQL, user, catalog, and schema by any new
+   * connection to the same URL are then answered from the snapshots, without asking the driver.  The cache is cleared
+   * when DDL is executed through any of these connections, and again when the DDL is committed.  A connection does not
+   * use the cache while it has uncommitted DDL.</p>
+   *
+   * <p>Parameter metadata properties failing with {@link java.sql.SQLFeatureNotSupportedException} are part of the
+   * snapshot.  Parameter metadata with any other failure is not cached.</p>
+   *
+   * @param  statementMetaDataCacheSize  The new size, not negative
+   *
+   * @throws  IllegalArgumentException  when {@code statementMetaDataCacheSize} is negative
+   */
+  public void setStatementMetaDataCacheSize(int statementMetaDataCacheSize) throws IllegalArgumentException {
+    if (statementMetaDataCacheSize < 0) {
+      throw new IllegalArgumentException("statementMetaDataCacheSize < 0: " + statementMetaDataCacheSize);
+    }
+    this.statementMetaDataCacheSize = statementMetaDataCacheSize;
+    statementMetaDataCaches.clear();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>When a {@linkplain FailFastDriver#setCircuitBreaker(int, java.time.Duration, java.time.Duration) circuit breaker}
+   * is enabled and open for the URL, fails immediately with a {@link java.sql.SQLTransientConnectionException}.</p>
+   *
+   * <p>When the {@linkplain #setDatabaseMetaDataCacheEnabled(boolean) database metadata cache} or
+   * {@linkplain #setStatementMetaDataCacheSize(int) statement metadata cache} is enabled, the connection shares the
+   * cache of its URL.</p>
+   */
+  @Override
+  public FailFastConnectionImpl connect(String url, Properties info) throws SQLException {
+    FailFastConnectionImpl conn = connectWithCircuitBreaker(url, info);
+    if (conn != null) {
+      if (databaseMetaDataCacheEnabled) {
+        conn.setDatabaseMetaDataCache(
+            databaseMetaDataCaches.computeIfAbsent(url, key -> new FailFastDatabaseMetaDataCache())
+        );
+      }
+      int size = statementMetaDataCacheSize;
+      if (size > 0) {
+        conn.setStatementMetaDataCache(
+            statementMetaDataCaches.computeIfAbsent(url, key -> new FailFastStatementMetaDataCache(size))
+        );
+      }
+    }
+    return conn;
+  }
+
+  private FailFastConnectionImpl connectWithCircuitBreaker(String url, Properties info) throws SQLException {
+    CircuitBreakerSettings settings = circuitBreakerSettings;
+    if (settings == null || !acceptsURL(url)) {
+      return (FailFastConnectionImpl) super.connect(url, info);
+    }
+    FailFastCircuitBreaker breaker = circuitBreakers.computeIfAbsent(
+        url,
+        key -> new FailFastCircuitBreaker(key, settings.failureThreshold, settings.window, settings.openDuration)
+    );
+    boolean probe = breaker.beforeConnect();
+    FailFastConnectionImpl conn;
+    try {
+      conn = (FailFastConnectionImpl) super.connect(url, info);
+    } catch (Throwable t) {
+      boolean connectionFailure = false;
+      try {
+        connectionFailure = FailFastConnectionImpl.classify(classifier, t) == State.CONNECTION_FAILURE;
+      } finally {
+        breaker.connectFailed(probe, connectionFailure);
+      }
+      throw Throwables.wrap(t, SQLException.class, SQLException::new);
+    }
+    if (conn == null) {
+      // Not connected, but not failed either: release the probe without counting a failure
+      if (probe) {
+        breaker.connectFailed(true, false);
+      }
+    } else {
+      breaker.connectSucceeded(conn, probe);
+    }
+    return conn;
+  }
+
   @Override
   protected FailFastConnectionImpl newConnectionWrapper(Connection connection) {
     return new FailFastConnectionImpl(this, connection);
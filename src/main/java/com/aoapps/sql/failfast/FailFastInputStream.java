@@ -1,6 +1,6 @@
 /*
  * ao-sql-failfast - Fail-fast JDBC wrapper.
- * Copyright (C) 2020, 2021, 2022  AO Industries, Inc.
+ * Copyright (C) 2020, 2021, 2022, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -30,17 +30,56 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Objects;
 
 /**
  * See {@link FailFastConnectionImpl}.
  *
+ * <p>When the connection has a {@linkplain FailFastConnection#getFailFastStreamBufferSize() stream buffer size}, bytes
+ * are read ahead from the wrapped stream into a buffer, with the fail-fast state checked once per buffer fill.  Bytes
+ * already in the buffer are returned without checking the state.  Mark and reset are then performed within the buffer,
+ * the same as {@link java.io.BufferedInputStream}, but only when {@linkplain #markSupported() supported} by the
+ * wrapped stream.</p>
+ *
  * @author  AO Industries, Inc.
  */
 @SuppressWarnings({"UseSpecificCatch", "TooBroadCatch"})
 public class FailFastInputStream extends InputStreamWrapper {
 
+  /**
+   * The size of the read-ahead buffer or {@code 0} when not buffered.
+   */
+  private final int bufferSize;
+
+  /**
+   * The read-ahead buffer, {@code null} until first filled and after returned to the connection.
+   */
+  private byte[] buf;
+
+  /**
+   * The position of the next byte to return from {@link #buf}.
+   */
+  private int pos;
+
+  /**
+   * One past the last valid byte in {@link #buf}.
+   */
+  private int count;
+
+  /**
+   * The position in {@link #buf} of the mark or {@code -1} when not marked.
+   */
+  private int markpos = -1;
+
+  /**
+   * The number of bytes that may be read after the mark before it is invalidated.
+   */
+  private int marklimit;
+
   public FailFastInputStream(FailFastConnectionImpl failFastConnection, InputStream wrapped) {
     super(failFastConnection, wrapped);
+    bufferSize = failFastConnection.getFailFastStreamBufferSize();
   }
 
   @Override
@@ -48,8 +87,68 @@ public class FailFastInputStream extends InputStreamWrapper {
     return (FailFastConnectionImpl) super.getConnectionWrapper();
   }
 
+  /**
+   * Reads more bytes from the wrapped stream into the buffer, checking the fail-fast state once for the whole fill.
+   * The bytes after the mark are kept until its limit is exceeded.
+   *
+   * @return  The number of bytes added or {@code -1} on end of stream
+   */
+  private int fill() throws IOException {
+    byte[] b = buf;
+    if (b == null) {
+      b = buf = getConnectionWrapper().takeByteBuffer(bufferSize);
+    }
+    if (markpos < 0) {
+      pos = 0;
+    } else if (pos >= b.length) {
+      if (markpos > 0) {
+        int keep = pos - markpos;
+        System.arraycopy(b, markpos, b, 0, keep);
+        pos = keep;
+        markpos = 0;
+      } else if (b.length >= marklimit) {
+        markpos = -1;
+        pos = 0;
+      } else {
+        b = buf = Arrays.copyOf(b, (int) Math.min(b.length * 2L, marklimit));
+      }
+    }
+    count = pos;
+    int n = readWrapped(b, pos, b.length - pos);
+    if (n > 0) {
+      count = pos + n;
+    } else if (n < 0 && markpos < 0) {
+      // Return the buffer at end of stream, since streams are often left open until their result set is closed
+      releaseBuffer();
+    }
+    return n;
+  }
+
+  /**
+   * Returns the buffer to the connection for use by the next stream.
+   */
+  private void releaseBuffer() {
+    byte[] b = buf;
+    if (b != null) {
+      buf = null;
+      pos = 0;
+      count = 0;
+      markpos = -1;
+      // Buffers grown for a mark are not pooled
+      if (b.length == bufferSize) {
+        getConnectionWrapper().releaseByteBuffer(b);
+      }
+    }
+  }
+
   @Override
   public int read() throws IOException {
+    if (bufferSize != 0) {
+      if (pos >= count && fill() <= 0) {
+        return -1;
+      }
+      return buf[pos++] & 0xff;
+    }
     FailFastConnectionImpl ffConn = getConnectionWrapper();
     ffConn.failFastIOException();
     try {
@@ -62,6 +161,9 @@ public class FailFastInputStream extends InputStreamWrapper {
 
   @Override
   public int read(byte[] b) throws IOException {
+    if (bufferSize != 0) {
+      return read(b, 0, b.length);
+    }
     FailFastConnectionImpl ffConn = getConnectionWrapper();
     ffConn.failFastIOException();
     try {
@@ -74,6 +176,31 @@ public class FailFastInputStream extends InputStreamWrapper {
 
   @Override
   public int read(byte[] b, int off, int len) throws IOException {
+    if (bufferSize != 0) {
+      Objects.checkFromIndexSize(off, len, b.length);
+      if (len == 0) {
+        return 0;
+      }
+      int avail = count - pos;
+      if (avail <= 0) {
+        if (len >= bufferSize && markpos < 0) {
+          // Read large requests directly, without copying through the buffer
+          return readWrapped(b, off, len);
+        }
+        if (fill() <= 0) {
+          return -1;
+        }
+        avail = count - pos;
+      }
+      int cnt = Math.min(avail, len);
+      System.arraycopy(buf, pos, b, off, cnt);
+      pos += cnt;
+      return cnt;
+    }
+    return readWrapped(b, off, len);
+  }
+
+  private int readWrapped(byte[] b, int off, int len) throws IOException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
     ffConn.failFastIOException();
     try {
@@ -86,6 +213,9 @@ public class FailFastInputStream extends InputStreamWrapper {
 
   @Override
   public byte[] readAllBytes() throws IOException {
+    if (bufferSize != 0) {
+      return readNBytes(Integer.MAX_VALUE);
+    }
     FailFastConnectionImpl ffConn = getConnectionWrapper();
     ffConn.failFastIOException();
     try {
@@ -98,6 +228,45 @@ public class FailFastInputStream extends InputStreamWrapper {
 
   @Override
   public byte[] readNBytes(int len) throws IOException {
+    if (bufferSize != 0) {
+      if (len < 0) {
+        throw new IllegalArgumentException("len < 0");
+      }
+      if (markpos >= 0) {
+        // Read through the buffer to keep the bytes for reset
+        byte[] result = new byte[Math.min(len, bufferSize)];
+        int n = 0;
+        while (n < len) {
+          if (n == result.length) {
+            result = Arrays.copyOf(result, (int) Math.min(result.length * 2L, len));
+          }
+          int cnt = read(result, n, result.length - n);
+          if (cnt < 0) {
+            break;
+          }
+          n += cnt;
+        }
+        return (n == result.length) ? result : Arrays.copyOf(result, n);
+      }
+      int head = Math.min(count - pos, len);
+      if (head <= 0) {
+        return readNBytesWrapped(len);
+      }
+      // Read the rest before consuming the buffer, so the buffer is unchanged on exception
+      byte[] tail = (head < len) ? readNBytesWrapped(len - head) : null;
+      int tailLen = (tail == null) ? 0 : tail.length;
+      byte[] result = new byte[head + tailLen];
+      System.arraycopy(buf, pos, result, 0, head);
+      pos += head;
+      if (tailLen != 0) {
+        System.arraycopy(tail, 0, result, head, tailLen);
+      }
+      return result;
+    }
+    return readNBytesWrapped(len);
+  }
+
+  private byte[] readNBytesWrapped(int len) throws IOException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
     ffConn.failFastIOException();
     try {
@@ -110,6 +279,18 @@ public class FailFastInputStream extends InputStreamWrapper {
 
   @Override
   public int readNBytes(byte[] b, int off, int len) throws IOException {
+    if (bufferSize != 0) {
+      Objects.checkFromIndexSize(off, len, b.length);
+      int n = 0;
+      while (n < len) {
+        int cnt = read(b, off + n, len - n);
+        if (cnt < 0) {
+          break;
+        }
+        n += cnt;
+      }
+      return n;
+    }
     FailFastConnectionImpl ffConn = getConnectionWrapper();
     ffConn.failFastIOException();
     try {
@@ -122,6 +303,29 @@ public class FailFastInputStream extends InputStreamWrapper {
 
   @Override
   public long skip(long n) throws IOException {
+    if (bufferSize != 0) {
+      if (n <= 0) {
+        return 0;
+      }
+      long avail = count - pos;
+      if (avail <= 0) {
+        if (markpos < 0) {
+          return skipWrapped(n);
+        }
+        // Read through the buffer to keep the bytes for reset
+        if (fill() <= 0) {
+          return 0;
+        }
+        avail = count - pos;
+      }
+      long skipped = Math.min(avail, n);
+      pos += (int) skipped;
+      return skipped;
+    }
+    return skipWrapped(n);
+  }
+
+  private long skipWrapped(long n) throws IOException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
     ffConn.failFastIOException();
     try {
@@ -137,7 +341,9 @@ public class FailFastInputStream extends InputStreamWrapper {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
     ffConn.failFastIOException();
     try {
-      return super.available();
+      int available = super.available();
+      int buffered = count - pos;
+      return (buffered > Integer.MAX_VALUE - available) ? Integer.MAX_VALUE : (buffered + available);
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
       throw Throwables.wrap(t, IOException.class, IOException::new);
@@ -146,6 +352,7 @@ public class FailFastInputStream extends InputStreamWrapper {
 
   @Override
   public void close() throws IOException {
+    releaseBuffer();
     try {
       super.close();
     } catch (Throwable t) {
@@ -163,7 +370,14 @@ public class FailFastInputStream extends InputStreamWrapper {
       throw new UncheckedIOException(e);
     }
     try {
-      super.mark(readlimit);
+      if (bufferSize != 0) {
+        if (super.markSupported()) {
+          marklimit = readlimit;
+          markpos = pos;
+        }
+      } else {
+        super.mark(readlimit);
+      }
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
       throw Throwables.wrap(t, WrappedException.class, WrappedException::new);
@@ -174,6 +388,13 @@ public class FailFastInputStream extends InputStreamWrapper {
   public void reset() throws IOException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
     ffConn.failFastIOException();
+    if (bufferSize != 0) {
+      if (markpos < 0) {
+        throw new IOException("Resetting to invalid mark");
+      }
+      pos = markpos;
+      return;
+    }
     try {
       super.reset();
     } catch (Throwable t) {
@@ -199,6 +420,31 @@ public class FailFastInputStream extends InputStreamWrapper {
 
   @Override
   public long transferTo(OutputStream out) throws IOException {
+    if (bufferSize != 0) {
+      Objects.requireNonNull(out, "out");
+      long transferred = 0;
+      if (markpos >= 0) {
+        // Read through the buffer to keep the bytes for reset
+        while (pos < count || fill() > 0) {
+          int avail = count - pos;
+          out.write(buf, pos, avail);
+          pos += avail;
+          transferred += avail;
+        }
+        return transferred;
+      }
+      int avail = count - pos;
+      if (avail > 0) {
+        out.write(buf, pos, avail);
+        pos += avail;
+        transferred = avail;
+      }
+      return transferred + transferToWrapped(out);
+    }
+    return transferToWrapped(out);
+  }
+
+  private long transferToWrapped(OutputStream out) throws IOException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
     ffConn.failFastIOException();
     try {
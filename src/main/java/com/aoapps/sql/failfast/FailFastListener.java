@@ -0,0 +1,56 @@
+/*
+ * ao-sql-failfast - Fail-fast JDBC wrapper.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql-failfast.
+ *
+ * ao-sql-failfast is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql-failfast is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql-failfast.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.sql.failfast;
+
+import com.aoapps.sql.failfast.FailFastConnection.State;
+
+/**
+ * Notified when the fail-fast state of a connection changes, such as for a connection pool to evict or pre-validate
+ * connections as soon as they fail instead of checking on every borrow and return.
+ *
+ * <p>The following transitions are notified:</p>
+ * <ul>
+ * <li>From {@link State#OK} into any fail-fast state, when a cause is added</li>
+ * <li>Between fail-fast states, when a cause of higher precedence is added</li>
+ * <li>From any fail-fast state back to {@link State#OK}, after rollback or {@link FailFastConnection#clearFailFast()}</li>
+ * <li>Into {@link State#TERMINAL}, when closed or aborted</li>
+ * </ul>
+ *
+ * @author  AO Industries, Inc.
+ *
+ * @see  FailFastConnection#addFailFastListener(com.aoapps.sql.failfast.FailFastListener)
+ * @see  FailFastConnection#addFailFastListener(com.aoapps.sql.failfast.FailFastListener, java.util.concurrent.Executor)
+ */
+@FunctionalInterface
+public interface FailFastListener {
+
+  /**
+   * Called when the fail-fast state of a connection changes.
+   *
+   * @param  conn  The connection
+   * @param  oldState  The previous state
+   * @param  newState  The new state, never the same as {@code oldState}
+   */
+  void stateChanged(FailFastConnection conn, State oldState, State newState);
+}
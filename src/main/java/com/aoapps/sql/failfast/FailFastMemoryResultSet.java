@@ -0,0 +1,1385 @@
+/*
+ * ao-sql-failfast - Fail-fast JDBC wrapper.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql-failfast.
+ *
+ * ao-sql-failfast is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql-failfast is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql-failfast.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.sql.failfast;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.Ref;
+import java.sql.ResultSet;
+import java.sql.RowId;
+import java.sql.SQLDataException;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLNonTransientException;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Calendar;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A read-only, scrollable result set over rows held in memory.  It is wrapped by {@link FailFastResultSetImpl} like
+ * any driver result set, so the fail-fast state is still enforced.
+ *
+ * <p>Each row is the array of values read by {@link ResultSet#getObject(int)}.  The getters convert between the
+ * common types, and the {@link Calendar} of temporal getters is ignored since values are already materialized.
+ * The rows are not copied and may be shared by any number of result sets, but must not be modified.</p>
+ *
+ * <p>Extended by {@link FailFastPrefetchResultSet}, which replaces navigation over the list of rows with rows read ahead
+ * by a background thread.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+class FailFastMemoryResultSet implements ResultSet {
+
+  private final Statement statement;
+  private final FailFastResultSetMetaDataSnapshot metaData;
+  private final List<Object[]> rows;
+
+  /**
+   * The current position, where {@code 0} is before the first row and {@code rows.size() + 1} is after the last row.
+   */
+  private int position;
+
+  /**
+   * The current row or {@code null} when not on a row.
+   */
+  private Object[] row;
+
+  private boolean wasNull;
+  private int fetchDirection = FETCH_FORWARD;
+  private int fetchSize;
+  private boolean closed;
+
+  /**
+   * @param  statement  The statement that produced the rows or {@code null} for database metadata
+   */
+  FailFastMemoryResultSet(Statement statement, FailFastResultSetMetaDataSnapshot metaData, List<Object[]> rows) {
+    this.statement = statement;
+    this.metaData = metaData;
+    this.rows = rows;
+  }
+
+  final void checkOpen() throws SQLNonTransientException {
+    if (closed) {
+      throw new SQLNonTransientException("Result set is closed");
+    }
+  }
+
+  private static SQLNonTransientException readOnly() {
+    return new SQLNonTransientException("Result set is read-only");
+  }
+
+  private static SQLDataException cannotConvert(Object value, String type) {
+    return new SQLDataException("Cannot convert " + value.getClass().getName() + " to " + type, "22018");
+  }
+
+  /**
+   * Gets the value of a column in the current row, recording whether it was {@code null}.
+   */
+  private Object getValue(int columnIndex) throws SQLException {
+    checkOpen();
+    Object[] current = row;
+    if (current == null) {
+      throw new SQLNonTransientException("Not on a row");
+    }
+    if (columnIndex < 1 || columnIndex > current.length) {
+      throw new SQLNonTransientException("Column index out of range: " + columnIndex);
+    }
+    Object value = current[columnIndex - 1];
+    wasNull = value == null;
+    return value;
+  }
+
+  /**
+   * Converts a non-null value to a number.
+   */
+  private static Number toNumber(Object value, String type) throws SQLDataException {
+    if (value instanceof Number) {
+      return (Number) value;
+    }
+    if (value instanceof Boolean) {
+      return ((Boolean) value) ? 1 : 0;
+    }
+    if (value instanceof String) {
+      try {
+        return new BigDecimal(((String) value).trim());
+      } catch (NumberFormatException e) {
+        SQLDataException sqlE = cannotConvert(value, type);
+        sqlE.initCause(e);
+        throw sqlE;
+      }
+    }
+    throw cannotConvert(value, type);
+  }
+
+  private static BigDecimal toBigDecimal(Number number) {
+    if (number instanceof BigDecimal) {
+      return (BigDecimal) number;
+    }
+    if (number instanceof BigInteger) {
+      return new BigDecimal((BigInteger) number);
+    }
+    if (number instanceof Double || number instanceof Float) {
+      return BigDecimal.valueOf(number.doubleValue());
+    }
+    return BigDecimal.valueOf(number.longValue());
+  }
+
+  @Override
+  public boolean next() throws SQLException {
+    checkOpen();
+    if (position <= rows.size()) {
+      setPosition(position + 1);
+    }
+    return row != null;
+  }
+
+  /**
+   * Sets the current row, for subclasses that navigate their own rows.
+   *
+   * @param  row  The row or {@code null} when not on a row
+   */
+  final void setCurrentRow(Object[] row) {
+    this.row = row;
+  }
+
+  /**
+   * Moves to a position, which must be between {@code 0} and {@code rows.size() + 1}, inclusive.
+   */
+  private void setPosition(int position) {
+    this.position = position;
+    row = (position >= 1 && position <= rows.size()) ? rows.get(position - 1) : null;
+  }
+
+  @Override
+  public void close() throws SQLException {
+    closed = true;
+    row = null;
+  }
+
+  @Override
+  public boolean wasNull() throws SQLException {
+    checkOpen();
+    return wasNull;
+  }
+
+  @Override
+  public String getString(int columnIndex) throws SQLException {
+    Object value = getValue(columnIndex);
+    return (value == null) ? null : value.toString();
+  }
+
+  @Override
+  public boolean getBoolean(int columnIndex) throws SQLException {
+    Object value = getValue(columnIndex);
+    if (value == null) {
+      return false;
+    }
+    if (value instanceof Boolean) {
+      return (Boolean) value;
+    }
+    if (value instanceof String) {
+      String str = ((String) value).trim();
+      if ("true".equalsIgnoreCase(str) || "1".equals(str)) {
+        return true;
+      }
+      if ("false".equalsIgnoreCase(str) || "0".equals(str)) {
+        return false;
+      }
+      throw cannotConvert(value, "boolean");
+    }
+    return toBigDecimal(toNumber(value, "boolean")).signum() != 0;
+  }
+
+  @Override
+  public byte getByte(int columnIndex) throws SQLException {
+    Object value = getValue(columnIndex);
+    return (value == null) ? 0 : toNumber(value, "byte").byteValue();
+  }
+
+  @Override
+  public short getShort(int columnIndex) throws SQLException {
+    Object value = getValue(columnIndex);
+    return (value == null) ? 0 : toNumber(value, "short").shortValue();
+  }
+
+  @Override
+  public int getInt(int columnIndex) throws SQLException {
+    Object value = getValue(columnIndex);
+    return (value == null) ? 0 : toNumber(value, "int").intValue();
+  }
+
+  @Override
+  public long getLong(int columnIndex) throws SQLException {
+    Object value = getValue(columnIndex);
+    return (value == null) ? 0 : toNumber(value, "long").longValue();
+  }
+
+  @Override
+  public float getFloat(int columnIndex) throws SQLException {
+    Object value = getValue(columnIndex);
+    return (value == null) ? 0 : toNumber(value, "float").floatValue();
+  }
+
+  @Override
+  public double getDouble(int columnIndex) throws SQLException {
+    Object value = getValue(columnIndex);
+    return (value == null) ? 0 : toNumber(value, "double").doubleValue();
+  }
+
+  @Override
+  public BigDecimal getBigDecimal(int columnIndex) throws SQLException {
+    Object value = getValue(columnIndex);
+    return (value == null) ? null : toBigDecimal(toNumber(value, "BigDecimal"));
+  }
+
+  @Override
+  @Deprecated
+  public BigDecimal getBigDecimal(int columnIndex, int scale) throws SQLException {
+    BigDecimal value = getBigDecimal(columnIndex);
+    return (value == null) ? null : value.setScale(scale, RoundingMode.HALF_UP);
+  }
+
+  @Override
+  public byte[] getBytes(int columnIndex) throws SQLException {
+    Object value = getValue(columnIndex);
+    if (value == null) {
+      return null;
+    }
+    if (value instanceof byte[]) {
+      return ((byte[]) value).clone();
+    }
+    throw cannotConvert(value, "byte[]");
+  }
+
+  @Override
+  public Date getDate(int columnIndex) throws SQLException {
+    Object value = getValue(columnIndex);
+    if (value == null) {
+      return null;
+    }
+    if (value instanceof Date) {
+      return (Date) value;
+    }
+    if (value instanceof java.util.Date) {
+      return new Date(((java.util.Date) value).getTime());
+    }
+    if (value instanceof LocalDate) {
+      return Date.valueOf((LocalDate) value);
+    }
+    if (value instanceof LocalDateTime) {
+      return Date.valueOf(((LocalDateTime) value).toLocalDate());
+    }
+    if (value instanceof String) {
+      try {
+        return Date.valueOf(((String) value).trim());
+      } catch (IllegalArgumentException e) {
+        SQLDataException sqlE = cannotConvert(value, "Date");
+        sqlE.initCause(e);
+        throw sqlE;
+      }
+    }
+    throw cannotConvert(value, "Date");
+  }
+
+  @Override
+  public Time getTime(int columnIndex) throws SQLException {
+    Object value = getValue(columnIndex);
+    if (value == null) {
+      return null;
+    }
+    if (value instanceof Time) {
+      return (Time) value;
+    }
+    if (value instanceof java.util.Date) {
+      return new Time(((java.util.Date) value).getTime());
+    }
+    if (value instanceof LocalTime) {
+      return Time.valueOf((LocalTime) value);
+    }
+    if (value instanceof LocalDateTime) {
+      return Time.valueOf(((LocalDateTime) value).toLocalTime());
+    }
+    if (value instanceof String) {
+      try {
+        return Time.valueOf(((String) value).trim());
+      } catch (IllegalArgumentException e) {
+        SQLDataException sqlE = cannotConvert(value, "Time");
+        sqlE.initCause(e);
+        throw sqlE;
+      }
+    }
+    throw cannotConvert(value, "Time");
+  }
+
+  @Override
+  public Timestamp getTimestamp(int columnIndex) throws SQLException {
+    Object value = getValue(columnIndex);
+    if (value == null) {
+      return null;
+    }
+    if (value instanceof Timestamp) {
+      return (Timestamp) value;
+    }
+    if (value instanceof java.util.Date) {
+      return new Timestamp(((java.util.Date) value).getTime());
+    }
+    if (value instanceof LocalDateTime) {
+      return Timestamp.valueOf((LocalDateTime) value);
+    }
+    if (value instanceof LocalDate) {
+      return Timestamp.valueOf(((LocalDate) value).atStartOfDay());
+    }
+    if (value instanceof String) {
+      try {
+        return Timestamp.valueOf(((String) value).trim());
+      } catch (IllegalArgumentException e) {
+        SQLDataException sqlE = cannotConvert(value, "Timestamp");
+        sqlE.initCause(e);
+        throw sqlE;
+      }
+    }
+    throw cannotConvert(value, "Timestamp");
+  }
+
+  @Override
+  public InputStream getAsciiStream(int columnIndex) throws SQLException {
+    String value = getString(columnIndex);
+    return (value == null) ? null : new ByteArrayInputStream(value.getBytes(StandardCharsets.US_ASCII));
+  }
+
+  @Override
+  @Deprecated
+  public InputStream getUnicodeStream(int columnIndex) throws SQLException {
+    throw new SQLFeatureNotSupportedException();
+  }
+
+  @Override
+  public InputStream getBinaryStream(int columnIndex) throws SQLException {
+    Object value = getValue(columnIndex);
+    if (value == null) {
+      return null;
+    }
+    if (value instanceof byte[]) {
+      return new ByteArrayInputStream((byte[]) value);
+    }
+    throw cannotConvert(value, "InputStream");
+  }
+
+  @Override
+  public SQLWarning getWarnings() throws SQLException {
+    checkOpen();
+    return null;
+  }
+
+  @Override
+  public void clearWarnings() throws SQLException {
+    checkOpen();
+  }
+
+  @Override
+  public String getCursorName() throws SQLException {
+    throw new SQLFeatureNotSupportedException();
+  }
+
+  @Override
+  public FailFastResultSetMetaDataSnapshot getMetaData() throws SQLException {
+    checkOpen();
+    return metaData;
+  }
+
+  @Override
+  public Object getObject(int columnIndex) throws SQLException {
+    return getValue(columnIndex);
+  }
+
+  @Override
+  public int findColumn(String columnLabel) throws SQLException {
+    checkOpen();
+    int columnIndex = metaData.findColumn(columnLabel);
+    if (columnIndex == 0) {
+      throw new SQLNonTransientException("Column not found: " + columnLabel);
+    }
+    return columnIndex;
+  }
+
+  @Override
+  public Reader getCharacterStream(int columnIndex) throws SQLException {
+    String value = getString(columnIndex);
+    return (value == null) ? null : new StringReader(value);
+  }
+
+  @Override
+  public boolean isBeforeFirst() throws SQLException {
+    checkOpen();
+    return position == 0 && !rows.isEmpty();
+  }
+
+  @Override
+  public boolean isAfterLast() throws SQLException {
+    checkOpen();
+    return position > rows.size() && !rows.isEmpty();
+  }
+
+  @Override
+  public boolean isFirst() throws SQLException {
+    checkOpen();
+    return position == 1 && row != null;
+  }
+
+  @Override
+  public boolean isLast() throws SQLException {
+    checkOpen();
+    return position == rows.size() && row != null;
+  }
+
+  @Override
+  public void beforeFirst() throws SQLException {
+    checkOpen();
+    setPosition(0);
+  }
+
+  @Override
+  public void afterLast() throws SQLException {
+    checkOpen();
+    setPosition(rows.size() + 1);
+  }
+
+  @Override
+  public boolean first() throws SQLException {
+    return absolute(1);
+  }
+
+  @Override
+  public boolean last() throws SQLException {
+    return absolute(-1);
+  }
+
+  @Override
+  public int getRow() throws SQLException {
+    checkOpen();
+    return (row == null) ? 0 : position;
+  }
+
+  @Override
+  public boolean absolute(int row) throws SQLException {
+    checkOpen();
+    int size = rows.size();
+    if (row >= 0) {
+      setPosition(Math.min(row, size + 1));
+    } else {
+      setPosition(Math.max(size + 1 + row, 0));
+    }
+    return this.row != null;
+  }
+
+  @Override
+  public boolean relative(int rows) throws SQLException {
+    checkOpen();
+    long newPosition = (long) position + rows;
+    setPosition((int) Math.max(0, Math.min(newPosition, this.rows.size() + 1L)));
+    return row != null;
+  }
+
+  @Override
+  public boolean previous() throws SQLException {
+    checkOpen();
+    if (position > 0) {
+      setPosition(position - 1);
+    }
+    return row != null;
+  }
+
+  @Override
+  public void setFetchDirection(int direction) throws SQLException {
+    checkOpen();
+    if (direction != FETCH_FORWARD && direction != FETCH_REVERSE && direction != FETCH_UNKNOWN) {
+      throw new SQLNonTransientException("Invalid fetch direction: " + direction);
+    }
+    fetchDirection = direction;
+  }
+
+  @Override
+  public int getFetchDirection() throws SQLException {
+    checkOpen();
+    return fetchDirection;
+  }
+
+  @Override
+  public void setFetchSize(int rows) throws SQLException {
+    checkOpen();
+    if (rows < 0) {
+      throw new SQLNonTransientException("Invalid fetch size: " + rows);
+    }
+    fetchSize = rows;
+  }
+
+  @Override
+  public int getFetchSize() throws SQLException {
+    checkOpen();
+    return fetchSize;
+  }
+
+  @Override
+  public int getType() throws SQLException {
+    checkOpen();
+    return TYPE_SCROLL_INSENSITIVE;
+  }
+
+  @Override
+  public int getConcurrency() throws SQLException {
+    checkOpen();
+    return CONCUR_READ_ONLY;
+  }
+
+  @Override
+  public boolean rowUpdated() throws SQLException {
+    checkOpen();
+    return false;
+  }
+
+  @Override
+  public boolean rowInserted() throws SQLException {
+    checkOpen();
+    return false;
+  }
+
+  @Override
+  public boolean rowDeleted() throws SQLException {
+    checkOpen();
+    return false;
+  }
+
+  @Override
+  public void insertRow() throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateRow() throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void deleteRow() throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void refreshRow() throws SQLException {
+    checkOpen();
+  }
+
+  @Override
+  public void cancelRowUpdates() throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void moveToInsertRow() throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void moveToCurrentRow() throws SQLException {
+    checkOpen();
+  }
+
+  @Override
+  public Statement getStatement() throws SQLException {
+    checkOpen();
+    return statement;
+  }
+
+  @Override
+  public Object getObject(int columnIndex, Map<String, Class<?>> map) throws SQLException {
+    return getValue(columnIndex);
+  }
+
+  /**
+   * Gets a value that may only be of the given type.
+   */
+  private <T> T getValue(int columnIndex, Class<T> type) throws SQLException {
+    Object value = getValue(columnIndex);
+    if (value == null) {
+      return null;
+    }
+    if (type.isInstance(value)) {
+      return type.cast(value);
+    }
+    throw cannotConvert(value, type.getSimpleName());
+  }
+
+  @Override
+  public Ref getRef(int columnIndex) throws SQLException {
+    return getValue(columnIndex, Ref.class);
+  }
+
+  @Override
+  public Blob getBlob(int columnIndex) throws SQLException {
+    return getValue(columnIndex, Blob.class);
+  }
+
+  @Override
+  public Clob getClob(int columnIndex) throws SQLException {
+    return getValue(columnIndex, Clob.class);
+  }
+
+  @Override
+  public Array getArray(int columnIndex) throws SQLException {
+    return getValue(columnIndex, Array.class);
+  }
+
+  @Override
+  public Date getDate(int columnIndex, Calendar cal) throws SQLException {
+    return getDate(columnIndex);
+  }
+
+  @Override
+  public Time getTime(int columnIndex, Calendar cal) throws SQLException {
+    return getTime(columnIndex);
+  }
+
+  @Override
+  public Timestamp getTimestamp(int columnIndex, Calendar cal) throws SQLException {
+    return getTimestamp(columnIndex);
+  }
+
+  @Override
+  public URL getURL(int columnIndex) throws SQLException {
+    Object value = getValue(columnIndex);
+    if (value == null) {
+      return null;
+    }
+    if (value instanceof URL) {
+      return (URL) value;
+    }
+    if (value instanceof String) {
+      try {
+        return new URL((String) value);
+      } catch (MalformedURLException e) {
+        SQLDataException sqlE = cannotConvert(value, "URL");
+        sqlE.initCause(e);
+        throw sqlE;
+      }
+    }
+    throw cannotConvert(value, "URL");
+  }
+
+  @Override
+  public RowId getRowId(int columnIndex) throws SQLException {
+    return getValue(columnIndex, RowId.class);
+  }
+
+  @Override
+  public int getHoldability() throws SQLException {
+    checkOpen();
+    return HOLD_CURSORS_OVER_COMMIT;
+  }
+
+  @Override
+  public boolean isClosed() {
+    return closed;
+  }
+
+  @Override
+  public NClob getNClob(int columnIndex) throws SQLException {
+    return getValue(columnIndex, NClob.class);
+  }
+
+  @Override
+  public SQLXML getSQLXML(int columnIndex) throws SQLException {
+    return getValue(columnIndex, SQLXML.class);
+  }
+
+  @Override
+  public String getNString(int columnIndex) throws SQLException {
+    return getString(columnIndex);
+  }
+
+  @Override
+  public Reader getNCharacterStream(int columnIndex) throws SQLException {
+    return getCharacterStream(columnIndex);
+  }
+
+  @Override
+  public <T> T getObject(int columnIndex, Class<T> type) throws SQLException {
+    Object value = getValue(columnIndex);
+    if (value == null || type.isInstance(value)) {
+      return type.cast(value);
+    }
+    Object converted;
+    if (type == String.class) {
+      converted = getString(columnIndex);
+    } else if (type == Boolean.class) {
+      converted = getBoolean(columnIndex);
+    } else if (type == Byte.class) {
+      converted = getByte(columnIndex);
+    } else if (type == Short.class) {
+      converted = getShort(columnIndex);
+    } else if (type == Integer.class) {
+      converted = getInt(columnIndex);
+    } else if (type == Long.class) {
+      converted = getLong(columnIndex);
+    } else if (type == Float.class) {
+      converted = getFloat(columnIndex);
+    } else if (type == Double.class) {
+      converted = getDouble(columnIndex);
+    } else if (type == BigDecimal.class) {
+      converted = getBigDecimal(columnIndex);
+    } else if (type == Date.class) {
+      converted = getDate(columnIndex);
+    } else if (type == Time.class) {
+      converted = getTime(columnIndex);
+    } else if (type == Timestamp.class) {
+      converted = getTimestamp(columnIndex);
+    } else if (type == LocalDate.class) {
+      converted = getDate(columnIndex).toLocalDate();
+    } else if (type == LocalTime.class) {
+      converted = getTime(columnIndex).toLocalTime();
+    } else if (type == LocalDateTime.class) {
+      converted = getTimestamp(columnIndex).toLocalDateTime();
+    } else if (type == URL.class) {
+      converted = getURL(columnIndex);
+    } else {
+      throw cannotConvert(value, type.getName());
+    }
+    return type.cast(converted);
+  }
+
+  @Override
+  public String getString(String columnLabel) throws SQLException {
+    return getString(findColumn(columnLabel));
+  }
+
+  @Override
+  public boolean getBoolean(String columnLabel) throws SQLException {
+    return getBoolean(findColumn(columnLabel));
+  }
+
+  @Override
+  public byte getByte(String columnLabel) throws SQLException {
+    return getByte(findColumn(columnLabel));
+  }
+
+  @Override
+  public short getShort(String columnLabel) throws SQLException {
+    return getShort(findColumn(columnLabel));
+  }
+
+  @Override
+  public int getInt(String columnLabel) throws SQLException {
+    return getInt(findColumn(columnLabel));
+  }
+
+  @Override
+  public long getLong(String columnLabel) throws SQLException {
+    return getLong(findColumn(columnLabel));
+  }
+
+  @Override
+  public float getFloat(String columnLabel) throws SQLException {
+    return getFloat(findColumn(columnLabel));
+  }
+
+  @Override
+  public double getDouble(String columnLabel) throws SQLException {
+    return getDouble(findColumn(columnLabel));
+  }
+
+  @Override
+  @Deprecated
+  public BigDecimal getBigDecimal(String columnLabel, int scale) throws SQLException {
+    return getBigDecimal(findColumn(columnLabel), scale);
+  }
+
+  @Override
+  public byte[] getBytes(String columnLabel) throws SQLException {
+    return getBytes(findColumn(columnLabel));
+  }
+
+  @Override
+  public Date getDate(String columnLabel) throws SQLException {
+    return getDate(findColumn(columnLabel));
+  }
+
+  @Override
+  public Time getTime(String columnLabel) throws SQLException {
+    return getTime(findColumn(columnLabel));
+  }
+
+  @Override
+  public Timestamp getTimestamp(String columnLabel) throws SQLException {
+    return getTimestamp(findColumn(columnLabel));
+  }
+
+  @Override
+  public InputStream getAsciiStream(String columnLabel) throws SQLException {
+    return getAsciiStream(findColumn(columnLabel));
+  }
+
+  @Override
+  @Deprecated
+  public InputStream getUnicodeStream(String columnLabel) throws SQLException {
+    return getUnicodeStream(findColumn(columnLabel));
+  }
+
+  @Override
+  public InputStream getBinaryStream(String columnLabel) throws SQLException {
+    return getBinaryStream(findColumn(columnLabel));
+  }
+
+  @Override
+  public Object getObject(String columnLabel) throws SQLException {
+    return getObject(findColumn(columnLabel));
+  }
+
+  @Override
+  public Reader getCharacterStream(String columnLabel) throws SQLException {
+    return getCharacterStream(findColumn(columnLabel));
+  }
+
+  @Override
+  public BigDecimal getBigDecimal(String columnLabel) throws SQLException {
+    return getBigDecimal(findColumn(columnLabel));
+  }
+
+  @Override
+  public void updateNull(int columnIndex) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateBoolean(int columnIndex, boolean x) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateByte(int columnIndex, byte x) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateShort(int columnIndex, short x) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateInt(int columnIndex, int x) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateLong(int columnIndex, long x) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateFloat(int columnIndex, float x) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateDouble(int columnIndex, double x) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateBigDecimal(int columnIndex, BigDecimal x) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateString(int columnIndex, String x) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateBytes(int columnIndex, byte[] x) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateDate(int columnIndex, Date x) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateTime(int columnIndex, Time x) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateTimestamp(int columnIndex, Timestamp x) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateAsciiStream(int columnIndex, InputStream x, int length) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateBinaryStream(int columnIndex, InputStream x, int length) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateCharacterStream(int columnIndex, Reader x, int length) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateObject(int columnIndex, Object x, int scaleOrLength) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateObject(int columnIndex, Object x) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateNull(String columnLabel) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateBoolean(String columnLabel, boolean x) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateByte(String columnLabel, byte x) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateShort(String columnLabel, short x) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateInt(String columnLabel, int x) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateLong(String columnLabel, long x) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateFloat(String columnLabel, float x) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateDouble(String columnLabel, double x) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateBigDecimal(String columnLabel, BigDecimal x) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateString(String columnLabel, String x) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateBytes(String columnLabel, byte[] x) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateDate(String columnLabel, Date x) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateTime(String columnLabel, Time x) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateTimestamp(String columnLabel, Timestamp x) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateAsciiStream(String columnLabel, InputStream x, int length) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateBinaryStream(String columnLabel, InputStream x, int length) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateCharacterStream(String columnLabel, Reader x, int length) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateObject(String columnLabel, Object x, int scaleOrLength) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateObject(String columnLabel, Object x) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public Object getObject(String columnLabel, Map<String, Class<?>> map) throws SQLException {
+    return getObject(findColumn(columnLabel), map);
+  }
+
+  @Override
+  public Ref getRef(String columnLabel) throws SQLException {
+    return getRef(findColumn(columnLabel));
+  }
+
+  @Override
+  public Blob getBlob(String columnLabel) throws SQLException {
+    return getBlob(findColumn(columnLabel));
+  }
+
+  @Override
+  public Clob getClob(String columnLabel) throws SQLException {
+    return getClob(findColumn(columnLabel));
+  }
+
+  @Override
+  public Array getArray(String columnLabel) throws SQLException {
+    return getArray(findColumn(columnLabel));
+  }
+
+  @Override
+  public Date getDate(String columnLabel, Calendar cal) throws SQLException {
+    return getDate(findColumn(columnLabel), cal);
+  }
+
+  @Override
+  public Time getTime(String columnLabel, Calendar cal) throws SQLException {
+    return getTime(findColumn(columnLabel), cal);
+  }
+
+  @Override
+  public Timestamp getTimestamp(String columnLabel, Calendar cal) throws SQLException {
+    return getTimestamp(findColumn(columnLabel), cal);
+  }
+
+  @Override
+  public URL getURL(String columnLabel) throws SQLException {
+    return getURL(findColumn(columnLabel));
+  }
+
+  @Override
+  public void updateRef(int columnIndex, Ref x) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateRef(String columnLabel, Ref x) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateBlob(int columnIndex, Blob x) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateBlob(String columnLabel, Blob x) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateClob(int columnIndex, Clob x) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateClob(String columnLabel, Clob x) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateArray(int columnIndex, Array x) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateArray(String columnLabel, Array x) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public RowId getRowId(String columnLabel) throws SQLException {
+    return getRowId(findColumn(columnLabel));
+  }
+
+  @Override
+  public void updateRowId(int columnIndex, RowId x) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateRowId(String columnLabel, RowId x) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateNString(int columnIndex, String x) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateNString(String columnLabel, String x) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateNClob(int columnIndex, NClob x) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateNClob(String columnLabel, NClob x) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public NClob getNClob(String columnLabel) throws SQLException {
+    return getNClob(findColumn(columnLabel));
+  }
+
+  @Override
+  public SQLXML getSQLXML(String columnLabel) throws SQLException {
+    return getSQLXML(findColumn(columnLabel));
+  }
+
+  @Override
+  public void updateSQLXML(int columnIndex, SQLXML x) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateSQLXML(String columnLabel, SQLXML x) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public String getNString(String columnLabel) throws SQLException {
+    return getNString(findColumn(columnLabel));
+  }
+
+  @Override
+  public Reader getNCharacterStream(String columnLabel) throws SQLException {
+    return getNCharacterStream(findColumn(columnLabel));
+  }
+
+  @Override
+  public void updateNCharacterStream(int columnIndex, Reader x, long length) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateNCharacterStream(String columnLabel, Reader x, long length) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateAsciiStream(int columnIndex, InputStream x, long length) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateBinaryStream(int columnIndex, InputStream x, long length) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateCharacterStream(int columnIndex, Reader x, long length) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateAsciiStream(String columnLabel, InputStream x, long length) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateBinaryStream(String columnLabel, InputStream x, long length) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateCharacterStream(String columnLabel, Reader x, long length) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateBlob(int columnIndex, InputStream x, long length) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateBlob(String columnLabel, InputStream x, long length) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateClob(int columnIndex, Reader x, long length) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateClob(String columnLabel, Reader x, long length) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateNClob(int columnIndex, Reader x, long length) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateNClob(String columnLabel, Reader x, long length) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateNCharacterStream(int columnIndex, Reader x) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateNCharacterStream(String columnLabel, Reader x) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateAsciiStream(int columnIndex, InputStream x) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateBinaryStream(int columnIndex, InputStream x) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateCharacterStream(int columnIndex, Reader x) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateAsciiStream(String columnLabel, InputStream x) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateBinaryStream(String columnLabel, InputStream x) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateCharacterStream(String columnLabel, Reader x) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateBlob(int columnIndex, InputStream x) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateBlob(String columnLabel, InputStream x) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateClob(int columnIndex, Reader x) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateClob(String columnLabel, Reader x) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateNClob(int columnIndex, Reader x) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateNClob(String columnLabel, Reader x) throws SQLException {
+    throw readOnly();
+  }
+
+  @Override
+  public <T> T getObject(String columnLabel, Class<T> type) throws SQLException {
+    return getObject(findColumn(columnLabel), type);
+  }
+
+  @Override
+  public <T> T unwrap(Class<T> iface) throws SQLException {
+    if (iface.isInstance(this)) {
+      return iface.cast(this);
+    }
+    throw new SQLNonTransientException("Not a wrapper for " + iface.getName());
+  }
+
+  @Override
+  public boolean isWrapperFor(Class<?> iface) {
+    return iface.isInstance(this);
+  }
+}
@@ -0,0 +1,214 @@
+/*
+ * ao-sql-failfast - Fail-fast JDBC wrapper.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql-failfast.
+ *
+ * ao-sql-failfast is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql-failfast is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql-failfast.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.sql.failfast;
+
+import com.aoapps.sql.failfast.FailFastConnection.State;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link FailFastMonitor} that counts fail-fast events with {@link LongAdder}, for low overhead under contention.
+ * May be shared by all connections of a {@linkplain FailFastDriver#setMonitor(com.aoapps.sql.failfast.FailFastMonitor) driver}
+ * or set on {@linkplain FailFastConnection#setFailFastMonitor(com.aoapps.sql.failfast.FailFastMonitor) individual connections}.
+ *
+ * @author  AO Industries, Inc.
+ */
+public class FailFastMetrics implements FailFastMonitor, FailFastMetricsMXBean {
+
+  /**
+   * The method name used for causes that were not received from the wrapped driver by a wrapper method.
+   */
+  public static final String UNKNOWN_METHOD = "unknown";
+
+  private static final String PACKAGE_PREFIX = FailFastMetrics.class.getPackageName() + '.';
+
+  private static final long[] TIME_IN_FAILURE_BUCKET_MILLIS = {1, 10, 100, 1000, 10000, 60000};
+
+  private static final State[] STATES = State.values();
+
+  private final LongAdder[] failures = newAdders(STATES.length);
+  private final ConcurrentMap<String, LongAdder> failingMethods = new ConcurrentHashMap<>();
+  private final LongAdder[] rejectedCalls = newAdders(STATES.length);
+  private final LongAdder recoveredByRollback = new LongAdder();
+  private final LongAdder recoveredByClear = new LongAdder();
+  private final LongAdder closed = new LongAdder();
+  private final LongAdder aborted = new LongAdder();
+  private final LongAdder closedWhileFailed = new LongAdder();
+  private final LongAdder[] timeInFailureCounts = newAdders(TIME_IN_FAILURE_BUCKET_MILLIS.length + 1);
+  private final LongAdder totalTimeInFailureNanos = new LongAdder();
+
+  private static LongAdder[] newAdders(int length) {
+    LongAdder[] adders = new LongAdder[length];
+    for (int i = 0; i < length; i++) {
+      adders[i] = new LongAdder();
+    }
+    return adders;
+  }
+
+  private static Map<String, Long> toMap(LongAdder[] byState) {
+    Map<String, Long> map = new LinkedHashMap<>();
+    for (State state : STATES) {
+      if (state != State.OK) {
+        map.put(state.name(), byState[state.ordinal()].sum());
+      }
+    }
+    return Collections.unmodifiableMap(map);
+  }
+
+  /**
+   * Gets the wrapper method that received the given cause from the wrapped driver.  This is the outermost frame of
+   * the wrapped driver's stack trace, which is the innermost frame within this package.
+   */
+  private static String getFailingMethod(Throwable cause) {
+    for (StackTraceElement element : cause.getStackTrace()) {
+      String className = element.getClassName();
+      if (className.startsWith(PACKAGE_PREFIX) && className.indexOf('.', PACKAGE_PREFIX.length()) == -1) {
+        return className.substring(PACKAGE_PREFIX.length()) + '.' + element.getMethodName();
+      }
+    }
+    return UNKNOWN_METHOD;
+  }
+
+  private void recordTimeInFailure(long failedNanos) {
+    totalTimeInFailureNanos.add(failedNanos);
+    long millis = TimeUnit.NANOSECONDS.toMillis(failedNanos);
+    int bucket = 0;
+    while (bucket < TIME_IN_FAILURE_BUCKET_MILLIS.length && millis >= TIME_IN_FAILURE_BUCKET_MILLIS[bucket]) {
+      bucket++;
+    }
+    timeInFailureCounts[bucket].increment();
+  }
+
+  @Override
+  public void failed(FailFastConnection conn, State oldState, State newState, Throwable cause) {
+    failures[newState.ordinal()].increment();
+    failingMethods.computeIfAbsent(getFailingMethod(cause), method -> new LongAdder()).increment();
+  }
+
+  @Override
+  public void recovered(FailFastConnection conn, State oldState, long failedNanos, boolean rollback) {
+    (rollback ? recoveredByRollback : recoveredByClear).increment();
+    recordTimeInFailure(failedNanos);
+  }
+
+  @Override
+  public void closed(FailFastConnection conn, State oldState, long failedNanos, boolean aborted) {
+    (aborted ? this.aborted : closed).increment();
+    if (oldState != State.OK) {
+      closedWhileFailed.increment();
+      recordTimeInFailure(failedNanos);
+    }
+  }
+
+  @Override
+  public void rejected(FailFastConnection conn, State state) {
+    rejectedCalls[state.ordinal()].increment();
+  }
+
+  @Override
+  public Map<String, Long> getFailures() {
+    return toMap(failures);
+  }
+
+  @Override
+  public Map<String, Long> getFailingMethods() {
+    Map<String, Long> map = new LinkedHashMap<>();
+    failingMethods.forEach((method, count) -> map.put(method, count.sum()));
+    return Collections.unmodifiableMap(map);
+  }
+
+  @Override
+  public Map<String, Long> getRejectedCalls() {
+    return toMap(rejectedCalls);
+  }
+
+  @Override
+  public long getRecoveredByRollback() {
+    return recoveredByRollback.sum();
+  }
+
+  @Override
+  public long getRecoveredByClear() {
+    return recoveredByClear.sum();
+  }
+
+  @Override
+  public long getClosed() {
+    return closed.sum();
+  }
+
+  @Override
+  public long getAborted() {
+    return aborted.sum();
+  }
+
+  @Override
+  public long getClosedWhileFailed() {
+    return closedWhileFailed.sum();
+  }
+
+  @Override
+  public long[] getTimeInFailureBucketMillis() {
+    return TIME_IN_FAILURE_BUCKET_MILLIS.clone();
+  }
+
+  @Override
+  public long[] getTimeInFailureCounts() {
+    long[] counts = new long[timeInFailureCounts.length];
+    for (int i = 0; i < counts.length; i++) {
+      counts[i] = timeInFailureCounts[i].sum();
+    }
+    return counts;
+  }
+
+  @Override
+  public long getTotalTimeInFailureMillis() {
+    return TimeUnit.NANOSECONDS.toMillis(totalTimeInFailureNanos.sum());
+  }
+
+  @Override
+  public void reset() {
+    for (LongAdder adder : failures) {
+      adder.reset();
+    }
+    failingMethods.clear();
+    for (LongAdder adder : rejectedCalls) {
+      adder.reset();
+    }
+    recoveredByRollback.reset();
+    recoveredByClear.reset();
+    closed.reset();
+    aborted.reset();
+    closedWhileFailed.reset();
+    for (LongAdder adder : timeInFailureCounts) {
+      adder.reset();
+    }
+    totalTimeInFailureNanos.reset();
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * ao-sql-failfast - Fail-fast JDBC wrapper.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql-failfast.
+ *
+ * ao-sql-failfast is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql-failfast is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql-failfast.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.sql.failfast;
+
+import java.util.Map;
+
+/**
+ * The management interface of {@link FailFastMetrics}.  Register the metrics with an {@code MBeanServer}, such as
+ * the platform server:
+ *
+ * <pre>ManagementFactory.getPlatformMBeanServer().registerMBean(
+ *   metrics,
+ *   new ObjectName("com.aoapps.sql.failfast:type=FailFastMetrics,name=myDatabase")
+ * );</pre>
+ *
+ * @author  AO Industries, Inc.
+ */
+public interface FailFastMetricsMXBean {
+
+  /**
+   * Gets the number of times connections have entered each fail-fast state, by state name.
+   */
+  Map<String, Long> getFailures();
+
+  /**
+   * Gets the number of failures by the wrapper method that received the failure from the wrapped driver, in the form
+   * {@code "FailFastResultSetImpl.next"}.  Causes not received by a wrapper method are counted under
+   * {@link FailFastMetrics#UNKNOWN_METHOD}.
+   */
+  Map<String, Long> getFailingMethods();
+
+  /**
+   * Gets the number of calls rejected fast, by the fail-fast state at the time of the call.
+   */
+  Map<String, Long> getRejectedCalls();
+
+  /**
+   * Gets the number of times connections have returned to normal operation by rollback.
+   */
+  long getRecoveredByRollback();
+
+  /**
+   * Gets the number of times connections have returned to normal operation by
+   * {@link FailFastConnection#clearFailFast()}.
+   */
+  long getRecoveredByClear();
+
+  /**
+   * Gets the number of connections closed.
+   */
+  long getClosed();
+
+  /**
+   * Gets the number of connections aborted.
+   */
+  long getAborted();
+
+  /**
+   * Gets the number of connections closed or aborted while in a fail-fast state.
+   */
+  long getClosedWhileFailed();
+
+  /**
+   * Gets the upper bounds, exclusive, of each bucket of {@link FailFastMetricsMXBean#getTimeInFailureCounts()},
+   * in milliseconds.  The last bucket has no upper bound.
+   */
+  long[] getTimeInFailureBucketMillis();
+
+  /**
+   * Gets the histogram of how long connections have stayed in a fail-fast state before recovery, close, or abort.
+   * There is one more count than bucket bounds, with the last count having no upper bound.
+   *
+   * @see  FailFastMetricsMXBean#getTimeInFailureBucketMillis()
+   */
+  long[] getTimeInFailureCounts();
+
+  /**
+   * Gets the total time connections have spent in a fail-fast state before recovery, close, or abort, in
+   * milliseconds.
+   */
+  long getTotalTimeInFailureMillis();
+
+  /**
+   * Resets all metrics to zero.  Concurrent updates may be partially retained.
+   */
+  void reset();
+}
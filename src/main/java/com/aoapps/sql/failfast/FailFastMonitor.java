@@ -0,0 +1,95 @@
+/*
+ * ao-sql-failfast - Fail-fast JDBC wrapper.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql-failfast.
+ *
+ * ao-sql-failfast is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql-failfast is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql-failfast.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.sql.failfast;
+
+import com.aoapps.sql.failfast.FailFastConnection.State;
+
+/**
+ * Receives the fail-fast events of connections, such as to collect {@linkplain FailFastMetrics metrics}.
+ *
+ * <p>Monitoring is disabled by default, and a connection without a monitor does no additional work.  When enabled,
+ * the monitor is only called on failure, recovery, close, and for calls rejected while in a fail-fast state; it is
+ * never called while operating normally.</p>
+ *
+ * <p>The monitor is called synchronously by the thread causing the event, possibly concurrently for the same
+ * connection.  It must be fast, thread-safe, and must not throw any exception.</p>
+ *
+ * @author  AO Industries, Inc.
+ *
+ * @see  FailFastConnection#setFailFastMonitor(com.aoapps.sql.failfast.FailFastMonitor)
+ * @see  FailFastDriver#setMonitor(com.aoapps.sql.failfast.FailFastMonitor)
+ */
+public interface FailFastMonitor {
+
+  /**
+   * Called when a cause moves a connection into a higher fail-fast state.  Causes merged into the current state are
+   * not reported.
+   *
+   * @param  conn  The connection
+   * @param  oldState  The previous state, never {@link State#TERMINAL}
+   * @param  newState  The new state, never {@link State#OK}
+   * @param  cause  The cause that was added
+   *
+   * @see  FailFastConnection#addFailFastCause(java.lang.Throwable)
+   */
+  default void failed(FailFastConnection conn, State oldState, State newState, Throwable cause) {
+    // Do nothing
+  }
+
+  /**
+   * Called when a connection returns to {@link State#OK}.
+   *
+   * @param  conn  The connection
+   * @param  oldState  The previous state, never {@link State#OK}
+   * @param  failedNanos  The time spent in a fail-fast state, in nanoseconds
+   * @param  rollback  {@code true} when recovered by rollback or {@code false} when by
+   *                   {@link FailFastConnection#clearFailFast()}
+   */
+  default void recovered(FailFastConnection conn, State oldState, long failedNanos, boolean rollback) {
+    // Do nothing
+  }
+
+  /**
+   * Called when a connection is closed or aborted.  Not called when already closed or aborted.
+   *
+   * @param  conn  The connection
+   * @param  oldState  The previous state
+   * @param  failedNanos  The time spent in a fail-fast state, in nanoseconds, or {@code 0} when was
+   *                      {@link State#OK}
+   * @param  aborted  {@code true} when aborted or {@code false} when closed
+   */
+  default void closed(FailFastConnection conn, State oldState, long failedNanos, boolean aborted) {
+    // Do nothing
+  }
+
+  /**
+   * Called when a call is rejected because the connection is in a fail-fast state.
+   *
+   * @param  conn  The connection
+   * @param  state  The current state, never {@link State#OK}
+   */
+  default void rejected(FailFastConnection conn, State state) {
+    // Do nothing
+  }
+}
@@ -0,0 +1,263 @@
+/*
+ * ao-sql-failfast - Fail-fast JDBC wrapper.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql-failfast.
+ *
+ * ao-sql-failfast is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql-failfast is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql-failfast.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.sql.failfast;
+
+import java.sql.ParameterMetaData;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLNonTransientException;
+
+/**
+ * An immutable copy of {@link ParameterMetaData}, read once and safe to share between threads.
+ *
+ * <p>Drivers may only partly support parameter metadata, such as answering the parameter count while failing for the
+ * parameter types.  A property that is not supported is not fatal to the snapshot: the failure is recorded and a copy
+ * of it is thrown each time the property is requested.  Any other failure, as rated by the
+ * {@linkplain FailFastConnection#getFailFastClassifier() classifier}, is thrown from the constructor.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+final class FailFastParameterMetaDataSnapshot implements ParameterMetaData {
+
+  private static final int NULLABLE = 0;
+  private static final int SIGNED = 1;
+  private static final int PRECISION = 2;
+  private static final int SCALE = 3;
+  private static final int PARAMETER_TYPE = 4;
+  private static final int PARAMETER_TYPE_NAME = 5;
+  private static final int PARAMETER_CLASS_NAME = 6;
+  private static final int PARAMETER_MODE = 7;
+  private static final int PROPERTY_COUNT = 8;
+
+  private final int parameterCount;
+  private final int[] nullable;
+  private final boolean[] signed;
+  private final int[] precision;
+  private final int[] scale;
+  private final int[] parameterType;
+  private final String[] parameterTypeName;
+  private final String[] parameterClassName;
+  private final int[] parameterMode;
+
+  /**
+   * The failures reading each property of each parameter, by {@code (param - 1) * PROPERTY_COUNT + property}, or
+   * {@code null} when every property has been read.
+   */
+  private final SQLException[] failures;
+
+  /**
+   * Set when all recorded failures are {@link SQLFeatureNotSupportedException}, which do not change over time.
+   */
+  private final boolean shareable;
+
+  /**
+   * Copies all properties of all parameters.  A property failing with {@link SQLFeatureNotSupportedException}, or any
+   * failure classified below {@link FailFastConnection.State#EXCEPTION}, is recorded, while all other failures are
+   * thrown.
+   *
+   * @param  classifier  Rates the failures reading each property
+   */
+  FailFastParameterMetaDataSnapshot(ParameterMetaData metaData, FailFastClassifier classifier) throws SQLException {
+    parameterCount = metaData.getParameterCount();
+    nullable = new int[parameterCount];
+    signed = new boolean[parameterCount];
+    precision = new int[parameterCount];
+    scale = new int[parameterCount];
+    parameterType = new int[parameterCount];
+    parameterTypeName = new String[parameterCount];
+    parameterClassName = new String[parameterCount];
+    parameterMode = new int[parameterCount];
+    SQLException[] newFailures = null;
+    for (int i = 0; i < parameterCount; i++) {
+      int param = i + 1;
+      int base = i * PROPERTY_COUNT;
+      try {
+        nullable[i] = metaData.isNullable(param);
+      } catch (SQLException e) {
+        newFailures = addFailure(newFailures, base + NULLABLE, e, classifier);
+      }
+      try {
+        signed[i] = metaData.isSigned(param);
+      } catch (SQLException e) {
+        newFailures = addFailure(newFailures, base + SIGNED, e, classifier);
+      }
+      try {
+        precision[i] = metaData.getPrecision(param);
+      } catch (SQLException e) {
+        newFailures = addFailure(newFailures, base + PRECISION, e, classifier);
+      }
+      try {
+        scale[i] = metaData.getScale(param);
+      } catch (SQLException e) {
+        newFailures = addFailure(newFailures, base + SCALE, e, classifier);
+      }
+      try {
+        parameterType[i] = metaData.getParameterType(param);
+      } catch (SQLException e) {
+        newFailures = addFailure(newFailures, base + PARAMETER_TYPE, e, classifier);
+      }
+      try {
+        parameterTypeName[i] = metaData.getParameterTypeName(param);
+      } catch (SQLException e) {
+        newFailures = addFailure(newFailures, base + PARAMETER_TYPE_NAME, e, classifier);
+      }
+      try {
+        parameterClassName[i] = metaData.getParameterClassName(param);
+      } catch (SQLException e) {
+        newFailures = addFailure(newFailures, base + PARAMETER_CLASS_NAME, e, classifier);
+      }
+      try {
+        parameterMode[i] = metaData.getParameterMode(param);
+      } catch (SQLException e) {
+        newFailures = addFailure(newFailures, base + PARAMETER_MODE, e, classifier);
+      }
+    }
+    failures = newFailures;
+    boolean newShareable = true;
+    if (newFailures != null) {
+      for (SQLException failure : newFailures) {
+        if (failure != null && !(failure instanceof SQLFeatureNotSupportedException)) {
+          newShareable = false;
+          break;
+        }
+      }
+    }
+    shareable = newShareable;
+  }
+
+  /**
+   * Records the failure of a property when tolerated.
+   *
+   * @throws  SQLException  the failure when not tolerated
+   */
+  private SQLException[] addFailure(
+      SQLException[] failures,
+      int index,
+      SQLException e,
+      FailFastClassifier classifier
+  ) throws SQLException {
+    if (
+        !(e instanceof SQLFeatureNotSupportedException)
+            && FailFastConnectionImpl.classify(classifier, e).compareTo(FailFastConnection.State.EXCEPTION) >= 0
+    ) {
+      throw e;
+    }
+    if (failures == null) {
+      failures = new SQLException[parameterCount * PROPERTY_COUNT];
+    }
+    failures[index] = e;
+    return failures;
+  }
+
+  /**
+   * Checks whether this snapshot may be shared with other statements: all its recorded failures are
+   * {@link SQLFeatureNotSupportedException}, so will not succeed when read again.
+   */
+  boolean isShareable() {
+    return shareable;
+  }
+
+  /**
+   * Gets the array index of a parameter.
+   *
+   * @throws  SQLNonTransientException  when the parameter is out of range
+   * @throws  SQLException  a copy of the failure when the property could not be read
+   */
+  private int index(int param, int property) throws SQLException {
+    if (param < 1 || param > parameterCount) {
+      throw new SQLNonTransientException("Parameter index out of range: " + param);
+    }
+    int i = param - 1;
+    if (failures != null) {
+      SQLException failure = failures[i * PROPERTY_COUNT + property];
+      if (failure != null) {
+        // A new exception on each call, since the recorded failure is shared between threads
+        if (failure instanceof SQLFeatureNotSupportedException) {
+          throw new SQLFeatureNotSupportedException(failure.getMessage(), failure.getSQLState(),
+              failure.getErrorCode(), failure);
+        }
+        throw new SQLException(failure.getMessage(), failure.getSQLState(), failure.getErrorCode(), failure);
+      }
+    }
+    return i;
+  }
+
+  @Override
+  public int getParameterCount() {
+    return parameterCount;
+  }
+
+  @Override
+  public int isNullable(int param) throws SQLException {
+    return nullable[index(param, NULLABLE)];
+  }
+
+  @Override
+  public boolean isSigned(int param) throws SQLException {
+    return signed[index(param, SIGNED)];
+  }
+
+  @Override
+  public int getPrecision(int param) throws SQLException {
+    return precision[index(param, PRECISION)];
+  }
+
+  @Override
+  public int getScale(int param) throws SQLException {
+    return scale[index(param, SCALE)];
+  }
+
+  @Override
+  public int getParameterType(int param) throws SQLException {
+    return parameterType[index(param, PARAMETER_TYPE)];
+  }
+
+  @Override
+  public String getParameterTypeName(int param) throws SQLException {
+    return parameterTypeName[index(param, PARAMETER_TYPE_NAME)];
+  }
+
+  @Override
+  public String getParameterClassName(int param) throws SQLException {
+    return parameterClassName[index(param, PARAMETER_CLASS_NAME)];
+  }
+
+  @Override
+  public int getParameterMode(int param) throws SQLException {
+    return parameterMode[index(param, PARAMETER_MODE)];
+  }
+
+  @Override
+  public <T> T unwrap(Class<T> iface) throws SQLException {
+    if (iface.isInstance(this)) {
+      return iface.cast(this);
+    }
+    throw new SQLNonTransientException("Not a wrapper for " + iface.getName());
+  }
+
+  @Override
+  public boolean isWrapperFor(Class<?> iface) {
+    return iface.isInstance(this);
+  }
+}
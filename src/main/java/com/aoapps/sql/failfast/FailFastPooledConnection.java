@@ -0,0 +1,136 @@
+/*
+ * ao-sql-failfast - Fail-fast JDBC wrapper.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql-failfast.
+ *
+ * ao-sql-failfast is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql-failfast is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql-failfast.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.sql.failfast;
+
+import com.aoapps.lang.NullArgumentException;
+import java.sql.SQLException;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import javax.sql.ConnectionEvent;
+import javax.sql.ConnectionEventListener;
+import javax.sql.PooledConnection;
+import javax.sql.StatementEventListener;
+
+/**
+ * Wraps a {@link PooledConnection} so its logical connections perform in a fail-fast manner.
+ *
+ * <p>Connection events are forwarded to listeners with this pooled connection as the source, so that connection pools
+ * can match events to the pooled connections they obtained.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+public class FailFastPooledConnection implements PooledConnection {
+
+  /**
+   * Forwards connection events from the wrapped pooled connection.
+   */
+  private class ForwardingListener implements ConnectionEventListener {
+
+    private final ConnectionEventListener listener;
+
+    private ForwardingListener(ConnectionEventListener listener) {
+      this.listener = listener;
+    }
+
+    @Override
+    public void connectionClosed(ConnectionEvent event) {
+      listener.connectionClosed(new ConnectionEvent(FailFastPooledConnection.this, event.getSQLException()));
+    }
+
+    @Override
+    public void connectionErrorOccurred(ConnectionEvent event) {
+      listener.connectionErrorOccurred(new ConnectionEvent(FailFastPooledConnection.this, event.getSQLException()));
+    }
+  }
+
+  private final FailFastCommonDataSource<?> dataSource;
+  private final PooledConnection wrapped;
+
+  /**
+   * The listeners registered on the wrapped pooled connection, by the listener registered on this pooled connection.
+   */
+  private final Map<ConnectionEventListener, ForwardingListener> listeners = new IdentityHashMap<>();
+
+  public FailFastPooledConnection(FailFastCommonDataSource<?> dataSource, PooledConnection wrapped) {
+    this.dataSource = NullArgumentException.checkNotNull(dataSource, "dataSource");
+    this.wrapped = NullArgumentException.checkNotNull(wrapped, "wrapped");
+  }
+
+  /**
+   * Gets the pooled connection that is wrapped.
+   */
+  public PooledConnection getWrapped() {
+    return wrapped;
+  }
+
+  @Override
+  public FailFastConnectionImpl getConnection() throws SQLException {
+    return dataSource.newConnectionWrapper(wrapped.getConnection());
+  }
+
+  @Override
+  public void close() throws SQLException {
+    wrapped.close();
+  }
+
+  @Override
+  public void addConnectionEventListener(ConnectionEventListener listener) {
+    ForwardingListener forwarding;
+    synchronized (listeners) {
+      if (listeners.containsKey(listener)) {
+        // Already registered
+        return;
+      }
+      forwarding = new ForwardingListener(listener);
+      listeners.put(listener, forwarding);
+    }
+    wrapped.addConnectionEventListener(forwarding);
+  }
+
+  @Override
+  public void removeConnectionEventListener(ConnectionEventListener listener) {
+    ForwardingListener forwarding;
+    synchronized (listeners) {
+      forwarding = listeners.remove(listener);
+    }
+    if (forwarding != null) {
+      wrapped.removeConnectionEventListener(forwarding);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Statement events are delivered with the wrapped pooled connection as the source, and the unwrapped statement.</p>
+   */
+  @Override
+  public void addStatementEventListener(StatementEventListener listener) {
+    wrapped.addStatementEventListener(listener);
+  }
+
+  @Override
+  public void removeStatementEventListener(StatementEventListener listener) {
+    wrapped.removeStatementEventListener(listener);
+  }
+}
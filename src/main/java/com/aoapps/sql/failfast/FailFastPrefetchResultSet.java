@@ -0,0 +1,468 @@
+/*
+ * ao-sql-failfast - Fail-fast JDBC wrapper.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql-failfast.
+ *
+ * ao-sql-failfast is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql-failfast is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql-failfast.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.aoapps.sql.failfast;
+
+import com.aoapps.lang.Throwables;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLNonTransientException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A forward-only, read-only result set over rows read ahead from a source result set by a background thread, so the
+ * driver fetches the next rows while the consumer processes earlier ones.  Created by
+ * {@link FailFastResultSetImpl#prefetch(int, java.util.concurrent.Executor)}.
+ *
+ * <p>The background thread advances the source and copies each row, by {@link ResultSet#getObject(int)}, into a
+ * bounded buffer, blocking while the buffer is full.  Rows are handed over in chunks of up to a quarter of the buffer,
+ * so the cost of handing over is shared by many rows while the consumer keeps up.  A partial chunk is handed over as
+ * soon as the buffer is empty, so the consumer does not wait on rows already read.  A failure of the source, including a fail-fast state of the
+ * connection, ends reading ahead and is queued after the rows read before it.  A failure of the driver is registered as
+ * a fail-fast cause by the background thread when it happens.  The consumer observes it in order, from
+ * {@link #next()}.</p>
+ *
+ * <p>The background thread stops once the source is closed, such as when its statement or connection is closed without
+ * closing this result set, even while the buffer is full.  {@link #next()} then fails instead of waiting for rows that
+ * will never be read.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+final class FailFastPrefetchResultSet extends FailFastMemoryResultSet {
+
+  private static final Logger LOGGER = Logger.getLogger(FailFastPrefetchResultSet.class.getName());
+
+  /**
+   * How often a blocked background thread or consumer checks whether the other side has gone away.
+   */
+  private static final long POLL_MILLIS = 100;
+
+  /**
+   * Queued after the last row.
+   */
+  private static final Object END = new Object();
+
+  /**
+   * Queued in place of a row when reading ahead fails.
+   */
+  private static final class Failure {
+
+    private final Throwable cause;
+
+    private Failure(Throwable cause) {
+      this.cause = cause;
+    }
+  }
+
+  /**
+   * The number of chunks held by the buffer.
+   */
+  private static final int CHUNKS = 4;
+
+  private static SQLNonTransientException forwardOnly() {
+    return new SQLNonTransientException("Result set is forward-only");
+  }
+
+  private final Statement statement;
+  private final FailFastResultSetImpl source;
+  private final int columnCount;
+  private final int chunkSize;
+
+  /**
+   * Holds chunks of rows, each a non-empty {@code List<Object[]>}, followed by either {@link #END} or a
+   * {@link Failure}.
+   */
+  private final BlockingQueue<Object> buffer;
+
+  /**
+   * Counted down once the background thread will no longer access the source.
+   */
+  private final CountDownLatch done = new CountDownLatch(1);
+
+  private volatile boolean stopped;
+
+  /**
+   * Set while the background thread is in {@link ResultSet#next()} of the source, which may block on the driver.
+   */
+  private volatile boolean fetching;
+
+  /**
+   * The chunk being consumed.
+   */
+  private List<Object[]> chunk = Collections.emptyList();
+
+  /**
+   * The index of the next row in {@link #chunk}.
+   */
+  private int chunkIndex;
+
+  /**
+   * The row or other item taken to look ahead, but not yet consumed, or {@code null} when none.
+   */
+  private Object pending;
+
+  /**
+   * The number of rows consumed.
+   */
+  private int rowNumber;
+
+  private boolean onRow;
+  private boolean ended;
+
+  /**
+   * The failure consumed, thrown again by each later call to {@link #next()}, or {@code null} when none.
+   */
+  private Throwable failure;
+
+  /**
+   * @param  statement   The statement that produced the source, cancelled when this result set is closed while reading
+   *                     ahead, or {@code null} for none
+   * @param  source      The result set read ahead, closed when this result set is closed
+   * @param  bufferSize  The number of rows read ahead, at least one, rounded up to a multiple of four
+   */
+  FailFastPrefetchResultSet(Statement statement, FailFastResultSetMetaDataSnapshot metaData,
+      FailFastResultSetImpl source, int bufferSize) throws SQLException {
+    super(statement, metaData, Collections.emptyList());
+    this.statement = statement;
+    this.source = source;
+    columnCount = metaData.getColumnCount();
+    chunkSize = (bufferSize + CHUNKS - 1) / CHUNKS;
+    buffer = new ArrayBlockingQueue<>(CHUNKS);
+  }
+
+  /**
+   * Starts reading ahead.
+   *
+   * @throws  java.util.concurrent.RejectedExecutionException  when the executor does not accept the task, in which
+   *                                                            case the source has not been accessed
+   */
+  void start(Executor executor) {
+    try {
+      executor.execute(this::readAhead);
+    } catch (RuntimeException | Error e) {
+      done.countDown();
+      throw e;
+    }
+  }
+
+  /**
+   * Reads ahead until the end of the source, a failure, or closed.  Run once by the background thread.
+   */
+  private void readAhead() {
+    try {
+      FailFastConnectionImpl ffConn = source.getConnectionWrapper();
+      ResultSet results = source.getWrapped();
+      List<Object[]> rows = new ArrayList<>(chunkSize);
+      Object last;
+      try {
+        while (true) {
+          if (stopped) {
+            return;
+          }
+          try {
+            ffConn.failFastSQLException();
+          } catch (Throwable t) {
+            // Already the fail-fast state of the connection, so not registered again
+            last = new Failure(t);
+            break;
+          }
+          boolean hasNext;
+          fetching = true;
+          try {
+            hasNext = results.next();
+          } finally {
+            fetching = false;
+          }
+          if (!hasNext) {
+            last = END;
+            break;
+          }
+          Object[] row = new Object[columnCount];
+          for (int i = 0; i < columnCount; i++) {
+            row[i] = results.getObject(i + 1);
+          }
+          rows.add(row);
+          if (rows.size() == chunkSize || buffer.isEmpty()) {
+            if (!put(rows)) {
+              return;
+            }
+            rows = new ArrayList<>(chunkSize);
+          }
+        }
+      } catch (Throwable t) {
+        // Registered when it happens, so the connection fails fast even when this result set is closed before the
+        // consumer reaches the failure
+        ffConn.addFailFastCause(t);
+        last = new Failure(t);
+      }
+      if (rows.isEmpty() || put(rows)) {
+        put(last);
+      }
+    } finally {
+      done.countDown();
+    }
+  }
+
+  /**
+   * Adds an item to the buffer, blocking while full.  While blocked, periodically checks whether stopped or the source
+   * has been closed, since there may be no consumer left to empty the buffer.
+   *
+   * @return  {@code false} when stopped, the source is closed, or interrupted
+   */
+  private boolean put(Object item) {
+    try {
+      while (!stopped) {
+        if (buffer.offer(item, POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+          return true;
+        }
+        if (isSourceClosed()) {
+          return false;
+        }
+      }
+      return false;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  /**
+   * Checks whether the source has been closed, directly or by closing its statement or connection.
+   */
+  private boolean isSourceClosed() {
+    try {
+      return source.getWrapped().isClosed();
+    } catch (Throwable t) {
+      // Unable to tell, so assume closed
+      return true;
+    }
+  }
+
+  /**
+   * Takes the next row, {@link #END}, or {@link Failure}, blocking until read ahead.
+   */
+  @SuppressWarnings("unchecked")
+  private Object take() throws SQLException {
+    Object item = pending;
+    if (item != null) {
+      pending = null;
+      return item;
+    }
+    if (chunkIndex < chunk.size()) {
+      return chunk.get(chunkIndex++);
+    }
+    try {
+      while (true) {
+        item = buffer.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+        if (item != null) {
+          break;
+        }
+        if (done.getCount() == 0) {
+          // The background thread may have queued its last item just before finishing
+          item = buffer.poll();
+          if (item == null) {
+            throw new SQLNonTransientException("Result set closed while reading ahead");
+          }
+          break;
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SQLException("Interrupted while waiting for a prefetched row", e);
+    }
+    if (item instanceof List) {
+      chunk = (List<Object[]>) item;
+      chunkIndex = 1;
+      return chunk.get(0);
+    }
+    return item;
+  }
+
+  /**
+   * Looks at the next item without consuming it, blocking until read ahead.
+   */
+  private Object peek() throws SQLException {
+    Object item = pending;
+    if (item == null) {
+      item = take();
+      pending = item;
+    }
+    return item;
+  }
+
+  @Override
+  public boolean next() throws SQLException {
+    checkOpen();
+    if (failure != null) {
+      throw Throwables.wrap(failure, SQLException.class, FailFastSQLException::new);
+    }
+    if (!ended) {
+      Object item = take();
+      if (item instanceof Object[]) {
+        rowNumber++;
+        onRow = true;
+        setCurrentRow((Object[]) item);
+        return true;
+      }
+      ended = true;
+      if (item instanceof Failure) {
+        failure = ((Failure) item).cause;
+      }
+    }
+    onRow = false;
+    setCurrentRow(null);
+    if (failure != null) {
+      throw Throwables.wrap(failure, SQLException.class, FailFastSQLException::new);
+    }
+    return false;
+  }
+
+  /**
+   * Stops reading ahead, cancels the statement when the background thread is in a fetch, waits for the background
+   * thread to no longer access the source, then closes the source.
+   */
+  @Override
+  public void close() throws SQLException {
+    if (isClosed()) {
+      return;
+    }
+    stopped = true;
+    buffer.clear();
+    chunk = Collections.emptyList();
+    pending = null;
+    onRow = false;
+    super.close();
+    if (fetching && statement != null) {
+      try {
+        statement.cancel();
+      } catch (SQLException e) {
+        LOGGER.log(Level.FINE, "Unable to cancel statement", e);
+      }
+    }
+    boolean interrupted = false;
+    while (true) {
+      try {
+        done.await();
+        break;
+      } catch (InterruptedException e) {
+        interrupted = true;
+      }
+    }
+    try {
+      source.close();
+    } finally {
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  @Override
+  public boolean isBeforeFirst() throws SQLException {
+    checkOpen();
+    return rowNumber == 0 && !ended && peek() instanceof Object[];
+  }
+
+  @Override
+  public boolean isAfterLast() throws SQLException {
+    checkOpen();
+    return ended && rowNumber > 0;
+  }
+
+  @Override
+  public boolean isFirst() throws SQLException {
+    checkOpen();
+    return onRow && rowNumber == 1;
+  }
+
+  @Override
+  public boolean isLast() throws SQLException {
+    checkOpen();
+    return onRow && peek() == END;
+  }
+
+  @Override
+  public int getRow() throws SQLException {
+    checkOpen();
+    return onRow ? rowNumber : 0;
+  }
+
+  @Override
+  public void beforeFirst() throws SQLException {
+    throw forwardOnly();
+  }
+
+  @Override
+  public void afterLast() throws SQLException {
+    throw forwardOnly();
+  }
+
+  @Override
+  public boolean first() throws SQLException {
+    throw forwardOnly();
+  }
+
+  @Override
+  public boolean last() throws SQLException {
+    throw forwardOnly();
+  }
+
+  @Override
+  public boolean absolute(int row) throws SQLException {
+    throw forwardOnly();
+  }
+
+  @Override
+  public boolean relative(int rows) throws SQLException {
+    throw forwardOnly();
+  }
+
+  @Override
+  public boolean previous() throws SQLException {
+    throw forwardOnly();
+  }
+
+  @Override
+  public void setFetchDirection(int direction) throws SQLException {
+    if (direction != FETCH_FORWARD) {
+      checkOpen();
+      throw forwardOnly();
+    }
+    super.setFetchDirection(direction);
+  }
+
+  @Override
+  public int getType() throws SQLException {
+    checkOpen();
+    return TYPE_FORWARD_ONLY;
+  }
+}
@@ -1,6 +1,6 @@
 /*
  * ao-sql-failfast - Fail-fast JDBC wrapper.
- * Copyright (C) 2020, 2021, 2022  AO Industries, Inc.
+ * Copyright (C) 2020, 2021, 2022, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -23,6 +23,7 @@
 
 package com.aoapps.sql.failfast;
 
+import com.aoapps.lang.NullArgumentException;
 import com.aoapps.lang.Throwables;
 import com.aoapps.sql.wrapper.PreparedStatementWrapperImpl;
 import java.io.InputStream;
@@ -36,14 +37,18 @@ import java.sql.Date;
 import java.sql.NClob;
 import java.sql.PreparedStatement;
 import java.sql.Ref;
+import java.sql.ResultSetMetaData;
 import java.sql.RowId;
 import java.sql.SQLException;
+import java.sql.SQLNonTransientException;
 import java.sql.SQLType;
 import java.sql.SQLWarning;
 import java.sql.SQLXML;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.util.Calendar;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
 
 /**
  * See {@link FailFastConnectionImpl}.
@@ -53,8 +58,105 @@ import java.util.Calendar;
 @SuppressWarnings({"UseSpecificCatch", "TooBroadCatch"})
 public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl {
 
+  /**
+   * Parameter setters check the fail-fast state unless the
+   * {@linkplain FailFastConnection#getFailFastCheckGranularity() check granularity} is
+   * {@link FailFastConnection.CheckGranularity#EXECUTE}.  Otherwise, the state is checked by the execute methods and
+   * the other boundary calls.
+   */
+  private final boolean checkParameters;
+
   public FailFastPreparedStatementImpl(FailFastConnectionImpl failFastConnection, PreparedStatement wrapped) {
     super(failFastConnection, wrapped);
+    checkParameters = failFastConnection.getFailFastCheckGranularity() != FailFastConnection.CheckGranularity.EXECUTE;
+  }
+
+  /**
+   * The key in the {@linkplain FailFastConnection#getFailFastStatementCacheSize() statement cache} or {@code null}
+   * when not cached.  A cached handle is logically closed: {@link #close()} returns the wrapped statement to the cache
+   * instead of closing it.
+   */
+  private FailFastStatementCache.Key cacheKey;
+
+  /**
+   * The generation of the statement cache when this handle was created.
+   */
+  private int cacheGeneration;
+
+  /**
+   * Set once a cached handle has been closed.  The wrapped statement may then be in use by another handle.
+   */
+  private boolean released;
+
+  /**
+   * Cleared when the wrapped statement must not be reused by another handle.
+   */
+  private boolean reusable = true;
+
+  /**
+   * Set once a batch has been added, so that it is cleared before reuse.
+   */
+  private boolean batched;
+
+  /**
+   * Set when the SQL is DDL, which discards the cached schema of the connection when executed.
+   */
+  private boolean ddl;
+
+  /**
+   * Set when the SQL may change the catalog or schema, which discards the context of the shared statement metadata
+   * when executed.
+   */
+  private boolean contextChange;
+
+  /**
+   * Makes this a cached handle.
+   */
+  void setCacheKey(FailFastStatementCache.Key cacheKey, int cacheGeneration) {
+    this.cacheKey = cacheKey;
+    this.cacheGeneration = cacheGeneration;
+  }
+
+  /**
+   * Marks the SQL as DDL.
+   */
+  void setDDL() {
+    ddl = true;
+  }
+
+  /**
+   * Marks the SQL as possibly changing the catalog or schema.
+   */
+  void setContextChange() {
+    contextChange = true;
+  }
+
+  /**
+   * The cache of metadata by SQL and context or {@code null} when not cached.
+   */
+  private FailFastStatementMetaDataCache metaDataCache;
+
+  /**
+   * The SQL and context this statement was prepared with, when {@link #metaDataCache} is set.
+   */
+  private FailFastStatementMetaDataCache.Key metaDataKey;
+
+  /**
+   * Answers {@link #getMetaData()} and {@link #getParameterMetaData()} from the given cache.
+   */
+  void setMetaDataCache(FailFastStatementMetaDataCache metaDataCache, FailFastStatementMetaDataCache.Key metaDataKey) {
+    this.metaDataCache = metaDataCache;
+    this.metaDataKey = metaDataKey;
+  }
+
+  /**
+   * Executing through a closed cached handle would execute the wrapped statement in use by another handle.
+   * This is not a failure of the connection, so is thrown without registering a fail-fast cause.
+   */
+  void checkNotReleased() throws SQLException {
+    if (released) {
+      throw new SQLNonTransientException("Statement is closed");
+    }
   }
 
   @Override
@@ -69,6 +171,7 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public FailFastResultSetImpl executeQuery(String sql) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
+    checkNotReleased();
     ffConn.failFastSQLException();
     try {
       return (FailFastResultSetImpl) super.executeQuery(sql);
@@ -81,6 +184,7 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public int executeUpdate(String sql) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
+    checkNotReleased();
     ffConn.failFastSQLException();
     try {
       return super.executeUpdate(sql);
@@ -93,7 +197,12 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public void close() throws SQLException {
     try {
-      super.close();
+      if (cacheKey == null) {
+        super.close();
+      } else if (!released) {
+        released = true;
+        getConnectionWrapper().releaseStatement(cacheKey, cacheGeneration, getWrapped(), reusable, batched);
+      }
     } catch (Throwable t) {
       getConnectionWrapper().addFailFastCause(t);
       throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
@@ -103,6 +212,7 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public int getMaxFieldSize() throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
+    checkNotReleased();
     ffConn.failFastSQLException();
     try {
       return super.getMaxFieldSize();
@@ -115,9 +225,12 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public void setMaxFieldSize(int max) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
+    checkNotReleased();
     ffConn.failFastSQLException();
     try {
       super.setMaxFieldSize(max);
+      // Not reset when returned to the statement cache
+      reusable = false;
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
       throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
@@ -127,6 +240,7 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public int getMaxRows() throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
+    checkNotReleased();
     ffConn.failFastSQLException();
     try {
       return super.getMaxRows();
@@ -139,9 +253,12 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public void setMaxRows(int max) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
+    checkNotReleased();
     ffConn.failFastSQLException();
     try {
       super.setMaxRows(max);
+      // Not reset when returned to the statement cache
+      reusable = false;
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
       throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
@@ -151,9 +268,12 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public void setEscapeProcessing(boolean enable) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
+    checkNotReleased();
     ffConn.failFastSQLException();
     try {
       super.setEscapeProcessing(enable);
+      // Not reset when returned to the statement cache
+      reusable = false;
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
       throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
@@ -163,6 +283,7 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public int getQueryTimeout() throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
+    checkNotReleased();
     ffConn.failFastSQLException();
     try {
       return super.getQueryTimeout();
@@ -175,9 +296,12 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public void setQueryTimeout(int seconds) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
+    checkNotReleased();
     ffConn.failFastSQLException();
     try {
       super.setQueryTimeout(seconds);
+      // Not reset when returned to the statement cache
+      reusable = false;
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
       throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
@@ -186,6 +310,7 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
 
   @Override
   public void cancel() throws SQLException {
+    checkNotReleased();
     try {
       super.cancel();
     } catch (Throwable t) {
@@ -197,6 +322,7 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public SQLWarning getWarnings() throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
+    checkNotReleased();
     ffConn.failFastSQLException();
     try {
       return super.getWarnings();
@@ -209,6 +335,7 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public void clearWarnings() throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
+    checkNotReleased();
     ffConn.failFastSQLException();
     try {
       super.clearWarnings();
@@ -221,9 +348,12 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public void setCursorName(String name) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
+    checkNotReleased();
     ffConn.failFastSQLException();
     try {
       super.setCursorName(name);
+      // Not reset when returned to the statement cache
+      reusable = false;
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
       throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
@@ -233,6 +363,7 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public boolean execute(String sql) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
+    checkNotReleased();
     ffConn.failFastSQLException();
     try {
       return super.execute(sql);
@@ -245,6 +376,7 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public FailFastResultSetImpl getResultSet() throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
+    checkNotReleased();
     ffConn.failFastSQLException();
     try {
       return (FailFastResultSetImpl) super.getResultSet();
@@ -257,6 +389,7 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public int getUpdateCount() throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
+    checkNotReleased();
     ffConn.failFastSQLException();
     try {
       return super.getUpdateCount();
@@ -269,6 +402,7 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public boolean getMoreResults() throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
+    checkNotReleased();
     ffConn.failFastSQLException();
     try {
       return super.getMoreResults();
@@ -281,9 +415,12 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public void setFetchDirection(int direction) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
+    checkNotReleased();
     ffConn.failFastSQLException();
     try {
       super.setFetchDirection(direction);
+      // Not reset when returned to the statement cache
+      reusable = false;
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
       throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
@@ -293,6 +430,7 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public int getFetchDirection() throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
+    checkNotReleased();
     ffConn.failFastSQLException();
     try {
       return super.getFetchDirection();
@@ -305,9 +443,12 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public void setFetchSize(int rows) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
+    checkNotReleased();
     ffConn.failFastSQLException();
     try {
       super.setFetchSize(rows);
+      // Not reset when returned to the statement cache
+      reusable = false;
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
       throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
@@ -317,6 +458,7 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public int getFetchSize() throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
+    checkNotReleased();
     ffConn.failFastSQLException();
     try {
       return super.getFetchSize();
@@ -329,6 +471,7 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public int getResultSetConcurrency() throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
+    checkNotReleased();
     ffConn.failFastSQLException();
     try {
       return super.getResultSetConcurrency();
@@ -341,6 +484,7 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public int getResultSetType() throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
+    checkNotReleased();
     ffConn.failFastSQLException();
     try {
       return super.getResultSetType();
@@ -353,6 +497,7 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public void addBatch(String sql) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
+    checkNotReleased();
     ffConn.failFastSQLException();
     try {
       super.addBatch(sql);
@@ -364,6 +509,7 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
 
   @Override
   public void clearBatch() throws SQLException {
+    checkNotReleased();
     try {
       super.clearBatch();
     } catch (Throwable t) {
@@ -375,17 +521,25 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public int[] executeBatch() throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
+    checkNotReleased();
     ffConn.failFastSQLException();
     try {
       return super.executeBatch();
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
       throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
+    } finally {
+      if (ddl) {
+        ffConn.ddlExecuted();
+      } else if (contextChange) {
+        ffConn.contextChanged();
+      }
     }
   }
 
   @Override
   public FailFastConnectionImpl getConnection() throws SQLException {
+    checkNotReleased();
     try {
       return (FailFastConnectionImpl) super.getConnection();
     } catch (Throwable t) {
@@ -397,6 +551,7 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public boolean getMoreResults(int current) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
+    checkNotReleased();
     ffConn.failFastSQLException();
     try {
       return super.getMoreResults(current);
@@ -409,6 +564,7 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public FailFastResultSetImpl getGeneratedKeys() throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
+    checkNotReleased();
     ffConn.failFastSQLException();
     try {
       return (FailFastResultSetImpl) super.getGeneratedKeys();
@@ -421,6 +577,7 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public int executeUpdate(String sql, int autoGeneratedKeys) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
+    checkNotReleased();
     ffConn.failFastSQLException();
     try {
       return super.executeUpdate(sql, autoGeneratedKeys);
@@ -433,6 +590,7 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public int executeUpdate(String sql, int[] columnIndexes) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
+    checkNotReleased();
     ffConn.failFastSQLException();
     try {
       return super.executeUpdate(sql, columnIndexes);
@@ -445,6 +603,7 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public int executeUpdate(String sql, String[] columnNames) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
+    checkNotReleased();
     ffConn.failFastSQLException();
     try {
       return super.executeUpdate(sql, columnNames);
@@ -457,6 +616,7 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public boolean execute(String sql, int autoGeneratedKeys) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
+    checkNotReleased();
     ffConn.failFastSQLException();
     try {
       return super.execute(sql, autoGeneratedKeys);
@@ -469,6 +629,7 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public boolean execute(String sql, int[] columnIndexes) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
+    checkNotReleased();
     ffConn.failFastSQLException();
     try {
       return super.execute(sql, columnIndexes);
@@ -481,6 +642,7 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public boolean execute(String sql, String[] columnNames) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
+    checkNotReleased();
     ffConn.failFastSQLException();
     try {
       return super.execute(sql, columnNames);
@@ -493,6 +655,7 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public int getResultSetHoldability() throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
+    checkNotReleased();
     ffConn.failFastSQLException();
     try {
       return super.getResultSetHoldability();
@@ -504,6 +667,9 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
 
   @Override
   public boolean isClosed() throws SQLException {
+    if (released) {
+      return true;
+    }
     try {
       return super.isClosed();
     } catch (Throwable t) {
@@ -515,9 +681,13 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public void setPoolable(boolean poolable) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
+    checkNotReleased();
     ffConn.failFastSQLException();
     try {
       super.setPoolable(poolable);
+      if (!poolable) {
+        reusable = false;
+      }
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
       throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
@@ -527,6 +697,7 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public boolean isPoolable() throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
+    checkNotReleased();
     ffConn.failFastSQLException();
     try {
       return super.isPoolable();
@@ -539,9 +710,12 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public void closeOnCompletion() throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
+    checkNotReleased();
     ffConn.failFastSQLException();
     try {
       super.closeOnCompletion();
+      // The statement would close itself while cached
+      reusable = false;
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
       throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
@@ -551,6 +725,7 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public boolean isCloseOnCompletion() throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
+    checkNotReleased();
     ffConn.failFastSQLException();
     try {
       return super.isCloseOnCompletion();
@@ -563,6 +738,7 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public long getLargeUpdateCount() throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
+    checkNotReleased();
     ffConn.failFastSQLException();
     try {
       return super.getLargeUpdateCount();
@@ -575,9 +751,12 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public void setLargeMaxRows(long max) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
+    checkNotReleased();
     ffConn.failFastSQLException();
     try {
       super.setLargeMaxRows(max);
+      // Not reset when returned to the statement cache
+      reusable = false;
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
       throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
@@ -587,6 +766,7 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public long getLargeMaxRows() throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
+    checkNotReleased();
     ffConn.failFastSQLException();
     try {
       return super.getLargeMaxRows();
@@ -599,18 +779,26 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public long[] executeLargeBatch() throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
+    checkNotReleased();
     ffConn.failFastSQLException();
     try {
       return super.executeLargeBatch();
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
       throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
+    } finally {
+      if (ddl) {
+        ffConn.ddlExecuted();
+      } else if (contextChange) {
+        ffConn.contextChanged();
+      }
     }
   }
 
   @Override
   public long executeLargeUpdate(String sql) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
+    checkNotReleased();
     ffConn.failFastSQLException();
     try {
       return super.executeLargeUpdate(sql);
@@ -623,6 +811,7 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public long executeLargeUpdate(String sql, int autoGeneratedKeys) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
+    checkNotReleased();
     ffConn.failFastSQLException();
     try {
       return super.executeLargeUpdate(sql, autoGeneratedKeys);
@@ -635,6 +824,7 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public long executeLargeUpdate(String sql, int[] columnIndexes) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
+    checkNotReleased();
     ffConn.failFastSQLException();
     try {
       return super.executeLargeUpdate(sql, columnIndexes);
@@ -647,6 +837,7 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public long executeLargeUpdate(String sql, String[] columnNames) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
+    checkNotReleased();
     ffConn.failFastSQLException();
     try {
       return super.executeLargeUpdate(sql, columnNames);
@@ -659,6 +850,7 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public String enquoteLiteral(String val) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
+    checkNotReleased();
     ffConn.failFastSQLException();
     try {
       return super.enquoteLiteral(val);
@@ -671,6 +863,7 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public String enquoteIdentifier(String identifier, boolean alwaysQuote) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
+    checkNotReleased();
     ffConn.failFastSQLException();
     try {
       return super.enquoteIdentifier(identifier, alwaysQuote);
@@ -683,6 +876,7 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public boolean isSimpleIdentifier(String identifier) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
+    checkNotReleased();
     ffConn.failFastSQLException();
     try {
       return super.isSimpleIdentifier(identifier);
@@ -695,6 +889,7 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public String enquoteNCharLiteral(String val) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
+    checkNotReleased();
     ffConn.failFastSQLException();
     try {
       return super.enquoteNCharLiteral(val);
@@ -711,6 +906,7 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public FailFastResultSetImpl executeQuery() throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
+    checkNotReleased();
     ffConn.failFastSQLException();
     try {
       return (FailFastResultSetImpl) super.executeQuery();
@@ -720,22 +916,45 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
     }
   }
 
+  /**
+   * Publishes the rows of this query, each mapped by the given mapper.  The query is executed on the given executor
+   * upon the first demand, with the parameters set at that time, so no thread is blocked until then.  Cancelling calls
+   * {@link #cancel()}.
+   *
+   * @see  FailFastResultSetImpl#publisher(com.aoapps.sql.failfast.FailFastRowMapper, java.util.concurrent.Executor)
+   */
+  public <T> Flow.Publisher<T> publisher(FailFastRowMapper<? extends T> mapper, Executor executor) {
+    NullArgumentException.checkNotNull(mapper, "mapper");
+    NullArgumentException.checkNotNull(executor, "executor");
+    return new FailFastResultSetPublisher<>(getConnectionWrapper(), this, this::executeQuery, mapper, executor);
+  }
+
   @Override
   public int executeUpdate() throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
+    checkNotReleased();
     ffConn.failFastSQLException();
     try {
       return super.executeUpdate();
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
       throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
+    } finally {
+      if (ddl) {
+        ffConn.ddlExecuted();
+      } else if (contextChange) {
+        ffConn.contextChanged();
+      }
     }
   }
 
   @Override
   public void setNull(int parameterIndex, int sqlType) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    checkNotReleased();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setNull(parameterIndex, sqlType);
     } catch (Throwable t) {
@@ -747,7 +966,10 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public void setBoolean(int parameterIndex, boolean x) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    checkNotReleased();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setBoolean(parameterIndex, x);
     } catch (Throwable t) {
@@ -759,7 +981,10 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public void setByte(int parameterIndex, byte x) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    checkNotReleased();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setByte(parameterIndex, x);
     } catch (Throwable t) {
@@ -771,7 +996,10 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public void setShort(int parameterIndex, short x) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    checkNotReleased();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setShort(parameterIndex, x);
     } catch (Throwable t) {
@@ -783,7 +1011,10 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public void setInt(int parameterIndex, int x) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    checkNotReleased();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setInt(parameterIndex, x);
     } catch (Throwable t) {
@@ -795,7 +1026,10 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public void setLong(int parameterIndex, long x) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    checkNotReleased();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setLong(parameterIndex, x);
     } catch (Throwable t) {
@@ -807,7 +1041,10 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public void setFloat(int parameterIndex, float x) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    checkNotReleased();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setFloat(parameterIndex, x);
     } catch (Throwable t) {
@@ -819,7 +1056,10 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public void setDouble(int parameterIndex, double x) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    checkNotReleased();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setDouble(parameterIndex, x);
     } catch (Throwable t) {
@@ -831,7 +1071,10 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public void setBigDecimal(int parameterIndex, BigDecimal x) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    checkNotReleased();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setBigDecimal(parameterIndex, x);
     } catch (Throwable t) {
@@ -843,7 +1086,10 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public void setString(int parameterIndex, String x) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    checkNotReleased();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setString(parameterIndex, x);
     } catch (Throwable t) {
@@ -855,7 +1101,10 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public void setBytes(int parameterIndex, byte[] x) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    checkNotReleased();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setBytes(parameterIndex, x);
     } catch (Throwable t) {
@@ -867,7 +1116,10 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public void setDate(int parameterIndex, Date x) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    checkNotReleased();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setDate(parameterIndex, x);
     } catch (Throwable t) {
@@ -879,7 +1131,10 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public void setTime(int parameterIndex, Time x) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    checkNotReleased();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setTime(parameterIndex, x);
     } catch (Throwable t) {
@@ -891,7 +1146,10 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public void setTimestamp(int parameterIndex, Timestamp x) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    checkNotReleased();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setTimestamp(parameterIndex, x);
     } catch (Throwable t) {
@@ -903,7 +1161,10 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public void setAsciiStream(int parameterIndex, InputStream x, int length) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    checkNotReleased();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setAsciiStream(parameterIndex, x, length);
     } catch (Throwable t) {
@@ -916,7 +1177,10 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Deprecated(since = "1.2")
   public void setUnicodeStream(int parameterIndex, InputStream x, int length) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    checkNotReleased();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setUnicodeStream(parameterIndex, x, length);
     } catch (Throwable t) {
@@ -928,7 +1192,10 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public void setBinaryStream(int parameterIndex, InputStream x, int length) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    checkNotReleased();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setBinaryStream(parameterIndex, x, length);
     } catch (Throwable t) {
@@ -939,6 +1206,7 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
 
   @Override
   public void clearParameters() throws SQLException {
+    checkNotReleased();
     try {
       super.clearParameters();
     } catch (Throwable t) {
@@ -950,7 +1218,10 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public void setObject(int parameterIndex, Object x, int targetSqlType) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    checkNotReleased();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setObject(parameterIndex, x, targetSqlType);
     } catch (Throwable t) {
@@ -962,7 +1233,10 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public void setObject(int parameterIndex, Object x) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    checkNotReleased();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setObject(parameterIndex, x);
     } catch (Throwable t) {
@@ -974,31 +1248,136 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public boolean execute() throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
+    checkNotReleased();
     ffConn.failFastSQLException();
     try {
       return super.execute();
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
       throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
+    } finally {
+      if (ddl) {
+        ffConn.ddlExecuted();
+      } else if (contextChange) {
+        ffConn.contextChanged();
+      }
     }
   }
 
   @Override
   public void addBatch() throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
+    checkNotReleased();
     ffConn.failFastSQLException();
     try {
       super.addBatch();
+      batched = true;
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
       throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
     }
   }
 
+  /**
+   * Gets a binder of the given properties of the given record or bean class to the parameters of a statement,
+   * compiled once into a single method handle.  Each property is set by the typed setter of its type, with one
+   * fail-fast state check per object.  See {@link FailFastCompiledParameterBinder} for how properties are read.
+   *
+   * <p>The binder does not depend on the SQL, so is cached by class and properties and shared by all statements.</p>
+   *
+   * @param  properties  The properties bound to parameters in order, starting at parameter one, or none to bind the
+   *                     components of a record in declaration order
+   *
+   * @throws  IllegalArgumentException  when the class is not supported, a property is not found, or no properties are
+   *                                    given for a class that is not a record
+   *
+   * @see  #addBatch(com.aoapps.sql.failfast.FailFastParameterBinder, java.lang.Iterable)
+   */
+  public <T> FailFastParameterBinder<T> getParameterBinder(Class<T> type, String... properties)
+      throws IllegalArgumentException {
+    NullArgumentException.checkNotNull(type, "type");
+    NullArgumentException.checkNotNull(properties, "properties");
+    return FailFastCompiledParameterBinder.get(type, properties);
+  }
+
+  /**
+   * Binds each object by the given binder and adds it to the batch, with one fail-fast state check per object.  A
+   * {@linkplain #getParameterBinder(java.lang.Class, java.lang.String...) compiled binder} sets the parameters of the
+   * wrapped statement directly, while any other binder is given this statement.
+   *
+   * @see  #executeBatch()
+   */
+  public <T> void addBatch(FailFastParameterBinder<? super T> binder, Iterable<? extends T> rows) throws SQLException {
+    NullArgumentException.checkNotNull(binder, "binder");
+    NullArgumentException.checkNotNull(rows, "rows");
+    FailFastConnectionImpl ffConn = getConnectionWrapper();
+    checkNotReleased();
+    PreparedStatement wrapped = getWrapped();
+    @SuppressWarnings("unchecked")
+    FailFastCompiledParameterBinder<? super T> compiled = (binder instanceof FailFastCompiledParameterBinder)
+        ? (FailFastCompiledParameterBinder<? super T>) binder : null;
+    for (T row : rows) {
+      ffConn.failFastSQLException();
+      if (compiled != null) {
+        compiled.bindWrapped(ffConn, wrapped, row);
+      } else {
+        binder.bind(this, row);
+      }
+      try {
+        wrapped.addBatch();
+        batched = true;
+      } catch (Throwable t) {
+        ffConn.addFailFastCause(t);
+        throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
+      }
+    }
+  }
+
+  /**
+   * Binds the components of each record and adds it to the batch, with one fail-fast state check per record.  Each
+   * record is bound by the {@linkplain #getParameterBinder(java.lang.Class, java.lang.String...) compiled binder} of
+   * its class.
+   *
+   * @throws  IllegalArgumentException  when an object is not a supported record
+   *
+   * @see  #addBatch(com.aoapps.sql.failfast.FailFastParameterBinder, java.lang.Iterable)
+   */
+  public void addBatch(Iterable<?> records) throws SQLException, IllegalArgumentException {
+    NullArgumentException.checkNotNull(records, "records");
+    FailFastConnectionImpl ffConn = getConnectionWrapper();
+    checkNotReleased();
+    PreparedStatement wrapped = getWrapped();
+    Class<?> lastType = null;
+    FailFastCompiledParameterBinder<Object> binder = null;
+    for (Object row : records) {
+      NullArgumentException.checkNotNull(row, "record");
+      ffConn.failFastSQLException();
+      Class<?> type = row.getClass();
+      if (type != lastType) {
+        @SuppressWarnings("unchecked")
+        FailFastCompiledParameterBinder<Object> newBinder =
+            (FailFastCompiledParameterBinder<Object>) getParameterBinder(type);
+        binder = newBinder;
+        lastType = type;
+      }
+      binder.bindWrapped(ffConn, wrapped, row);
+      try {
+        wrapped.addBatch();
+        batched = true;
+      } catch (Throwable t) {
+        ffConn.addFailFastCause(t);
+        throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
+      }
+    }
+  }
+
   @Override
   public void setCharacterStream(int parameterIndex, Reader reader, int length) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    checkNotReleased();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setCharacterStream(parameterIndex, reader, length);
     } catch (Throwable t) {
@@ -1010,7 +1389,10 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public void setRef(int parameterIndex, Ref x) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    checkNotReleased();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setRef(parameterIndex, x);
     } catch (Throwable t) {
@@ -1022,7 +1404,10 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public void setBlob(int parameterIndex, Blob x) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    checkNotReleased();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setBlob(parameterIndex, x);
     } catch (Throwable t) {
@@ -1034,7 +1419,10 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public void setClob(int parameterIndex, Clob x) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    checkNotReleased();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setClob(parameterIndex, x);
     } catch (Throwable t) {
@@ -1046,7 +1434,10 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public void setArray(int parameterIndex, Array x) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    checkNotReleased();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setArray(parameterIndex, x);
     } catch (Throwable t) {
@@ -1058,8 +1449,24 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public FailFastResultSetMetaDataImpl getMetaData() throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
+    checkNotReleased();
+    ffConn.failFastSQLException();
+    try {
+      // Not shared while the schema seen by this connection may differ from other connections
+      FailFastStatementMetaDataCache cache = ffConn.hasUncommittedDDL() ? null : metaDataCache;
+      if (cache != null) {
+        FailFastStatementMetaDataCache.Snapshots snapshots = cache.get(metaDataKey);
+        FailFastResultSetMetaDataSnapshot snapshot = snapshots.resultSetMetaData;
+        if (snapshot == null) {
+          ResultSetMetaData metaData = super.getMetaData();
+          if (metaData == null) {
+            return null;
+          }
+          snapshot = new FailFastResultSetMetaDataSnapshot(metaData);
+          snapshots.resultSetMetaData = snapshot;
+        }
+        return ffConn.newResultSetMetaDataWrapper(snapshot);
+      }
       return (FailFastResultSetMetaDataImpl) super.getMetaData();
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
@@ -1070,7 +1477,10 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public void setDate(int parameterIndex, Date x, Calendar cal) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    checkNotReleased();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setDate(parameterIndex, x, cal);
     } catch (Throwable t) {
@@ -1082,7 +1492,10 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public void setTime(int parameterIndex, Time x, Calendar cal) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    checkNotReleased();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setTime(parameterIndex, x, cal);
     } catch (Throwable t) {
@@ -1094,7 +1507,10 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public void setTimestamp(int parameterIndex, Timestamp x, Calendar cal) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    checkNotReleased();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setTimestamp(parameterIndex, x, cal);
     } catch (Throwable t) {
@@ -1106,7 +1522,10 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public void setNull(int parameterIndex, int sqlType, String typeName) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    checkNotReleased();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setNull(parameterIndex, sqlType, typeName);
     } catch (Throwable t) {
@@ -1118,7 +1537,10 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public void setURL(int parameterIndex, URL x) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    checkNotReleased();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setURL(parameterIndex, x);
     } catch (Throwable t) {
@@ -1130,8 +1552,26 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public FailFastParameterMetaDataImpl getParameterMetaData() throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
-    try {
+    checkNotReleased();
+    ffConn.failFastSQLException();
+    try {
+      FailFastStatementMetaDataCache cache = ffConn.hasUncommittedDDL() ? null : metaDataCache;
+      if (cache != null) {
+        FailFastStatementMetaDataCache.Snapshots snapshots = cache.get(metaDataKey);
+        FailFastParameterMetaDataSnapshot snapshot = snapshots.parameterMetaData;
+        if (snapshot == null) {
+          // Read from the driver directly, since the snapshot tolerates partial support of parameter metadata
+          snapshot = new FailFastParameterMetaDataSnapshot(
+              getWrapped().getParameterMetaData(),
+              ffConn.getFailFastClassifier()
+          );
+          // Failures that may succeed when read again are answered to this call only
+          if (snapshot.isShareable()) {
+            snapshots.parameterMetaData = snapshot;
+          }
+        }
+        return ffConn.newParameterMetaDataWrapper(snapshot);
+      }
       return (FailFastParameterMetaDataImpl) super.getParameterMetaData();
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
@@ -1142,7 +1582,10 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public void setRowId(int parameterIndex, RowId x) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    checkNotReleased();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setRowId(parameterIndex, x);
     } catch (Throwable t) {
@@ -1154,7 +1597,10 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public void setNString(int parameterIndex, String value) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    checkNotReleased();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setNString(parameterIndex, value);
     } catch (Throwable t) {
@@ -1166,7 +1612,10 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public void setNCharacterStream(int parameterIndex, Reader value, long length) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    checkNotReleased();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setNCharacterStream(parameterIndex, value, length);
     } catch (Throwable t) {
@@ -1178,7 +1627,10 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public void setNClob(int parameterIndex, NClob value) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    checkNotReleased();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setNClob(parameterIndex, value);
     } catch (Throwable t) {
@@ -1190,7 +1642,10 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public void setClob(int parameterIndex, Reader reader, long length) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    checkNotReleased();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setClob(parameterIndex, reader, length);
     } catch (Throwable t) {
@@ -1202,7 +1657,10 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public void setBlob(int parameterIndex, InputStream inputStream, long length) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    checkNotReleased();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setBlob(parameterIndex, inputStream, length);
     } catch (Throwable t) {
@@ -1214,7 +1672,10 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public void setNClob(int parameterIndex, Reader reader, long length) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    checkNotReleased();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setNClob(parameterIndex, reader, length);
     } catch (Throwable t) {
@@ -1226,7 +1687,10 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public void setSQLXML(int parameterIndex, SQLXML xmlObject) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    checkNotReleased();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setSQLXML(parameterIndex, xmlObject);
     } catch (Throwable t) {
@@ -1238,7 +1702,10 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public void setObject(int parameterIndex, Object x, int targetSqlType, int scaleOrLength) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    checkNotReleased();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setObject(parameterIndex, x, targetSqlType, scaleOrLength);
     } catch (Throwable t) {
@@ -1250,7 +1717,10 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public void setAsciiStream(int parameterIndex, InputStream x, long length) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    checkNotReleased();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setAsciiStream(parameterIndex, x, length);
     } catch (Throwable t) {
@@ -1262,7 +1732,10 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public void setBinaryStream(int parameterIndex, InputStream x, long length) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    checkNotReleased();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setBinaryStream(parameterIndex, x, length);
     } catch (Throwable t) {
@@ -1274,7 +1747,10 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public void setCharacterStream(int parameterIndex, Reader reader, long length) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    checkNotReleased();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setCharacterStream(parameterIndex, reader, length);
     } catch (Throwable t) {
@@ -1286,7 +1762,10 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public void setAsciiStream(int parameterIndex, InputStream x) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    checkNotReleased();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setAsciiStream(parameterIndex, x);
     } catch (Throwable t) {
@@ -1298,7 +1777,10 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public void setBinaryStream(int parameterIndex, InputStream x) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    checkNotReleased();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setBinaryStream(parameterIndex, x);
     } catch (Throwable t) {
@@ -1310,7 +1792,10 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public void setCharacterStream(int parameterIndex, Reader reader) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    checkNotReleased();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setCharacterStream(parameterIndex, reader);
     } catch (Throwable t) {
@@ -1322,7 +1807,10 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public void setNCharacterStream(int parameterIndex, Reader value) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    checkNotReleased();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setNCharacterStream(parameterIndex, value);
     } catch (Throwable t) {
@@ -1334,7 +1822,10 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public void setClob(int parameterIndex, Reader reader) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    checkNotReleased();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setClob(parameterIndex, reader);
     } catch (Throwable t) {
@@ -1346,7 +1837,10 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public void setBlob(int parameterIndex, InputStream inputStream) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    checkNotReleased();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setBlob(parameterIndex, inputStream);
     } catch (Throwable t) {
@@ -1358,7 +1852,10 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public void setNClob(int parameterIndex, Reader reader) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    checkNotReleased();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setNClob(parameterIndex, reader);
     } catch (Throwable t) {
@@ -1370,7 +1867,10 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public void setObject(int parameterIndex, Object x, SQLType targetSqlType, int scaleOrLength) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    checkNotReleased();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setObject(parameterIndex, x, targetSqlType, scaleOrLength);
     } catch (Throwable t) {
@@ -1382,7 +1882,10 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public void setObject(int parameterIndex, Object x, SQLType targetSqlType) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    checkNotReleased();
+    if (checkParameters) {
+      ffConn.failFastSQLException();
+    }
     try {
       super.setObject(parameterIndex, x, targetSqlType);
     } catch (Throwable t) {
@@ -1394,12 +1897,19 @@ public class FailFastPreparedStatementImpl extends PreparedStatementWrapperImpl
   @Override
   public long executeLargeUpdate() throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
+    checkNotReleased();
     ffConn.failFastSQLException();
     try {
       return super.executeLargeUpdate();
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
       throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
+    } finally {
+      if (ddl) {
+        ffConn.ddlExecuted();
+      } else if (contextChange) {
+        ffConn.contextChanged();
+      }
     }
   }
 }
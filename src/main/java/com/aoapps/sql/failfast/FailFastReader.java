@@ -1,6 +1,6 @@
 /*
  * ao-sql-failfast - Fail-fast JDBC wrapper.
- * Copyright (C) 2020, 2021, 2022  AO Industries, Inc.
+ * Copyright (C) 2020, 2021, 2022, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -30,17 +30,53 @@ import java.io.IOException;
 import java.io.Reader;
 import java.io.Writer;
 import java.nio.CharBuffer;
+import java.util.Arrays;
+import java.util.Objects;
 
 /**
  * See {@link FailFastConnectionImpl}.
  *
+ * <p>When the connection has a {@linkplain FailFastConnection#getFailFastStreamBufferSize() stream buffer size},
+ * characters are read ahead from the wrapped reader into a buffer, the same as {@link FailFastInputStream}.</p>
+ *
  * @author  AO Industries, Inc.
  */
 @SuppressWarnings({"UseSpecificCatch", "TooBroadCatch"})
 public class FailFastReader extends ReaderWrapper {
 
+  /**
+   * The size of the read-ahead buffer or {@code 0} when not buffered.
+   */
+  private final int bufferSize;
+
+  /**
+   * The read-ahead buffer, {@code null} until first filled and after returned to the connection.
+   */
+  private char[] buf;
+
+  /**
+   * The position of the next character to return from {@link #buf}.
+   */
+  private int pos;
+
+  /**
+   * One past the last valid character in {@link #buf}.
+   */
+  private int count;
+
+  /**
+   * The position in {@link #buf} of the mark or {@code -1} when not marked.
+   */
+  private int markpos = -1;
+
+  /**
+   * The number of characters that may be read after the mark before it is invalidated.
+   */
+  private int marklimit;
+
   public FailFastReader(FailFastConnectionImpl failFastConnection, Reader wrapped) {
     super(failFastConnection, wrapped);
+    bufferSize = failFastConnection.getFailFastStreamBufferSize();
   }
 
   @Override
@@ -48,8 +84,75 @@ public class FailFastReader extends ReaderWrapper {
     return (FailFastConnectionImpl) super.getConnectionWrapper();
   }
 
+  /**
+   * Reads more characters from the wrapped reader into the buffer, checking the fail-fast state once for the whole
+   * fill.  The characters after the mark are kept until its limit is exceeded.
+   *
+   * @return  The number of characters added or {@code -1} on end of stream
+   */
+  private int fill() throws IOException {
+    char[] b = buf;
+    if (b == null) {
+      b = buf = getConnectionWrapper().takeCharBuffer(bufferSize);
+    }
+    if (markpos < 0) {
+      pos = 0;
+    } else if (pos >= b.length) {
+      if (markpos > 0) {
+        int keep = pos - markpos;
+        System.arraycopy(b, markpos, b, 0, keep);
+        pos = keep;
+        markpos = 0;
+      } else if (b.length >= marklimit) {
+        markpos = -1;
+        pos = 0;
+      } else {
+        b = buf = Arrays.copyOf(b, (int) Math.min(b.length * 2L, marklimit));
+      }
+    }
+    count = pos;
+    int n = readWrapped(b, pos, b.length - pos);
+    if (n > 0) {
+      count = pos + n;
+    } else if (n < 0 && markpos < 0) {
+      // Return the buffer at end of stream, since readers are often left open until their result set is closed
+      releaseBuffer();
+    }
+    return n;
+  }
+
+  /**
+   * Returns the buffer to the connection for use by the next reader.
+   */
+  private void releaseBuffer() {
+    char[] b = buf;
+    if (b != null) {
+      buf = null;
+      pos = 0;
+      count = 0;
+      markpos = -1;
+      // Buffers grown for a mark are not pooled
+      if (b.length == bufferSize) {
+        getConnectionWrapper().releaseCharBuffer(b);
+      }
+    }
+  }
+
   @Override
   public int read(CharBuffer target) throws IOException {
+    if (bufferSize != 0) {
+      int len = target.remaining();
+      if (len == 0) {
+        return 0;
+      }
+      if (pos >= count && fill() <= 0) {
+        return -1;
+      }
+      int cnt = Math.min(count - pos, len);
+      target.put(buf, pos, cnt);
+      pos += cnt;
+      return cnt;
+    }
     FailFastConnectionImpl ffConn = getConnectionWrapper();
     ffConn.failFastIOException();
     try {
@@ -62,6 +165,12 @@ public class FailFastReader extends ReaderWrapper {
 
   @Override
   public int read() throws IOException {
+    if (bufferSize != 0) {
+      if (pos >= count && fill() <= 0) {
+        return -1;
+      }
+      return buf[pos++];
+    }
     FailFastConnectionImpl ffConn = getConnectionWrapper();
     ffConn.failFastIOException();
     try {
@@ -74,6 +183,9 @@ public class FailFastReader extends ReaderWrapper {
 
   @Override
   public int read(char[] cbuf) throws IOException {
+    if (bufferSize != 0) {
+      return read(cbuf, 0, cbuf.length);
+    }
     FailFastConnectionImpl ffConn = getConnectionWrapper();
     ffConn.failFastIOException();
     try {
@@ -86,6 +198,31 @@ public class FailFastReader extends ReaderWrapper {
 
   @Override
   public int read(char[] cbuf, int off, int len) throws IOException {
+    if (bufferSize != 0) {
+      Objects.checkFromIndexSize(off, len, cbuf.length);
+      if (len == 0) {
+        return 0;
+      }
+      int avail = count - pos;
+      if (avail <= 0) {
+        if (len >= bufferSize && markpos < 0) {
+          // Read large requests directly, without copying through the buffer
+          return readWrapped(cbuf, off, len);
+        }
+        if (fill() <= 0) {
+          return -1;
+        }
+        avail = count - pos;
+      }
+      int cnt = Math.min(avail, len);
+      System.arraycopy(buf, pos, cbuf, off, cnt);
+      pos += cnt;
+      return cnt;
+    }
+    return readWrapped(cbuf, off, len);
+  }
+
+  private int readWrapped(char[] cbuf, int off, int len) throws IOException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
     ffConn.failFastIOException();
     try {
@@ -98,6 +235,32 @@ public class FailFastReader extends ReaderWrapper {
 
   @Override
   public long skip(long n) throws IOException {
+    if (bufferSize != 0) {
+      if (n < 0) {
+        throw new IllegalArgumentException("skip value is negative");
+      }
+      if (n == 0) {
+        return 0;
+      }
+      long avail = count - pos;
+      if (avail <= 0) {
+        if (markpos < 0) {
+          return skipWrapped(n);
+        }
+        // Read through the buffer to keep the characters for reset
+        if (fill() <= 0) {
+          return 0;
+        }
+        avail = count - pos;
+      }
+      long skipped = Math.min(avail, n);
+      pos += (int) skipped;
+      return skipped;
+    }
+    return skipWrapped(n);
+  }
+
+  private long skipWrapped(long n) throws IOException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
     ffConn.failFastIOException();
     try {
@@ -110,6 +273,9 @@ public class FailFastReader extends ReaderWrapper {
 
   @Override
   public boolean ready() throws IOException {
+    if (bufferSize != 0 && pos < count) {
+      return true;
+    }
     FailFastConnectionImpl ffConn = getConnectionWrapper();
     ffConn.failFastIOException();
     try {
@@ -140,7 +306,15 @@ public class FailFastReader extends ReaderWrapper {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
     ffConn.failFastIOException();
     try {
-      super.mark(readAheadLimit);
+      if (bufferSize != 0 && super.markSupported()) {
+        if (readAheadLimit < 0) {
+          throw new IllegalArgumentException("Read-ahead limit < 0");
+        }
+        marklimit = readAheadLimit;
+        markpos = pos;
+      } else {
+        super.mark(readAheadLimit);
+      }
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
       throw Throwables.wrap(t, IOException.class, IOException::new);
@@ -151,6 +325,13 @@ public class FailFastReader extends ReaderWrapper {
   public void reset() throws IOException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
     ffConn.failFastIOException();
+    if (bufferSize != 0) {
+      if (markpos < 0) {
+        throw new IOException("Stream not marked");
+      }
+      pos = markpos;
+      return;
+    }
     try {
       super.reset();
     } catch (Throwable t) {
@@ -161,6 +342,7 @@ public class FailFastReader extends ReaderWrapper {
 
   @Override
   public void close() throws IOException {
+    releaseBuffer();
     try {
       super.close();
     } catch (Throwable t) {
@@ -171,6 +353,31 @@ public class FailFastReader extends ReaderWrapper {
 
   @Override
   public long transferTo(Writer out) throws IOException {
+    if (bufferSize != 0) {
+      Objects.requireNonNull(out, "out");
+      long transferred = 0;
+      if (markpos >= 0) {
+        // Read through the buffer to keep the characters for reset
+        while (pos < count || fill() > 0) {
+          int avail = count - pos;
+          out.write(buf, pos, avail);
+          pos += avail;
+          transferred += avail;
+        }
+        return transferred;
+      }
+      int avail = count - pos;
+      if (avail > 0) {
+        out.write(buf, pos, avail);
+        pos += avail;
+        transferred = avail;
+      }
+      return transferred + transferToWrapped(out);
+    }
+    return transferToWrapped(out);
+  }
+
+  private long transferToWrapped(Writer out) throws IOException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
     ffConn.failFastIOException();
     try {
@@ -1,6 +1,6 @@
 /*
  * ao-sql-failfast - Fail-fast JDBC wrapper.
- * Copyright (C) 2020, 2021, 2022  AO Industries, Inc.
+ * Copyright (C) 2020, 2021, 2022, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -23,13 +23,18 @@
 
 package com.aoapps.sql.failfast;
 
+import com.aoapps.lang.NullArgumentException;
 import com.aoapps.lang.Throwables;
+import com.aoapps.lang.exception.WrappedException;
 import com.aoapps.sql.wrapper.ResultSetWrapperImpl;
 import com.aoapps.sql.wrapper.StatementWrapperImpl;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
 import java.math.BigDecimal;
 import java.net.URL;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
 import java.sql.Array;
 import java.sql.Blob;
 import java.sql.Clob;
@@ -46,6 +51,13 @@ import java.sql.Time;
 import java.sql.Timestamp;
 import java.util.Calendar;
 import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * See {@link FailFastConnectionImpl}.
@@ -55,8 +67,49 @@ import java.util.Map;
 @SuppressWarnings({"UseSpecificCatch", "TooBroadCatch"})
 public class FailFastResultSetImpl extends ResultSetWrapperImpl {
 
+  /**
+   * Column getters check the fail-fast state only when the
+   * {@linkplain FailFastConnection#getFailFastCheckGranularity() check granularity} is
+   * {@link FailFastConnection.CheckGranularity#CALL}.  Otherwise, the state is checked by {@link #next()} and the
+   * other boundary calls.
+   */
+  private final boolean checkColumns;
+
+  /**
+   * Name-based getters resolve column labels through a {@link FailFastColumnLabelIndex} only when
+   * {@linkplain FailFastConnection#isFailFastColumnLabelIndexEnabled() enabled}.
+   */
+  private final boolean columnLabelIndexEnabled;
+
+  /**
+   * The column label index, obtained on first name-based access.
+   */
+  private FailFastColumnLabelIndex columnLabelIndex;
+
   public FailFastResultSetImpl(FailFastConnectionImpl failFastConnection, StatementWrapperImpl failFastStmt, ResultSet wrapped) {
     super(failFastConnection, failFastStmt, wrapped);
+    checkColumns = failFastConnection.getFailFastCheckGranularity() == FailFastConnection.CheckGranularity.CALL;
+    columnLabelIndexEnabled = failFastConnection.isFailFastColumnLabelIndexEnabled();
+  }
+
+  /**
+   * Resolves a column label through the column label index, when enabled.  The index is built from the labels of the
+   * wrapped result set on first use.  It is not shared with other result sets, since the shape of the results may
+   * differ for the same SQL, and verifying the shape would read all the labels anyway.
+   *
+   * @return  The column index or {@code 0} to resolve the label by the wrapped result set, such as when disabled or
+   *          not found
+   */
+  private int indexOf(String columnLabel) throws SQLException {
+    if (!columnLabelIndexEnabled) {
+      return 0;
+    }
+    FailFastColumnLabelIndex index = columnLabelIndex;
+    if (index == null) {
+      index = new FailFastColumnLabelIndex(FailFastColumnLabelIndex.getColumnLabels(getWrapped().getMetaData()));
+      columnLabelIndex = index;
+    }
+    return index.findColumn(columnLabel);
   }
 
   @Override
@@ -89,7 +142,9 @@ public class FailFastResultSetImpl extends ResultSetWrapperImpl {
   @Override
   public boolean wasNull() throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
     try {
       return super.wasNull();
     } catch (Throwable t) {
@@ -101,7 +156,9 @@ public class FailFastResultSetImpl extends ResultSetWrapperImpl {
   @Override
   public String getString(int columnIndex) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
     try {
       return super.getString(columnIndex);
     } catch (Throwable t) {
@@ -113,7 +170,9 @@ public class FailFastResultSetImpl extends ResultSetWrapperImpl {
   @Override
   public boolean getBoolean(int columnIndex) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
     try {
       return super.getBoolean(columnIndex);
     } catch (Throwable t) {
@@ -125,7 +184,9 @@ public class FailFastResultSetImpl extends ResultSetWrapperImpl {
   @Override
   public byte getByte(int columnIndex) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
     try {
       return super.getByte(columnIndex);
     } catch (Throwable t) {
@@ -137,7 +198,9 @@ public class FailFastResultSetImpl extends ResultSetWrapperImpl {
   @Override
   public short getShort(int columnIndex) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
     try {
       return super.getShort(columnIndex);
     } catch (Throwable t) {
@@ -149,7 +212,9 @@ public class FailFastResultSetImpl extends ResultSetWrapperImpl {
   @Override
   public int getInt(int columnIndex) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
     try {
       return super.getInt(columnIndex);
     } catch (Throwable t) {
@@ -161,7 +226,9 @@ public class FailFastResultSetImpl extends ResultSetWrapperImpl {
   @Override
   public long getLong(int columnIndex) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
     try {
       return super.getLong(columnIndex);
     } catch (Throwable t) {
@@ -173,7 +240,9 @@ public class FailFastResultSetImpl extends ResultSetWrapperImpl {
   @Override
   public float getFloat(int columnIndex) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
     try {
       return super.getFloat(columnIndex);
     } catch (Throwable t) {
@@ -185,7 +254,9 @@ public class FailFastResultSetImpl extends ResultSetWrapperImpl {
   @Override
   public double getDouble(int columnIndex) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
     try {
       return super.getDouble(columnIndex);
     } catch (Throwable t) {
@@ -198,7 +269,9 @@ public class FailFastResultSetImpl extends ResultSetWrapperImpl {
   @Deprecated(since = "1.2")
   public BigDecimal getBigDecimal(int columnIndex, int scale) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
     try {
       return super.getBigDecimal(columnIndex, scale);
     } catch (Throwable t) {
@@ -210,7 +283,9 @@ public class FailFastResultSetImpl extends ResultSetWrapperImpl {
   @Override
   public byte[] getBytes(int columnIndex) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
     try {
       return super.getBytes(columnIndex);
     } catch (Throwable t) {
@@ -222,7 +297,9 @@ public class FailFastResultSetImpl extends ResultSetWrapperImpl {
   @Override
   public Date getDate(int columnIndex) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
     try {
       return super.getDate(columnIndex);
     } catch (Throwable t) {
@@ -234,7 +311,9 @@ public class FailFastResultSetImpl extends ResultSetWrapperImpl {
   @Override
   public Time getTime(int columnIndex) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
     try {
       return super.getTime(columnIndex);
     } catch (Throwable t) {
@@ -246,7 +325,9 @@ public class FailFastResultSetImpl extends ResultSetWrapperImpl {
   @Override
   public Timestamp getTimestamp(int columnIndex) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
     try {
       return super.getTimestamp(columnIndex);
     } catch (Throwable t) {
@@ -295,8 +376,14 @@ public class FailFastResultSetImpl extends ResultSetWrapperImpl {
   @Override
   public String getString(String columnLabel) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
     try {
+      int column = indexOf(columnLabel);
+      if (column != 0) {
+        return super.getString(column);
+      }
       return super.getString(columnLabel);
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
@@ -307,8 +394,14 @@ public class FailFastResultSetImpl extends ResultSetWrapperImpl {
   @Override
   public boolean getBoolean(String columnLabel) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
     try {
+      int column = indexOf(columnLabel);
+      if (column != 0) {
+        return super.getBoolean(column);
+      }
       return super.getBoolean(columnLabel);
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
@@ -319,8 +412,14 @@ public class FailFastResultSetImpl extends ResultSetWrapperImpl {
   @Override
   public byte getByte(String columnLabel) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
     try {
+      int column = indexOf(columnLabel);
+      if (column != 0) {
+        return super.getByte(column);
+      }
       return super.getByte(columnLabel);
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
@@ -331,8 +430,14 @@ public class FailFastResultSetImpl extends ResultSetWrapperImpl {
   @Override
   public short getShort(String columnLabel) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
     try {
+      int column = indexOf(columnLabel);
+      if (column != 0) {
+        return super.getShort(column);
+      }
       return super.getShort(columnLabel);
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
@@ -343,8 +448,14 @@ public class FailFastResultSetImpl extends ResultSetWrapperImpl {
   @Override
   public int getInt(String columnLabel) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
     try {
+      int column = indexOf(columnLabel);
+      if (column != 0) {
+        return super.getInt(column);
+      }
       return super.getInt(columnLabel);
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
@@ -355,8 +466,14 @@ public class FailFastResultSetImpl extends ResultSetWrapperImpl {
   @Override
   public long getLong(String columnLabel) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
     try {
+      int column = indexOf(columnLabel);
+      if (column != 0) {
+        return super.getLong(column);
+      }
       return super.getLong(columnLabel);
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
@@ -367,8 +484,14 @@ public class FailFastResultSetImpl extends ResultSetWrapperImpl {
   @Override
   public float getFloat(String columnLabel) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
     try {
+      int column = indexOf(columnLabel);
+      if (column != 0) {
+        return super.getFloat(column);
+      }
       return super.getFloat(columnLabel);
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
@@ -379,8 +502,14 @@ public class FailFastResultSetImpl extends ResultSetWrapperImpl {
   @Override
   public double getDouble(String columnLabel) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
     try {
+      int column = indexOf(columnLabel);
+      if (column != 0) {
+        return super.getDouble(column);
+      }
       return super.getDouble(columnLabel);
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
@@ -392,8 +521,14 @@ public class FailFastResultSetImpl extends ResultSetWrapperImpl {
   @Deprecated(since = "1.2")
   public BigDecimal getBigDecimal(String columnLabel, int scale) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
     try {
+      int column = indexOf(columnLabel);
+      if (column != 0) {
+        return super.getBigDecimal(column, scale);
+      }
       return super.getBigDecimal(columnLabel, scale);
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
@@ -404,8 +539,14 @@ public class FailFastResultSetImpl extends ResultSetWrapperImpl {
   @Override
   public byte[] getBytes(String columnLabel) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
     try {
+      int column = indexOf(columnLabel);
+      if (column != 0) {
+        return super.getBytes(column);
+      }
       return super.getBytes(columnLabel);
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
@@ -416,8 +557,14 @@ public class FailFastResultSetImpl extends ResultSetWrapperImpl {
   @Override
   public Date getDate(String columnLabel) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
     try {
+      int column = indexOf(columnLabel);
+      if (column != 0) {
+        return super.getDate(column);
+      }
       return super.getDate(columnLabel);
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
@@ -428,8 +575,14 @@ public class FailFastResultSetImpl extends ResultSetWrapperImpl {
   @Override
   public Time getTime(String columnLabel) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
     try {
+      int column = indexOf(columnLabel);
+      if (column != 0) {
+        return super.getTime(column);
+      }
       return super.getTime(columnLabel);
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
@@ -440,8 +593,14 @@ public class FailFastResultSetImpl extends ResultSetWrapperImpl {
   @Override
   public Timestamp getTimestamp(String columnLabel) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
     try {
+      int column = indexOf(columnLabel);
+      if (column != 0) {
+        return super.getTimestamp(column);
+      }
       return super.getTimestamp(columnLabel);
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
@@ -454,6 +613,10 @@ public class FailFastResultSetImpl extends ResultSetWrapperImpl {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
     ffConn.failFastSQLException();
     try {
+      int column = indexOf(columnLabel);
+      if (column != 0) {
+        return (FailFastInputStream) super.getAsciiStream(column);
+      }
       return (FailFastInputStream) super.getAsciiStream(columnLabel);
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
@@ -467,6 +630,10 @@ public class FailFastResultSetImpl extends ResultSetWrapperImpl {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
     ffConn.failFastSQLException();
     try {
+      int column = indexOf(columnLabel);
+      if (column != 0) {
+        return (FailFastInputStream) super.getUnicodeStream(column);
+      }
       return (FailFastInputStream) super.getUnicodeStream(columnLabel);
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
@@ -479,6 +646,10 @@ public class FailFastResultSetImpl extends ResultSetWrapperImpl {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
     ffConn.failFastSQLException();
     try {
+      int column = indexOf(columnLabel);
+      if (column != 0) {
+        return (FailFastInputStream) super.getBinaryStream(column);
+      }
       return (FailFastInputStream) super.getBinaryStream(columnLabel);
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
@@ -537,7 +708,9 @@ public class FailFastResultSetImpl extends ResultSetWrapperImpl {
   @Override
   public Object getObject(int columnIndex) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
     try {
       return super.getObject(columnIndex);
     } catch (Throwable t) {
@@ -549,8 +722,14 @@ public class FailFastResultSetImpl extends ResultSetWrapperImpl {
   @Override
   public Object getObject(String columnLabel) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
     try {
+      int column = indexOf(columnLabel);
+      if (column != 0) {
+        return super.getObject(column);
+      }
       return super.getObject(columnLabel);
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
@@ -563,6 +742,10 @@ public class FailFastResultSetImpl extends ResultSetWrapperImpl {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
     ffConn.failFastSQLException();
     try {
+      int column = indexOf(columnLabel);
+      if (column != 0) {
+        return column;
+      }
       return super.findColumn(columnLabel);
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
@@ -587,6 +770,10 @@ public class FailFastResultSetImpl extends ResultSetWrapperImpl {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
     ffConn.failFastSQLException();
     try {
+      int column = indexOf(columnLabel);
+      if (column != 0) {
+        return (FailFastReader) super.getCharacterStream(column);
+      }
       return (FailFastReader) super.getCharacterStream(columnLabel);
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
@@ -597,7 +784,9 @@ public class FailFastResultSetImpl extends ResultSetWrapperImpl {
   @Override
   public BigDecimal getBigDecimal(int columnIndex) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
     try {
       return super.getBigDecimal(columnIndex);
     } catch (Throwable t) {
@@ -609,8 +798,14 @@ public class FailFastResultSetImpl extends ResultSetWrapperImpl {
   @Override
   public BigDecimal getBigDecimal(String columnLabel) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
     try {
+      int column = indexOf(columnLabel);
+      if (column != 0) {
+        return super.getBigDecimal(column);
+      }
       return super.getBigDecimal(columnLabel);
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
@@ -1423,7 +1618,9 @@ public class FailFastResultSetImpl extends ResultSetWrapperImpl {
   @Override
   public Object getObject(int columnIndex, Map<String, Class<?>> map) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
     try {
       return super.getObject(columnIndex, map);
     } catch (Throwable t) {
@@ -1435,7 +1632,9 @@ public class FailFastResultSetImpl extends ResultSetWrapperImpl {
   @Override
   public FailFastRefImpl getRef(int columnIndex) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
     try {
       return (FailFastRefImpl) super.getRef(columnIndex);
     } catch (Throwable t) {
@@ -1447,7 +1646,9 @@ public class FailFastResultSetImpl extends ResultSetWrapperImpl {
   @Override
   public FailFastBlobImpl getBlob(int columnIndex) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
     try {
       return (FailFastBlobImpl) super.getBlob(columnIndex);
     } catch (Throwable t) {
@@ -1459,7 +1660,9 @@ public class FailFastResultSetImpl extends ResultSetWrapperImpl {
   @Override
   public FailFastClobImpl getClob(int columnIndex) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
     try {
       return (FailFastClobImpl) super.getClob(columnIndex);
     } catch (Throwable t) {
@@ -1471,7 +1674,9 @@ public class FailFastResultSetImpl extends ResultSetWrapperImpl {
   @Override
   public FailFastArrayImpl getArray(int columnIndex) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
     try {
       return (FailFastArrayImpl) super.getArray(columnIndex);
     } catch (Throwable t) {
@@ -1483,8 +1688,14 @@ public class FailFastResultSetImpl extends ResultSetWrapperImpl {
   @Override
   public Object getObject(String columnLabel, Map<String, Class<?>> map) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
     try {
+      int column = indexOf(columnLabel);
+      if (column != 0) {
+        return super.getObject(column, map);
+      }
       return super.getObject(columnLabel, map);
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
@@ -1495,8 +1706,14 @@ public class FailFastResultSetImpl extends ResultSetWrapperImpl {
   @Override
   public FailFastRefImpl getRef(String columnLabel) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
     try {
+      int column = indexOf(columnLabel);
+      if (column != 0) {
+        return (FailFastRefImpl) super.getRef(column);
+      }
       return (FailFastRefImpl) super.getRef(columnLabel);
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
@@ -1507,8 +1724,14 @@ public class FailFastResultSetImpl extends ResultSetWrapperImpl {
   @Override
   public FailFastBlobImpl getBlob(String columnLabel) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
     try {
+      int column = indexOf(columnLabel);
+      if (column != 0) {
+        return (FailFastBlobImpl) super.getBlob(column);
+      }
       return (FailFastBlobImpl) super.getBlob(columnLabel);
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
@@ -1519,8 +1742,14 @@ public class FailFastResultSetImpl extends ResultSetWrapperImpl {
   @Override
   public FailFastClobImpl getClob(String columnLabel) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
     try {
+      int column = indexOf(columnLabel);
+      if (column != 0) {
+        return (FailFastClobImpl) super.getClob(column);
+      }
       return (FailFastClobImpl) super.getClob(columnLabel);
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
@@ -1531,8 +1760,14 @@ public class FailFastResultSetImpl extends ResultSetWrapperImpl {
   @Override
   public FailFastArrayImpl getArray(String columnLabel) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
     try {
+      int column = indexOf(columnLabel);
+      if (column != 0) {
+        return (FailFastArrayImpl) super.getArray(column);
+      }
       return (FailFastArrayImpl) super.getArray(columnLabel);
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
@@ -1543,7 +1778,9 @@ public class FailFastResultSetImpl extends ResultSetWrapperImpl {
   @Override
   public Date getDate(int columnIndex, Calendar cal) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
     try {
       return super.getDate(columnIndex, cal);
     } catch (Throwable t) {
@@ -1555,8 +1792,14 @@ public class FailFastResultSetImpl extends ResultSetWrapperImpl {
   @Override
   public Date getDate(String columnLabel, Calendar cal) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
     try {
+      int column = indexOf(columnLabel);
+      if (column != 0) {
+        return super.getDate(column, cal);
+      }
       return super.getDate(columnLabel, cal);
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
@@ -1567,7 +1810,9 @@ public class FailFastResultSetImpl extends ResultSetWrapperImpl {
   @Override
   public Time getTime(int columnIndex, Calendar cal) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
     try {
       return super.getTime(columnIndex, cal);
     } catch (Throwable t) {
@@ -1579,8 +1824,14 @@ public class FailFastResultSetImpl extends ResultSetWrapperImpl {
   @Override
   public Time getTime(String columnLabel, Calendar cal) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
     try {
+      int column = indexOf(columnLabel);
+      if (column != 0) {
+        return super.getTime(column, cal);
+      }
       return super.getTime(columnLabel, cal);
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
@@ -1591,7 +1842,9 @@ public class FailFastResultSetImpl extends ResultSetWrapperImpl {
   @Override
   public Timestamp getTimestamp(int columnIndex, Calendar cal) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
     try {
       return super.getTimestamp(columnIndex, cal);
     } catch (Throwable t) {
@@ -1603,8 +1856,14 @@ public class FailFastResultSetImpl extends ResultSetWrapperImpl {
   @Override
   public Timestamp getTimestamp(String columnLabel, Calendar cal) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
     try {
+      int column = indexOf(columnLabel);
+      if (column != 0) {
+        return super.getTimestamp(column, cal);
+      }
       return super.getTimestamp(columnLabel, cal);
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
@@ -1615,7 +1874,9 @@ public class FailFastResultSetImpl extends ResultSetWrapperImpl {
   @Override
   public URL getURL(int columnIndex) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
     try {
       return super.getURL(columnIndex);
     } catch (Throwable t) {
@@ -1627,8 +1888,14 @@ public class FailFastResultSetImpl extends ResultSetWrapperImpl {
   @Override
   public URL getURL(String columnLabel) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
     try {
+      int column = indexOf(columnLabel);
+      if (column != 0) {
+        return super.getURL(column);
+      }
       return super.getURL(columnLabel);
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
@@ -1735,7 +2002,9 @@ public class FailFastResultSetImpl extends ResultSetWrapperImpl {
   @Override
   public FailFastRowIdImpl getRowId(int columnIndex) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
     try {
       return (FailFastRowIdImpl) super.getRowId(columnIndex);
     } catch (Throwable t) {
@@ -1747,8 +2016,14 @@ public class FailFastResultSetImpl extends ResultSetWrapperImpl {
   @Override
   public FailFastRowIdImpl getRowId(String columnLabel) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
     try {
+      int column = indexOf(columnLabel);
+      if (column != 0) {
+        return (FailFastRowIdImpl) super.getRowId(column);
+      }
       return (FailFastRowIdImpl) super.getRowId(columnLabel);
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
@@ -1853,7 +2128,9 @@ public class FailFastResultSetImpl extends ResultSetWrapperImpl {
   @Override
   public FailFastNClobImpl getNClob(int columnIndex) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
     try {
       return (FailFastNClobImpl) super.getNClob(columnIndex);
     } catch (Throwable t) {
@@ -1865,8 +2142,14 @@ public class FailFastResultSetImpl extends ResultSetWrapperImpl {
   @Override
   public FailFastNClobImpl getNClob(String columnLabel) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
     try {
+      int column = indexOf(columnLabel);
+      if (column != 0) {
+        return (FailFastNClobImpl) super.getNClob(column);
+      }
       return (FailFastNClobImpl) super.getNClob(columnLabel);
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
@@ -1877,7 +2160,9 @@ public class FailFastResultSetImpl extends ResultSetWrapperImpl {
   @Override
   public FailFastSQLXMLImpl getSQLXML(int columnIndex) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
     try {
       return (FailFastSQLXMLImpl) super.getSQLXML(columnIndex);
     } catch (Throwable t) {
@@ -1889,8 +2174,14 @@ public class FailFastResultSetImpl extends ResultSetWrapperImpl {
   @Override
   public FailFastSQLXMLImpl getSQLXML(String columnLabel) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
     try {
+      int column = indexOf(columnLabel);
+      if (column != 0) {
+        return (FailFastSQLXMLImpl) super.getSQLXML(column);
+      }
       return (FailFastSQLXMLImpl) super.getSQLXML(columnLabel);
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
@@ -1925,7 +2216,9 @@ public class FailFastResultSetImpl extends ResultSetWrapperImpl {
   @Override
   public String getNString(int columnIndex) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
     try {
       return super.getNString(columnIndex);
     } catch (Throwable t) {
@@ -1937,8 +2230,14 @@ public class FailFastResultSetImpl extends ResultSetWrapperImpl {
   @Override
   public String getNString(String columnLabel) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
     try {
+      int column = indexOf(columnLabel);
+      if (column != 0) {
+        return super.getNString(column);
+      }
       return super.getNString(columnLabel);
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
@@ -1963,6 +2262,10 @@ public class FailFastResultSetImpl extends ResultSetWrapperImpl {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
     ffConn.failFastSQLException();
     try {
+      int column = indexOf(columnLabel);
+      if (column != 0) {
+        return (FailFastReader) super.getNCharacterStream(column);
+      }
       return (FailFastReader) super.getNCharacterStream(columnLabel);
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
@@ -2309,7 +2612,9 @@ public class FailFastResultSetImpl extends ResultSetWrapperImpl {
   @Override
   public <T> T getObject(int columnIndex, Class<T> type) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
     try {
       return super.getObject(columnIndex, type);
     } catch (Throwable t) {
@@ -2321,8 +2626,14 @@ public class FailFastResultSetImpl extends ResultSetWrapperImpl {
   @Override
   public <T> T getObject(String columnLabel, Class<T> type) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
-    ffConn.failFastSQLException();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
     try {
+      int column = indexOf(columnLabel);
+      if (column != 0) {
+        return super.getObject(column, type);
+      }
       return super.getObject(columnLabel, type);
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
@@ -2377,4 +2688,663 @@ public class FailFastResultSetImpl extends ResultSetWrapperImpl {
       throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
     }
   }
+
+  /**
+   * Fetches a block of up to {@code maxRows} rows, advancing the cursor as by {@link #next()} and storing the
+   * primitive columns of each row into the given sinks.  The fail-fast state is checked once per block, instead of by
+   * {@link #next()}, every getter, and every {@link #wasNull()}, and each value is read directly from the wrapped
+   * result set without boxing.
+   *
+   * <p>The values of the first row fetched are stored at index zero of the arrays of the sinks.  The cursor is left on
+   * the last row fetched.  Fewer than {@code maxRows} rows are fetched only at the end of the result set.</p>
+   *
+   * @param  maxRows  The maximum number of rows to fetch, not more than the length of the array of any sink
+   *
+   * @return  The number of rows fetched, {@code 0} when there are no more rows
+   *
+   * @throws  IllegalArgumentException  when {@code maxRows} is negative or exceeds the length of the array of a sink
+   */
+  public int fetchColumns(int maxRows, FailFastColumnSink ... sinks) throws SQLException, IllegalArgumentException {
+    NullArgumentException.checkNotNull(sinks, "sinks");
+    if (maxRows < 0) {
+      throw new IllegalArgumentException("maxRows < 0: " + maxRows);
+    }
+    for (FailFastColumnSink sink : sinks) {
+      if (maxRows > NullArgumentException.checkNotNull(sink, "sink").getCapacity()) {
+        throw new IllegalArgumentException("maxRows > capacity of sink for column " + sink.getColumn() + ": "
+            + maxRows + " > " + sink.getCapacity());
+      }
+    }
+    FailFastConnectionImpl ffConn = getConnectionWrapper();
+    ffConn.failFastSQLException();
+    try {
+      ResultSet results = getWrapped();
+      for (FailFastColumnSink sink : sinks) {
+        sink.clearNulls(maxRows);
+      }
+      int row = 0;
+      while (row < maxRows && results.next()) {
+        for (FailFastColumnSink sink : sinks) {
+          sink.fetch(results, row);
+        }
+        row++;
+      }
+      return row;
+    } catch (Throwable t) {
+      ffConn.addFailFastCause(t);
+      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
+    }
+  }
+
+  /**
+   * The name of the threads created by {@link #prefetch(int)}.
+   */
+  private static final String PREFETCH_THREAD_NAME = FailFastResultSetImpl.class.getName() + ".prefetch";
+
+  /**
+   * Reads ahead the rows of this result set on a new daemon thread.
+   *
+   * @see  #prefetch(int, java.util.concurrent.Executor)
+   */
+  public FailFastResultSetImpl prefetch(int bufferSize) throws SQLException, IllegalArgumentException {
+    return prefetch(bufferSize, command -> {
+      Thread thread = new Thread(command, PREFETCH_THREAD_NAME);
+      thread.setDaemon(true);
+      thread.start();
+    });
+  }
+
+  /**
+   * Reads ahead the rows of this result set on a background thread, into a buffer of about {@code bufferSize} rows,
+   * while the caller processes earlier rows through the returned result set.  The driver then fetches from the
+   * database while the caller is busy, instead of only when {@link #next()} is called.
+   *
+   * <p>Each row is copied by {@link ResultSet#getObject(int)} and held in memory until consumed.  The returned result
+   * set is forward-only and read-only, with getters converting between the common types.</p>
+   *
+   * <p>This result set must not be used once prefetching, and is closed when the returned result set is closed.  Since
+   * the driver is called by the background thread, the connection must not be used by any other statement until the
+   * returned result set is closed.</p>
+   *
+   * <p>A failure reading ahead, including entering a fail-fast state, stops reading ahead.  It is thrown by
+   * {@link #next()} of the returned result set after all rows read before it, and registered as a fail-fast cause at
+   * that point.</p>
+   *
+   * @param  bufferSize  The number of rows read ahead, at least one
+   * @param  executor    Runs the background thread, such as a virtual thread per task executor where available.  The
+   *                     task runs until the end of this result set, a failure, or either result set is closed,
+   *                     including by closing its statement or connection.  Closing the returned result set while a
+   *                     fetch is in progress {@linkplain java.sql.Statement#cancel() cancels} the statement.
+   *
+   * @return  The result set of the rows read ahead, positioned before the next row of this result set
+   *
+   * @throws  IllegalArgumentException  when {@code bufferSize} is less than one
+   */
+  public FailFastResultSetImpl prefetch(int bufferSize, Executor executor) throws SQLException, IllegalArgumentException {
+    if (bufferSize < 1) {
+      throw new IllegalArgumentException("bufferSize < 1: " + bufferSize);
+    }
+    NullArgumentException.checkNotNull(executor, "executor");
+    FailFastConnectionImpl ffConn = getConnectionWrapper();
+    ffConn.failFastSQLException();
+    StatementWrapperImpl stmtWrapper;
+    FailFastPrefetchResultSet prefetched;
+    try {
+      stmtWrapper = super.getStatement();
+      prefetched = new FailFastPrefetchResultSet(stmtWrapper,
+          new FailFastResultSetMetaDataSnapshot(getWrapped().getMetaData()), this, bufferSize);
+    } catch (Throwable t) {
+      ffConn.addFailFastCause(t);
+      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
+    }
+    prefetched.start(executor);
+    return ffConn.newResultSetWrapper(stmtWrapper, prefetched);
+  }
+
+  /**
+   * The number of rows per batch of {@link #stream(com.aoapps.sql.failfast.FailFastRowMapper)}.
+   */
+  public static final int DEFAULT_STREAM_BATCH_SIZE = 1024;
+
+  /**
+   * Streams the remaining rows of this result set, mapped in batches of {@link #DEFAULT_STREAM_BATCH_SIZE} rows.
+   *
+   * @see  #stream(int, com.aoapps.sql.failfast.FailFastRowMapper)
+   */
+  public <T> Stream<T> stream(FailFastRowMapper<? extends T> mapper) {
+    return stream(DEFAULT_STREAM_BATCH_SIZE, mapper);
+  }
+
+  /**
+   * Streams the remaining rows of this result set, each mapped by the given mapper.
+   *
+   * <p>A sequential stream maps each row directly from this result set.  A parallel stream reads batches of
+   * {@code batchSize} rows, copying each by {@link ResultSet#getObject(int)}, and maps the batches from memory on the
+   * threads of the stream, such as the common {@link java.util.concurrent.ForkJoinPool}.  The cursor of this result set
+   * is only moved by one thread at a time, while the mapping of CPU-heavy rows proceeds in parallel.  The mapper must
+   * only use the given result set from the thread it is called on.</p>
+   *
+   * <p>Rows of a parallel stream are mapped from the values of {@link ResultSet#getObject(int)}, converted by
+   * {@link FailFastMemoryResultSet} instead of the driver.  The same mapper may then get different results depending on
+   * whether the stream is parallel, such as {@link ResultSet#getString(int)} of a boolean, numeric, or temporal column
+   * formatted differently than by the driver.  LOB values, such as {@link java.sql.Blob} or {@link java.sql.Clob}, may
+   * no longer be readable once the cursor has moved on.  Mappers of parallel streams should use getters matching the
+   * types returned by {@link ResultSet#getObject(int)} and avoid LOB columns.</p>
+   *
+   * <p>Entering a fail-fast state short-circuits the stream: the next row read throws the {@link FailFastSQLException},
+   * wrapped in {@link WrappedException}.  This includes rows already read into batches, since each row of a batch is
+   * also read through a result set that checks the fail-fast state.</p>
+   *
+   * <p>This result set must not be used while streaming, and is closed when the stream is closed.</p>
+   *
+   * @param  batchSize  The number of rows per batch, at least one
+   *
+   * @throws  IllegalArgumentException  when {@code batchSize} is less than one
+   */
+  public <T> Stream<T> stream(int batchSize, FailFastRowMapper<? extends T> mapper) throws IllegalArgumentException {
+    if (batchSize < 1) {
+      throw new IllegalArgumentException("batchSize < 1: " + batchSize);
+    }
+    NullArgumentException.checkNotNull(mapper, "mapper");
+    return StreamSupport.stream(new FailFastResultSetSpliterator<T>(this, batchSize, mapper), false).onClose(() -> {
+      try {
+        close();
+      } catch (SQLException e) {
+        throw new WrappedException(e);
+      }
+    });
+  }
+
+  /**
+   * Publishes the remaining rows of this result set, each mapped by the given mapper, reading only as many rows as
+   * requested by the subscriber.  Reading, mapping, and signalling are run on the given executor.
+   *
+   * <p>This result set must not be used once published, and is closed when the subscriber completes, fails, or
+   * cancels.  Cancelling calls {@link java.sql.Statement#cancel()} on the statement of this result set, if any.  When
+   * the connection leaves {@link FailFastConnection.State#OK}, the subscriber is signalled the connection's fail-fast
+   * cause.</p>
+   *
+   * @see  FailFastStatementImpl#publisher(java.lang.String, com.aoapps.sql.failfast.FailFastRowMapper,
+   *       java.util.concurrent.Executor)
+   * @see  FailFastPreparedStatementImpl#publisher(com.aoapps.sql.failfast.FailFastRowMapper,
+   *       java.util.concurrent.Executor)
+   */
+  public <T> Flow.Publisher<T> publisher(FailFastRowMapper<? extends T> mapper, Executor executor) throws SQLException {
+    NullArgumentException.checkNotNull(mapper, "mapper");
+    NullArgumentException.checkNotNull(executor, "executor");
+    FailFastConnectionImpl ffConn = getConnectionWrapper();
+    ffConn.failFastSQLException();
+    StatementWrapperImpl stmtWrapper;
+    try {
+      stmtWrapper = super.getStatement();
+    } catch (Throwable t) {
+      ffConn.addFailFastCause(t);
+      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
+    }
+    return new FailFastResultSetPublisher<>(ffConn, stmtWrapper, () -> this, mapper, executor);
+  }
+
+  /**
+   * Gets a row mapper of this result set to the given record or bean class, compiled once for the columns of this
+   * result set into a single method handle.  Each row is read by the typed getters of the properties, in column order,
+   * with one fail-fast state check per row.  See {@link FailFastCompiledRowMapper} for how columns are matched to
+   * properties.
+   *
+   * <p>The mapper is cached by target class and the column labels of this result set, so is shared by all result sets
+   * of the same shape.  The mapper must only be used with result sets of the same columns.</p>
+   *
+   * @throws  IllegalArgumentException  when the class is not supported or a record component has no column
+   *
+   * @see  #stream(com.aoapps.sql.failfast.FailFastRowMapper)
+   * @see  #publisher(com.aoapps.sql.failfast.FailFastRowMapper, java.util.concurrent.Executor)
+   */
+  public <T> FailFastRowMapper<T> getRowMapper(Class<T> type) throws SQLException, IllegalArgumentException {
+    NullArgumentException.checkNotNull(type, "type");
+    FailFastConnectionImpl ffConn = getConnectionWrapper();
+    ffConn.failFastSQLException();
+    String[] labels;
+    try {
+      labels = FailFastColumnLabelIndex.getColumnLabels(getWrapped().getMetaData());
+    } catch (Throwable t) {
+      ffConn.addFailFastCause(t);
+      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
+    }
+    return FailFastCompiledRowMapper.get(type, labels);
+  }
+
+  /**
+   * Gets the value of a {@code boolean} column of the current row, or a default value when SQL {@code NULL}, with one
+   * fail-fast state check and without boxing.  Replaces {@link #getBoolean(int)} followed by {@link #wasNull()}.
+   *
+   * @param  defaultValue  The value returned when SQL {@code NULL}
+   */
+  public boolean getBooleanOrDefault(int columnIndex, boolean defaultValue) throws SQLException {
+    FailFastConnectionImpl ffConn = getConnectionWrapper();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
+    try {
+      ResultSet results = getWrapped();
+      boolean value = results.getBoolean(columnIndex);
+      return results.wasNull() ? defaultValue : value;
+    } catch (Throwable t) {
+      ffConn.addFailFastCause(t);
+      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
+    }
+  }
+
+  /**
+   * Gets the value of a {@code boolean} column of the current row, or a default value when SQL {@code NULL}.
+   *
+   * @see  #getBooleanOrDefault(int, boolean)
+   */
+  public boolean getBooleanOrDefault(String columnLabel, boolean defaultValue) throws SQLException {
+    FailFastConnectionImpl ffConn = getConnectionWrapper();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
+    try {
+      ResultSet results = getWrapped();
+      int column = indexOf(columnLabel);
+      boolean value = (column == 0) ? results.getBoolean(columnLabel) : results.getBoolean(column);
+      return results.wasNull() ? defaultValue : value;
+    } catch (Throwable t) {
+      ffConn.addFailFastCause(t);
+      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
+    }
+  }
+
+  /**
+   * Gets the value of a {@code short} column of the current row, or a default value when SQL {@code NULL}, with one
+   * fail-fast state check and without boxing.  Replaces {@link #getShort(int)} followed by {@link #wasNull()}.
+   *
+   * @param  defaultValue  The value returned when SQL {@code NULL}
+   */
+  public short getShortOrDefault(int columnIndex, short defaultValue) throws SQLException {
+    FailFastConnectionImpl ffConn = getConnectionWrapper();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
+    try {
+      ResultSet results = getWrapped();
+      short value = results.getShort(columnIndex);
+      return results.wasNull() ? defaultValue : value;
+    } catch (Throwable t) {
+      ffConn.addFailFastCause(t);
+      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
+    }
+  }
+
+  /**
+   * Gets the value of a {@code short} column of the current row, or a default value when SQL {@code NULL}.
+   *
+   * @see  #getShortOrDefault(int, short)
+   */
+  public short getShortOrDefault(String columnLabel, short defaultValue) throws SQLException {
+    FailFastConnectionImpl ffConn = getConnectionWrapper();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
+    try {
+      ResultSet results = getWrapped();
+      int column = indexOf(columnLabel);
+      short value = (column == 0) ? results.getShort(columnLabel) : results.getShort(column);
+      return results.wasNull() ? defaultValue : value;
+    } catch (Throwable t) {
+      ffConn.addFailFastCause(t);
+      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
+    }
+  }
+
+  /**
+   * Gets the value of an {@code int} column of the current row, or a default value when SQL {@code NULL}, with one
+   * fail-fast state check and without boxing.  Replaces {@link #getInt(int)} followed by {@link #wasNull()}.
+   *
+   * @param  defaultValue  The value returned when SQL {@code NULL}
+   */
+  public int getIntOrDefault(int columnIndex, int defaultValue) throws SQLException {
+    FailFastConnectionImpl ffConn = getConnectionWrapper();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
+    try {
+      ResultSet results = getWrapped();
+      int value = results.getInt(columnIndex);
+      return results.wasNull() ? defaultValue : value;
+    } catch (Throwable t) {
+      ffConn.addFailFastCause(t);
+      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
+    }
+  }
+
+  /**
+   * Gets the value of an {@code int} column of the current row, or a default value when SQL {@code NULL}.
+   *
+   * @see  #getIntOrDefault(int, int)
+   */
+  public int getIntOrDefault(String columnLabel, int defaultValue) throws SQLException {
+    FailFastConnectionImpl ffConn = getConnectionWrapper();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
+    try {
+      ResultSet results = getWrapped();
+      int column = indexOf(columnLabel);
+      int value = (column == 0) ? results.getInt(columnLabel) : results.getInt(column);
+      return results.wasNull() ? defaultValue : value;
+    } catch (Throwable t) {
+      ffConn.addFailFastCause(t);
+      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
+    }
+  }
+
+  /**
+   * Gets the value of an {@code int} column of the current row, or {@link OptionalInt#empty()} when SQL {@code NULL}.
+   *
+   * @see  #getIntOrDefault(int, int)
+   */
+  public OptionalInt getOptionalInt(int columnIndex) throws SQLException {
+    FailFastConnectionImpl ffConn = getConnectionWrapper();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
+    try {
+      ResultSet results = getWrapped();
+      int value = results.getInt(columnIndex);
+      return results.wasNull() ? OptionalInt.empty() : OptionalInt.of(value);
+    } catch (Throwable t) {
+      ffConn.addFailFastCause(t);
+      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
+    }
+  }
+
+  /**
+   * Gets the value of an {@code int} column of the current row, or {@link OptionalInt#empty()} when SQL {@code NULL}.
+   *
+   * @see  #getOptionalInt(int)
+   */
+  public OptionalInt getOptionalInt(String columnLabel) throws SQLException {
+    FailFastConnectionImpl ffConn = getConnectionWrapper();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
+    try {
+      ResultSet results = getWrapped();
+      int column = indexOf(columnLabel);
+      int value = (column == 0) ? results.getInt(columnLabel) : results.getInt(column);
+      return results.wasNull() ? OptionalInt.empty() : OptionalInt.of(value);
+    } catch (Throwable t) {
+      ffConn.addFailFastCause(t);
+      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
+    }
+  }
+
+  /**
+   * Gets the value of a {@code long} column of the current row, or a default value when SQL {@code NULL}, with one
+   * fail-fast state check and without boxing.  Replaces {@link #getLong(int)} followed by {@link #wasNull()}.
+   *
+   * @param  defaultValue  The value returned when SQL {@code NULL}
+   */
+  public long getLongOrDefault(int columnIndex, long defaultValue) throws SQLException {
+    FailFastConnectionImpl ffConn = getConnectionWrapper();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
+    try {
+      ResultSet results = getWrapped();
+      long value = results.getLong(columnIndex);
+      return results.wasNull() ? defaultValue : value;
+    } catch (Throwable t) {
+      ffConn.addFailFastCause(t);
+      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
+    }
+  }
+
+  /**
+   * Gets the value of a {@code long} column of the current row, or a default value when SQL {@code NULL}.
+   *
+   * @see  #getLongOrDefault(int, long)
+   */
+  public long getLongOrDefault(String columnLabel, long defaultValue) throws SQLException {
+    FailFastConnectionImpl ffConn = getConnectionWrapper();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
+    try {
+      ResultSet results = getWrapped();
+      int column = indexOf(columnLabel);
+      long value = (column == 0) ? results.getLong(columnLabel) : results.getLong(column);
+      return results.wasNull() ? defaultValue : value;
+    } catch (Throwable t) {
+      ffConn.addFailFastCause(t);
+      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
+    }
+  }
+
+  /**
+   * Gets the value of a {@code long} column of the current row, or {@link OptionalLong#empty()} when SQL {@code NULL}.
+   *
+   * @see  #getLongOrDefault(int, long)
+   */
+  public OptionalLong getOptionalLong(int columnIndex) throws SQLException {
+    FailFastConnectionImpl ffConn = getConnectionWrapper();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
+    try {
+      ResultSet results = getWrapped();
+      long value = results.getLong(columnIndex);
+      return results.wasNull() ? OptionalLong.empty() : OptionalLong.of(value);
+    } catch (Throwable t) {
+      ffConn.addFailFastCause(t);
+      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
+    }
+  }
+
+  /**
+   * Gets the value of a {@code long} column of the current row, or {@link OptionalLong#empty()} when SQL {@code NULL}.
+   *
+   * @see  #getOptionalLong(int)
+   */
+  public OptionalLong getOptionalLong(String columnLabel) throws SQLException {
+    FailFastConnectionImpl ffConn = getConnectionWrapper();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
+    try {
+      ResultSet results = getWrapped();
+      int column = indexOf(columnLabel);
+      long value = (column == 0) ? results.getLong(columnLabel) : results.getLong(column);
+      return results.wasNull() ? OptionalLong.empty() : OptionalLong.of(value);
+    } catch (Throwable t) {
+      ffConn.addFailFastCause(t);
+      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
+    }
+  }
+
+  /**
+   * Gets the value of a {@code float} column of the current row, or a default value when SQL {@code NULL}, with one
+   * fail-fast state check and without boxing.  Replaces {@link #getFloat(int)} followed by {@link #wasNull()}.
+   *
+   * @param  defaultValue  The value returned when SQL {@code NULL}
+   */
+  public float getFloatOrDefault(int columnIndex, float defaultValue) throws SQLException {
+    FailFastConnectionImpl ffConn = getConnectionWrapper();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
+    try {
+      ResultSet results = getWrapped();
+      float value = results.getFloat(columnIndex);
+      return results.wasNull() ? defaultValue : value;
+    } catch (Throwable t) {
+      ffConn.addFailFastCause(t);
+      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
+    }
+  }
+
+  /**
+   * Gets the value of a {@code float} column of the current row, or a default value when SQL {@code NULL}.
+   *
+   * @see  #getFloatOrDefault(int, float)
+   */
+  public float getFloatOrDefault(String columnLabel, float defaultValue) throws SQLException {
+    FailFastConnectionImpl ffConn = getConnectionWrapper();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
+    try {
+      ResultSet results = getWrapped();
+      int column = indexOf(columnLabel);
+      float value = (column == 0) ? results.getFloat(columnLabel) : results.getFloat(column);
+      return results.wasNull() ? defaultValue : value;
+    } catch (Throwable t) {
+      ffConn.addFailFastCause(t);
+      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
+    }
+  }
+
+  /**
+   * Gets the value of a {@code double} column of the current row, or a default value when SQL {@code NULL}, with one
+   * fail-fast state check and without boxing.  Replaces {@link #getDouble(int)} followed by {@link #wasNull()}.
+   *
+   * @param  defaultValue  The value returned when SQL {@code NULL}
+   */
+  public double getDoubleOrDefault(int columnIndex, double defaultValue) throws SQLException {
+    FailFastConnectionImpl ffConn = getConnectionWrapper();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
+    try {
+      ResultSet results = getWrapped();
+      double value = results.getDouble(columnIndex);
+      return results.wasNull() ? defaultValue : value;
+    } catch (Throwable t) {
+      ffConn.addFailFastCause(t);
+      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
+    }
+  }
+
+  /**
+   * Gets the value of a {@code double} column of the current row, or a default value when SQL {@code NULL}.
+   *
+   * @see  #getDoubleOrDefault(int, double)
+   */
+  public double getDoubleOrDefault(String columnLabel, double defaultValue) throws SQLException {
+    FailFastConnectionImpl ffConn = getConnectionWrapper();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
+    try {
+      ResultSet results = getWrapped();
+      int column = indexOf(columnLabel);
+      double value = (column == 0) ? results.getDouble(columnLabel) : results.getDouble(column);
+      return results.wasNull() ? defaultValue : value;
+    } catch (Throwable t) {
+      ffConn.addFailFastCause(t);
+      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
+    }
+  }
+
+  /**
+   * Gets the value of a {@code double} column of the current row, or {@link OptionalDouble#empty()} when SQL {@code
+   * NULL}.
+   *
+   * @see  #getDoubleOrDefault(int, double)
+   */
+  public OptionalDouble getOptionalDouble(int columnIndex) throws SQLException {
+    FailFastConnectionImpl ffConn = getConnectionWrapper();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
+    try {
+      ResultSet results = getWrapped();
+      double value = results.getDouble(columnIndex);
+      return results.wasNull() ? OptionalDouble.empty() : OptionalDouble.of(value);
+    } catch (Throwable t) {
+      ffConn.addFailFastCause(t);
+      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
+    }
+  }
+
+  /**
+   * Gets the value of a {@code double} column of the current row, or {@link OptionalDouble#empty()} when SQL {@code
+   * NULL}.
+   *
+   * @see  #getOptionalDouble(int)
+   */
+  public OptionalDouble getOptionalDouble(String columnLabel) throws SQLException {
+    FailFastConnectionImpl ffConn = getConnectionWrapper();
+    if (checkColumns) {
+      ffConn.failFastSQLException();
+    }
+    try {
+      ResultSet results = getWrapped();
+      int column = indexOf(columnLabel);
+      double value = (column == 0) ? results.getDouble(columnLabel) : results.getDouble(column);
+      return results.wasNull() ? OptionalDouble.empty() : OptionalDouble.of(value);
+    } catch (Throwable t) {
+      ffConn.addFailFastCause(t);
+      throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
+    }
+  }
+
+  /**
+   * Transfers the value of a binary column of the current row to a channel, checking the fail-fast state once per
+   * chunk.  When the channel is a {@link java.nio.channels.FileChannel}, the bytes are written at its current
+   * position.
+   *
+   * @param  out  The channel, in blocking mode, which is not closed
+   *
+   * @return  The number of bytes transferred or {@code -1} when the value is SQL {@code NULL}
+   *
+   * @see  #getBinaryStream(int)
+   */
+  public long transferBinaryStream(int columnIndex, WritableByteChannel out) throws SQLException, IOException {
+    try (FailFastInputStream in = getBinaryStream(columnIndex)) {
+      return (in == null) ? -1 : FailFastChannels.transfer(getConnectionWrapper(), in, out);
+    }
+  }
+
+  /**
+   * Transfers the value of a binary column of the current row to a channel.
+   *
+   * @see  #transferBinaryStream(int, java.nio.channels.WritableByteChannel)
+   * @see  #getBinaryStream(java.lang.String)
+   */
+  public long transferBinaryStream(String columnLabel, WritableByteChannel out) throws SQLException, IOException {
+    try (FailFastInputStream in = getBinaryStream(columnLabel)) {
+      return (in == null) ? -1 : FailFastChannels.transfer(getConnectionWrapper(), in, out);
+    }
+  }
+
+  /**
+   * Transfers the value of a character column of the current row to a channel, encoded in the given character set,
+   * checking the fail-fast state once per chunk.  Unmappable characters are replaced.
+   *
+   * @param  out  The channel, in blocking mode, which is not closed
+   *
+   * @return  The number of characters transferred or {@code -1} when the value is SQL {@code NULL}
+   *
+   * @see  #getCharacterStream(int)
+   */
+  public long transferCharacterStream(int columnIndex, WritableByteChannel out, Charset charset)
+      throws SQLException, IOException {
+    try (FailFastReader in = getCharacterStream(columnIndex)) {
+      return (in == null) ? -1 : FailFastChannels.transfer(getConnectionWrapper(), in, charset, out);
+    }
+  }
+
+  /**
+   * Transfers the value of a character column of the current row to a channel, encoded in the given character set.
+   *
+   * @see  #transferCharacterStream(int, java.nio.channels.WritableByteChannel, java.nio.charset.Charset)
+   * @see  #getCharacterStream(java.lang.String)
+   */
+  public long transferCharacterStream(String columnLabel, WritableByteChannel out, Charset charset)
+      throws SQLException, IOException {
+    try (FailFastReader in = getCharacterStream(columnLabel)) {
+      return (in == null) ? -1 : FailFastChannels.transfer(getConnectionWrapper(), in, charset, out);
+    }
+  }
 }
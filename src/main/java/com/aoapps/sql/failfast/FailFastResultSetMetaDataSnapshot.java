@@ -0,0 +1,250 @@
+/*
+ * ao-sql-failfast - Fail-fast JDBC wrapper.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql-failfast.
+ *
+ * ao-sql-failfast is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql-failfast is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql-failfast.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.sql.failfast;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.SQLNonTransientException;
+
+/**
+ * An immutable copy of {@link ResultSetMetaData}, read once and safe to share between threads.
+ *
+ * @author  AO Industries, Inc.
+ */
+final class FailFastResultSetMetaDataSnapshot implements ResultSetMetaData {
+
+  private final int columnCount;
+  private final boolean[] autoIncrement;
+  private final boolean[] caseSensitive;
+  private final boolean[] searchable;
+  private final boolean[] currency;
+  private final int[] nullable;
+  private final boolean[] signed;
+  private final int[] columnDisplaySize;
+  private final String[] columnLabel;
+  private final String[] columnName;
+  private final String[] schemaName;
+  private final int[] precision;
+  private final int[] scale;
+  private final String[] tableName;
+  private final String[] catalogName;
+  private final int[] columnType;
+  private final String[] columnTypeName;
+  private final boolean[] readOnly;
+  private final boolean[] writable;
+  private final boolean[] definitelyWritable;
+  private final String[] columnClassName;
+
+  private final FailFastColumnLabelIndex labelIndex;
+
+  /**
+   * Copies all properties of all columns.
+   */
+  FailFastResultSetMetaDataSnapshot(ResultSetMetaData metaData) throws SQLException {
+    columnCount = metaData.getColumnCount();
+    autoIncrement = new boolean[columnCount];
+    caseSensitive = new boolean[columnCount];
+    searchable = new boolean[columnCount];
+    currency = new boolean[columnCount];
+    nullable = new int[columnCount];
+    signed = new boolean[columnCount];
+    columnDisplaySize = new int[columnCount];
+    columnLabel = new String[columnCount];
+    columnName = new String[columnCount];
+    schemaName = new String[columnCount];
+    precision = new int[columnCount];
+    scale = new int[columnCount];
+    tableName = new String[columnCount];
+    catalogName = new String[columnCount];
+    columnType = new int[columnCount];
+    columnTypeName = new String[columnCount];
+    readOnly = new boolean[columnCount];
+    writable = new boolean[columnCount];
+    definitelyWritable = new boolean[columnCount];
+    columnClassName = new String[columnCount];
+    for (int i = 0; i < columnCount; i++) {
+      int column = i + 1;
+      autoIncrement[i] = metaData.isAutoIncrement(column);
+      caseSensitive[i] = metaData.isCaseSensitive(column);
+      searchable[i] = metaData.isSearchable(column);
+      currency[i] = metaData.isCurrency(column);
+      nullable[i] = metaData.isNullable(column);
+      signed[i] = metaData.isSigned(column);
+      columnDisplaySize[i] = metaData.getColumnDisplaySize(column);
+      columnLabel[i] = metaData.getColumnLabel(column);
+      columnName[i] = metaData.getColumnName(column);
+      schemaName[i] = metaData.getSchemaName(column);
+      precision[i] = metaData.getPrecision(column);
+      scale[i] = metaData.getScale(column);
+      tableName[i] = metaData.getTableName(column);
+      catalogName[i] = metaData.getCatalogName(column);
+      columnType[i] = metaData.getColumnType(column);
+      columnTypeName[i] = metaData.getColumnTypeName(column);
+      readOnly[i] = metaData.isReadOnly(column);
+      writable[i] = metaData.isWritable(column);
+      definitelyWritable[i] = metaData.isDefinitelyWritable(column);
+      columnClassName[i] = metaData.getColumnClassName(column);
+    }
+    labelIndex = new FailFastColumnLabelIndex(columnLabel);
+  }
+
+  /**
+   * Finds a column by its label, ignoring case.
+   *
+   * @return  The column index or {@code 0} when not found
+   */
+  int findColumn(String label) {
+    return labelIndex.findColumn(label);
+  }
+
+  /**
+   * Gets the array index of a column.
+   *
+   * @throws  SQLNonTransientException  when the column is out of range
+   */
+  private int index(int column) throws SQLNonTransientException {
+    if (column < 1 || column > columnCount) {
+      throw new SQLNonTransientException("Column index out of range: " + column);
+    }
+    return column - 1;
+  }
+
+  @Override
+  public int getColumnCount() {
+    return columnCount;
+  }
+
+  @Override
+  public boolean isAutoIncrement(int column) throws SQLException {
+    return autoIncrement[index(column)];
+  }
+
+  @Override
+  public boolean isCaseSensitive(int column) throws SQLException {
+    return caseSensitive[index(column)];
+  }
+
+  @Override
+  public boolean isSearchable(int column) throws SQLException {
+    return searchable[index(column)];
+  }
+
+  @Override
+  public boolean isCurrency(int column) throws SQLException {
+    return currency[index(column)];
+  }
+
+  @Override
+  public int isNullable(int column) throws SQLException {
+    return nullable[index(column)];
+  }
+
+  @Override
+  public boolean isSigned(int column) throws SQLException {
+    return signed[index(column)];
+  }
+
+  @Override
+  public int getColumnDisplaySize(int column) throws SQLException {
+    return columnDisplaySize[index(column)];
+  }
+
+  @Override
+  public String getColumnLabel(int column) throws SQLException {
+    return columnLabel[index(column)];
+  }
+
+  @Override
+  public String getColumnName(int column) throws SQLException {
+    return columnName[index(column)];
+  }
+
+  @Override
+  public String getSchemaName(int column) throws SQLException {
+    return schemaName[index(column)];
+  }
+
+  @Override
+  public int getPrecision(int column) throws SQLException {
+    return precision[index(column)];
+  }
+
+  @Override
+  public int getScale(int column) throws SQLException {
+    return scale[index(column)];
+  }
+
+  @Override
+  public String getTableName(int column) throws SQLException {
+    return tableName[index(column)];
+  }
+
+  @Override
+  public String getCatalogName(int column) throws SQLException {
+    return catalogName[index(column)];
+  }
+
+  @Override
+  public int getColumnType(int column) throws SQLException {
+    return columnType[index(column)];
+  }
+
+  @Override
+  public String getColumnTypeName(int column) throws SQLException {
+    return columnTypeName[index(column)];
+  }
+
+  @Override
+  public boolean isReadOnly(int column) throws SQLException {
+    return readOnly[index(column)];
+  }
+
+  @Override
+  public boolean isWritable(int column) throws SQLException {
+    return writable[index(column)];
+  }
+
+  @Override
+  public boolean isDefinitelyWritable(int column) throws SQLException {
+    return definitelyWritable[index(column)];
+  }
+
+  @Override
+  public String getColumnClassName(int column) throws SQLException {
+    return columnClassName[index(column)];
+  }
+
+  @Override
+  public <T> T unwrap(Class<T> iface) throws SQLException {
+    if (iface.isInstance(this)) {
+      return iface.cast(this);
+    }
+    throw new SQLNonTransientException("Not a wrapper for " + iface.getName());
+  }
+
+  @Override
+  public boolean isWrapperFor(Class<?> iface) {
+    return iface.isInstance(this);
+  }
+}
@@ -0,0 +1,325 @@
+/*
+ * ao-sql-failfast - Fail-fast JDBC wrapper.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql-failfast.
+ *
+ * ao-sql-failfast is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql-failfast is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql-failfast.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.aoapps.sql.failfast;
+
+import com.aoapps.lang.NullArgumentException;
+import com.aoapps.lang.Throwables;
+import com.aoapps.sql.failfast.FailFastConnection.State;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Publishes the rows of a result set to a single subscriber, reading only as many rows as requested.  The query, each
+ * row, and every signal to the subscriber are run on the given executor, one task at a time, so no thread is blocked
+ * while the subscriber has no demand.
+ *
+ * <p>{@link Flow.Subscription#cancel()} calls {@link Statement#cancel()} only while a query or fetch is in progress, to
+ * interrupt it, then closes the result set.  When the connection leaves {@link State#OK}, the connection's fail-fast cause is
+ * signalled to {@link Flow.Subscriber#onError(java.lang.Throwable)} without waiting for demand, or after the driver
+ * call in progress returns.  The result set is closed before completion or error is signalled.</p>
+ *
+ * @param  <T>  The type of object mapped
+ *
+ * @author  AO Industries, Inc.
+ *
+ * @see  FailFastResultSetImpl#publisher(com.aoapps.sql.failfast.FailFastRowMapper, java.util.concurrent.Executor)
+ * @see  FailFastStatementImpl#publisher(java.lang.String, com.aoapps.sql.failfast.FailFastRowMapper,
+ *       java.util.concurrent.Executor)
+ * @see  FailFastPreparedStatementImpl#publisher(com.aoapps.sql.failfast.FailFastRowMapper,
+ *       java.util.concurrent.Executor)
+ */
+final class FailFastResultSetPublisher<T> implements Flow.Publisher<T> {
+
+  private static final Logger LOGGER = Logger.getLogger(FailFastResultSetPublisher.class.getName());
+
+  /**
+   * Obtains the result set on the first demand.
+   */
+  @FunctionalInterface
+  interface Query {
+    FailFastResultSetImpl execute() throws SQLException;
+  }
+
+  /**
+   * The subscription given to subscribers after the first.
+   */
+  private static final Flow.Subscription REJECTED = new Flow.Subscription() {
+    @Override
+    public void request(long n) {
+      // Already terminated
+    }
+
+    @Override
+    public void cancel() {
+      // Already terminated
+    }
+  };
+
+  private final FailFastConnectionImpl ffConn;
+  private final Statement statement;
+  private final Query query;
+  private final FailFastRowMapper<? extends T> mapper;
+  private final Executor executor;
+
+  private final AtomicBoolean subscribed = new AtomicBoolean();
+
+  /**
+   * @param  statement  The statement cancelled on {@link Flow.Subscription#cancel()}, or {@code null} for none
+   */
+  FailFastResultSetPublisher(FailFastConnectionImpl ffConn, Statement statement, Query query,
+      FailFastRowMapper<? extends T> mapper, Executor executor) {
+    this.ffConn = ffConn;
+    this.statement = statement;
+    this.query = query;
+    this.mapper = mapper;
+    this.executor = executor;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Only one subscriber is supported.  Any later subscriber is signalled an {@link IllegalStateException}.</p>
+   */
+  @Override
+  public void subscribe(Flow.Subscriber<? super T> subscriber) {
+    NullArgumentException.checkNotNull(subscriber, "subscriber");
+    if (!subscribed.compareAndSet(false, true)) {
+      subscriber.onSubscribe(REJECTED);
+      subscriber.onError(new IllegalStateException("Result set already subscribed"));
+      return;
+    }
+    Subscription subscription = new Subscription(subscriber);
+    ffConn.addFailFastListener(subscription);
+    try {
+      subscriber.onSubscribe(subscription);
+    } finally {
+      subscription.start();
+    }
+  }
+
+  /**
+   * Drains rows to the subscriber.  At most one drain runs at a time, by counting the signals that arrive during a
+   * drain and draining again until none are missed.
+   */
+  private final class Subscription implements Flow.Subscription, FailFastListener, Runnable {
+
+    private final Flow.Subscriber<? super T> subscriber;
+
+    private final AtomicLong requested = new AtomicLong();
+
+    /**
+     * The number of signals not yet drained.  Starts at one, held while subscribing until {@link #start()}, so no
+     * signal precedes {@link Flow.Subscriber#onSubscribe(java.util.concurrent.Flow.Subscription)}.
+     */
+    private final AtomicInteger wip = new AtomicInteger(1);
+
+    /**
+     * The error to signal before any further row.
+     */
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    private volatile boolean cancelled;
+
+    private volatile boolean done;
+
+    /**
+     * Set while the drain is executing the query or in {@link java.sql.ResultSet#next()}, which may block on the
+     * driver.  The statement is only cancelled while set, so a cancel never interrupts a later use of the statement.
+     */
+    private volatile boolean fetching;
+
+    /**
+     * Only accessed by the drain.
+     */
+    private FailFastResultSetImpl results;
+
+    private Subscription(Flow.Subscriber<? super T> subscriber) {
+      this.subscriber = subscriber;
+    }
+
+    private void start() {
+      schedule();
+    }
+
+    private void signal() {
+      if (wip.getAndIncrement() == 0) {
+        schedule();
+      }
+    }
+
+    /**
+     * Runs a drain while holding the signal count.  When rejected, the drain is run by the current thread to signal
+     * the rejection.
+     */
+    private void schedule() {
+      try {
+        executor.execute(this);
+      } catch (RejectedExecutionException e) {
+        failure.compareAndSet(null, e);
+        run();
+      }
+    }
+
+    @Override
+    public void request(long n) {
+      if (n <= 0) {
+        failure.compareAndSet(null, new IllegalArgumentException("n <= 0: " + n));
+      } else {
+        requested.accumulateAndGet(n, (current, add) -> {
+          long sum = current + add;
+          return sum < 0 ? Long.MAX_VALUE : sum;
+        });
+      }
+      signal();
+    }
+
+    @Override
+    public void cancel() {
+      if (!cancelled) {
+        cancelled = true;
+        if (fetching && statement != null) {
+          try {
+            statement.cancel();
+          } catch (SQLException e) {
+            LOGGER.log(Level.FINE, "Unable to cancel statement", e);
+          }
+        }
+        signal();
+      }
+    }
+
+    @Override
+    public void stateChanged(FailFastConnection conn, State oldState, State newState) {
+      if (newState != State.OK) {
+        Throwable cause = conn.getFailFastCause();
+        if (cause != null) {
+          failure.compareAndSet(null, cause);
+        }
+        signal();
+      }
+    }
+
+    @Override
+    public void run() {
+      int missed = 1;
+      do {
+        drain();
+        missed = wip.addAndGet(-missed);
+      } while (missed != 0);
+    }
+
+    private void drain() {
+      while (!done) {
+        if (cancelled) {
+          Throwable t = terminate(null);
+          if (t != null) {
+            LOGGER.log(Level.FINE, "Unable to close cancelled result set", t);
+          }
+          return;
+        }
+        if (failure.get() == null && ffConn.getFailFastState() != State.OK) {
+          Throwable cause = ffConn.getFailFastCause();
+          if (cause != null) {
+            failure.compareAndSet(null, cause);
+          }
+        }
+        Throwable error = failure.get();
+        if (error != null) {
+          subscriber.onError(terminate(error));
+          return;
+        }
+        if (requested.get() == 0) {
+          return;
+        }
+        T item;
+        try {
+          boolean hasNext;
+          fetching = true;
+          try {
+            if (results == null) {
+              results = query.execute();
+            }
+            hasNext = results.next();
+          } finally {
+            fetching = false;
+          }
+          if (!hasNext) {
+            error = terminate(null);
+            if (error == null) {
+              subscriber.onComplete();
+            } else {
+              subscriber.onError(error);
+            }
+            return;
+          }
+          item = mapper.map(results);
+        } catch (Throwable t) {
+          if (cancelled) {
+            // Expected when interrupted by Statement.cancel()
+            continue;
+          }
+          subscriber.onError(terminate(t));
+          return;
+        }
+        try {
+          subscriber.onNext(item);
+        } catch (Throwable t) {
+          LOGGER.log(Level.WARNING, "Subscriber failed, cancelling: " + subscriber, t);
+          cancel();
+          continue;
+        }
+        if (requested.get() != Long.MAX_VALUE) {
+          requested.decrementAndGet();
+        }
+      }
+    }
+
+    /**
+     * Stops listening and closes the result set.
+     *
+     * @return  The given error, with any failure closing added
+     */
+    private Throwable terminate(Throwable error) {
+      done = true;
+      ffConn.removeFailFastListener(this);
+      if (results != null) {
+        try {
+          results.close();
+        } catch (Throwable t) {
+          error = Throwables.addSuppressed(error, t);
+        }
+        results = null;
+      }
+      return error;
+    }
+  }
+}
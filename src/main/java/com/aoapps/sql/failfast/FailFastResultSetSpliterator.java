@@ -0,0 +1,202 @@
+/*
+ * ao-sql-failfast - Fail-fast JDBC wrapper.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql-failfast.
+ *
+ * ao-sql-failfast is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql-failfast is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql-failfast.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.aoapps.sql.failfast;
+
+import com.aoapps.lang.Throwables;
+import com.aoapps.lang.exception.WrappedException;
+import com.aoapps.sql.wrapper.StatementWrapperImpl;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * The spliterator of {@link FailFastResultSetImpl#stream(int, com.aoapps.sql.failfast.FailFastRowMapper)}.
+ *
+ * <p>Rows are advanced and mapped directly on the cursor of the result set.  {@link #trySplit()} instead reads a batch
+ * of rows, copying each by {@link ResultSet#getObject(int)}, and returns a spliterator that maps the batch from memory.
+ * Batches may then be mapped in parallel, while the cursor is only moved by one thread at a time.  Getters on a batch
+ * convert the copied values instead of the driver, so may differ from the getters of the result set, as documented
+ * by {@link FailFastResultSetImpl#stream(int, com.aoapps.sql.failfast.FailFastRowMapper)}.</p>
+ *
+ * @param  <T>  The type of object mapped
+ *
+ * @author  AO Industries, Inc.
+ */
+final class FailFastResultSetSpliterator<T> implements Spliterator<T> {
+
+  /**
+   * Maps a batch of rows held in memory.  Splits in half until first advanced.
+   */
+  private final class Batch implements Spliterator<T> {
+
+    private List<Object[]> rows;
+
+    /**
+     * The result set over {@link #rows}, created when first advanced.
+     */
+    private FailFastResultSetImpl batchResults;
+
+    private Batch(List<Object[]> rows) {
+      this.rows = rows;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+      try {
+        FailFastResultSetImpl r = batchResults;
+        if (r == null) {
+          r = results.getConnectionWrapper().newResultSetWrapper(
+              stmtWrapper,
+              new FailFastMemoryResultSet(stmtWrapper, metaData, rows)
+          );
+          batchResults = r;
+        }
+        if (!r.next()) {
+          return false;
+        }
+        action.accept(mapper.map(r));
+        return true;
+      } catch (SQLException e) {
+        throw new WrappedException(e);
+      }
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+      int size = rows.size();
+      if (batchResults != null || size < 2) {
+        return null;
+      }
+      int half = size / 2;
+      Batch prefix = new Batch(rows.subList(0, half));
+      rows = rows.subList(half, size);
+      return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+      return rows.size();
+    }
+
+    @Override
+    public int characteristics() {
+      return ORDERED | SIZED | SUBSIZED;
+    }
+  }
+
+  private final FailFastResultSetImpl results;
+  private final int batchSize;
+  private final FailFastRowMapper<? extends T> mapper;
+
+  /**
+   * The statement and metadata of the batches, obtained on first split.
+   */
+  private StatementWrapperImpl stmtWrapper;
+  private FailFastResultSetMetaDataSnapshot metaData;
+
+  private boolean ended;
+
+  /**
+   * @param  batchSize  The number of rows per batch, at least one
+   */
+  FailFastResultSetSpliterator(FailFastResultSetImpl results, int batchSize, FailFastRowMapper<? extends T> mapper) {
+    this.results = results;
+    this.batchSize = batchSize;
+    this.mapper = mapper;
+  }
+
+  @Override
+  public boolean tryAdvance(Consumer<? super T> action) {
+    if (ended) {
+      return false;
+    }
+    try {
+      if (!results.next()) {
+        ended = true;
+        return false;
+      }
+      action.accept(mapper.map(results));
+      return true;
+    } catch (SQLException e) {
+      throw new WrappedException(e);
+    }
+  }
+
+  /**
+   * Reads the next batch of rows from the cursor, checking the fail-fast state once per batch.
+   *
+   * @return  The batch or {@code null} at the end of the result set
+   */
+  @Override
+  public Spliterator<T> trySplit() {
+    if (ended) {
+      return null;
+    }
+    FailFastConnectionImpl ffConn = results.getConnectionWrapper();
+    try {
+      ffConn.failFastSQLException();
+    } catch (SQLException e) {
+      throw new WrappedException(e);
+    }
+    List<Object[]> rows;
+    try {
+      ResultSet wrapped = results.getWrapped();
+      if (metaData == null) {
+        stmtWrapper = results.getStatement();
+        metaData = new FailFastResultSetMetaDataSnapshot(wrapped.getMetaData());
+      }
+      int columnCount = metaData.getColumnCount();
+      rows = new ArrayList<>(batchSize);
+      while (rows.size() < batchSize && wrapped.next()) {
+        Object[] row = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+          row[i] = wrapped.getObject(i + 1);
+        }
+        rows.add(row);
+      }
+    } catch (Throwable t) {
+      ffConn.addFailFastCause(t);
+      throw Throwables.wrap(t, WrappedException.class, WrappedException::new);
+    }
+    if (rows.size() < batchSize) {
+      ended = true;
+      if (rows.isEmpty()) {
+        return null;
+      }
+    }
+    return new Batch(rows);
+  }
+
+  @Override
+  public long estimateSize() {
+    return ended ? 0 : Long.MAX_VALUE;
+  }
+
+  @Override
+  public int characteristics() {
+    return ORDERED;
+  }
+}
@@ -0,0 +1,46 @@
+/*
+ * ao-sql-failfast - Fail-fast JDBC wrapper.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql-failfast.
+ *
+ * ao-sql-failfast is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql-failfast is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql-failfast.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.aoapps.sql.failfast;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Maps the current row of a result set to an object.
+ *
+ * @param  <T>  The type of object mapped
+ *
+ * @author  AO Industries, Inc.
+ *
+ * @see  FailFastResultSetImpl#stream(com.aoapps.sql.failfast.FailFastRowMapper)
+ */
+@FunctionalInterface
+public interface FailFastRowMapper<T> {
+
+  /**
+   * Maps the current row.  Must only read the current row, without moving the cursor.
+   *
+   * @param  results  The result set, positioned on the row to map
+   */
+  T map(ResultSet results) throws SQLException;
+}
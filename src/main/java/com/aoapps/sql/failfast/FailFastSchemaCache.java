@@ -0,0 +1,363 @@
+/*
+ * ao-sql-failfast - Fail-fast JDBC wrapper.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql-failfast.
+ *
+ * ao-sql-failfast is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql-failfast is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql-failfast.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.sql.failfast;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * The {@linkplain FailFastConnection#isFailFastSchemaCacheEnabled() schema cache} of one
+ * {@link FailFastConnectionImpl}, holding fully read schema introspection results.
+ *
+ * <p>Each result is held by the exact arguments it was requested with.  A
+ * {@linkplain FailFastDatabaseMetaDataImpl#prefetchSchema(java.lang.String, java.lang.String) prefetch} additionally
+ * holds all tables and columns of a schema, from which later requests for tables and columns within that schema are
+ * answered by matching their patterns in memory.</p>
+ *
+ * <p>Every {@linkplain #clear() clear} replaces the contents, so that a request in progress during the clear can only
+ * add to the discarded contents.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+final class FailFastSchemaCache {
+
+  /**
+   * A fully read result, which is never modified.
+   */
+  static final class Table {
+
+    final FailFastResultSetMetaDataSnapshot metaData;
+    final List<Object[]> rows;
+
+    private Table(FailFastResultSetMetaDataSnapshot metaData, List<Object[]> rows) {
+      this.metaData = metaData;
+      this.rows = rows;
+    }
+
+    /**
+     * Reads all rows of a result.  The result is not closed.
+     */
+    static Table read(ResultSet results) throws SQLException {
+      FailFastResultSetMetaDataSnapshot metaData = new FailFastResultSetMetaDataSnapshot(results.getMetaData());
+      int columnCount = metaData.getColumnCount();
+      ArrayList<Object[]> rows = new ArrayList<>();
+      while (results.next()) {
+        Object[] row = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+          row[i] = results.getObject(i + 1);
+        }
+        rows.add(row);
+      }
+      rows.trimToSize();
+      return new Table(metaData, Collections.unmodifiableList(rows));
+    }
+
+    /**
+     * Creates a result set positioned before the first row.
+     */
+    FailFastMemoryResultSet newResultSet() {
+      return new FailFastMemoryResultSet(null, metaData, rows);
+    }
+
+    /**
+     * Gets the index into each row of a column by label.
+     *
+     * @throws  SQLException  when the column is not found
+     */
+    private int indexOf(String label) throws SQLException {
+      int column = metaData.findColumn(label);
+      if (column == 0) {
+        throw new SQLException("Column not found: " + label);
+      }
+      return column - 1;
+    }
+  }
+
+  /**
+   * Reads a result from the wrapped metadata.
+   */
+  @FunctionalInterface
+  interface TableLoader {
+    Table load() throws SQLException;
+  }
+
+  /**
+   * All tables and columns of a schema.
+   */
+  private static final class Prefetch {
+
+    private final String catalog;
+    private final String schemaPattern;
+    private final String escape;
+    private final Table tables;
+    private final Table columns;
+
+    private Prefetch(String catalog, String schemaPattern, String escape, Table tables, Table columns) {
+      this.catalog = catalog;
+      this.schemaPattern = schemaPattern;
+      this.escape = escape;
+      this.tables = tables;
+      this.columns = columns;
+    }
+
+    /**
+     * Checks whether every table of the given catalog and schema pattern is in this prefetch.
+     */
+    private boolean covers(String catalog, String schemaPattern) {
+      return (this.catalog == null || this.catalog.equals(catalog))
+          && (isAll(this.schemaPattern) || this.schemaPattern.equals(schemaPattern));
+    }
+  }
+
+  /**
+   * The contents replaced on each clear.
+   */
+  private static final class Contents {
+
+    private final ConcurrentMap<List<Object>, Table> results = new ConcurrentHashMap<>();
+    private final List<Prefetch> prefetches = new CopyOnWriteArrayList<>();
+
+    private Prefetch findPrefetch(String catalog, String schemaPattern) {
+      for (Prefetch prefetch : prefetches) {
+        if (prefetch.covers(catalog, schemaPattern)) {
+          return prefetch;
+        }
+      }
+      return null;
+    }
+  }
+
+  private volatile Contents contents = new Contents();
+
+  /**
+   * Discards all cached results.
+   */
+  void clear() {
+    contents = new Contents();
+  }
+
+  /**
+   * Gets a result by the method and arguments it is requested with, loading it when not yet cached.
+   */
+  Table get(TableLoader loader, Object... key) throws SQLException {
+    Contents c = contents;
+    List<Object> k = Arrays.asList(key);
+    Table table = c.results.get(k);
+    if (table == null) {
+      table = loader.load();
+      Table existing = c.results.putIfAbsent(k, table);
+      if (existing != null) {
+        table = existing;
+      }
+    }
+    return table;
+  }
+
+  /**
+   * Reads all tables and columns of a schema.
+   *
+   * @param  escape  The {@linkplain java.sql.DatabaseMetaData#getSearchStringEscape() search string escape}
+   */
+  void prefetch(
+      String catalog,
+      String schemaPattern,
+      String escape,
+      TableLoader tables,
+      TableLoader columns
+  ) throws SQLException {
+    Contents c = contents;
+    c.prefetches.add(0, new Prefetch(catalog, schemaPattern, escape, tables.load(), columns.load()));
+    c.results.clear();
+  }
+
+  /**
+   * Gets tables, answering from a prefetch when covered.
+   *
+   * @see  java.sql.DatabaseMetaData#getTables(java.lang.String, java.lang.String, java.lang.String, java.lang.String[])
+   */
+  Table getTables(
+      String catalog,
+      String schemaPattern,
+      String tableNamePattern,
+      String[] types,
+      TableLoader loader
+  ) throws SQLException {
+    List<String> typeList = (types == null) ? null : Arrays.asList(types.clone());
+    return get(
+        () -> {
+          Prefetch prefetch = contents.findPrefetch(catalog, schemaPattern);
+          if (prefetch == null) {
+            return loader.load();
+          }
+          Table tables = prefetch.tables;
+          int catalogIndex = tables.indexOf("TABLE_CAT");
+          int schemaIndex = tables.indexOf("TABLE_SCHEM");
+          int nameIndex = tables.indexOf("TABLE_NAME");
+          int typeIndex = tables.indexOf("TABLE_TYPE");
+          String rowCatalog = (prefetch.catalog == null) ? catalog : null;
+          String rowSchemaPattern = isAll(prefetch.schemaPattern) ? schemaPattern : null;
+          String escape = prefetch.escape;
+          List<Object[]> rows = new ArrayList<>();
+          for (Object[] row : tables.rows) {
+            if (
+                matchesCatalog(row[catalogIndex], rowCatalog)
+                    && like(row[schemaIndex], rowSchemaPattern, escape)
+                    && like(row[nameIndex], tableNamePattern, escape)
+                    && (typeList == null || typeList.contains(row[typeIndex]))
+            ) {
+              rows.add(row);
+            }
+          }
+          return new Table(tables.metaData, rows);
+        },
+        "getTables", catalog, schemaPattern, tableNamePattern, typeList
+    );
+  }
+
+  /**
+   * Gets columns, answering from a prefetch when covered.
+   *
+   * @see  java.sql.DatabaseMetaData#getColumns(java.lang.String, java.lang.String, java.lang.String, java.lang.String)
+   */
+  Table getColumns(
+      String catalog,
+      String schemaPattern,
+      String tableNamePattern,
+      String columnNamePattern,
+      TableLoader loader
+  ) throws SQLException {
+    return get(
+        () -> {
+          Prefetch prefetch = contents.findPrefetch(catalog, schemaPattern);
+          if (prefetch == null) {
+            return loader.load();
+          }
+          Table columns = prefetch.columns;
+          int catalogIndex = columns.indexOf("TABLE_CAT");
+          int schemaIndex = columns.indexOf("TABLE_SCHEM");
+          int tableIndex = columns.indexOf("TABLE_NAME");
+          int nameIndex = columns.indexOf("COLUMN_NAME");
+          String rowCatalog = (prefetch.catalog == null) ? catalog : null;
+          String rowSchemaPattern = isAll(prefetch.schemaPattern) ? schemaPattern : null;
+          String escape = prefetch.escape;
+          List<Object[]> rows = new ArrayList<>();
+          for (Object[] row : columns.rows) {
+            if (
+                matchesCatalog(row[catalogIndex], rowCatalog)
+                    && like(row[schemaIndex], rowSchemaPattern, escape)
+                    && like(row[tableIndex], tableNamePattern, escape)
+                    && like(row[nameIndex], columnNamePattern, escape)
+            ) {
+              rows.add(row);
+            }
+          }
+          return new Table(columns.metaData, rows);
+        },
+        "getColumns", catalog, schemaPattern, tableNamePattern, columnNamePattern
+    );
+  }
+
+  /**
+   * Checks whether a pattern matches every name.
+   */
+  private static boolean isAll(String pattern) {
+    return pattern == null || "%".equals(pattern);
+  }
+
+  /**
+   * Matches a catalog argument, where {@code null} does not narrow and {@code ""} matches rows without a catalog.
+   */
+  private static boolean matchesCatalog(Object value, String catalog) {
+    if (catalog == null) {
+      return true;
+    }
+    if (catalog.isEmpty()) {
+      return value == null || "".equals(value);
+    }
+    return catalog.equals(value);
+  }
+
+  /**
+   * Matches a search pattern, where {@code null} does not narrow, {@code ""} matches rows without a name,
+   * {@code '%'} matches any substring, and {@code '_'} matches any one character.  Wildcards preceded by the escape
+   * string are matched literally.  Names are compared by case, as stored.
+   */
+  static boolean like(Object value, String pattern, String escape) {
+    if (pattern == null) {
+      return true;
+    }
+    if (pattern.isEmpty()) {
+      return value == null || "".equals(value);
+    }
+    if (value == null) {
+      return false;
+    }
+    String name = value.toString();
+    // Compile the pattern, marking wildcards with negative values
+    final int anyOne = -1;
+    final int anyMany = -2;
+    int[] compiled = new int[pattern.length()];
+    int len = 0;
+    boolean escaping = escape != null && !escape.isEmpty();
+    for (int i = 0; i < pattern.length(); i++) {
+      if (escaping && pattern.startsWith(escape, i) && i + escape.length() < pattern.length()) {
+        i += escape.length();
+        compiled[len++] = pattern.charAt(i);
+      } else {
+        char ch = pattern.charAt(i);
+        compiled[len++] = (ch == '%') ? anyMany : (ch == '_') ? anyOne : ch;
+      }
+    }
+    // Match, backtracking to the most recent '%'
+    int p = 0;
+    int n = 0;
+    int starP = -1;
+    int starN = 0;
+    while (n < name.length()) {
+      if (p < len && (compiled[p] == anyOne || compiled[p] == name.charAt(n))) {
+        p++;
+        n++;
+      } else if (p < len && compiled[p] == anyMany) {
+        starP = p++;
+        starN = n;
+      } else if (starP != -1) {
+        p = starP + 1;
+        n = ++starN;
+      } else {
+        return false;
+      }
+    }
+    while (p < len && compiled[p] == anyMany) {
+      p++;
+    }
+    return p == len;
+  }
+}
@@ -0,0 +1,230 @@
+/*
+ * ao-sql-failfast - Fail-fast JDBC wrapper.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql-failfast.
+ *
+ * ao-sql-failfast is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql-failfast is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql-failfast.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.sql.failfast;
+
+import com.aoapps.lang.NullArgumentException;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A bounded, least-recently-used cache of idle prepared statements for one {@link FailFastConnectionImpl}.
+ *
+ * <p>Only statements not currently in use are held.  A statement is removed while in use, and returned when its
+ * handle is closed.  At most one idle statement is held per key.</p>
+ *
+ * <p>Every {@linkplain #clear() clear} starts a new generation.  A statement taken or prepared in an earlier generation
+ * lived through a failure of the connection, and is never accepted back.</p>
+ *
+ * <p>All access is synchronized, but no statement is ever closed while holding the lock.  Statements to close are
+ * returned to the caller instead.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+final class FailFastStatementCache {
+
+  /**
+   * The value of an {@code int} argument not given to {@code prepareStatement}.
+   */
+  static final int NONE = Integer.MIN_VALUE;
+
+  /**
+   * The arguments a statement was prepared with.
+   */
+  static final class Key {
+
+    private final String sql;
+    private final int resultSetType;
+    private final int resultSetConcurrency;
+    private final int resultSetHoldability;
+    private final int autoGeneratedKeys;
+    private final int[] columnIndexes;
+    private final String[] columnNames;
+    private final int hash;
+
+    /**
+     * @param  columnIndexes  Copied, since the caller may modify the array after preparing the statement
+     * @param  columnNames  Copied, since the caller may modify the array after preparing the statement
+     */
+    Key(
+        String sql,
+        int resultSetType,
+        int resultSetConcurrency,
+        int resultSetHoldability,
+        int autoGeneratedKeys,
+        int[] columnIndexes,
+        String[] columnNames
+    ) {
+      this.sql = sql;
+      this.resultSetType = resultSetType;
+      this.resultSetConcurrency = resultSetConcurrency;
+      this.resultSetHoldability = resultSetHoldability;
+      this.autoGeneratedKeys = autoGeneratedKeys;
+      this.columnIndexes = (columnIndexes == null) ? null : columnIndexes.clone();
+      this.columnNames = (columnNames == null) ? null : columnNames.clone();
+      int h = sql.hashCode();
+      h = h * 31 + resultSetType;
+      h = h * 31 + resultSetConcurrency;
+      h = h * 31 + resultSetHoldability;
+      h = h * 31 + autoGeneratedKeys;
+      h = h * 31 + Arrays.hashCode(this.columnIndexes);
+      h = h * 31 + Arrays.hashCode(this.columnNames);
+      this.hash = h;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof Key)) {
+        return false;
+      }
+      Key other = (Key) obj;
+      return
+          hash == other.hash
+              && resultSetType == other.resultSetType
+              && resultSetConcurrency == other.resultSetConcurrency
+              && resultSetHoldability == other.resultSetHoldability
+              && autoGeneratedKeys == other.autoGeneratedKeys
+              && sql.equals(other.sql)
+              && Arrays.equals(columnIndexes, other.columnIndexes)
+              && Arrays.equals(columnNames, other.columnNames);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+    @Override
+    public String toString() {
+      return sql;
+    }
+  }
+
+  /**
+   * The idle statements, in access order.
+   */
+  private final Map<Key, PreparedStatement> idle = new LinkedHashMap<>(16, 0.75f, true);
+
+  /**
+   * Read without the lock, so that a disabled cache adds no synchronization to {@code prepareStatement}.
+   */
+  private volatile int maxSize;
+
+  private int generation;
+
+  /**
+   * Gets the maximum number of idle statements.
+   */
+  int getMaxSize() {
+    return maxSize;
+  }
+
+  /**
+   * Sets the maximum number of idle statements, where {@code 0} disables the cache.
+   *
+   * @return  The statements evicted to fit the new size, which must be closed by the caller
+   */
+  List<PreparedStatement> setMaxSize(int maxSize) {
+    if (maxSize < 0) {
+      throw new IllegalArgumentException("maxSize < 0: " + maxSize);
+    }
+    synchronized (this) {
+      this.maxSize = maxSize;
+      List<PreparedStatement> evicted = null;
+      Iterator<PreparedStatement> iter = idle.values().iterator();
+      while (idle.size() > maxSize) {
+        if (evicted == null) {
+          evicted = new ArrayList<>();
+        }
+        evicted.add(iter.next());
+        iter.remove();
+      }
+      return (evicted == null) ? Collections.emptyList() : evicted;
+    }
+  }
+
+  /**
+   * Gets the current generation.  This must be read before
+   * {@linkplain #take(com.aoapps.sql.failfast.FailFastStatementCache.Key) taking} or preparing a statement, so that a concurrent {@linkplain #clear() clear} can only make the recorded generation
+   * older and never newer.
+   */
+  synchronized int getGeneration() {
+    return generation;
+  }
+
+  /**
+   * Takes the idle statement for the given key.
+   *
+   * @return  The statement, now in use, or {@code null} when none is idle
+   */
+  synchronized PreparedStatement take(Key key) {
+    return idle.remove(key);
+  }
+
+  /**
+   * Returns a statement that is no longer in use.  The statement must already be reset for its next use.
+   *
+   * @param  generation  The generation read before the statement was taken or prepared
+   *
+   * @return  The statement to be closed by the caller, which is either the given statement when not accepted, or the
+   *          least-recently-used idle statement when evicted to make room.  {@code null} when nothing is to be closed.
+   */
+  synchronized PreparedStatement release(Key key, int generation, PreparedStatement stmt) {
+    NullArgumentException.checkNotNull(stmt, "stmt");
+    if (generation != this.generation || maxSize == 0 || idle.containsKey(key)) {
+      return stmt;
+    }
+    idle.put(key, stmt);
+    if (idle.size() > maxSize) {
+      Iterator<PreparedStatement> iter = idle.values().iterator();
+      PreparedStatement eldest = iter.next();
+      iter.remove();
+      return eldest;
+    }
+    return null;
+  }
+
+  /**
+   * Removes all idle statements and starts a new generation.
+   *
+   * @return  The statements removed, which must be closed by the caller
+   */
+  synchronized List<PreparedStatement> clear() {
+    generation++;
+    if (idle.isEmpty()) {
+      return Collections.emptyList();
+    }
+    List<PreparedStatement> evicted = new ArrayList<>(idle.values());
+    idle.clear();
+    return evicted;
+  }
+}
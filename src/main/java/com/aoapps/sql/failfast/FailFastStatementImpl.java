@@ -1,6 +1,6 @@
 /*
  * ao-sql-failfast - Fail-fast JDBC wrapper.
- * Copyright (C) 2020, 2021, 2022  AO Industries, Inc.
+ * Copyright (C) 2020, 2021, 2022, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -23,11 +23,14 @@
 
 package com.aoapps.sql.failfast;
 
+import com.aoapps.lang.NullArgumentException;
 import com.aoapps.lang.Throwables;
 import com.aoapps.sql.wrapper.StatementWrapperImpl;
 import java.sql.SQLException;
 import java.sql.SQLWarning;
 import java.sql.Statement;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
 
 /**
  * See {@link FailFastConnectionImpl}.
@@ -37,6 +40,11 @@ import java.sql.Statement;
 @SuppressWarnings({"UseSpecificCatch", "TooBroadCatch"})
 public class FailFastStatementImpl extends StatementWrapperImpl {
 
+  /**
+   * Set when DDL has been added to the batch, which discards the cached schema of the connection when executed.
+   */
+  private boolean batchDDL;
+
   public FailFastStatementImpl(FailFastConnectionImpl failFastConnection, Statement wrapped) {
     super(failFastConnection, wrapped);
   }
@@ -58,6 +66,18 @@ public class FailFastStatementImpl extends StatementWrapperImpl {
     }
   }
 
+  /**
+   * Publishes the rows of a query, each mapped by the given mapper.  The query is executed on the given executor upon
+   * the first demand, so no thread is blocked until then.  Cancelling calls {@link #cancel()}.
+   *
+   * @see  FailFastResultSetImpl#publisher(com.aoapps.sql.failfast.FailFastRowMapper, java.util.concurrent.Executor)
+   */
+  public <T> Flow.Publisher<T> publisher(String sql, FailFastRowMapper<? extends T> mapper, Executor executor) {
+    NullArgumentException.checkNotNull(mapper, "mapper");
+    NullArgumentException.checkNotNull(executor, "executor");
+    return new FailFastResultSetPublisher<>(getConnectionWrapper(), this, () -> executeQuery(sql), mapper, executor);
+  }
+
   @Override
   public int executeUpdate(String sql) throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
@@ -67,6 +87,8 @@ public class FailFastStatementImpl extends StatementWrapperImpl {
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
       throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
+    } finally {
+      ffConn.executed(sql);
     }
   }
 
@@ -219,6 +241,8 @@ public class FailFastStatementImpl extends StatementWrapperImpl {
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
       throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
+    } finally {
+      ffConn.executed(sql);
     }
   }
 
@@ -336,6 +360,9 @@ public class FailFastStatementImpl extends StatementWrapperImpl {
     ffConn.failFastSQLException();
     try {
       super.addBatch(sql);
+      if (!batchDDL && ffConn.isDDLTracked() && FailFastConnectionImpl.isDDL(sql)) {
+        batchDDL = true;
+      }
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
       throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
@@ -345,6 +372,7 @@ public class FailFastStatementImpl extends StatementWrapperImpl {
   @Override
   public void clearBatch() throws SQLException {
     try {
+      batchDDL = false;
       super.clearBatch();
     } catch (Throwable t) {
       getConnectionWrapper().addFailFastCause(t);
@@ -356,11 +384,17 @@ public class FailFastStatementImpl extends StatementWrapperImpl {
   public int[] executeBatch() throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
     ffConn.failFastSQLException();
+    boolean ddl = batchDDL;
+    batchDDL = false;
     try {
       return super.executeBatch();
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
       throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
+    } finally {
+      if (ddl) {
+        ffConn.ddlExecuted();
+      }
     }
   }
 
@@ -407,6 +441,8 @@ public class FailFastStatementImpl extends StatementWrapperImpl {
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
       throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
+    } finally {
+      ffConn.executed(sql);
     }
   }
 
@@ -419,6 +455,8 @@ public class FailFastStatementImpl extends StatementWrapperImpl {
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
       throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
+    } finally {
+      ffConn.executed(sql);
     }
   }
 
@@ -431,6 +469,8 @@ public class FailFastStatementImpl extends StatementWrapperImpl {
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
       throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
+    } finally {
+      ffConn.executed(sql);
     }
   }
 
@@ -443,6 +483,8 @@ public class FailFastStatementImpl extends StatementWrapperImpl {
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
       throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
+    } finally {
+      ffConn.executed(sql);
     }
   }
 
@@ -455,6 +497,8 @@ public class FailFastStatementImpl extends StatementWrapperImpl {
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
       throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
+    } finally {
+      ffConn.executed(sql);
     }
   }
 
@@ -467,6 +511,8 @@ public class FailFastStatementImpl extends StatementWrapperImpl {
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
       throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
+    } finally {
+      ffConn.executed(sql);
     }
   }
 
@@ -580,11 +626,17 @@ public class FailFastStatementImpl extends StatementWrapperImpl {
   public long[] executeLargeBatch() throws SQLException {
     FailFastConnectionImpl ffConn = getConnectionWrapper();
     ffConn.failFastSQLException();
+    boolean ddl = batchDDL;
+    batchDDL = false;
     try {
       return super.executeLargeBatch();
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
       throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
+    } finally {
+      if (ddl) {
+        ffConn.ddlExecuted();
+      }
     }
   }
 
@@ -597,6 +649,8 @@ public class FailFastStatementImpl extends StatementWrapperImpl {
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
       throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
+    } finally {
+      ffConn.executed(sql);
     }
   }
 
@@ -609,6 +663,8 @@ public class FailFastStatementImpl extends StatementWrapperImpl {
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
       throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
+    } finally {
+      ffConn.executed(sql);
     }
   }
 
@@ -621,6 +677,8 @@ public class FailFastStatementImpl extends StatementWrapperImpl {
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
       throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
+    } finally {
+      ffConn.executed(sql);
     }
   }
 
@@ -633,6 +691,8 @@ public class FailFastStatementImpl extends StatementWrapperImpl {
     } catch (Throwable t) {
       ffConn.addFailFastCause(t);
       throw Throwables.wrap(t, SQLException.class, FailFastSQLException::new);
+    } finally {
+      ffConn.executed(sql);
     }
   }
 
@@ -0,0 +1,219 @@
+/*
+ * ao-sql-failfast - Fail-fast JDBC wrapper.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql-failfast.
+ *
+ * ao-sql-failfast is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql-failfast is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql-failfast.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.sql.failfast;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A bounded cache of the {@linkplain java.sql.PreparedStatement#getMetaData() result set metadata} and
+ * {@linkplain java.sql.PreparedStatement#getParameterMetaData() parameter metadata} of prepared statements, by SQL and
+ * the {@linkplain Context user, catalog, and schema} it is prepared in.  Shared by all connections to the same URL or
+ * data source.
+ *
+ * <p>Each metadata is copied into an immutable snapshot the first time it is requested for a given key, then answered
+ * from the snapshot for every statement prepared with the same key.  The cache is {@linkplain #clear() cleared} when
+ * DDL is executed through any connection sharing it.</p>
+ *
+ * <p>Lookups do not lock.  When full, an entry not used since it was last considered is evicted, approximating
+ * least-recently-used.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+final class FailFastStatementMetaDataCache {
+
+  /**
+   * The user, catalog, and schema of a connection.  The same SQL may resolve to different tables, or be denied, in
+   * another context.  Each is {@code null} when not supported by the driver.
+   */
+  static final class Context {
+
+    private final String user;
+    private final String catalog;
+    private final String schema;
+    private final int hash;
+
+    Context(String user, String catalog, String schema) {
+      this.user = user;
+      this.catalog = catalog;
+      this.schema = schema;
+      int h = Objects.hashCode(user);
+      h = h * 31 + Objects.hashCode(catalog);
+      h = h * 31 + Objects.hashCode(schema);
+      this.hash = h;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof Context)) {
+        return false;
+      }
+      Context other = (Context) obj;
+      return
+          hash == other.hash
+              && Objects.equals(user, other.user)
+              && Objects.equals(catalog, other.catalog)
+              && Objects.equals(schema, other.schema);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+    @Override
+    public String toString() {
+      return user + '@' + catalog + '.' + schema;
+    }
+  }
+
+  /**
+   * The SQL of a statement and the context it is prepared in.
+   */
+  static final class Key {
+
+    private final Context context;
+    private final String sql;
+    private final int hash;
+
+    Key(Context context, String sql) {
+      this.context = context;
+      this.sql = sql;
+      this.hash = context.hashCode() * 31 + sql.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof Key)) {
+        return false;
+      }
+      Key other = (Key) obj;
+      return
+          hash == other.hash
+              && sql.equals(other.sql)
+              && context.equals(other.context);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+    @Override
+    public String toString() {
+      return context + ": " + sql;
+    }
+  }
+
+  /**
+   * The snapshots for one key, each {@code null} until first requested.
+   */
+  static final class Snapshots {
+
+    volatile FailFastResultSetMetaDataSnapshot resultSetMetaData;
+    volatile FailFastParameterMetaDataSnapshot parameterMetaData;
+
+    /**
+     * Set on access and cleared when passed over for eviction, giving recently used entries a second chance.
+     */
+    private volatile boolean used;
+  }
+
+  private final int maxSize;
+
+  private final ConcurrentMap<Key, Snapshots> entries = new ConcurrentHashMap<>();
+
+  /**
+   * @param  maxSize  The maximum number of keys held, at least one
+   */
+  FailFastStatementMetaDataCache(int maxSize) {
+    if (maxSize < 1) {
+      throw new IllegalArgumentException("maxSize < 1: " + maxSize);
+    }
+    this.maxSize = maxSize;
+  }
+
+  int getMaxSize() {
+    return maxSize;
+  }
+
+  /**
+   * Gets the snapshots for the given key, adding empty snapshots when absent and evicting another key when full.
+   */
+  Snapshots get(Key key) {
+    Snapshots snapshots = entries.get(key);
+    if (snapshots == null) {
+      Snapshots newSnapshots = new Snapshots();
+      snapshots = entries.putIfAbsent(key, newSnapshots);
+      if (snapshots == null) {
+        if (entries.size() > maxSize) {
+          evict(key);
+        }
+        return newSnapshots;
+      }
+    }
+    // Only written when not set, so frequently used entries are not written on every access
+    if (!snapshots.used) {
+      snapshots.used = true;
+    }
+    return snapshots;
+  }
+
+  /**
+   * Evicts one entry not used since it was last passed over, clearing the use of each entry passed over.  Every entry
+   * is passed over at most once, so the second pass always evicts unless the entries are concurrently removed.
+   *
+   * @param  added  The key just added, which is not evicted
+   */
+  private void evict(Key added) {
+    for (int pass = 0; pass < 2; pass++) {
+      for (Map.Entry<Key, Snapshots> entry : entries.entrySet()) {
+        Key key = entry.getKey();
+        if (key != added) {
+          Snapshots snapshots = entry.getValue();
+          if (snapshots.used) {
+            snapshots.used = false;
+          } else if (entries.remove(key, snapshots)) {
+            return;
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Discards all entries, such as after DDL.
+   */
+  void clear() {
+    entries.clear();
+  }
+}
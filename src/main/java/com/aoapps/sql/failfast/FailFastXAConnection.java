@@ -0,0 +1,52 @@
+/*
+ * ao-sql-failfast - Fail-fast JDBC wrapper.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql-failfast.
+ *
+ * ao-sql-failfast is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql-failfast is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql-failfast.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.sql.failfast;
+
+import java.sql.SQLException;
+import javax.sql.XAConnection;
+import javax.transaction.xa.XAResource;
+
+/**
+ * Wraps an {@link XAConnection} so its logical connections perform in a fail-fast manner.
+ *
+ * @author  AO Industries, Inc.
+ *
+ * @see  FailFastXADataSource
+ */
+public class FailFastXAConnection extends FailFastPooledConnection implements XAConnection {
+
+  public FailFastXAConnection(FailFastCommonDataSource<?> dataSource, XAConnection wrapped) {
+    super(dataSource, wrapped);
+  }
+
+  @Override
+  public XAConnection getWrapped() {
+    return (XAConnection) super.getWrapped();
+  }
+
+  @Override
+  public XAResource getXAResource() throws SQLException {
+    return getWrapped().getXAResource();
+  }
+}
@@ -0,0 +1,56 @@
+/*
+ * ao-sql-failfast - Fail-fast JDBC wrapper.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-sql-failfast.
+ *
+ * ao-sql-failfast is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-sql-failfast is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-sql-failfast.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.sql.failfast;
+
+import java.sql.SQLException;
+import javax.sql.XADataSource;
+
+/**
+ * Makes the logical connections of {@linkplain javax.sql.XAConnection XA connections} obtained from another
+ * {@link XADataSource} perform in a fail-fast manner.
+ *
+ * <p>While in a global transaction, the fail-fast state cannot be cleared by {@link java.sql.Connection#rollback()}.
+ * It must be cleared by {@link FailFastConnection#clearFailFast()} once the transaction manager has rolled back the
+ * branch, or the logical connection closed.</p>
+ *
+ * @author  AO Industries, Inc.
+ *
+ * @see  FailFastXAConnection
+ */
+public class FailFastXADataSource extends FailFastCommonDataSource<XADataSource> implements XADataSource {
+
+  public FailFastXADataSource(XADataSource wrapped) {
+    super(wrapped);
+  }
+
+  @Override
+  public FailFastXAConnection getXAConnection() throws SQLException {
+    return new FailFastXAConnection(this, getWrapped().getXAConnection());
+  }
+
+  @Override
+  public FailFastXAConnection getXAConnection(String user, String password) throws SQLException {
+    return new FailFastXAConnection(this, getWrapped().getXAConnection(user, password));
+  }
+}